@@ -6,10 +6,12 @@ import com.wellkorea.backend.core.auth.domain.vo.AuditAction;
 import com.wellkorea.backend.shared.dto.ApiResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.Map;
 
 /**
@@ -30,12 +32,15 @@ public class AuditLogController {
     /**
      * GET /api/audit
      * List audit logs with optional filters.
+     * Without entityType + entityId the listing covers from..to (default: the last year).
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> listAuditLogs(@RequestParam(required = false) String entityType,
                                                                              @RequestParam(required = false) String action,
                                                                              @RequestParam(required = false) Long userId,
                                                                              @RequestParam(required = false) Long entityId,
+                                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
                                                                              Pageable pageable) {
 
         Page<AuditLogResponse> logs;
@@ -45,7 +50,7 @@ public class AuditLogController {
         if (entityType != null && entityId != null) {
             logs = auditService.getAuditLogsForEntity(entityType, entityId, auditAction, pageable);
         } else {
-            logs = auditService.getAuditLogs(entityType, auditAction, userId, pageable);
+            logs = auditService.getAuditLogs(entityType, auditAction, userId, from, to, pageable);
         }
 
         Map<String, Object> metadata = Map.of(
@@ -4,11 +4,14 @@ import com.wellkorea.backend.core.auth.api.dto.AuditLogResponse;
 import com.wellkorea.backend.core.auth.domain.AuditLog;
 import com.wellkorea.backend.core.auth.domain.vo.AuditAction;
 import com.wellkorea.backend.core.auth.infrastructure.persistence.AuditLogRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -16,15 +19,21 @@ import java.util.Optional;
  * <p>
  * Audit logs are immutable - only create and read operations are supported.
  * The database has triggers preventing UPDATE and DELETE on audit_logs table.
+ * <p>
+ * audit_logs is partitioned by month on created_at, so listings are always bounded by a time
+ * range (default: the last {@code audit.query.default-lookback}) to let PostgreSQL prune partitions.
  */
 @Service
 @Transactional(readOnly = true)
 public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
+    private final Duration defaultLookback;
 
-    public AuditService(AuditLogRepository auditLogRepository) {
+    public AuditService(AuditLogRepository auditLogRepository,
+                        @Value("${audit.query.default-lookback:365d}") Duration defaultLookback) {
         this.auditLogRepository = auditLogRepository;
+        this.defaultLookback = defaultLookback;
     }
 
     // ==================== Query Operations ====================
@@ -45,6 +54,8 @@ public class AuditService {
      * @param entityType Filter by entity type (optional)
      * @param action     Filter by action (optional)
      * @param userId     Filter by user ID (optional)
+     * @param from       Start timestamp, inclusive (optional - defaults to now minus the default lookback)
+     * @param to         End timestamp, exclusive (optional - defaults to one day from now)
      * @param pageable   Pagination parameters
      * @return Page of AuditLogResponse
      */
@@ -52,9 +63,16 @@ public class AuditService {
             String entityType,
             AuditAction action,
             Long userId,
+            Instant from,
+            Instant to,
             Pageable pageable) {
 
-        return auditLogRepository.findWithFilters(entityType, action, userId, pageable)
+        Instant now = Instant.now();
+        Instant rangeFrom = from != null ? from : now.minus(defaultLookback);
+        // A day past now keeps rows written by nodes with a slightly fast clock
+        Instant rangeTo = to != null ? to : now.plus(Duration.ofDays(1));
+
+        return auditLogRepository.findWithFilters(entityType, action, userId, rangeFrom, rangeTo, pageable)
                 .map(this::toResponse);
     }
 
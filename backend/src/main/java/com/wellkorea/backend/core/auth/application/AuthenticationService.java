@@ -4,13 +4,15 @@ import com.wellkorea.backend.core.auth.api.dto.LoginResponse;
 import com.wellkorea.backend.core.auth.domain.User;
 import com.wellkorea.backend.core.auth.domain.vo.Role;
 import com.wellkorea.backend.core.auth.infrastructure.config.JwtTokenProvider;
+import com.wellkorea.backend.core.auth.infrastructure.config.VerifiedToken;
+import com.wellkorea.backend.core.auth.infrastructure.password.PasswordHasher;
 import com.wellkorea.backend.core.auth.infrastructure.persistence.UserRepository;
 import com.wellkorea.backend.shared.exception.AuthenticationException;
 import com.wellkorea.backend.shared.exception.JwtAuthenticationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -31,24 +33,30 @@ public class AuthenticationService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final TokenBlacklistService tokenBlacklistService;
 
-    public AuthenticationService(UserRepository userRepository, JwtTokenProvider jwtTokenProvider, PasswordEncoder passwordEncoder, TokenBlacklistService tokenBlacklistService) {
+    public AuthenticationService(UserRepository userRepository, JwtTokenProvider jwtTokenProvider, PasswordHasher passwordHasher, TokenBlacklistService tokenBlacklistService) {
         this.userRepository = userRepository;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.tokenBlacklistService = tokenBlacklistService;
     }
 
     /**
      * Authenticate user and generate JWT token.
+     * <p>
+     * Runs without a surrounding transaction so no database connection is held while the
+     * password is checked on the bounded hashing pool. Hashes with a lower BCrypt cost than
+     * configured are upgraded transparently on successful login.
      *
      * @param username User's login username
      * @param password User's plain-text password
      * @return LoginResponse with token and user info
      * @throws AuthenticationException if credentials are invalid
+     * @throws com.wellkorea.backend.shared.exception.ServiceOverloadedException if the hashing pool is saturated
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(String username, String password) {
         validateNotBlank(username, "Username is required");
         validateNotBlank(password, "Password is required");
@@ -65,10 +73,14 @@ public class AuthenticationService {
             throw new AuthenticationException("Invalid credentials");
         }
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHasher.matches(password, user.getPasswordHash())) {
             throw new AuthenticationException("Invalid credentials");
         }
 
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            user = rehashPassword(user, password);
+        }
+
         // Roles are loaded automatically via JPA @ElementCollection (LAZY fetch)
         String roles = user.getRolesAsString();
         String token = jwtTokenProvider.generateToken(username, roles, user.getId());
@@ -86,20 +98,21 @@ public class AuthenticationService {
      * @param token JWT token to invalidate
      * @throws AuthenticationException if token is invalid
      */
+    @Transactional
     public void logout(String token) {
         validateNotBlank(token, "Token is required");
 
+        VerifiedToken verified;
         try {
-            jwtTokenProvider.validateToken(token);
+            verified = jwtTokenProvider.verify(token);
         } catch (JwtAuthenticationException e) {
             throw new AuthenticationException("Invalid token", e);
         }
 
-        // Add to blacklist (token will be rejected by JwtAuthenticationFilter)
-        tokenBlacklistService.blacklistToken(token);
+        // Add to blacklist (token will be rejected by JwtAuthenticationFilter on every node)
+        tokenBlacklistService.blacklistToken(verified.tokenId(), verified.expiresAt());
 
-        String username = jwtTokenProvider.getUsername(token);
-        logger.info("User '{}' logged out", username);
+        logger.info("User '{}' logged out", verified.username());
     }
 
     /**
@@ -110,11 +123,13 @@ public class AuthenticationService {
      * @return New LoginResponse with refreshed token
      * @throws AuthenticationException if token is invalid or user is not active
      */
+    @Transactional
     public LoginResponse refreshToken(String token) {
         validateNotBlank(token, "Token is required");
 
+        VerifiedToken verified;
         try {
-            jwtTokenProvider.validateToken(token);
+            verified = jwtTokenProvider.verify(token);
         } catch (JwtAuthenticationException e) {
             throw new AuthenticationException("Invalid or expired token", e);
         }
@@ -123,7 +138,7 @@ public class AuthenticationService {
         // This method is called from a controller endpoint which requires valid authentication
         // So if we reach here, the token is not blacklisted
 
-        String username = jwtTokenProvider.getUsername(token);
+        String username = verified.username();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AuthenticationException("User not found"));
 
@@ -134,7 +149,7 @@ public class AuthenticationService {
         // CRITICAL: Blacklist old token BEFORE generating new token to prevent race condition
         // If we blacklisted after generation, an attacker could make concurrent refresh requests
         // to generate multiple valid tokens from a single compromised token (token amplification attack)
-        tokenBlacklistService.blacklistToken(token);
+        tokenBlacklistService.blacklistToken(verified.tokenId(), verified.expiresAt());
 
         // Generate new token with current roles
         String roles = user.getRolesAsString();
@@ -154,15 +169,17 @@ public class AuthenticationService {
     public LoginResponse.UserInfo getCurrentUser(String token) {
         validateNotBlank(token, "Token is required");
 
+        VerifiedToken verified;
         try {
-            jwtTokenProvider.validateToken(token);
+            verified = jwtTokenProvider.verify(token);
         } catch (JwtAuthenticationException e) {
             throw new AuthenticationException("Invalid token", e);
         }
 
         // Note: Blacklist check is performed by JwtAuthenticationFilter
+        // Claims come from the verified-token cache populated by the filter (no second parse)
 
-        String username = jwtTokenProvider.getUsername(token);
+        String username = verified.username();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AuthenticationException("User not found"));
 
@@ -203,6 +220,21 @@ public class AuthenticationService {
         }
     }
 
+    /**
+     * Re-hash the password with the configured cost after a successful login.
+     * Best effort: the login succeeds with the old hash if the upgrade fails.
+     */
+    private User rehashPassword(User user, String password) {
+        try {
+            User upgraded = user.withPasswordHash(passwordHasher.encode(password));
+            logger.info("Upgraded password hash for user '{}'", user.getUsername());
+            return upgraded;
+        } catch (Exception e) {
+            logger.warn("Failed to upgrade password hash for user '{}': {}", user.getUsername(), e.getMessage());
+            return user;
+        }
+    }
+
     private LoginResponse.UserInfo toUserInfo(User user) {
         List<String> roles = user.getRoles().stream()
                 .map(Role::getAuthority)
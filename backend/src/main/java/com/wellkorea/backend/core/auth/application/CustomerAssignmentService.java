@@ -1,23 +1,55 @@
 package com.wellkorea.backend.core.auth.application;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.wellkorea.backend.core.auth.domain.CustomerAssignment;
 import com.wellkorea.backend.core.auth.infrastructure.persistence.CustomerAssignmentRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * Service for managing customer assignments (Sales role filtering per FR-062).
+ * <p>
+ * Each user's assignments are cached as a {@link CustomerScope}, so filtered list requests do
+ * not query customer_assignments every time. Writes through this service invalidate the user's
+ * entry when they commit; the TTL ({@code customer-assignment.cache.ttl}) bounds staleness for
+ * changes made on other instances.
  */
 @Service
 @Transactional
 public class CustomerAssignmentService {
 
+    private static final int MAX_CACHED_SCOPES = 10_000;
+
     private final CustomerAssignmentRepository customerAssignmentRepository;
+    private final Cache<Long, CustomerScope> scopeCache;
+    private final int semiJoinThreshold;
 
-    public CustomerAssignmentService(CustomerAssignmentRepository customerAssignmentRepository) {
+    public CustomerAssignmentService(CustomerAssignmentRepository customerAssignmentRepository,
+                                     @Value("${customer-assignment.cache.ttl:5m}") Duration cacheTtl,
+                                     @Value("${customer-assignment.semi-join-threshold:100}") int semiJoinThreshold) {
         this.customerAssignmentRepository = customerAssignmentRepository;
+        this.semiJoinThreshold = semiJoinThreshold;
+        this.scopeCache = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_SCOPES)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * Get the customer scope of a user (cached).
+     * Used for filtering projects/quotations for Sales role.
+     */
+    @Transactional(readOnly = true)
+    public CustomerScope getCustomerScope(Long userId) {
+        return scopeCache.get(userId, id ->
+                new CustomerScope(id, customerAssignmentRepository.findCustomerIdsByUserId(id), semiJoinThreshold));
     }
 
     /**
@@ -26,7 +58,7 @@ public class CustomerAssignmentService {
      */
     @Transactional(readOnly = true)
     public List<Long> getAssignedCustomerIds(Long userId) {
-        return customerAssignmentRepository.findCustomerIdsByUserId(userId);
+        return getCustomerScope(userId).customerIds();
     }
 
     /**
@@ -45,7 +77,9 @@ public class CustomerAssignmentService {
                 .userId(userId)
                 .customerId(customerId)
                 .build();
-        return customerAssignmentRepository.save(assignment);
+        CustomerAssignment saved = customerAssignmentRepository.save(assignment);
+        invalidateScope(userId);
+        return saved;
     }
 
     /**
@@ -64,6 +98,24 @@ public class CustomerAssignmentService {
                         .build())
                 .toList();
 
-        return customerAssignmentRepository.saveAll(assignments);
+        List<CustomerAssignment> saved = customerAssignmentRepository.saveAll(assignments);
+        invalidateScope(userId);
+        return saved;
+    }
+
+    /**
+     * Evict now and again after commit, so a concurrent read that loaded the old rows
+     * before the commit cannot leave a stale entry behind.
+     */
+    private void invalidateScope(Long userId) {
+        scopeCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scopeCache.invalidate(userId);
+                }
+            });
+        }
     }
 }
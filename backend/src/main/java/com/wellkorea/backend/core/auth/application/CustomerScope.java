@@ -0,0 +1,53 @@
+package com.wellkorea.backend.core.auth.application;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The customers a Sales user may see (FR-062), as resolved by {@link CustomerAssignmentService}.
+ * Immutable and cached per user.
+ * <p>
+ * Small scopes are applied as {@code customer_company_id IN (...)}; large scopes
+ * ({@link #preferSemiJoin()}) are applied as a semi-join on customer_assignments so query text
+ * and plan do not grow with the number of assigned customers.
+ */
+public final class CustomerScope {
+
+    private final Long userId;
+    private final List<Long> customerIds;
+    private final Set<Long> customerIdSet;
+    private final boolean preferSemiJoin;
+
+    public CustomerScope(Long userId, List<Long> customerIds, int semiJoinThreshold) {
+        this.userId = userId;
+        this.customerIds = List.copyOf(customerIds);
+        this.customerIdSet = Set.copyOf(customerIds);
+        this.preferSemiJoin = customerIds.size() > semiJoinThreshold;
+    }
+
+    public Long userId() {
+        return userId;
+    }
+
+    /**
+     * Assigned customer IDs in assignment order.
+     */
+    public List<Long> customerIds() {
+        return customerIds;
+    }
+
+    public boolean contains(Long customerId) {
+        return customerIdSet.contains(customerId);
+    }
+
+    public boolean isEmpty() {
+        return customerIds.isEmpty();
+    }
+
+    /**
+     * Whether queries should filter with a semi-join on customer_assignments instead of an IN list.
+     */
+    public boolean preferSemiJoin() {
+        return preferSemiJoin;
+    }
+}
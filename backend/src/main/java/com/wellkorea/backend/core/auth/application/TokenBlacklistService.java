@@ -1,51 +1,55 @@
 package com.wellkorea.backend.core.auth.application;
 
 import com.wellkorea.backend.core.auth.infrastructure.blacklist.InMemoryTokenBlacklistService;
+import com.wellkorea.backend.core.auth.infrastructure.blacklist.JdbcTokenBlacklistService;
+
+import java.time.Instant;
 
 /**
- * Service for managing blacklisted JWT tokens.
- * Tokens are blacklisted upon logout to prevent reuse.
+ * Service for managing blacklisted (revoked) JWT tokens.
+ * Tokens are blacklisted upon logout and refresh to prevent reuse.
+ * <p>
+ * Tokens are identified by their jti claim (see {@code VerifiedToken#tokenId()}), never by the
+ * raw token string, so revocation state stays small and contains no credentials.
  *
- * <p>This interface abstracts the storage mechanism to enable different implementations:
+ * <p>Implementations (selected by {@code jwt.revocation.store}):
  * <ul>
- *     <li>In-memory (development/testing) - {@link InMemoryTokenBlacklistService}</li>
- *     <li>Redis (production) - future implementation for distributed environments</li>
- *     <li>Database - alternative for persistence across restarts</li>
+ *     <li>Database (default, multi-instance) - {@link JdbcTokenBlacklistService}</li>
+ *     <li>In-memory (single instance only) - {@link InMemoryTokenBlacklistService}</li>
  * </ul>
  *
  * <p>Usage:
  * <pre>
  * // In AuthenticationService.logout():
- * tokenBlacklistService.blacklistToken(token);
+ * tokenBlacklistService.blacklistToken(verified.tokenId(), verified.expiresAt());
  *
  * // In JwtAuthenticationFilter:
- * if (tokenBlacklistService.isBlacklisted(token)) {
+ * if (tokenBlacklistService.isBlacklisted(verified.tokenId())) {
  *     throw new InvalidJwtAuthenticationException("Token has been invalidated");
  * }
  * </pre>
- *
- * <p><b>Production Note:</b> The default in-memory implementation is not suitable for
- * production deployments with multiple instances. Implement a Redis-backed version
- * with TTL matching token expiration for horizontal scaling.
  */
 public interface TokenBlacklistService {
 
     /**
      * Add a token to the blacklist.
      * Called when a user logs out to prevent token reuse.
+     * The entry only needs to outlive the token itself.
      *
-     * @param token the JWT token to blacklist
+     * @param tokenId   the token's jti
+     * @param expiresAt the token's expiration (null falls back to the configured token lifetime)
      */
-    void blacklistToken(String token);
+    void blacklistToken(String tokenId, Instant expiresAt);
 
     /**
      * Check if a token is blacklisted.
-     * Called by JwtAuthenticationFilter on every authenticated request.
+     * Called by JwtAuthenticationFilter on every authenticated request, so implementations
+     * must answer from local memory.
      *
-     * @param token the JWT token to check
+     * @param tokenId the token's jti
      * @return true if the token is blacklisted (logged out)
      */
-    boolean isBlacklisted(String token);
+    boolean isBlacklisted(String tokenId);
 
     /**
      * Clear all blacklisted tokens.
@@ -2,13 +2,16 @@ package com.wellkorea.backend.core.auth.infrastructure.blacklist;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.wellkorea.backend.core.auth.application.TokenBlacklistService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * In-memory implementation of TokenBlacklistService using Caffeine cache.
@@ -16,7 +19,7 @@ import java.time.Duration;
  *
  * <p><b>Features:</b>
  * <ul>
- *     <li>TTL-based expiration matching JWT token lifetime</li>
+ *     <li>Entries expire together with the revoked token</li>
  *     <li>Maximum size limit to prevent unbounded memory growth</li>
  *     <li>Thread-safe Caffeine cache</li>
  * </ul>
@@ -33,22 +36,26 @@ import java.time.Duration;
  *     <li>Single-instance deployments</li>
  * </ul>
  *
- * <p><b>Production recommendation:</b> Replace with Redis-backed implementation
- * for distributed deployments and persistence across restarts.
+ * <p>Enabled with {@code jwt.revocation.store=memory}; multi-instance deployments use
+ * {@link JdbcTokenBlacklistService}.
  *
  * @see TokenBlacklistService
  */
 @Service
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory")
 public class InMemoryTokenBlacklistService implements TokenBlacklistService {
 
     private static final Logger log = LoggerFactory.getLogger(InMemoryTokenBlacklistService.class);
     private static final int MAX_BLACKLISTED_TOKENS = 100_000;
 
-    private final Cache<String, Boolean> blacklistedTokens;
+    private final Cache<String, Instant> blacklistedTokens;
+    private final Duration tokenLifetime;
 
     public InMemoryTokenBlacklistService(@Value("${jwt.expiration}") long jwtExpirationMs) {
+        this.tokenLifetime = Duration.ofMillis(jwtExpirationMs);
         this.blacklistedTokens = Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+                .expireAfter(Expiry.<String, Instant>creating(
+                        (tokenId, expiresAt) -> Duration.ofMillis(Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis()))))
                 .maximumSize(MAX_BLACKLISTED_TOKENS)
                 .build();
         log.info("Token blacklist initialized with TTL={}ms, maxSize={}",
@@ -56,21 +63,21 @@ public class InMemoryTokenBlacklistService implements TokenBlacklistService {
     }
 
     @Override
-    public void blacklistToken(String token) {
-        if (token == null || token.isBlank()) {
+    public void blacklistToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null || tokenId.isBlank()) {
             log.warn("Attempted to blacklist null or blank token");
             return;
         }
-        blacklistedTokens.put(token, Boolean.TRUE);
+        blacklistedTokens.put(tokenId, expiresAt != null ? expiresAt : Instant.now().plus(tokenLifetime));
         log.debug("Token blacklisted, estimated blacklisted tokens: {}", blacklistedTokens.estimatedSize());
     }
 
     @Override
-    public boolean isBlacklisted(String token) {
-        if (token == null || token.isBlank()) {
+    public boolean isBlacklisted(String tokenId) {
+        if (tokenId == null || tokenId.isBlank()) {
             return false;
         }
-        return blacklistedTokens.getIfPresent(token) != null;
+        return blacklistedTokens.getIfPresent(tokenId) != null;
     }
 
     @Override
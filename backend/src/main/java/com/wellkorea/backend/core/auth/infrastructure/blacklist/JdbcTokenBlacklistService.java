@@ -0,0 +1,183 @@
+package com.wellkorea.backend.core.auth.infrastructure.blacklist;
+
+import com.wellkorea.backend.core.auth.application.TokenBlacklistService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster-wide token blacklist persisted in PostgreSQL (revoked_tokens table), keyed by jti.
+ * <p>
+ * Every node keeps a local view so the per-request check never touches the database:
+ * <ul>
+ *     <li>A Bloom filter answers the common case ("not revoked") without allocating</li>
+ *     <li>A jti set of the unexpired revocations confirms Bloom-filter hits (no false positives)</li>
+ * </ul>
+ * Logout on this node updates the local view immediately. Revocations made on other nodes are
+ * pulled every {@code jwt.revocation.sync-interval-ms}; the poll re-reads a short overlap window
+ * so revocations committed slightly out of order are not missed. Expired revocations are purged
+ * and the Bloom filter rebuilt on {@code jwt.revocation.compact-interval-ms}.
+ * <p>
+ * Writers (logout, sync, compaction) are serialized on this instance; readers are lock-free.
+ */
+@Service
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcTokenBlacklistService implements TokenBlacklistService {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcTokenBlacklistService.class);
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration tokenLifetime;
+    private final int expectedRevocations;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile RevocationBloomFilter bloomFilter;
+    private Timestamp syncedUpTo;
+
+    public JdbcTokenBlacklistService(JdbcTemplate jdbcTemplate,
+                                     @Value("${jwt.expiration}") long jwtExpirationMs,
+                                     @Value("${jwt.revocation.expected-revocations:100000}") int expectedRevocations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tokenLifetime = Duration.ofMillis(jwtExpirationMs);
+        this.expectedRevocations = expectedRevocations;
+        this.bloomFilter = new RevocationBloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Load all unexpired revocations before serving traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        synchronized (writeLock) {
+            syncedUpTo = null;
+            pullRevocations();
+            log.info("Token revocation store loaded: {} active revocations, {} filter bits",
+                    revoked.size(), bloomFilter.bitCount());
+        }
+    }
+
+    @Override
+    public void blacklistToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null || tokenId.isBlank()) {
+            log.warn("Attempted to blacklist null or blank token");
+            return;
+        }
+        Instant expiry = expiresAt != null ? expiresAt : Instant.now().plus(tokenLifetime);
+
+        jdbcTemplate.update("""
+                INSERT INTO revoked_tokens (jti, expires_at, revoked_at)
+                VALUES (?, ?, CURRENT_TIMESTAMP)
+                ON CONFLICT (jti) DO NOTHING
+                """, tokenId, Timestamp.from(expiry));
+
+        synchronized (writeLock) {
+            remember(tokenId, expiry);
+        }
+        log.debug("Token {} revoked, active revocations on this node: {}", tokenId, revoked.size());
+    }
+
+    @Override
+    public boolean isBlacklisted(String tokenId) {
+        if (tokenId == null || tokenId.isBlank()) {
+            return false;
+        }
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Instant expiry = revoked.get(tokenId);
+        return expiry != null && expiry.isAfter(Instant.now());
+    }
+
+    @Override
+    public void clearAll() {
+        synchronized (writeLock) {
+            jdbcTemplate.update("DELETE FROM revoked_tokens");
+            revoked.clear();
+            bloomFilter = new RevocationBloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+            syncedUpTo = null;
+        }
+        log.debug("Token blacklist cleared");
+    }
+
+    /**
+     * Pull revocations made on other nodes since the last sync.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:2000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:2000}")
+    public void syncRevocations() {
+        synchronized (writeLock) {
+            try {
+                pullRevocations();
+            } catch (Exception e) {
+                // Keep serving from the local view; the next poll catches up
+                log.warn("Failed to sync token revocations: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop expired revocations locally and in the database, and rebuild the Bloom filter
+     * (bits of expired entries cannot be cleared in place).
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.compact-interval-ms:600000}",
+            initialDelayString = "${jwt.revocation.compact-interval-ms:600000}")
+    public void compact() {
+        Instant now = Instant.now();
+        synchronized (writeLock) {
+            revoked.values().removeIf(expiry -> !expiry.isAfter(now));
+            RevocationBloomFilter rebuilt = new RevocationBloomFilter(
+                    Math.max(expectedRevocations, revoked.size() * 2), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= ?", Timestamp.from(now));
+        log.debug("Token revocations compacted: {} active, {} expired rows deleted", revoked.size(), deleted);
+    }
+
+    /**
+     * Caller holds writeLock. The cursor only ever compares database timestamps with each other.
+     */
+    private void pullRevocations() {
+        Timestamp now = Timestamp.from(Instant.now());
+        StringBuilder sql = new StringBuilder("SELECT jti, expires_at, revoked_at FROM revoked_tokens WHERE expires_at > ?");
+        Object[] args;
+        if (syncedUpTo == null) {
+            args = new Object[]{now};
+        } else {
+            sql.append(" AND revoked_at > ?");
+            args = new Object[]{now, new Timestamp(syncedUpTo.getTime() - SYNC_OVERLAP.toMillis())};
+        }
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+            remember(rs.getString("jti"), rs.getTimestamp("expires_at").toInstant());
+            Timestamp revokedAt = rs.getTimestamp("revoked_at");
+            if (syncedUpTo == null || revokedAt.after(syncedUpTo)) {
+                syncedUpTo = revokedAt;
+            }
+        }, args);
+    }
+
+    /**
+     * Caller holds writeLock. The set is written before the filter so a reader that passes
+     * the filter always finds the entry.
+     */
+    private void remember(String tokenId, Instant expiresAt) {
+        revoked.merge(tokenId, expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+        bloomFilter.put(tokenId);
+    }
+}
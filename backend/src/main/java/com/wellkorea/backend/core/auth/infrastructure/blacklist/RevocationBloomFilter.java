@@ -0,0 +1,81 @@
+package com.wellkorea.backend.core.auth.infrastructure.blacklist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter over token IDs.
+ * <p>
+ * Answers "definitely not revoked" without allocating: the two base hashes are computed
+ * directly over the string's chars (String#hashCode is cached by the JVM) and combined with
+ * double hashing. Entries cannot be removed; the owner rebuilds the filter once expired
+ * revocations accumulate.
+ */
+final class RevocationBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedEntries   Number of entries the filter is sized for
+     * @param falsePositiveRate Target false-positive rate at that size (e.g., 0.001)
+     */
+    RevocationBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int n = Math.max(1, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long words = Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(Math.toIntExact(words));
+        this.bitCount = words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(String value) {
+        long h1 = mix(value.hashCode());
+        long h2 = fnv1a(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = mix(value.hashCode());
+        long h2 = fnv1a(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    private static long mix(long h) {
+        // SplitMix64 finalizer - spreads String#hashCode over 64 bits
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    private static long fnv1a(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // Odd step so all probe positions differ
+        return h | 1;
+    }
+}
@@ -21,7 +21,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -31,9 +30,8 @@ import java.util.Collection;
  * <p>This filter performs:
  * <ol>
  *     <li>Token extraction from Authorization header</li>
- *     <li>Token signature and expiration validation</li>
+ *     <li>Token verification and claims extraction in a single parse (cached per token)</li>
  *     <li>Blacklist check (reject logged-out tokens)</li>
- *     <li>Claims extraction (username, userId, roles)</li>
  *     <li>SecurityContext population with {@link AuthenticatedUser} principal</li>
  * </ol>
  *
@@ -65,31 +63,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // If token is present, validate it (throws exception if invalid/expired)
             if (StringUtils.hasText(jwt)) {
-                // Step 1: Validate token signature and expiration
-                jwtTokenProvider.validateToken(jwt);
+                // Step 1: Verify signature and expiration, extracting all claims in one parse
+                VerifiedToken verified = jwtTokenProvider.verify(jwt);
 
-                // Step 2: Check if token is blacklisted (logged out)
-                if (tokenBlacklistService.isBlacklisted(jwt)) {
+                // Step 2: Check if token is blacklisted (logged out) - node-local, no DB round trip
+                if (tokenBlacklistService.isBlacklisted(verified.tokenId())) {
                     throw new InvalidJwtAuthenticationException("Token has been invalidated");
                 }
 
-                // Step 3: Extract claims from validated token
-                Long userId = jwtTokenProvider.getUserId(jwt);
-                String username = jwtTokenProvider.getUsername(jwt);
-                String[] roles = jwtTokenProvider.getRoles(jwt);
-
-                // Step 4: Validate userId is present (required for authenticated operations)
+                // Step 3: Validate userId is present (required for authenticated operations)
+                Long userId = verified.userId();
+                String username = verified.username();
                 if (userId == null || username == null) {
                     throw new InvalidJwtAuthenticationException("Token missing userId claim, please re-login");
                 }
 
-                // Convert roles array to GrantedAuthority list
-                Collection<GrantedAuthority> authorities = Arrays.stream(roles)
+                // Convert roles to GrantedAuthority list
+                Collection<GrantedAuthority> authorities = verified.roles().stream()
                         .filter(StringUtils::hasText)
                         .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
                         .toList();
 
-                // Step 5: Create AuthenticatedUser for @AuthenticationPrincipal support
+                // Step 4: Create AuthenticatedUser for @AuthenticationPrincipal support
                 // This enables direct userId access in controllers without token parsing
                 AuthenticatedUser authenticatedUser = new AuthenticatedUser(userId, username, authorities);
 
@@ -1,8 +1,13 @@
 package com.wellkorea.backend.core.auth.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.wellkorea.backend.shared.exception.ExpiredJwtAuthenticationException;
 import com.wellkorea.backend.shared.exception.InvalidJwtAuthenticationException;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -10,18 +15,33 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * JWT token provider for generating and validating JWT tokens.
  * Handles token generation, validation, and claims extraction.
  * Thread-safe and stateless.
  * <p>
+ * Verification is single-parse: {@link #verify(String)} checks the signature and expiration once
+ * with a shared parser and returns all claims as a {@link VerifiedToken}. Verified claims are
+ * cached (keyed by the token's SHA-256, never the raw token) until the token expires, so the
+ * filter, {@code AuthenticationService} and repeat requests with the same token skip the HMAC
+ * check and JSON parsing. Invalid tokens are never cached.
+ * <p>
  * TEMPORARY: This class will be replaced with OAuth2 Resource Server configuration
  * when Keycloak integration is implemented. See docs/keycloak-migration.md.
  */
@@ -29,13 +49,22 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
+    private static final int DEFAULT_VERIFIED_CACHE_SIZE = 10_000;
 
     private final SecretKey secretKey;
     private final long validityInMilliseconds;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(String secret, long validityInMilliseconds) {
+        this(secret, validityInMilliseconds, DEFAULT_VERIFIED_CACHE_SIZE);
+    }
 
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long validityInMilliseconds) {
+            @Value("${jwt.expiration}") long validityInMilliseconds,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
 
         // Ensure secret is at least 256 bits (32 bytes) for HS256
         if (secret.getBytes(StandardCharsets.UTF_8).length < 32) {
@@ -44,10 +73,19 @@ public class JwtTokenProvider {
 
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.validityInMilliseconds = validityInMilliseconds;
+        // JwtParser is immutable and thread-safe; build it once
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
      * Generate JWT token from username, roles, and user ID.
+     * Each token carries a random jti claim, which is what logout revokes.
      *
      * @param username Username
      * @param roles    Comma-separated roles (e.g., "ROLE_ADMIN,ROLE_FINANCE")
@@ -59,6 +97,7 @@ public class JwtTokenProvider {
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         var builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .claim("roles", roles)
                 .issuedAt(now)
@@ -71,6 +110,36 @@ public class JwtTokenProvider {
         return builder.signWith(secretKey, Jwts.SIG.HS256).compact();
     }
 
+    /**
+     * Verify a JWT token and return its claims.
+     * Served from the verified-claims cache when the same token was verified before.
+     *
+     * @param token JWT token
+     * @return Verified claims
+     * @throws ExpiredJwtAuthenticationException if token is expired (AUTH_003)
+     * @throws InvalidJwtAuthenticationException if token is invalid (AUTH_002)
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidJwtAuthenticationException("Invalid token");
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            // Entries expire with the token, but eviction is lazy; never serve an expired one
+            if (cached.isExpiredAt(Instant.now())) {
+                verifiedTokens.invalidate(key);
+                throw new ExpiredJwtAuthenticationException("Token has expired");
+            }
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token, key);
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
     /**
      * Extract username from JWT token.
      *
@@ -78,7 +147,7 @@ public class JwtTokenProvider {
      * @return Username (subject)
      */
     public String getUsername(String token) {
-        return getClaims(token).getSubject();
+        return verify(token).username();
     }
 
     /**
@@ -88,11 +157,7 @@ public class JwtTokenProvider {
      * @return Array of role strings (e.g., ["ROLE_ADMIN", "ROLE_FINANCE"])
      */
     public String[] getRoles(String token) {
-        String rolesString = getClaims(token).get("roles", String.class);
-        if (rolesString == null || rolesString.isEmpty()) {
-            return new String[0];
-        }
-        return rolesString.split(",");
+        return verify(token).roles().toArray(String[]::new);
     }
 
     /**
@@ -102,22 +167,7 @@ public class JwtTokenProvider {
      * @return User ID, or null if not present in token
      */
     public Long getUserId(String token) {
-        return getClaims(token).get("userId", Long.class);
-    }
-
-    /**
-     * Extract claims from JWT token.
-     * Private helper method to avoid duplicating parser chain.
-     *
-     * @param token JWT token
-     * @return Claims payload
-     */
-    private io.jsonwebtoken.Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return verify(token).userId();
     }
 
     /**
@@ -129,12 +179,17 @@ public class JwtTokenProvider {
      * @throws InvalidJwtAuthenticationException if token is invalid (AUTH_002)
      */
     public void validateToken(String token) {
+        verify(token);
+    }
+
+    /**
+     * Parse and verify a token (signature and expiration) with the shared parser.
+     */
+    private VerifiedToken parse(String token, String tokenDigest) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            Claims claims = parser.parseSignedClaims(token).getPayload();
             log.debug("Token validation successful");
+            return toVerifiedToken(claims, tokenDigest);
 
         } catch (ExpiredJwtException e) {
             log.debug("Expired JWT token: {}", e.getMessage());
@@ -149,4 +204,60 @@ public class JwtTokenProvider {
             throw new InvalidJwtAuthenticationException("Token validation failed", e);
         }
     }
+
+    private static VerifiedToken toVerifiedToken(Claims claims, String tokenDigest) {
+        String rolesString = claims.get("roles", String.class);
+        List<String> roles = rolesString == null || rolesString.isEmpty()
+                ? List.of()
+                : Arrays.asList(rolesString.split(","));
+        // Tokens issued before jti was added are revoked by their digest instead
+        String tokenId = claims.getId() != null ? claims.getId() : "sha256:" + tokenDigest;
+        return new VerifiedToken(
+                tokenId,
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                List.copyOf(roles),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cache entries live until the token's own expiration (tokens without exp are not cached long).
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private static final long NO_EXPIRATION_TTL_NANOS = Duration.ofMinutes(5).toNanos();
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return NO_EXPIRATION_TTL_NANOS;
+            }
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
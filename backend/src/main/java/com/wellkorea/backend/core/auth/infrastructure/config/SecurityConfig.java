@@ -3,7 +3,7 @@ package com.wellkorea.backend.core.auth.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wellkorea.backend.shared.dto.ErrorResponse;
 import com.wellkorea.backend.shared.exception.ErrorCode;
-import com.wellkorea.backend.shared.ratelimit.LoginRateLimitFilter;
+import com.wellkorea.backend.shared.ratelimit.RateLimitFilter;
 import com.wellkorea.backend.shared.security.InternalNetworkAuthorizationManager;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
@@ -53,7 +53,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final LoginRateLimitFilter loginRateLimitFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final ObjectMapper objectMapper;
     private final InternalNetworkAuthorizationManager internalNetworkAuthManager;
 
@@ -67,11 +67,11 @@ public class SecurityConfig {
     private boolean swaggerEnabled;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
-                          LoginRateLimitFilter loginRateLimitFilter,
+                          RateLimitFilter rateLimitFilter,
                           ObjectMapper objectMapper,
                           InternalNetworkAuthorizationManager internalNetworkAuthManager) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
-        this.loginRateLimitFilter = loginRateLimitFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.objectMapper = objectMapper;
         this.internalNetworkAuthManager = internalNetworkAuthManager;
     }
@@ -101,11 +101,20 @@ public class SecurityConfig {
                     // Prometheus metrics - internal IPs only (Docker network, localhost)
                     auth.requestMatchers("/actuator/prometheus").access(internalNetworkAuthManager);
 
+                    // Held distributed locks (lock keys reveal entity IDs)
+                    auth.requestMatchers("/actuator/locks").hasRole("ADMIN");
+
+                    // Event store projections (replay is a write operation)
+                    auth.requestMatchers("/actuator/projections", "/actuator/projections/**").hasRole("ADMIN");
+
                     auth.requestMatchers("/error").permitAll();
 
                     // OAuth2 callback (Microsoft redirects here, state parameter provides security)
                     auth.requestMatchers("/api/admin/mail/oauth2/callback").permitAll();
 
+                    // Local file storage signed URLs (HMAC signature in the query provides security)
+                    auth.requestMatchers("/api/files/**").permitAll();
+
                     // Swagger/OpenAPI (profile-conditional)
                     if (swaggerEnabled) {
                         auth.requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll();
@@ -134,10 +143,10 @@ public class SecurityConfig {
                         })
                 )
 
-                // Add rate limit filter first (before any authentication processing)
-                .addFilterBefore(loginRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Add rate limit filter right after it (user-keyed policies need the principal)
+                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -214,11 +223,11 @@ public class SecurityConfig {
 
     /**
      * Password encoder bean.
-     * Uses BCrypt hashing algorithm with default strength (10 rounds).
+     * Uses BCrypt with a configurable cost (security.password.bcrypt-strength, default 10).
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.wellkorea.backend.core.auth.infrastructure.config;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a JWT whose signature and expiration have been verified.
+ * Produced by {@link JwtTokenProvider#verify(String)}; immutable and safe to cache.
+ *
+ * @param tokenId   Token ID used for revocation: the jti claim, or "sha256:{hash}" of the token
+ *                  for tokens issued before jti was added
+ * @param userId    User ID claim (null for tokens issued before userId was added)
+ * @param username  Subject claim
+ * @param roles     Role authorities (e.g., ["ROLE_ADMIN", "ROLE_FINANCE"])
+ * @param issuedAt  Issued-at claim
+ * @param expiresAt Expiration claim
+ */
+public record VerifiedToken(
+        String tokenId,
+        Long userId,
+        String username,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    /**
+     * Check whether the token has expired at the given instant (same rule as the JWT parser).
+     */
+    public boolean isExpiredAt(Instant instant) {
+        return expiresAt != null && instant.isAfter(expiresAt);
+    }
+}
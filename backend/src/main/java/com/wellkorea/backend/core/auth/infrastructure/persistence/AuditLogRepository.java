@@ -69,11 +69,14 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSp
     Page<AuditLog> findByCreatedAtBetweenOrderByCreatedAtDesc(Instant start, Instant end, Pageable pageable);
 
     /**
-     * Find audit logs with combined filters.
+     * Find audit logs with combined filters within a time range.
+     * The range is mandatory so PostgreSQL only scans the monthly partitions it overlaps.
      *
      * @param entityType Entity type (optional - pass null to skip)
      * @param action     Action type (optional - pass null to skip)
      * @param userId     User ID (optional - pass null to skip)
+     * @param from       Start timestamp (inclusive)
+     * @param to         End timestamp (exclusive)
      * @param pageable   Pagination
      * @return Page of audit logs matching all non-null criteria
      */
@@ -82,12 +85,15 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSp
             WHERE (:entityType IS NULL OR a.entityType = :entityType)
             AND (:action IS NULL OR a.action = :action)
             AND (:userId IS NULL OR a.userId = :userId)
+            AND a.createdAt >= :from AND a.createdAt < :to
             ORDER BY a.createdAt DESC
             """)
     Page<AuditLog> findWithFilters(
             @Param("entityType") String entityType,
             @Param("action") AuditAction action,
             @Param("userId") Long userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
             Pageable pageable
     );
 
@@ -16,6 +16,7 @@ import com.wellkorea.backend.supporting.storage.api.dto.RegisterAttachmentReques
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlRequest;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlResponse;
 import com.wellkorea.backend.supporting.storage.application.AttachmentService;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
 import com.wellkorea.backend.supporting.storage.domain.AttachmentOwnerType;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -198,11 +199,13 @@ public class DeliveryController {
             @Valid @RequestBody RegisterAttachmentRequest request,
             @AuthenticationPrincipal AuthenticatedUser user) {
 
+        // Hash before the delivering transaction
+        HashedUpload photo = attachmentService.hashUpload(request.objectKey());
         Long deliveryId = commandService.markAsDeliveredWithPhoto(
                 id,
                 request.fileName(),
                 request.fileSize(),
-                request.objectKey(),
+                photo,
                 user.getUserId()
         );
         DeliveryCommandResult result = DeliveryCommandResult.delivered(deliveryId);
@@ -3,23 +3,26 @@ package com.wellkorea.backend.core.delivery.application;
 import com.wellkorea.backend.core.delivery.api.dto.command.CreateDeliveryRequest;
 import com.wellkorea.backend.core.delivery.api.dto.command.DeliveryLineItemRequest;
 import com.wellkorea.backend.core.delivery.domain.Delivery;
+import com.wellkorea.backend.core.delivery.domain.DeliveryLineItem;
 import com.wellkorea.backend.core.delivery.domain.DeliveryLineItemInput;
 import com.wellkorea.backend.core.delivery.domain.DeliveryStatus;
 import com.wellkorea.backend.core.delivery.domain.QuotationDeliveryGuard;
 import com.wellkorea.backend.core.delivery.infrastructure.persistence.DeliveryRepository;
 import com.wellkorea.backend.core.project.infrastructure.repository.ProjectRepository;
 import com.wellkorea.backend.core.quotation.domain.Quotation;
+import com.wellkorea.backend.core.quotation.infrastructure.repository.QuotationQuantityLedger;
 import com.wellkorea.backend.core.quotation.infrastructure.repository.QuotationRepository;
 import com.wellkorea.backend.shared.exception.BusinessException;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
-import com.wellkorea.backend.shared.lock.QuotationLock;
 import com.wellkorea.backend.supporting.storage.application.AttachmentService;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
 import com.wellkorea.backend.supporting.storage.domain.AttachmentOwnerType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -27,13 +30,10 @@ import java.util.List;
  * Part of CQRS pattern - handles all create/update/delete operations.
  * Returns only entity IDs - clients should fetch fresh data via DeliveryQueryService.
  * <p>
- * Uses {@link QuotationLock} annotation for distributed locking to prevent race conditions
- * during concurrent delivery operations. Quotation-level locking is preferred because:
- * <ul>
- *   <li>Validation queries are quotation-scoped (quotation line items, delivered quantities)</li>
- *   <li>More granular than project-level - different quotations can be processed concurrently</li>
- *   <li>Aligns with domain model where deliveries are created against specific quotations</li>
- * </ul>
+ * Delivered quantities are kept per quotation product in the {@link QuotationQuantityLedger}.
+ * Creating a delivery reserves its quantities with a conditional UPDATE on each product's row,
+ * so concurrent deliveries cannot over-deliver and no quotation-wide lock is taken;
+ * returning or reassigning a delivery gives its quantities back.
  * <p>
  * Delivery creation is delegated to {@link Quotation#createDelivery} factory method,
  * which uses {@link QuotationDeliveryGuard} for validation (Double Dispatch pattern).
@@ -48,30 +48,29 @@ public class DeliveryCommandService {
     private final ProjectRepository projectRepository;
     private final QuotationRepository quotationRepository;
     private final QuotationDeliveryGuard quotationDeliveryGuard;
+    private final QuotationQuantityLedger quantityLedger;
     private final AttachmentService attachmentService;
 
     public DeliveryCommandService(DeliveryRepository deliveryRepository,
                                   ProjectRepository projectRepository,
                                   QuotationRepository quotationRepository,
                                   QuotationDeliveryGuard quotationDeliveryGuard,
+                                  QuotationQuantityLedger quantityLedger,
                                   AttachmentService attachmentService) {
         this.deliveryRepository = deliveryRepository;
         this.projectRepository = projectRepository;
         this.quotationRepository = quotationRepository;
         this.quotationDeliveryGuard = quotationDeliveryGuard;
+        this.quantityLedger = quantityLedger;
         this.attachmentService = attachmentService;
     }
 
     /**
      * Create a new delivery with line items.
      * <p>
-     * Acquires a distributed lock on the quotation (via {@link QuotationLock}) to prevent
-     * race conditions during concurrent delivery creation. The lock ensures:
-     * <ul>
-     *   <li>Consistent quotation data during validation</li>
-     *   <li>Accurate cumulative delivered quantities</li>
-     *   <li>No over-delivery beyond quotation limits</li>
-     * </ul>
+     * The guard reserves the delivered quantities in the {@link QuotationQuantityLedger}.
+     * Concurrent deliveries for the same product wait only for each other's row update,
+     * and a delivery that would exceed the quotation quantity fails validation.
      * <p>
      * The quotationId is explicitly provided to ensure the delivery is created against
      * the exact quotation version the user was viewing, preventing race conditions
@@ -80,15 +79,13 @@ public class DeliveryCommandService {
      * Delegates to {@link Quotation#createDelivery} factory method which validates
      * using {@link QuotationDeliveryGuard} and creates the Delivery entity.
      *
-     * @param quotationId   Quotation ID (used for distributed lock and delivery binding)
+     * @param quotationId   Quotation ID (used for delivery binding)
      * @param request       Create delivery request
      * @param deliveredById User ID of who is recording the delivery
      * @return ID of the created delivery
-     * @throws ResourceNotFoundException                                  if quotation doesn't exist
-     * @throws BusinessException                                          if validation fails
-     * @throws com.wellkorea.backend.shared.lock.LockAcquisitionException if lock cannot be acquired (concurrent operation in progress)
+     * @throws ResourceNotFoundException if quotation doesn't exist
+     * @throws BusinessException         if validation fails
      */
-    @QuotationLock
     public Long createDelivery(Long quotationId, CreateDeliveryRequest request, Long deliveredById) {
         log.info("Creating delivery: quotationId={}, lineItems={}, userId={}", quotationId, request.lineItems().size(), deliveredById);
 
@@ -165,7 +162,7 @@ public class DeliveryCommandService {
      * @param deliveryId Delivery ID
      * @param fileName   Original file name of the photo
      * @param fileSize   Photo file size in bytes
-     * @param objectKey  MinIO storage path (from presigned URL response)
+     * @param photo      The uploaded photo, hashed by {@link AttachmentService#hashUpload}
      * @param uploaderId User ID who is recording the delivery
      * @return ID of the updated delivery
      * @throws ResourceNotFoundException if delivery doesn't exist
@@ -175,7 +172,7 @@ public class DeliveryCommandService {
             Long deliveryId,
             String fileName,
             Long fileSize,
-            String objectKey,
+            HashedUpload photo,
             Long uploaderId) {
         log.info("Marking delivery id={} as delivered with photo: userId={}", deliveryId, uploaderId);
 
@@ -194,7 +191,7 @@ public class DeliveryCommandService {
                 deliveryId,
                 fileName,
                 fileSize,
-                objectKey,
+                photo,
                 uploaderId
         );
 
@@ -224,15 +221,19 @@ public class DeliveryCommandService {
 
     /**
      * Mark a delivery as returned (e.g., for refunds/corrections).
+     * Returned quantities become deliverable again.
      *
      * @param deliveryId Delivery ID
      * @return ID of the updated delivery
      */
     public Long markAsReturned(Long deliveryId) {
         log.info("Marking delivery id={} as returned", deliveryId);
-        Delivery delivery = deliveryRepository.findById(deliveryId)
+        Delivery delivery = deliveryRepository.findByIdForUpdate(deliveryId)
                 .orElseThrow(() -> new ResourceNotFoundException("Delivery", deliveryId));
 
+        if (delivery.countsTowardDeliveredQuantity()) {
+            releaseDeliveredQuantities(delivery);
+        }
         delivery.markReturned();
         deliveryRepository.save(delivery);
         return deliveryId;
@@ -241,9 +242,9 @@ public class DeliveryCommandService {
     /**
      * Reassign a delivery to a different quotation version.
      * <p>
-     * Acquires a distributed lock on the target quotation (via {@link QuotationLock}) to prevent
-     * race conditions during concurrent reassignment. The lock ensures consistent validation
-     * of cumulative delivered quantities against the target quotation.
+     * The delivered quantities are released from the current quotation and reserved against
+     * the target quotation in the same transaction. Returned deliveries carry no quantities
+     * and are moved without a reservation.
      * <p>
      * Used when a new quotation is approved and existing deliveries
      * need to be linked to the new version. Validates that:
@@ -256,19 +257,17 @@ public class DeliveryCommandService {
      * </ul>
      *
      * @param deliveryId  Delivery ID to reassign
-     * @param quotationId Target quotation ID (used for distributed lock)
+     * @param quotationId Target quotation ID
      * @return ID of the updated delivery
-     * @throws ResourceNotFoundException                                  if delivery or quotation doesn't exist
-     * @throws BusinessException                                          if validation fails
-     * @throws com.wellkorea.backend.shared.lock.LockAcquisitionException if lock cannot be acquired (concurrent operation in progress)
+     * @throws ResourceNotFoundException if delivery or quotation doesn't exist
+     * @throws BusinessException         if validation fails
      */
-    @QuotationLock
     public Long reassignToQuotation(Long deliveryId, Long quotationId) {
         log.info("Reassigning delivery id={} to quotation id={}", deliveryId, quotationId);
-        Delivery delivery = deliveryRepository.findById(deliveryId)
+        Delivery delivery = deliveryRepository.findByIdForUpdate(deliveryId)
                 .orElseThrow(() -> new ResourceNotFoundException("Delivery", deliveryId));
 
-        Quotation quotation = quotationRepository.findById(quotationId)
+        Quotation quotation = quotationRepository.findByIdWithLineItems(quotationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Quotation", quotationId));
 
         // Validate quotation belongs to the same project
@@ -283,14 +282,31 @@ public class DeliveryCommandService {
 
         // Validate delivery is compatible with the target quotation
         // (products exist and quantities don't exceed limits)
-        // Exclude the current delivery from validation since we're moving it
-        List<DeliveryLineItemInput> lineItemInputs = delivery.getLineItems().stream()
-                .map(li -> new DeliveryLineItemInput(li.getProductId(), li.getQuantityDelivered()))
-                .toList();
-        quotationDeliveryGuard.validateAndThrow(quotation, lineItemInputs, deliveryId);
+        // Release from the current quotation first so the delivery is not counted twice
+        if (delivery.countsTowardDeliveredQuantity()) {
+            releaseDeliveredQuantities(delivery);
+            List<DeliveryLineItemInput> lineItemInputs = delivery.getLineItems().stream()
+                    .map(li -> new DeliveryLineItemInput(li.getProductId(), li.getQuantityDelivered()))
+                    .toList();
+            quotationDeliveryGuard.validateAndThrow(quotation, lineItemInputs);
+        }
 
         delivery.reassignToQuotation(quotationId);
         deliveryRepository.save(delivery);
         return deliveryId;
     }
+
+    /**
+     * Give a delivery's quantities back to its quotation's ledger.
+     * Runs before the delivery change is flushed (the ledger may initialize from aggregates).
+     */
+    private void releaseDeliveredQuantities(Delivery delivery) {
+        if (delivery.getQuotationId() == null) {
+            return; // Legacy project-level delivery, not tracked per quotation
+        }
+        delivery.getLineItems().stream()
+                .sorted(Comparator.comparing(DeliveryLineItem::getProductId))
+                .forEach(li -> quantityLedger.releaseDelivered(
+                        delivery.getQuotationId(), li.getProductId(), li.getQuantityDelivered()));
+    }
 }
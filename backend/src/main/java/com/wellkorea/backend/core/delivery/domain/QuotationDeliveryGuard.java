@@ -23,6 +23,8 @@ import java.util.List;
  *   <li>Delivery quantities must not exceed remaining deliverable amounts</li>
  *   <li>No duplicate products in delivery request</li>
  * </ul>
+ * A successful validation also reserves the quantities against the quotation, so the check
+ * holds for concurrent deliveries. The reservation belongs to the caller's transaction.
  * <p>
  * Similar pattern: {@link JobCodeSequenceProvider}
  *
@@ -31,26 +33,15 @@ import java.util.List;
 public interface QuotationDeliveryGuard {
 
     /**
-     * Validate that the delivery line items can be delivered against the quotation.
+     * Validate that the delivery line items can be delivered against the quotation
+     * and reserve their quantities.
+     * <p>
+     * When an existing delivery is reassigned, its quantities must be released from its
+     * current quotation first so they are not counted twice.
      *
      * @param quotation Quotation to validate against (must be approved)
      * @param lineItems Line items to validate
      * @throws BusinessException if any validation fails
      */
     void validateAndThrow(Quotation quotation, List<DeliveryLineItemInput> lineItems);
-
-    /**
-     * Validate that the delivery line items can be delivered against the quotation,
-     * excluding a specific delivery from the "already delivered" calculation.
-     * <p>
-     * Used for reassignment scenarios where an existing delivery is being moved
-     * to a different quotation - we need to exclude that delivery's quantities
-     * from the calculation to avoid double-counting.
-     *
-     * @param quotation         Quotation to validate against (must be approved)
-     * @param lineItems         Line items to validate
-     * @param excludeDeliveryId Delivery ID to exclude from existing delivery calculation
-     * @throws BusinessException if any validation fails
-     */
-    void validateAndThrow(Quotation quotation, List<DeliveryLineItemInput> lineItems, Long excludeDeliveryId);
 }
@@ -1,16 +1,32 @@
 package com.wellkorea.backend.core.delivery.infrastructure.persistence;
 
 import com.wellkorea.backend.core.delivery.domain.Delivery;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * Repository for Delivery entities.
  * Provides queries for delivery tracking and over-delivery prevention.
  * <p>
- * Concurrency control is handled by {@link com.wellkorea.backend.shared.lock.ProjectLockService}
- * at the service layer, not at the repository level.
+ * Delivered quantities are reserved in the quotation quantity ledger; status changes that give
+ * quantities back load the delivery with {@link #findByIdForUpdate} so they release them only once.
  */
 @Repository
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+
+    /**
+     * Find a delivery and lock its row until the end of the transaction.
+     *
+     * @param id Delivery ID
+     * @return Delivery if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Delivery d WHERE d.id = :id")
+    Optional<Delivery> findByIdForUpdate(@Param("id") Long id);
 }
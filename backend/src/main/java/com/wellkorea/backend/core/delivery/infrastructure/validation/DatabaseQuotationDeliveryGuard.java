@@ -2,55 +2,51 @@ package com.wellkorea.backend.core.delivery.infrastructure.validation;
 
 import com.wellkorea.backend.core.delivery.domain.DeliveryLineItemInput;
 import com.wellkorea.backend.core.delivery.domain.QuotationDeliveryGuard;
-import com.wellkorea.backend.core.delivery.infrastructure.mapper.DeliveryMapper;
 import com.wellkorea.backend.core.project.infrastructure.sequence.DatabaseJobCodeSequenceProvider;
 import com.wellkorea.backend.core.quotation.domain.Quotation;
 import com.wellkorea.backend.core.quotation.domain.QuotationLineItem;
-import com.wellkorea.backend.shared.dto.ProductQuantitySum;
+import com.wellkorea.backend.core.quotation.infrastructure.repository.QuotationQuantityLedger;
 import com.wellkorea.backend.shared.exception.BusinessException;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Database-backed implementation of {@link QuotationDeliveryGuard}.
  * <p>
- * Validates delivery line items against quotation limits by querying the database
- * for already-delivered quantities.
+ * Validates delivery line items against the quotation, then reserves the quantities in the
+ * {@link QuotationQuantityLedger}. The reservation is a conditional UPDATE per product, so the
+ * quantity limit holds under concurrent deliveries without a quotation-wide lock.
  * <p>
- * Uses MyBatis mapper for typed query results instead of JPA Object[] arrays.
+ * Reservations join the caller's transaction and are rolled back with it.
  * <p>
  * Similar pattern: {@link DatabaseJobCodeSequenceProvider}
  */
 @Component
 public class DatabaseQuotationDeliveryGuard implements QuotationDeliveryGuard {
 
-    private final DeliveryMapper deliveryMapper;
+    private final QuotationQuantityLedger quantityLedger;
 
-    public DatabaseQuotationDeliveryGuard(DeliveryMapper deliveryMapper) {
-        this.deliveryMapper = deliveryMapper;
+    public DatabaseQuotationDeliveryGuard(QuotationQuantityLedger quantityLedger) {
+        this.quantityLedger = quantityLedger;
     }
 
     @Override
     public void validateAndThrow(Quotation quotation, List<DeliveryLineItemInput> lineItems) {
-        validateAndThrow(quotation, lineItems, null);
-    }
-
-    @Override
-    public void validateAndThrow(Quotation quotation, List<DeliveryLineItemInput> lineItems, Long excludeDeliveryId) {
         validateNotEmpty(lineItems);
         validateNoDuplicateProducts(lineItems);
 
         Map<Long, BigDecimal> quotationQuantities = buildQuotationQuantityMap(quotation);
-        Map<Long, BigDecimal> deliveredQuantities = buildDeliveredQuantityMap(quotation.getId(), excludeDeliveryId);
-
         for (DeliveryLineItemInput item : lineItems) {
             validatePositiveQuantity(item);
             validateProductInQuotation(item, quotationQuantities);
-            validateNotExceedingQuota(item, quotationQuantities, deliveredQuantities);
         }
+
+        // Product ID order keeps concurrent multi-product deliveries from deadlocking on ledger rows
+        lineItems.stream()
+                .sorted(Comparator.comparing(DeliveryLineItemInput::productId))
+                .forEach(item -> reserveWithinQuota(quotation.getId(), item));
     }
 
     // ========== Validation Methods ==========
@@ -88,25 +84,26 @@ public class DatabaseQuotationDeliveryGuard implements QuotationDeliveryGuard {
         }
     }
 
-    private void validateNotExceedingQuota(DeliveryLineItemInput item,
-                                           Map<Long, BigDecimal> quotationQuantities,
-                                           Map<Long, BigDecimal> deliveredQuantities) {
+    private void reserveWithinQuota(Long quotationId, DeliveryLineItemInput item) {
         Long productId = item.productId();
         BigDecimal requestedQty = item.quantityDelivered();
-        BigDecimal quotationQty = quotationQuantities.get(productId);
-        BigDecimal alreadyDelivered = deliveredQuantities.getOrDefault(productId, BigDecimal.ZERO);
+        if (quantityLedger.reserveDelivered(quotationId, productId, requestedQty)) {
+            return;
+        }
+
+        QuotationQuantityLedger.Entry entry = quantityLedger.find(quotationId, productId);
+        BigDecimal quotationQty = entry != null ? entry.quoted() : BigDecimal.ZERO;
+        BigDecimal alreadyDelivered = entry != null ? entry.delivered() : BigDecimal.ZERO;
         BigDecimal remaining = quotationQty.subtract(alreadyDelivered);
 
-        if (requestedQty.compareTo(remaining) > 0) {
-            throw new BusinessException(
-                    String.format("Delivery quantity (%s) exceeds remaining deliverable quantity (%s) " +
-                                    "for product ID %d. Quotation quantity: %s, Already delivered: %s",
-                            requestedQty.toPlainString(),
-                            remaining.toPlainString(),
-                            productId,
-                            quotationQty.toPlainString(),
-                            alreadyDelivered.toPlainString()));
-        }
+        throw new BusinessException(
+                String.format("Delivery quantity (%s) exceeds remaining deliverable quantity (%s) " +
+                                "for product ID %d. Quotation quantity: %s, Already delivered: %s",
+                        requestedQty.toPlainString(),
+                        remaining.toPlainString(),
+                        productId,
+                        quotationQty.toPlainString(),
+                        alreadyDelivered.toPlainString()));
     }
 
     // ========== Helper Methods ==========
@@ -126,23 +123,4 @@ public class DatabaseQuotationDeliveryGuard implements QuotationDeliveryGuard {
         }
         return map;
     }
-
-    /**
-     * Build a map of product ID to already-delivered quantity for the quotation.
-     * <p>
-     * Queries deliveries linked to the specific quotation (not project-wide),
-     * as each quotation tracks its own delivery progress independently.
-     * <p>
-     * Uses MyBatis mapper for typed results (no manual Object[] conversion needed).
-     *
-     * @param quotationId       Quotation ID to query deliveries for
-     * @param excludeDeliveryId Optional delivery ID to exclude (for reassignment)
-     */
-    private Map<Long, BigDecimal> buildDeliveredQuantityMap(Long quotationId, Long excludeDeliveryId) {
-        return deliveryMapper.getDeliveredQuantitiesByQuotation(quotationId, excludeDeliveryId).stream()
-                .collect(Collectors.toMap(
-                        ProductQuantitySum::productId,
-                        ProductQuantitySum::quantity
-                ));
-    }
 }
@@ -4,21 +4,20 @@ import com.wellkorea.backend.core.company.domain.Company;
 import com.wellkorea.backend.core.company.infrastructure.persistence.CompanyRepository;
 import com.wellkorea.backend.core.finance.domain.AccountsPayable;
 import com.wellkorea.backend.core.finance.domain.vo.DisbursementCause;
+import com.wellkorea.backend.core.finance.domain.vo.DisbursementCauseType;
 import com.wellkorea.backend.core.finance.infrastructure.persistence.AccountsPayableRepository;
 import com.wellkorea.backend.core.purchasing.domain.event.PurchaseOrderConfirmedEvent;
+import com.wellkorea.backend.shared.event.AsyncEventHandler;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Event handler that listens for purchase order confirmation events
  * and creates AccountsPayable entries for tracking vendor payments.
- * Uses @TransactionalEventListener with BEFORE_COMMIT phase to ensure
- * the AP creation is within the same transaction as the PO confirmation.
+ * Runs asynchronously via the event outbox, after the PO confirmation has committed:
+ * the AP entry appears shortly after the confirmation, not within the same transaction.
  */
 @Component
 public class AccountsPayableEventHandler {
@@ -36,18 +35,27 @@ public class AccountsPayableEventHandler {
 
     /**
      * Handle purchase order confirmed events.
-     * Creates an AccountsPayable entry to track payment obligations.
+     * Creates an AccountsPayable entry to track payment obligations, unless one already exists
+     * for the purchase order.
      * <p>
-     * Uses optimistic save with DataIntegrityViolationException catch for idempotency,
-     * relying on the unique constraint (cause_type, cause_id) to prevent race conditions.
+     * The existence check runs before the insert: a unique violation aborts the PostgreSQL
+     * transaction, so it cannot be caught and ignored. If two handlers for the same purchase order
+     * still race past the check, the unique constraint (cause_type, cause_id) fails the later one;
+     * the outbox retries it and the retry finds the AP and skips.
      *
      * @param event the PO confirmed event
      */
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @AsyncEventHandler
     public void onPurchaseOrderConfirmed(PurchaseOrderConfirmedEvent event) {
         log.debug("Handling PO confirmed event: poId={}, vendorId={}, amount={}",
                 event.purchaseOrderId(), event.vendorId(), event.totalAmount());
 
+        if (accountsPayableRepository.existsByDisbursementCause_CauseTypeAndDisbursementCause_CauseId(
+                DisbursementCauseType.PURCHASE_ORDER, event.purchaseOrderId())) {
+            log.info("AccountsPayable already exists for PO {}, skipping", event.purchaseOrderId());
+            return;
+        }
+
         Company vendor = companyRepository.findById(event.vendorId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Vendor company not found with ID: " + event.vendorId()));
@@ -66,15 +74,9 @@ public class AccountsPayableEventHandler {
                 .currency(event.currency())
                 .build();
 
-        try {
-            accountsPayableRepository.save(accountsPayable);
-            log.info("Created AccountsPayable for PO {} with amount {} {} (causeType={}, causeId={})",
-                    event.poNumber(), event.totalAmount(), event.currency(),
-                    disbursementCause.getCauseType(), disbursementCause.getCauseId());
-        } catch (DataIntegrityViolationException e) {
-            // AP already exists - idempotent handling via unique constraint
-            log.info("AccountsPayable already exists for PO {}, skipping (constraint violation)",
-                    event.purchaseOrderId());
-        }
+        accountsPayableRepository.save(accountsPayable);
+        log.info("Created AccountsPayable for PO {} with amount {} {} (causeType={}, causeId={})",
+                event.poNumber(), event.totalAmount(), event.currency(),
+                disbursementCause.getCauseType(), disbursementCause.getCauseId());
     }
 }
@@ -12,6 +12,7 @@ import com.wellkorea.backend.supporting.storage.api.dto.AttachmentView;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlRequest;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlResponse;
 import com.wellkorea.backend.supporting.storage.application.AttachmentService;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
 import com.wellkorea.backend.supporting.storage.domain.AttachmentOwnerType;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -132,7 +133,9 @@ public class InvoiceController {
             @PathVariable Long id,
             @Valid @RequestBody IssueInvoiceRequest request,
             @AuthenticationPrincipal AuthenticatedUser user) {
-        commandService.issueInvoice(id, request, user.getUserId());
+        // Hash before the issuing transaction
+        HashedUpload document = attachmentService.hashUpload(request.objectKey());
+        commandService.issueInvoice(id, request, document, user.getUserId());
         return ResponseEntity.ok(ApiResponse.success(InvoiceCommandResult.issued(id)));
     }
 
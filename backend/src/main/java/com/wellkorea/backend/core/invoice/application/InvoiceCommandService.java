@@ -7,11 +7,12 @@ import com.wellkorea.backend.core.invoice.api.dto.command.RecordPaymentRequest;
 import com.wellkorea.backend.core.invoice.domain.*;
 import com.wellkorea.backend.core.invoice.infrastructure.persistence.TaxInvoiceRepository;
 import com.wellkorea.backend.core.quotation.domain.Quotation;
+import com.wellkorea.backend.core.quotation.infrastructure.repository.QuotationQuantityLedger;
 import com.wellkorea.backend.core.quotation.infrastructure.repository.QuotationRepository;
 import com.wellkorea.backend.shared.exception.BusinessException;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
-import com.wellkorea.backend.shared.lock.QuotationLock;
 import com.wellkorea.backend.supporting.storage.application.AttachmentService;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
 import com.wellkorea.backend.supporting.storage.domain.AttachmentOwnerType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -28,13 +30,10 @@ import java.util.List;
  * <p>
  * Following CQRS: returns only IDs, clients fetch fresh data via QueryService.
  * <p>
- * Uses {@link QuotationLock} annotation for distributed locking to prevent race conditions
- * during concurrent invoice creation. Quotation-level locking is preferred because:
- * <ul>
- *   <li>Validation queries are quotation-scoped (quotation line items, delivered/invoiced quantities)</li>
- *   <li>More granular than project-level - different quotations can be processed concurrently</li>
- *   <li>Aligns with domain model where invoices are created against specific quotations</li>
- * </ul>
+ * Invoiced quantities are kept per quotation product in the {@link QuotationQuantityLedger}.
+ * Creating an invoice reserves its quantities with a conditional UPDATE on each product's row,
+ * so concurrent invoices cannot exceed the delivered quantity and no quotation-wide lock is taken;
+ * cancelling an invoice gives its quantities back.
  */
 @Service
 @Transactional
@@ -46,30 +45,29 @@ public class InvoiceCommandService {
     private final QuotationRepository quotationRepository;
     private final QuotationInvoiceGuard quotationInvoiceGuard;
     private final InvoiceNumberGenerator invoiceNumberGenerator;
+    private final QuotationQuantityLedger quantityLedger;
     private final AttachmentService attachmentService;
 
     public InvoiceCommandService(TaxInvoiceRepository invoiceRepository,
                                  QuotationRepository quotationRepository,
                                  QuotationInvoiceGuard quotationInvoiceGuard,
                                  InvoiceNumberGenerator invoiceNumberGenerator,
+                                 QuotationQuantityLedger quantityLedger,
                                  AttachmentService attachmentService) {
         this.invoiceRepository = invoiceRepository;
         this.quotationRepository = quotationRepository;
         this.quotationInvoiceGuard = quotationInvoiceGuard;
         this.invoiceNumberGenerator = invoiceNumberGenerator;
+        this.quantityLedger = quantityLedger;
         this.attachmentService = attachmentService;
     }
 
     /**
      * Create a new tax invoice.
      * <p>
-     * Acquires a distributed lock on the quotation (via {@link QuotationLock}) to prevent
-     * race conditions during concurrent invoice creation. The lock ensures:
-     * <ul>
-     *   <li>Consistent quotation data during validation</li>
-     *   <li>Accurate cumulative delivered/invoiced quantities</li>
-     *   <li>No over-invoicing beyond delivered amounts</li>
-     * </ul>
+     * The guard reserves the invoiced quantities in the {@link QuotationQuantityLedger}.
+     * Concurrent invoices for the same product wait only for each other's row update,
+     * and an invoice that would exceed the delivered quantity fails validation.
      * <p>
      * The quotationId is explicitly provided to ensure the invoice is created against
      * the exact quotation version the user was viewing, preventing race conditions
@@ -78,15 +76,13 @@ public class InvoiceCommandService {
      * Delegates to {@link Quotation#createInvoice} factory method which validates
      * using {@link QuotationInvoiceGuard} and creates the TaxInvoice entity.
      *
-     * @param quotationId Quotation ID (used for distributed lock and invoice binding)
+     * @param quotationId Quotation ID (used for invoice binding)
      * @param request     Create request
      * @param creatorId   User ID creating the invoice
      * @return Created invoice ID
-     * @throws ResourceNotFoundException                                  if quotation doesn't exist
-     * @throws BusinessException                                          if validation fails
-     * @throws com.wellkorea.backend.shared.lock.LockAcquisitionException if lock cannot be acquired
+     * @throws ResourceNotFoundException if quotation doesn't exist
+     * @throws BusinessException         if validation fails
      */
-    @QuotationLock
     public Long createInvoice(Long quotationId, CreateInvoiceRequest request, Long creatorId) {
         log.info("Creating invoice: quotationId={}, lineItems={}, userId={}", quotationId, request.lineItems().size(), creatorId);
 
@@ -148,10 +144,11 @@ public class InvoiceCommandService {
      *
      * @param invoiceId  Invoice ID
      * @param request    Issue request containing document info (fileName, fileSize, objectKey)
+     * @param document   The uploaded document, hashed by {@link AttachmentService#hashUpload}
      * @param uploaderId ID of the user issuing the invoice
      * @return Invoice ID
      */
-    public Long issueInvoice(Long invoiceId, IssueInvoiceRequest request, Long uploaderId) {
+    public Long issueInvoice(Long invoiceId, IssueInvoiceRequest request, HashedUpload document, Long uploaderId) {
         log.info("Issuing invoice id={}: userId={}", invoiceId, uploaderId);
         TaxInvoice invoice = findInvoiceById(invoiceId);
 
@@ -161,7 +158,7 @@ public class InvoiceCommandService {
                 invoiceId,
                 request.fileName(),
                 request.fileSize(),
-                request.objectKey(),
+                document,
                 uploaderId
         );
 
@@ -175,13 +172,18 @@ public class InvoiceCommandService {
 
     /**
      * Cancel an invoice.
+     * Cancelled quantities become invoiceable again.
      *
      * @param invoiceId Invoice ID
      * @return Invoice ID
      */
     public Long cancelInvoice(Long invoiceId) {
         log.info("Cancelling invoice id={}", invoiceId);
-        TaxInvoice invoice = findInvoiceById(invoiceId);
+        TaxInvoice invoice = invoiceRepository.findByIdForUpdate(invoiceId)
+                .orElseThrow(() -> new IllegalArgumentException("Invoice not found: " + invoiceId));
+        if (invoice.getStatus() != InvoiceStatus.CANCELLED) {
+            releaseInvoicedQuantities(invoice);
+        }
         invoice.cancel();
         invoiceRepository.save(invoice);
         return invoiceId;
@@ -285,4 +287,18 @@ public class InvoiceCommandService {
         return invoiceRepository.findById(invoiceId)
                 .orElseThrow(() -> new IllegalArgumentException("Invoice not found: " + invoiceId));
     }
+
+    /**
+     * Give an invoice's quantities back to its quotation's ledger.
+     * Runs before the invoice change is flushed (the ledger may initialize from aggregates).
+     */
+    private void releaseInvoicedQuantities(TaxInvoice invoice) {
+        if (invoice.getQuotationId() == null) {
+            return; // Legacy project-level invoice, not tracked per quotation
+        }
+        invoice.getLineItems().stream()
+                .sorted(Comparator.comparing(InvoiceLineItem::getProductId))
+                .forEach(li -> quantityLedger.releaseInvoiced(
+                        invoice.getQuotationId(), li.getProductId(), li.getQuantityInvoiced()));
+    }
 }
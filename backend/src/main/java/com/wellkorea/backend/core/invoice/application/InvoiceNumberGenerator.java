@@ -1,46 +1,64 @@
 package com.wellkorea.backend.core.invoice.application;
 
-import com.wellkorea.backend.core.invoice.infrastructure.persistence.TaxInvoiceRepository;
+import com.wellkorea.backend.core.invoice.infrastructure.sequence.InvoiceNumberSequence;
+import com.wellkorea.backend.shared.sequence.BlockSequenceAllocator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Generates unique invoice numbers.
+ * Generates unique invoice numbers from the per-year database sequence.
  * Format: INV-YYYY-NNNNNN (e.g., INV-2026-000001)
+ * <p>
+ * Gap policy ({@code invoice.number.mode}):
+ * <ul>
+ *   <li>block (default): each node reserves {@code invoice.number.block-size} numbers at a time
+ *       and issues them from memory ({@link BlockSequenceAllocator}). Numbers stay unique across
+ *       nodes but may have gaps and are not in creation order across nodes</li>
+ *   <li>gapless: every number is taken in the invoice transaction, so a rollback returns it.
+ *       Invoice creation serializes per year until commit</li>
+ * </ul>
  */
 @Component
 public class InvoiceNumberGenerator {
 
-    private final TaxInvoiceRepository invoiceRepository;
-    private final AtomicLong sequenceCounter = new AtomicLong(0);
-    private int currentYear = 0;
+    private final InvoiceNumberSequence sequence;
+    private final boolean gapless;
+    private final BlockSequenceAllocator<Integer> blocks;
 
-    public InvoiceNumberGenerator(TaxInvoiceRepository invoiceRepository) {
-        this.invoiceRepository = invoiceRepository;
+    public InvoiceNumberGenerator(InvoiceNumberSequence sequence,
+                                  @Value("${invoice.number.mode:block}") String mode,
+                                  @Value("${invoice.number.block-size:20}") int blockSize) {
+        if (!"block".equals(mode) && !"gapless".equals(mode)) {
+            throw new IllegalArgumentException("invoice.number.mode must be 'block' or 'gapless': " + mode);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("invoice.number.block-size must be positive: " + blockSize);
+        }
+        this.sequence = sequence;
+        this.gapless = "gapless".equals(mode);
+        this.blocks = new BlockSequenceAllocator<>("invoice numbers", sequence, blockSize);
     }
 
     /**
      * Generate a unique invoice number.
+     * Must be called inside the invoice creation transaction.
      *
      * @return Unique invoice number
      */
-    public synchronized String generate() {
+    public String generate() {
         int year = LocalDate.now().getYear();
+        long number = gapless ? sequence.next(year) : blocks.next(year);
+        return String.format("INV-%d-%06d", year, number);
+    }
 
-        // Reset counter if year changed
-        if (year != currentYear) {
-            currentYear = year;
-            sequenceCounter.set(0);
-        }
-
-        String invoiceNumber;
-        do {
-            long sequence = sequenceCounter.incrementAndGet();
-            invoiceNumber = String.format("INV-%d-%06d", year, sequence);
-        } while (invoiceRepository.existsByInvoiceNumber(invoiceNumber));
-
-        return invoiceNumber;
+    /**
+     * Give the unused numbers of the current block back so a deploy does not leave a gap.
+     */
+    @PreDestroy
+    public void releaseUnused() {
+        blocks.releaseUnused();
     }
 }
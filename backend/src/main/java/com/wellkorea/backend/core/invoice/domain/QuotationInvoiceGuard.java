@@ -29,7 +29,8 @@ import java.util.List;
 public interface QuotationInvoiceGuard {
 
     /**
-     * Validate that the invoice line items can be invoiced against the quotation.
+     * Validate that the invoice line items can be invoiced against the quotation
+     * and reserve their quantities (part of the caller's transaction).
      *
      * @param quotation Quotation to validate against (must be approved)
      * @param lineItems Line items to validate
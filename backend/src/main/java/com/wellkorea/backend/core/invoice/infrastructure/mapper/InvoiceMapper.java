@@ -3,7 +3,6 @@ package com.wellkorea.backend.core.invoice.infrastructure.mapper;
 import com.wellkorea.backend.core.invoice.api.dto.query.InvoiceDetailView;
 import com.wellkorea.backend.core.invoice.api.dto.query.InvoiceSummaryView;
 import com.wellkorea.backend.core.invoice.domain.InvoiceStatus;
-import com.wellkorea.backend.shared.dto.ProductQuantitySum;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -38,18 +37,6 @@ public interface InvoiceMapper {
     long countWithFilters(@Param("projectId") Long projectId,
                           @Param("status") InvoiceStatus status);
 
-    /**
-     * Get invoiced quantities for all products linked to a specific quotation.
-     * Excludes CANCELLED invoices.
-     * <p>
-     * Used for validating new invoices against quotation/delivery limits.
-     * Each quotation tracks its own invoice progress independently.
-     *
-     * @param quotationId Quotation ID to query invoices for
-     * @return List of product quantity summaries
-     */
-    List<ProductQuantitySum> getInvoicedQuantitiesByQuotation(@Param("quotationId") Long quotationId);
-
     /**
      * Get total DISCOUNT payments across non-CANCELLED invoices for a quotation.
      * Optionally excludes a specific invoice (for recording new DISCOUNT payments).
@@ -2,19 +2,33 @@ package com.wellkorea.backend.core.invoice.infrastructure.persistence;
 
 import com.wellkorea.backend.core.invoice.domain.InvoiceStatus;
 import com.wellkorea.backend.core.invoice.domain.TaxInvoice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for TaxInvoice entities.
  */
 @Repository
 public interface TaxInvoiceRepository extends JpaRepository<TaxInvoice, Long> {
+    /**
+     * Find an invoice and lock its row until the end of the transaction.
+     * Used by cancellation so the invoiced quantities are released only once.
+     *
+     * @param id Invoice ID
+     * @return Invoice if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM TaxInvoice i WHERE i.id = :id")
+    Optional<TaxInvoice> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * Check if invoice number exists.
      *
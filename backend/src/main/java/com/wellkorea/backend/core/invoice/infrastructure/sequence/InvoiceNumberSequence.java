@@ -0,0 +1,70 @@
+package com.wellkorea.backend.core.invoice.infrastructure.sequence;
+
+import com.wellkorea.backend.shared.sequence.SequenceBlockSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-year invoice number counters (invoice_number_sequences table).
+ * <p>
+ * Same UPSERT ... RETURNING pattern as the job code sequences; the row lock taken by the
+ * increment lasts until the surrounding transaction ends, which is what separates the two modes:
+ * <ul>
+ *   <li>{@link #next}: joins the invoice transaction - numbers are gapless, invoice creation
+ *       serializes per year until commit</li>
+ *   <li>{@link #allocateBlock}: own short transaction - the node owns the block even if the
+ *       invoice rolls back, unused numbers become gaps (blocks are issued by a
+ *       {@link com.wellkorea.backend.shared.sequence.BlockSequenceAllocator})</li>
+ * </ul>
+ */
+@Component
+public class InvoiceNumberSequence implements SequenceBlockSource<Integer> {
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO invoice_number_sequences (year, last_value, updated_at)
+            VALUES (?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (year) DO UPDATE
+            SET last_value = invoice_number_sequences.last_value + EXCLUDED.last_value,
+                updated_at = CURRENT_TIMESTAMP
+            RETURNING last_value
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InvoiceNumberSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Take the next number of the year inside the caller's transaction.
+     *
+     * @param year Invoice year
+     * @return Next number (1-based)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(int year) {
+        return increment(year, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocateBlock(Integer year, int size) {
+        return increment(year, size);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean returnUnused(Integer year, long firstFree, long blockEnd) {
+        return jdbcTemplate.update(
+                "UPDATE invoice_number_sequences SET last_value = ?, updated_at = CURRENT_TIMESTAMP " +
+                        "WHERE year = ? AND last_value = ?",
+                firstFree - 1, year, blockEnd) > 0;
+    }
+
+    private long increment(int year, int count) {
+        Long lastValue = jdbcTemplate.queryForObject(INCREMENT_SQL, Long.class, year, (long) count);
+        return lastValue != null ? lastValue : count;
+    }
+}
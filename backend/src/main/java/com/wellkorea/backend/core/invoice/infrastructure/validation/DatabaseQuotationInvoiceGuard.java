@@ -1,42 +1,41 @@
 package com.wellkorea.backend.core.invoice.infrastructure.validation;
 
-import com.wellkorea.backend.core.delivery.infrastructure.mapper.DeliveryMapper;
 import com.wellkorea.backend.core.delivery.infrastructure.validation.DatabaseQuotationDeliveryGuard;
 import com.wellkorea.backend.core.invoice.domain.InvoiceLineItemInput;
 import com.wellkorea.backend.core.invoice.domain.QuotationInvoiceGuard;
 import com.wellkorea.backend.core.invoice.infrastructure.mapper.InvoiceMapper;
 import com.wellkorea.backend.core.quotation.domain.Quotation;
 import com.wellkorea.backend.core.quotation.domain.QuotationLineItem;
-import com.wellkorea.backend.shared.dto.ProductQuantitySum;
+import com.wellkorea.backend.core.quotation.infrastructure.repository.QuotationQuantityLedger;
 import com.wellkorea.backend.shared.exception.BusinessException;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Database-backed implementation of {@link QuotationInvoiceGuard}.
  * <p>
- * Validates invoice line items against quotation limits by querying the database
- * for already-delivered and already-invoiced quantities.
+ * Validates invoice line items against the quotation, then reserves the quantities in the
+ * {@link QuotationQuantityLedger}.
  * <p>
  * Key validation: invoiceQty <= deliveredQty - alreadyInvoicedQty
- * (Cannot invoice more than what has been delivered minus what's already invoiced)
+ * (Cannot invoice more than what has been delivered minus what's already invoiced),
+ * enforced by the ledger's conditional UPDATE so it holds without a quotation-wide lock.
  * <p>
- * Uses MyBatis mappers for typed query results instead of JPA Object[] arrays.
+ * The discount quota is still computed from payments via the MyBatis mapper.
  * <p>
  * Similar pattern: {@link DatabaseQuotationDeliveryGuard}
  */
 @Component
 public class DatabaseQuotationInvoiceGuard implements QuotationInvoiceGuard {
 
-    private final DeliveryMapper deliveryMapper;
+    private final QuotationQuantityLedger quantityLedger;
     private final InvoiceMapper invoiceMapper;
 
-    public DatabaseQuotationInvoiceGuard(DeliveryMapper deliveryMapper,
+    public DatabaseQuotationInvoiceGuard(QuotationQuantityLedger quantityLedger,
                                          InvoiceMapper invoiceMapper) {
-        this.deliveryMapper = deliveryMapper;
+        this.quantityLedger = quantityLedger;
         this.invoiceMapper = invoiceMapper;
     }
 
@@ -74,16 +73,16 @@ public class DatabaseQuotationInvoiceGuard implements QuotationInvoiceGuard {
         validateNotEmpty(lineItems);
         validateNoDuplicateProducts(lineItems);
 
-        Long quotationId = quotation.getId();
         Map<Long, BigDecimal> quotationQuantities = buildQuotationQuantityMap(quotation);
-        Map<Long, BigDecimal> deliveredQuantities = buildDeliveredQuantityMap(quotationId);
-        Map<Long, BigDecimal> invoicedQuantities = buildInvoicedQuantityMap(quotationId);
-
         for (InvoiceLineItemInput item : lineItems) {
             validatePositiveQuantity(item);
             validateProductInQuotation(item, quotationQuantities);
-            validateNotExceedingInvoiceable(item, deliveredQuantities, invoicedQuantities);
         }
+
+        // Product ID order keeps concurrent multi-product invoices from deadlocking on ledger rows
+        lineItems.stream()
+                .sorted(Comparator.comparing(InvoiceLineItemInput::productId))
+                .forEach(item -> reserveWithinInvoiceable(quotation.getId(), item));
     }
 
     // ========== Validation Methods ==========
@@ -122,28 +121,29 @@ public class DatabaseQuotationInvoiceGuard implements QuotationInvoiceGuard {
     }
 
     /**
-     * Validates that the invoice quantity does not exceed the invoiceable amount.
+     * Reserves the invoice quantity if it does not exceed the invoiceable amount.
      * Invoiceable = delivered - already invoiced
      */
-    private void validateNotExceedingInvoiceable(InvoiceLineItemInput item,
-                                                 Map<Long, BigDecimal> deliveredQuantities,
-                                                 Map<Long, BigDecimal> invoicedQuantities) {
+    private void reserveWithinInvoiceable(Long quotationId, InvoiceLineItemInput item) {
         Long productId = item.productId();
         BigDecimal requestedQty = item.quantityInvoiced();
-        BigDecimal deliveredQty = deliveredQuantities.getOrDefault(productId, BigDecimal.ZERO);
-        BigDecimal alreadyInvoiced = invoicedQuantities.getOrDefault(productId, BigDecimal.ZERO);
+        if (quantityLedger.reserveInvoiced(quotationId, productId, requestedQty)) {
+            return;
+        }
+
+        QuotationQuantityLedger.Entry entry = quantityLedger.find(quotationId, productId);
+        BigDecimal deliveredQty = entry != null ? entry.delivered() : BigDecimal.ZERO;
+        BigDecimal alreadyInvoiced = entry != null ? entry.invoiced() : BigDecimal.ZERO;
         BigDecimal invoiceable = deliveredQty.subtract(alreadyInvoiced);
 
-        if (requestedQty.compareTo(invoiceable) > 0) {
-            throw new BusinessException(
-                    String.format("Invoice quantity (%s) exceeds invoiceable quantity (%s) " +
-                                    "for product ID %d. Delivered: %s, Already invoiced: %s",
-                            requestedQty.toPlainString(),
-                            invoiceable.toPlainString(),
-                            productId,
-                            deliveredQty.toPlainString(),
-                            alreadyInvoiced.toPlainString()));
-        }
+        throw new BusinessException(
+                String.format("Invoice quantity (%s) exceeds invoiceable quantity (%s) " +
+                                "for product ID %d. Delivered: %s, Already invoiced: %s",
+                        requestedQty.toPlainString(),
+                        invoiceable.toPlainString(),
+                        productId,
+                        deliveredQty.toPlainString(),
+                        alreadyInvoiced.toPlainString()));
     }
 
     // ========== Helper Methods ==========
@@ -163,38 +163,4 @@ public class DatabaseQuotationInvoiceGuard implements QuotationInvoiceGuard {
         }
         return map;
     }
-
-    /**
-     * Build a map of product ID to already-delivered quantity for the quotation.
-     * Excludes RETURNED deliveries.
-     * <p>
-     * Queries deliveries linked to the specific quotation (not project-wide),
-     * as each quotation tracks its own delivery progress independently.
-     * <p>
-     * Uses MyBatis mapper for typed results (no manual Object[] conversion needed).
-     */
-    private Map<Long, BigDecimal> buildDeliveredQuantityMap(Long quotationId) {
-        return deliveryMapper.getDeliveredQuantitiesByQuotation(quotationId, null).stream()
-                .collect(Collectors.toMap(
-                        ProductQuantitySum::productId,
-                        ProductQuantitySum::quantity
-                ));
-    }
-
-    /**
-     * Build a map of product ID to already-invoiced quantity for the quotation.
-     * Excludes CANCELLED invoices.
-     * <p>
-     * Queries invoices linked to the specific quotation (not project-wide),
-     * as each quotation tracks its own invoice progress independently.
-     * <p>
-     * Uses MyBatis mapper for typed results (no manual Object[] conversion needed).
-     */
-    private Map<Long, BigDecimal> buildInvoicedQuantityMap(Long quotationId) {
-        return invoiceMapper.getInvoicedQuantitiesByQuotation(quotationId).stream()
-                .collect(Collectors.toMap(
-                        ProductQuantitySum::productId,
-                        ProductQuantitySum::quantity
-                ));
-    }
 }
@@ -5,13 +5,16 @@ import com.wellkorea.backend.core.production.api.dto.query.BlueprintAttachmentVi
 import com.wellkorea.backend.core.production.application.BlueprintAttachmentService;
 import com.wellkorea.backend.shared.dto.ApiResponse;
 import com.wellkorea.backend.shared.dto.AuthenticatedUser;
+import com.wellkorea.backend.supporting.storage.api.StoredFileResponse;
 import com.wellkorea.backend.supporting.storage.api.dto.RegisterAttachmentRequest;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlRequest;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlResponse;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
+import com.wellkorea.backend.supporting.storage.application.StoredFile;
 import jakarta.validation.Valid;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -34,7 +37,7 @@ import java.util.List;
  * - POST   /api/task-flows/{flowId}/nodes/{nodeId}/attachments/upload-url - Get presigned upload URL
  * - POST   /api/task-flows/{flowId}/nodes/{nodeId}/attachments/register   - Register uploaded file
  * - GET    /api/blueprints/{id}                                    - Get attachment metadata
- * - GET    /api/blueprints/{id}/download                           - Download attachment file (proxy)
+ * - GET    /api/blueprints/{id}/download                           - Download attachment file (streaming proxy)
  * - GET    /api/blueprints/{id}/url                                - Get presigned download URL
  * - DELETE /api/blueprints/{id}                                    - Delete attachment
  */
@@ -86,21 +89,15 @@ public class BlueprintAttachmentController {
     }
 
     /**
-     * Download attachment file.
+     * Download attachment file (streamed, supports Range / If-Range and conditional GET).
      * GET /api/blueprints/{id}/download
      */
     @GetMapping("/blueprints/{id}/download")
     @PreAuthorize("hasAnyRole('ADMIN', 'PRODUCTION', 'SALES')")
-    public ResponseEntity<byte[]> downloadAttachment(@PathVariable Long id) {
-        BlueprintAttachmentView attachment = attachmentService.getAttachment(id);
-        byte[] content = attachmentService.downloadAttachment(id);
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + attachment.fileName() + "\"")
-                .contentType(MediaType.parseMediaType(attachment.fileType().getMimeType()))
-                .contentLength(attachment.fileSize())
-                .body(content);
+    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long id,
+                                                       @RequestHeader HttpHeaders headers) {
+        StoredFile file = attachmentService.downloadAttachment(id);
+        return StoredFileResponse.of(file, headers);
     }
 
     /**
@@ -143,8 +140,10 @@ public class BlueprintAttachmentController {
                                                                                   @PathVariable String nodeId,
                                                                                   @Valid @RequestBody RegisterAttachmentRequest request,
                                                                                   @AuthenticationPrincipal AuthenticatedUser user) {
+        // Hash before the registering transaction
+        HashedUpload upload = attachmentService.hashUpload(request.objectKey());
         Long attachmentId = attachmentService.registerAttachment(
-                flowId, nodeId, request.fileName(), request.fileSize(), request.objectKey(), user.getUserId());
+                flowId, nodeId, request.fileName(), request.fileSize(), upload, user.getUserId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(BlueprintCommandResult.uploaded(attachmentId)));
     }
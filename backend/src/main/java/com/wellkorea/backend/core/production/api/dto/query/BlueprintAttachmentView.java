@@ -18,6 +18,8 @@ public record BlueprintAttachmentView(
         String storagePath,
         Long uploadedById,
         String uploadedByName,
-        Instant uploadedAt
+        Instant uploadedAt,
+        String thumbnailUrl,      // JPEG thumbnail, null until generated (or for CAD files)
+        String previewUrl         // First-page PNG preview (PDF only), null otherwise
 ) {
 }
@@ -11,18 +11,29 @@ import com.wellkorea.backend.core.production.infrastructure.persistence.TaskFlow
 import com.wellkorea.backend.shared.exception.BusinessException;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlResponse;
-import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
+import com.wellkorea.backend.supporting.storage.application.DerivativePipeline;
+import com.wellkorea.backend.supporting.storage.application.StoredFile;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Service for managing blueprint attachments on TaskFlow nodes.
  * Handles file upload to MinIO and metadata storage in database.
+ * Thumbnails and PDF previews are generated in the background by the {@link DerivativePipeline}.
+ * Content is deduplicated across flows by {@link ContentAddressedStorage}, so the same drawing
+ * attached to many nodes is stored once.
  */
 @Service
 @Transactional
@@ -30,20 +41,27 @@ public class BlueprintAttachmentService {
 
     private static final Logger log = LoggerFactory.getLogger(BlueprintAttachmentService.class);
     private static final String STORAGE_PREFIX = "blueprints";
+    private static final int THUMBNAIL_URL_EXPIRY_MINUTES = 60;
 
     private final BlueprintAttachmentRepository attachmentRepository;
     private final TaskFlowRepository taskFlowRepository;
     private final UserRepository userRepository;
-    private final MinioFileStorage minioFileStorage;
+    private final FileStorage fileStorage;
+    private final DerivativePipeline derivativePipeline;
+    private final ContentAddressedStorage contentStorage;
 
     public BlueprintAttachmentService(BlueprintAttachmentRepository attachmentRepository,
                                       TaskFlowRepository taskFlowRepository,
                                       UserRepository userRepository,
-                                      MinioFileStorage minioFileStorage) {
+                                      FileStorage fileStorage,
+                                      DerivativePipeline derivativePipeline,
+                                      ContentAddressedStorage contentStorage) {
         this.attachmentRepository = attachmentRepository;
         this.taskFlowRepository = taskFlowRepository;
         this.userRepository = userRepository;
-        this.minioFileStorage = minioFileStorage;
+        this.fileStorage = fileStorage;
+        this.derivativePipeline = derivativePipeline;
+        this.contentStorage = contentStorage;
     }
 
     /**
@@ -83,13 +101,26 @@ public class BlueprintAttachmentService {
         String storagePath = generateStoragePath(flowId, nodeId, fileName);
 
         // Generate presigned upload URL (15 minutes expiry)
-        String uploadUrl = minioFileStorage.generatePresignedUploadUrl(storagePath, 15, TimeUnit.MINUTES);
+        String uploadUrl = fileStorage.generatePresignedUploadUrl(storagePath, 15, TimeUnit.MINUTES);
 
         log.info("Generated presigned upload URL for: {} in flow {} node {}", fileName, flowId, nodeId);
 
         return new UploadUrlResponse(uploadUrl, storagePath);
     }
 
+    /**
+     * Hash an uploaded file ahead of {@link #registerAttachment}.
+     * Runs without a transaction; call it before the registering transaction starts.
+     *
+     * @param objectKey MinIO object key (storage path)
+     * @return The upload with its content hash
+     * @throws BusinessException if the file was not uploaded
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HashedUpload hashUpload(String objectKey) {
+        return contentStorage.hash(objectKey);
+    }
+
     /**
      * Register an attachment after successful direct upload to MinIO.
      * Called by client after uploading file directly to MinIO using presigned URL.
@@ -98,12 +129,12 @@ public class BlueprintAttachmentService {
      * @param nodeId    Node ID within the TaskFlow
      * @param fileName  Original file name
      * @param fileSize  File size in bytes
-     * @param objectKey MinIO object key (storage path)
+     * @param upload    Uploaded object, hashed by {@link ContentAddressedStorage#hash} before the transaction
      * @param userId    User who uploaded the file
      * @return ID of created attachment
      */
     public Long registerAttachment(Long flowId, String nodeId,
-                                   String fileName, Long fileSize, String objectKey, Long userId) {
+                                   String fileName, Long fileSize, HashedUpload upload, Long userId) {
         // Validate TaskFlow exists
         TaskFlow taskFlow = taskFlowRepository.findById(flowId)
                 .orElseThrow(() -> new ResourceNotFoundException("TaskFlow", flowId));
@@ -115,26 +146,31 @@ public class BlueprintAttachmentService {
             throw new BusinessException("Node '" + nodeId + "' not found in TaskFlow " + flowId);
         }
 
-        // Verify file exists in MinIO
-        if (!minioFileStorage.fileExists(objectKey)) {
-            throw new BusinessException("File not found in storage. Upload may have failed.");
-        }
-
         // Get user
         User uploadedBy = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", userId));
 
+        // Store content once under its hash (the upload key is removed after commit)
+        ContentAddressedStorage.StoredContent content = contentStorage.store(upload);
+
         // Create attachment entity
         BlueprintAttachment attachment = BlueprintAttachment.create(
                 taskFlow,
                 nodeId,
                 fileName,
                 fileSize,
-                objectKey,
+                content.storagePath(),
+                content.contentHash(),
                 uploadedBy
         );
 
         attachment = attachmentRepository.save(attachment);
+
+        Long attachmentId = attachment.getId();
+        derivativePipeline.generateAfterCommit(content.storagePath(), attachment.getFileType().getMimeType(),
+                derivatives -> attachmentRepository.updateDerivatives(
+                        attachmentId, derivatives.thumbnailPath(), derivatives.previewPath()));
+
         log.info("Registered blueprint attachment: {} to node {} in flow {} (id: {})",
                 fileName, nodeId, flowId, attachment.getId());
 
@@ -150,9 +186,7 @@ public class BlueprintAttachmentService {
      */
     @Transactional(readOnly = true)
     public List<BlueprintAttachmentView> getAttachmentsByNode(Long flowId, String nodeId) {
-        return attachmentRepository.findByTaskFlowIdAndNodeId(flowId, nodeId).stream()
-                .map(this::toView)
-                .toList();
+        return toViews(attachmentRepository.findByTaskFlowIdAndNodeId(flowId, nodeId));
     }
 
     /**
@@ -163,9 +197,7 @@ public class BlueprintAttachmentService {
      */
     @Transactional(readOnly = true)
     public List<BlueprintAttachmentView> getAttachmentsByFlow(Long flowId) {
-        return attachmentRepository.findByTaskFlowId(flowId).stream()
-                .map(this::toView)
-                .toList();
+        return toViews(attachmentRepository.findByTaskFlowId(flowId));
     }
 
 
@@ -179,7 +211,7 @@ public class BlueprintAttachmentService {
     public BlueprintAttachmentView getAttachment(Long attachmentId) {
         BlueprintAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("BlueprintAttachment", attachmentId));
-        return toView(attachment);
+        return toViews(List.of(attachment)).get(0);
     }
 
     /**
@@ -191,12 +223,17 @@ public class BlueprintAttachmentService {
         BlueprintAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("BlueprintAttachment", attachmentId));
 
-        // Delete from MinIO
-        try {
-            minioFileStorage.deleteFile(attachment.getStoragePath());
-        } catch (Exception e) {
-            log.warn("Failed to delete file from MinIO: {}. Proceeding with database deletion.",
-                    attachment.getStoragePath(), e);
+        if (attachment.getContentHash() != null) {
+            // Blob may be shared with other attachments; the orphaned object collector removes
+            // it (and its derivatives) once nothing references it
+            contentStorage.release(attachment.getContentHash());
+        } else {
+            // Delete original and derivatives from MinIO
+            // Failures are logged and left to the orphaned object collector; proceed with database deletion
+            fileStorage.deleteFiles(Stream.of(
+                            attachment.getStoragePath(), attachment.getThumbnailPath(), attachment.getPreviewPath())
+                    .filter(Objects::nonNull)
+                    .toList());
         }
 
         // Delete from database
@@ -205,17 +242,30 @@ public class BlueprintAttachmentService {
     }
 
     /**
-     * Download attachment file content.
+     * Prepare a streaming download of an attachment.
+     * Content is read lazily from MinIO in the requested byte range, never buffered as a whole.
+     * Attachment content never changes for a given ID, so downloads are marked immutable.
      *
      * @param attachmentId Attachment ID
-     * @return File content as byte array
+     * @return Stored file metadata with a lazy range reader
      */
     @Transactional(readOnly = true)
-    public byte[] downloadAttachment(Long attachmentId) {
+    public StoredFile downloadAttachment(Long attachmentId) {
         BlueprintAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("BlueprintAttachment", attachmentId));
 
-        return minioFileStorage.downloadFile(attachment.getStoragePath());
+        String storagePath = attachment.getStoragePath();
+        FileStorage.FileMetadata metadata = fileStorage.getFileMetadata(storagePath);
+
+        return new StoredFile(
+                attachment.getFileName(),
+                attachment.getFileType().getMimeType(),
+                metadata.size(),
+                metadata.etag(),
+                metadata.lastModified() != null ? metadata.lastModified().toInstant() : null,
+                true,
+                (offset, length) -> fileStorage.downloadRangeAsStream(storagePath, offset, length)
+        );
     }
 
     /**
@@ -230,7 +280,7 @@ public class BlueprintAttachmentService {
         BlueprintAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("BlueprintAttachment", attachmentId));
 
-        return minioFileStorage.generatePresignedUrl(
+        return fileStorage.generatePresignedUrl(
                 attachment.getStoragePath(),
                 expiryMinutes,
                 TimeUnit.MINUTES
@@ -247,9 +297,23 @@ public class BlueprintAttachmentService {
     }
 
     /**
-     * Convert entity to view DTO.
+     * Convert entities to view DTOs, signing all derivative URLs in one batch.
      */
-    private BlueprintAttachmentView toView(BlueprintAttachment attachment) {
+    private List<BlueprintAttachmentView> toViews(List<BlueprintAttachment> attachments) {
+        Map<String, String> derivativeUrls = fileStorage.generatePresignedUrls(
+                attachments.stream()
+                        .flatMap(attachment -> Stream.of(attachment.getThumbnailPath(), attachment.getPreviewPath()))
+                        .filter(Objects::nonNull)
+                        .toList(),
+                THUMBNAIL_URL_EXPIRY_MINUTES,
+                TimeUnit.MINUTES
+        );
+        return attachments.stream()
+                .map(attachment -> toView(attachment, derivativeUrls))
+                .toList();
+    }
+
+    private BlueprintAttachmentView toView(BlueprintAttachment attachment, Map<String, String> derivativeUrls) {
         return new BlueprintAttachmentView(
                 attachment.getId(),
                 attachment.getTaskFlow().getId(),
@@ -261,7 +325,9 @@ public class BlueprintAttachmentService {
                 attachment.getStoragePath(),
                 attachment.getUploadedBy().getId(),
                 attachment.getUploadedBy().getFullName(),
-                attachment.getUploadedAt()
+                attachment.getUploadedAt(),
+                attachment.getThumbnailPath() != null ? derivativeUrls.get(attachment.getThumbnailPath()) : null,
+                attachment.getPreviewPath() != null ? derivativeUrls.get(attachment.getPreviewPath()) : null
         );
     }
 }
@@ -47,6 +47,10 @@ public class BlueprintAttachment {
     @Column(name = "storage_path", nullable = false, length = 500)
     private String storagePath;
 
+    // SHA-256 of the content when stored content-addressed (null for pre-V19 rows)
+    @Column(name = "content_hash", length = 64, updatable = false)
+    private String contentHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by_id", nullable = false)
     private User uploadedBy;
@@ -54,6 +58,13 @@ public class BlueprintAttachment {
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private Instant uploadedAt;
 
+    // Written by the derivative pipeline after commit (see BlueprintAttachmentRepository#updateDerivatives)
+    @Column(name = "thumbnail_path", length = 500, insertable = false, updatable = false)
+    private String thumbnailPath;
+
+    @Column(name = "preview_path", length = 500, insertable = false, updatable = false)
+    private String previewPath;
+
     @PrePersist
     protected void onCreate() {
         uploadedAt = Instant.now();
@@ -69,12 +80,14 @@ public class BlueprintAttachment {
      * @param fileName    Original file name
      * @param fileSize    File size in bytes
      * @param storagePath MinIO storage path
+     * @param contentHash SHA-256 of the content (null if not content-addressed)
      * @param uploadedBy  User who uploaded the file
      * @return New BlueprintAttachment instance
      * @throws IllegalArgumentException if validation fails
      */
     public static BlueprintAttachment create(TaskFlow taskFlow, String nodeId, String fileName,
-                                             long fileSize, String storagePath, User uploadedBy) {
+                                             long fileSize, String storagePath, String contentHash,
+                                             User uploadedBy) {
         // Validate file type
         AllowedFileType fileType = AllowedFileType.fromFileName(fileName);
         if (fileType == null) {
@@ -97,6 +110,7 @@ public class BlueprintAttachment {
         attachment.fileType = fileType;
         attachment.fileSize = fileSize;
         attachment.storagePath = storagePath;
+        attachment.contentHash = contentHash;
         attachment.uploadedBy = uploadedBy;
 
         return attachment;
@@ -177,6 +191,10 @@ public class BlueprintAttachment {
         this.storagePath = storagePath;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
     public User getUploadedBy() {
         return uploadedBy;
     }
@@ -188,4 +206,12 @@ public class BlueprintAttachment {
     public Instant getUploadedAt() {
         return uploadedAt;
     }
+
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public String getPreviewPath() {
+        return previewPath;
+    }
 }
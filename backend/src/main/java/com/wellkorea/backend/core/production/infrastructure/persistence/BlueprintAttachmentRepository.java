@@ -2,7 +2,11 @@ package com.wellkorea.backend.core.production.infrastructure.persistence;
 
 import com.wellkorea.backend.core.production.domain.BlueprintAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -57,5 +61,19 @@ public interface BlueprintAttachmentRepository extends JpaRepository<BlueprintAt
      */
     void deleteByTaskFlowIdAndNodeId(Long flowId, String nodeId);
 
-
+    /**
+     * Record generated derivative paths for an attachment.
+     * Runs outside the registering transaction (after commit), hence its own transaction.
+     *
+     * @param id            Attachment ID
+     * @param thumbnailPath Storage path of the JPEG thumbnail
+     * @param previewPath   Storage path of the PNG preview (null for images)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE blueprint_attachments SET thumbnail_path = :thumbnailPath, preview_path = :previewPath WHERE id = :id",
+            nativeQuery = true)
+    void updateDerivatives(@Param("id") Long id,
+                           @Param("thumbnailPath") String thumbnailPath,
+                           @Param("previewPath") String previewPath);
 }
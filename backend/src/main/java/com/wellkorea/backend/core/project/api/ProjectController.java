@@ -1,6 +1,7 @@
 package com.wellkorea.backend.core.project.api;
 
 import com.wellkorea.backend.core.auth.application.CustomerAssignmentService;
+import com.wellkorea.backend.core.auth.application.CustomerScope;
 import com.wellkorea.backend.core.auth.domain.vo.Role;
 import com.wellkorea.backend.core.project.api.dto.CreateProjectRequest;
 import com.wellkorea.backend.core.project.api.dto.UpdateProjectRequest;
@@ -25,8 +26,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * REST API controller for project management.
  * Follows CQRS pattern with separate query and command services.
@@ -99,20 +98,9 @@ public class ProjectController {
         boolean isSalesOnly = isSalesRoleOnly(currentUser);
 
         if (isSalesOnly) {
-            Long userId = currentUser.getUserId();
-            List<Long> customerIds = customerAssignmentService.getAssignedCustomerIds(userId);
-
-            if (status != null && !status.isBlank()) {
-                ProjectStatus projectStatus = ProjectStatus.fromString(status);
-                if (projectStatus != null) {
-                    projectsPage = queryService.listProjectsByCustomersAndStatus(
-                            customerIds, projectStatus, pageable);
-                } else {
-                    projectsPage = queryService.listProjectsByCustomers(customerIds, pageable);
-                }
-            } else {
-                projectsPage = queryService.listProjectsByCustomers(customerIds, pageable);
-            }
+            CustomerScope scope = customerAssignmentService.getCustomerScope(currentUser.getUserId());
+            ProjectStatus projectStatus = status != null && !status.isBlank() ? ProjectStatus.fromString(status) : null;
+            projectsPage = queryService.listProjectsInScope(scope, projectStatus, pageable);
         } else if (search != null && !search.isBlank()) {
             projectsPage = queryService.searchProjects(search, pageable);
         } else if (status != null && !status.isBlank()) {
@@ -212,11 +200,10 @@ public class ProjectController {
     ) {
         // Check if Sales user can access this project's customer (FR-062)
         if (isSalesRoleOnly(currentUser)) {
-            Long userId = currentUser.getUserId();
             ProjectDetailView existingProject = queryService.getProjectDetail(id);
-            List<Long> assignedCustomerIds = customerAssignmentService.getAssignedCustomerIds(userId);
+            CustomerScope scope = customerAssignmentService.getCustomerScope(currentUser.getUserId());
 
-            if (!assignedCustomerIds.contains(existingProject.customerId())) {
+            if (!scope.contains(existingProject.customerId())) {
                 throw new AccessDeniedException("You are not authorized to update this project");
             }
         }
@@ -1,5 +1,6 @@
 package com.wellkorea.backend.core.project.application;
 
+import com.wellkorea.backend.core.auth.application.CustomerScope;
 import com.wellkorea.backend.core.delivery.infrastructure.mapper.DeliveryMapper;
 import com.wellkorea.backend.core.invoice.infrastructure.mapper.InvoiceMapper;
 import com.wellkorea.backend.core.production.infrastructure.persistence.TaskFlowRepository;
@@ -90,8 +91,8 @@ public class ProjectQueryService {
      */
     public Page<ProjectSummaryView> listProjects(Pageable pageable) {
         List<ProjectSummaryView> content = projectMapper.findWithFilters(
-                null, null, null, pageable.getPageSize(), pageable.getOffset());
-        long total = projectMapper.countWithFilters(null, null, null);
+                null, null, null, null, pageable.getPageSize(), pageable.getOffset());
+        long total = projectMapper.countWithFilters(null, null, null, null);
         return new PageImpl<>(content, pageable, total);
     }
 
@@ -104,8 +105,32 @@ public class ProjectQueryService {
      */
     public Page<ProjectSummaryView> listProjectsByStatus(ProjectStatus status, Pageable pageable) {
         List<ProjectSummaryView> content = projectMapper.findWithFilters(
-                status, null, null, pageable.getPageSize(), pageable.getOffset());
-        long total = projectMapper.countWithFilters(status, null, null);
+                status, null, null, null, pageable.getPageSize(), pageable.getOffset());
+        long total = projectMapper.countWithFilters(status, null, null, null);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * List projects visible within a Sales user's customer scope (FR-062).
+     * Large scopes are filtered with a semi-join on customer_assignments instead of an IN list.
+     *
+     * @param scope    Customer scope of the current user
+     * @param status   Project status filter (null for all)
+     * @param pageable Pagination parameters
+     * @return Page of project summary views
+     */
+    public Page<ProjectSummaryView> listProjectsInScope(CustomerScope scope, ProjectStatus status, Pageable pageable) {
+        if (scope.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        if (!scope.preferSemiJoin()) {
+            return status != null
+                    ? listProjectsByCustomersAndStatus(scope.customerIds(), status, pageable)
+                    : listProjectsByCustomers(scope.customerIds(), pageable);
+        }
+        List<ProjectSummaryView> content = projectMapper.findWithFilters(
+                status, null, scope.userId(), null, pageable.getPageSize(), pageable.getOffset());
+        long total = projectMapper.countWithFilters(status, null, scope.userId(), null);
         return new PageImpl<>(content, pageable, total);
     }
 
@@ -121,8 +146,8 @@ public class ProjectQueryService {
             return Page.empty(pageable);
         }
         List<ProjectSummaryView> content = projectMapper.findWithFilters(
-                null, customerIds, null, pageable.getPageSize(), pageable.getOffset());
-        long total = projectMapper.countWithFilters(null, customerIds, null);
+                null, customerIds, null, null, pageable.getPageSize(), pageable.getOffset());
+        long total = projectMapper.countWithFilters(null, customerIds, null, null);
         return new PageImpl<>(content, pageable, total);
     }
 
@@ -140,8 +165,8 @@ public class ProjectQueryService {
             return Page.empty(pageable);
         }
         List<ProjectSummaryView> content = projectMapper.findWithFilters(
-                status, customerIds, null, pageable.getPageSize(), pageable.getOffset());
-        long total = projectMapper.countWithFilters(status, customerIds, null);
+                status, customerIds, null, null, pageable.getPageSize(), pageable.getOffset());
+        long total = projectMapper.countWithFilters(status, customerIds, null, null);
         return new PageImpl<>(content, pageable, total);
     }
 
@@ -155,8 +180,8 @@ public class ProjectQueryService {
     public Page<ProjectSummaryView> searchProjects(String searchTerm, Pageable pageable) {
         String search = (searchTerm == null || searchTerm.isBlank()) ? null : searchTerm.trim();
         List<ProjectSummaryView> content = projectMapper.findWithFilters(
-                null, null, search, pageable.getPageSize(), pageable.getOffset());
-        long total = projectMapper.countWithFilters(null, null, search);
+                null, null, null, search, pageable.getPageSize(), pageable.getOffset());
+        long total = projectMapper.countWithFilters(null, null, null, search);
         return new PageImpl<>(content, pageable, total);
     }
 
@@ -28,10 +28,13 @@ public interface ProjectMapper {
 
     /**
      * Find projects with filters for pagination.
+     * Customer filtering uses either an explicit ID list ({@code customerIds}) or a semi-join on
+     * the customers assigned to {@code scopeUserId} (for large Sales scopes).
      */
     List<ProjectSummaryView> findWithFilters(
             @Param("status") ProjectStatus status,
             @Param("customerIds") List<Long> customerIds,
+            @Param("scopeUserId") Long scopeUserId,
             @Param("search") String search,
             @Param("limit") int limit,
             @Param("offset") long offset);
@@ -42,6 +45,7 @@ public interface ProjectMapper {
     long countWithFilters(
             @Param("status") ProjectStatus status,
             @Param("customerIds") List<Long> customerIds,
+            @Param("scopeUserId") Long scopeUserId,
             @Param("search") String search);
 
 
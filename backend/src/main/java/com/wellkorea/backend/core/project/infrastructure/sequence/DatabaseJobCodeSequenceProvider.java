@@ -1,14 +1,19 @@
 package com.wellkorea.backend.core.project.infrastructure.sequence;
 
 import com.wellkorea.backend.core.project.domain.JobCodeSequenceProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Database-backed implementation of JobCodeSequenceProvider.
+ * Database-backed implementation of JobCodeSequenceProvider (default, {@code job-code.sequence.mode=strict}).
  * Uses dedicated sequences table with row-level locking for thread-safe sequence generation.
  * <p>
+ * Strictly contiguous: the increment joins the project creation transaction, so a rollback
+ * gives the value back. Concurrent project creations wait for each other's commit on the
+ * year's row; see {@link RangeAllocatingJobCodeSequenceProvider} when that contention matters more.
+ * <p>
  * Thread-safe: Uses SELECT FOR UPDATE to lock the sequence row during transaction.
  * Row-level locks are automatically released on transaction commit/rollback, ensuring
  * graceful handling of application crashes.
@@ -18,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
  * GlobalExceptionHandler will catch and handle DataAccessException appropriately.
  */
 @Component
+@ConditionalOnProperty(name = "job-code.sequence.mode", havingValue = "strict", matchIfMissing = true)
 public class DatabaseJobCodeSequenceProvider implements JobCodeSequenceProvider {
 
     private final JdbcTemplate jdbcTemplate;
@@ -0,0 +1,49 @@
+package com.wellkorea.backend.core.project.infrastructure.sequence;
+
+import com.wellkorea.backend.shared.sequence.SequenceBlockSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ranges of the per-year job_code_sequences counters for {@link RangeAllocatingJobCodeSequenceProvider}.
+ * <p>
+ * Each call commits in its own short transaction, so the range belongs to the node even if the
+ * project creation rolls back; same UPSERT as the strict {@link DatabaseJobCodeSequenceProvider},
+ * by the range size instead of 1.
+ */
+@Component
+public class JobCodeSequenceRanges implements SequenceBlockSource<String> {
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO job_code_sequences (year, last_sequence, updated_at)
+            VALUES (?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (year) DO UPDATE
+            SET last_sequence = job_code_sequences.last_sequence + EXCLUDED.last_sequence,
+                updated_at = CURRENT_TIMESTAMP
+            RETURNING last_sequence
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobCodeSequenceRanges(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocateBlock(String year, int size) {
+        Long end = jdbcTemplate.queryForObject(INCREMENT_SQL, Long.class, year, size);
+        return end != null ? end : size;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean returnUnused(String year, long firstFree, long blockEnd) {
+        return jdbcTemplate.update(
+                "UPDATE job_code_sequences SET last_sequence = ?, updated_at = CURRENT_TIMESTAMP " +
+                        "WHERE year = ? AND last_sequence = ?",
+                firstFree - 1, year, blockEnd) > 0;
+    }
+}
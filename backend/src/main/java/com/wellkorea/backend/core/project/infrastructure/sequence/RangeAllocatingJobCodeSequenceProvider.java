@@ -0,0 +1,47 @@
+package com.wellkorea.backend.core.project.infrastructure.sequence;
+
+import com.wellkorea.backend.core.project.domain.JobCodeSequenceProvider;
+import com.wellkorea.backend.shared.sequence.BlockSequenceAllocator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Range-allocating implementation of JobCodeSequenceProvider ({@code job-code.sequence.mode=range}).
+ * <p>
+ * Reserves {@code job-code.sequence.range-size} values of the year's job_code_sequences row at a time
+ * ({@link JobCodeSequenceRanges}) and issues them from memory ({@link BlockSequenceAllocator}).
+ * Concurrent project creation no longer queues on the row lock until commit; the row is touched
+ * once per range.
+ * <p>
+ * Trade-off: sequences are unique but not contiguous, and not in creation order across nodes.
+ * Use the default strict mode ({@link DatabaseJobCodeSequenceProvider}) when job codes must be contiguous.
+ */
+@Component
+@ConditionalOnProperty(name = "job-code.sequence.mode", havingValue = "range")
+public class RangeAllocatingJobCodeSequenceProvider implements JobCodeSequenceProvider {
+
+    private final BlockSequenceAllocator<String> ranges;
+
+    public RangeAllocatingJobCodeSequenceProvider(JobCodeSequenceRanges sequenceRanges,
+                                                  @Value("${job-code.sequence.range-size:10}") int rangeSize) {
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("job-code.sequence.range-size must be positive: " + rangeSize);
+        }
+        this.ranges = new BlockSequenceAllocator<>("job code sequences", sequenceRanges, rangeSize);
+    }
+
+    @Override
+    public int getNextSequence(String year) {
+        return Math.toIntExact(ranges.next(year));
+    }
+
+    /**
+     * Give the unused values back so a deploy does not leave a gap.
+     */
+    @PreDestroy
+    public void releaseUnused() {
+        ranges.releaseUnused();
+    }
+}
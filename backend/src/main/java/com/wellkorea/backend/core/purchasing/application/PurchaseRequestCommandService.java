@@ -15,7 +15,7 @@ import com.wellkorea.backend.core.purchasing.domain.service.RfqItemFactory;
 import com.wellkorea.backend.core.purchasing.infrastructure.persistence.PurchaseRequestRepository;
 import com.wellkorea.backend.shared.exception.BusinessException;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
-import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -38,18 +38,18 @@ public class PurchaseRequestCommandService {
     private final ServiceCategoryRepository serviceCategoryRepository;
     private final MaterialRepository materialRepository;
     private final RfqItemFactory rfqItemFactory;
-    private final MinioFileStorage minioFileStorage;
+    private final FileStorage fileStorage;
 
     public PurchaseRequestCommandService(PurchaseRequestRepository purchaseRequestRepository,
                                          ServiceCategoryRepository serviceCategoryRepository,
                                          MaterialRepository materialRepository,
                                          RfqItemFactory rfqItemFactory,
-                                         MinioFileStorage minioFileStorage) {
+                                         FileStorage fileStorage) {
         this.purchaseRequestRepository = purchaseRequestRepository;
         this.serviceCategoryRepository = serviceCategoryRepository;
         this.materialRepository = materialRepository;
         this.rfqItemFactory = rfqItemFactory;
-        this.minioFileStorage = minioFileStorage;
+        this.fileStorage = fileStorage;
     }
 
     /**
@@ -87,7 +87,7 @@ public class PurchaseRequestCommandService {
         // Link attachments in same transaction
         if (command.attachments() != null && !command.attachments().isEmpty()) {
             for (AttachmentInfo att : command.attachments()) {
-                if (!minioFileStorage.fileExists(att.storagePath())) {
+                if (!fileStorage.fileExists(att.storagePath())) {
                     throw new BusinessException("File not found in storage: " + att.fileName());
                 }
                 purchaseRequest.linkAttachment(
@@ -15,7 +15,7 @@ import com.wellkorea.backend.shared.mail.MailMessage;
 import com.wellkorea.backend.shared.mail.MailSendException;
 import com.wellkorea.backend.shared.mail.MailSender;
 import com.wellkorea.backend.supporting.storage.domain.constant.AttachmentLimits;
-import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -51,7 +51,7 @@ public class RfqEmailService {
     private final CompanyProperties companyProperties;
     private final TemplateEngine templateEngine;
     private final RfqPdfService rfqPdfService;
-    private final MinioFileStorage minioFileStorage;
+    private final FileStorage fileStorage;
 
     public RfqEmailService(PurchaseRequestMapper purchaseRequestMapper,
                            PurchaseRequestRepository purchaseRequestRepository,
@@ -60,7 +60,7 @@ public class RfqEmailService {
                            CompanyProperties companyProperties,
                            TemplateEngine templateEngine,
                            RfqPdfService rfqPdfService,
-                           MinioFileStorage minioFileStorage) {
+                           FileStorage fileStorage) {
         this.purchaseRequestMapper = purchaseRequestMapper;
         this.purchaseRequestRepository = purchaseRequestRepository;
         this.companyMapper = companyMapper;
@@ -68,7 +68,7 @@ public class RfqEmailService {
         this.companyProperties = companyProperties;
         this.templateEngine = templateEngine;
         this.rfqPdfService = rfqPdfService;
-        this.minioFileStorage = minioFileStorage;
+        this.fileStorage = fileStorage;
     }
 
     /**
@@ -125,13 +125,16 @@ public class RfqEmailService {
 
         int successCount = 0;
         Map<Long, String> failures = new HashMap<>();
+        // Attachment content by storage path, downloaded once for all vendors
+        Map<String, byte[]> attachmentContents = new HashMap<>();
 
         for (Map.Entry<Long, VendorEmailInfo> entry : vendorEmails.entrySet()) {
             Long vendorId = entry.getKey();
             VendorEmailInfo emailInfo = entry.getValue() != null ? entry.getValue() : VendorEmailInfo.empty();
 
             try {
-                sendRfqToVendorInternal(purchaseRequest, vendorId, emailInfo, pdfBytes, pdfFilename);
+                sendRfqToVendorInternal(purchaseRequest, vendorId, emailInfo, pdfBytes, pdfFilename,
+                        attachmentContents);
                 successCount++;
             } catch (Exception e) {
                 log.error("Failed to send RFQ email to vendor {}: {}", vendorId, e.getMessage());
@@ -171,14 +174,15 @@ public class RfqEmailService {
         String pdfFilename = purchaseRequest.requestNumber() + "-RFQ.pdf";
 
         VendorEmailInfo emailInfo = new VendorEmailInfo(toEmail, ccEmails);
-        sendRfqToVendorInternal(purchaseRequest, vendorId, emailInfo, pdfBytes, pdfFilename);
+        sendRfqToVendorInternal(purchaseRequest, vendorId, emailInfo, pdfBytes, pdfFilename, new HashMap<>());
     }
 
     private void sendRfqToVendorInternal(PurchaseRequestDetailView purchaseRequest,
                                          Long vendorId,
                                          VendorEmailInfo emailInfo,
                                          byte[] pdfBytes,
-                                         String pdfFilename) {
+                                         String pdfFilename,
+                                         Map<String, byte[]> attachmentContents) {
         CompanyDetailView vendor = companyMapper.findDetailById(vendorId)
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", vendorId));
 
@@ -216,8 +220,10 @@ public class RfqEmailService {
                 }
 
                 // Download and add attachments from MinIO
+                // Content-addressed paths make identical files share one download
                 for (AttachmentReference attachment : attachments) {
-                    byte[] content = minioFileStorage.downloadFile(attachment.getStoragePath());
+                    byte[] content = attachmentContents.computeIfAbsent(
+                            attachment.getStoragePath(), fileStorage::downloadFile);
                     mailAttachments.add(new MailAttachment(
                             attachment.getFileName(),
                             content,
@@ -7,7 +7,7 @@ import com.wellkorea.backend.core.purchasing.domain.vo.AttachmentReference;
 import com.wellkorea.backend.core.purchasing.infrastructure.persistence.PurchaseRequestRepository;
 import com.wellkorea.backend.shared.exception.BusinessException;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
-import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -29,12 +29,12 @@ public class ServicePRAttachmentService {
     private static final int DOWNLOAD_URL_EXPIRY_MINUTES = 60;
 
     private final PurchaseRequestRepository purchaseRequestRepository;
-    private final MinioFileStorage minioFileStorage;
+    private final FileStorage fileStorage;
 
     public ServicePRAttachmentService(PurchaseRequestRepository purchaseRequestRepository,
-                                      MinioFileStorage minioFileStorage) {
+                                      FileStorage fileStorage) {
         this.purchaseRequestRepository = purchaseRequestRepository;
-        this.minioFileStorage = minioFileStorage;
+        this.fileStorage = fileStorage;
     }
 
     /**
@@ -51,7 +51,7 @@ public class ServicePRAttachmentService {
         ServicePurchaseRequest pr = getServicePurchaseRequest(purchaseRequestId);
 
         // Verify file exists in MinIO
-        if (!minioFileStorage.fileExists(command.storagePath())) {
+        if (!fileStorage.fileExists(command.storagePath())) {
             throw new BusinessException("File not found in storage. May have been deleted.");
         }
 
@@ -126,7 +126,7 @@ public class ServicePRAttachmentService {
         AttachmentReference ref = pr.findAttachmentById(referenceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment reference", referenceId));
 
-        return minioFileStorage.generatePresignedUrl(
+        return fileStorage.generatePresignedUrl(
                 ref.getStoragePath(),
                 DOWNLOAD_URL_EXPIRY_MINUTES,
                 TimeUnit.MINUTES
@@ -21,4 +21,9 @@ public record PurchaseOrderCanceledEvent(
         String rfqItemId,
         String poNumber
 ) implements DomainEvent {
+
+    @Override
+    public String aggregateKey() {
+        return "PurchaseOrder:" + purchaseOrderId;
+    }
 }
@@ -6,7 +6,7 @@ import java.math.BigDecimal;
 
 /**
  * Domain event published when a purchase order is confirmed by the vendor.
- * This event is handled by AccountsPayableEventHandler to create an
+ * This event is handled asynchronously (via the event outbox) by AccountsPayableEventHandler to create an
  * AccountsPayable entry for tracking payment obligations.
  *
  * <p>When a PO is confirmed:
@@ -22,4 +22,9 @@ public record PurchaseOrderConfirmedEvent(
         BigDecimal totalAmount,
         String currency
 ) implements DomainEvent {
+
+    @Override
+    public String aggregateKey() {
+        return "PurchaseOrder:" + purchaseOrderId;
+    }
 }
@@ -18,4 +18,9 @@ public record PurchaseOrderCreatedEvent(
         Long purchaseRequestId,
         String poNumber
 ) implements DomainEvent {
+
+    @Override
+    public String aggregateKey() {
+        return "PurchaseOrder:" + purchaseOrderId;
+    }
 }
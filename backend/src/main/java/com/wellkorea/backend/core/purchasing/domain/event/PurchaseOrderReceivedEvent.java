@@ -20,4 +20,9 @@ public record PurchaseOrderReceivedEvent(
         Long purchaseRequestId,
         String poNumber
 ) implements DomainEvent {
+
+    @Override
+    public String aggregateKey() {
+        return "PurchaseOrder:" + purchaseOrderId;
+    }
 }
@@ -2,7 +2,7 @@ package com.wellkorea.backend.core.purchasing.infrastructure.config;
 
 import com.wellkorea.backend.core.purchasing.infrastructure.persistence.PurchaseRequestRepository;
 import com.wellkorea.backend.supporting.approval.application.ApprovableRegistry;
-import com.wellkorea.backend.supporting.approval.domain.Approvable;
+import com.wellkorea.backend.supporting.approval.application.ApprovableResolver;
 import com.wellkorea.backend.supporting.approval.domain.vo.EntityType;
 import jakarta.annotation.PostConstruct;
 import org.springframework.context.annotation.Configuration;
@@ -26,7 +26,6 @@ public class PurchaseRequestApprovalConfig {
 
     @PostConstruct
     public void registerResolver() {
-        registry.register(EntityType.VENDOR_SELECTION,
-                entityId -> repository.findById(entityId).map(pr -> (Approvable) pr));
+        registry.register(EntityType.VENDOR_SELECTION, ApprovableResolver.forRepository(repository));
     }
 }
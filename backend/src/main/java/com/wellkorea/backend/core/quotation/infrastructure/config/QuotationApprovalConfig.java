@@ -2,7 +2,7 @@ package com.wellkorea.backend.core.quotation.infrastructure.config;
 
 import com.wellkorea.backend.core.quotation.infrastructure.repository.QuotationRepository;
 import com.wellkorea.backend.supporting.approval.application.ApprovableRegistry;
-import com.wellkorea.backend.supporting.approval.domain.Approvable;
+import com.wellkorea.backend.supporting.approval.application.ApprovableResolver;
 import com.wellkorea.backend.supporting.approval.domain.vo.EntityType;
 import jakarta.annotation.PostConstruct;
 import org.springframework.context.annotation.Configuration;
@@ -25,7 +25,6 @@ public class QuotationApprovalConfig {
 
     @PostConstruct
     public void registerResolver() {
-        registry.register(EntityType.QUOTATION,
-                entityId -> repository.findById(entityId).map(q -> (Approvable) q));
+        registry.register(EntityType.QUOTATION, ApprovableResolver.forRepository(repository));
     }
 }
@@ -0,0 +1,133 @@
+package com.wellkorea.backend.core.quotation.infrastructure.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Running delivered/invoiced totals per quotation product (quotation_quantity_ledger table).
+ * <p>
+ * Reservations are a single conditional UPDATE on the product's row, so the limit check and the
+ * increment are atomic: concurrent reservations for the same product serialize on the row lock
+ * (PostgreSQL re-checks the condition against the committed row), other products and quotations
+ * are not blocked. No quotation-wide lock is needed.
+ * <p>
+ * Rows are created on first use from the quotation line items and the current delivery/invoice
+ * aggregates (quotation_quantity_ledger_init). All methods must run inside the caller's transaction,
+ * so a failed delivery or invoice rolls its reservations back. Callers touching several products
+ * should do so in product ID order to avoid deadlocks.
+ */
+@Repository
+public class QuotationQuantityLedger {
+
+    private static final String RESERVE_DELIVERED_SQL = """
+            UPDATE quotation_quantity_ledger
+            SET delivered = delivered + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE quotation_id = ? AND product_id = ? AND delivered + ? <= quoted
+            """;
+
+    private static final String RESERVE_INVOICED_SQL = """
+            UPDATE quotation_quantity_ledger
+            SET invoiced = invoiced + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE quotation_id = ? AND product_id = ? AND invoiced + ? <= delivered
+            """;
+
+    private static final String RELEASE_DELIVERED_SQL = """
+            UPDATE quotation_quantity_ledger
+            SET delivered = delivered - ?, updated_at = CURRENT_TIMESTAMP
+            WHERE quotation_id = ? AND product_id = ?
+            """;
+
+    private static final String RELEASE_INVOICED_SQL = """
+            UPDATE quotation_quantity_ledger
+            SET invoiced = invoiced - ?, updated_at = CURRENT_TIMESTAMP
+            WHERE quotation_id = ? AND product_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QuotationQuantityLedger(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add a delivered quantity if it stays within the quoted quantity.
+     *
+     * @return false if the product is not in the quotation or the quantity would exceed it
+     */
+    public boolean reserveDelivered(Long quotationId, Long productId, BigDecimal quantity) {
+        return reserve(RESERVE_DELIVERED_SQL, quotationId, productId, quantity);
+    }
+
+    /**
+     * Add an invoiced quantity if it stays within the delivered quantity.
+     *
+     * @return false if the product is not in the quotation or the quantity would exceed what was delivered
+     */
+    public boolean reserveInvoiced(Long quotationId, Long productId, BigDecimal quantity) {
+        return reserve(RESERVE_INVOICED_SQL, quotationId, productId, quantity);
+    }
+
+    /**
+     * Give back a delivered quantity (delivery returned or moved to another quotation).
+     * Must be called before the delivery change is flushed.
+     */
+    public void releaseDelivered(Long quotationId, Long productId, BigDecimal quantity) {
+        release(RELEASE_DELIVERED_SQL, quotationId, productId, quantity);
+    }
+
+    /**
+     * Give back an invoiced quantity (invoice cancelled).
+     * Must be called before the invoice change is flushed.
+     */
+    public void releaseInvoiced(Long quotationId, Long productId, BigDecimal quantity) {
+        release(RELEASE_INVOICED_SQL, quotationId, productId, quantity);
+    }
+
+    /**
+     * Current totals of a quotation product, e.g. to explain a failed reservation.
+     *
+     * @return The entry, or null if the product is not in the quotation
+     */
+    public Entry find(Long quotationId, Long productId) {
+        List<Entry> entries = jdbcTemplate.query(
+                "SELECT quoted, delivered, invoiced FROM quotation_quantity_ledger WHERE quotation_id = ? AND product_id = ?",
+                (rs, rowNum) -> new Entry(
+                        rs.getBigDecimal("quoted"), rs.getBigDecimal("delivered"), rs.getBigDecimal("invoiced")),
+                quotationId, productId);
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+
+    private boolean reserve(String sql, Long quotationId, Long productId, BigDecimal quantity) {
+        if (jdbcTemplate.update(sql, quantity, quotationId, productId, quantity) > 0) {
+            return true;
+        }
+        // Either over the limit or the quotation has no ledger rows yet
+        initialize(quotationId);
+        return jdbcTemplate.update(sql, quantity, quotationId, productId, quantity) > 0;
+    }
+
+    private void release(String sql, Long quotationId, Long productId, BigDecimal quantity) {
+        if (jdbcTemplate.update(sql, quantity, quotationId, productId) == 0) {
+            // Initialized from aggregates that still include the quantity, then released
+            initialize(quotationId);
+            jdbcTemplate.update(sql, quantity, quotationId, productId);
+        }
+    }
+
+    private void initialize(Long quotationId) {
+        jdbcTemplate.queryForList("SELECT quotation_quantity_ledger_init(?)", quotationId);
+    }
+
+    /**
+     * Totals of one quotation product.
+     *
+     * @param quoted    Quantity in the quotation (all line items of the product)
+     * @param delivered Delivered quantity, excluding returned deliveries
+     * @param invoiced  Invoiced quantity, excluding cancelled invoices
+     */
+    public record Entry(BigDecimal quoted, BigDecimal delivered, BigDecimal invoiced) {
+    }
+}
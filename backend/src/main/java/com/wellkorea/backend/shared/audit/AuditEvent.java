@@ -0,0 +1,32 @@
+package com.wellkorea.backend.shared.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * One audit_logs row, captured when the action happens.
+ * JSON columns are serialized up front so the event does not hold on to caller-owned maps.
+ *
+ * @param entityType   Entity type
+ * @param entityId     Entity ID
+ * @param action       Action type (VIEW, DOWNLOAD, ACCESS_DENIED, etc.)
+ * @param userId       User ID (nullable)
+ * @param username     Username (denormalized for audit retention)
+ * @param ipAddress    Client IP address
+ * @param userAgent    Client user agent
+ * @param changesJson  Serialized changes (nullable)
+ * @param metadataJson Serialized metadata (nullable)
+ * @param createdAt    Time the action happened (not the time the row is flushed)
+ */
+public record AuditEvent(
+        String entityType,
+        Long entityId,
+        String action,
+        Long userId,
+        String username,
+        String ipAddress,
+        String userAgent,
+        String changesJson,
+        String metadataJson,
+        LocalDateTime createdAt
+) {
+}
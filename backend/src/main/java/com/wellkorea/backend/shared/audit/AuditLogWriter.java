@@ -0,0 +1,227 @@
+package com.wellkorea.backend.shared.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes audit events to the audit_logs table, either immediately or through a bounded buffer.
+ * <p>
+ * Buffered events are flushed by a single background thread as one JDBC batch insert when
+ * {@code audit.async.batch-size} events are pending or {@code audit.async.flush-interval}
+ * has passed since the oldest one. When the buffer is full the event is dropped and counted
+ * (audit.events.dropped) instead of blocking the request. Pending events are flushed on shutdown.
+ * If a batch fails (deleted user, over-long value), its events are inserted again one by one,
+ * so only the rows that fail on their own are lost (audit.events.failed).
+ * <p>
+ * Every write runs in its own transaction (REQUIRES_NEW), so audit rows persist even if the
+ * caller's transaction rolls back (US9 requirement).
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs (entity_type, entity_id, action, user_id, username,
+                                    ip_address, user_agent, changes, metadata, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean asyncEnabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final BlockingQueue<AuditEvent> buffer;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${audit.async.enabled:true}") boolean asyncEnabled,
+                          @Value("${audit.async.buffer-capacity:10000}") int bufferCapacity,
+                          @Value("${audit.async.batch-size:200}") int batchSize,
+                          @Value("${audit.async.flush-interval:500ms}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.asyncEnabled = asyncEnabled;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("Audit events discarded because the buffer was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events.failed")
+                .description("Audit events lost because their insert failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+                .description("Audit batch insert latency")
+                .register(meterRegistry);
+        Gauge.builder("audit.events.backlog", buffer, BlockingQueue::size)
+                .description("Audit events waiting to be flushed")
+                .register(meterRegistry);
+
+        this.flusher = asyncEnabled
+                ? Thread.ofPlatform().name("audit-writer").daemon().start(this::runFlusher)
+                : null;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<AuditEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            writeBatch(remaining);
+        }
+    }
+
+    /**
+     * Check whether events are buffered (false when {@code audit.async.enabled} is off).
+     */
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    /**
+     * Buffer an event for the next batch. Never blocks.
+     *
+     * @return false if the buffer was full and the event was dropped
+     */
+    public boolean enqueue(AuditEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        droppedCounter.increment();
+        log.warn("Audit buffer full, dropped {} on {} id={} by user={}",
+                event.action(), event.entityType(), event.entityId(), event.username());
+        return false;
+    }
+
+    /**
+     * Insert an event before returning, in a new transaction.
+     *
+     * @throws org.springframework.dao.DataAccessException if the insert fails
+     */
+    public void write(AuditEvent event) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, toArgs(event)));
+    }
+
+    /**
+     * Flush everything currently buffered on the calling thread.
+     *
+     * @return Number of events written
+     */
+    public int flush() {
+        int written = 0;
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            written += writeBatch(batch);
+            batch.clear();
+        }
+        return written;
+    }
+
+    /**
+     * Wait for the first event, then collect until the batch is full or the flush interval
+     * since that event has elapsed.
+     */
+    private void runFlusher() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditEvent first = buffer.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    AuditEvent next = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private int writeBatch(List<AuditEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            List<Object[]> args = batch.stream().map(AuditLogWriter::toArgs).toList();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+            log.debug("Flushed {} audit events", batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            // The batch rolled back as a whole; retry its rows one by one so one bad row only loses itself
+            log.warn("Audit batch of {} events failed, writing them one by one", batch.size(), e);
+            return writeOneByOne(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int writeOneByOne(List<AuditEvent> batch) {
+        int written = 0;
+        for (AuditEvent event : batch) {
+            try {
+                write(event);
+                written++;
+            } catch (Exception e) {
+                // Audit logging should not break application flow; the event is counted as lost
+                failedCounter.increment();
+                log.error("Failed to write audit event {} on {} id={} by user={}",
+                        event.action(), event.entityType(), event.entityId(), event.username(), e);
+            }
+        }
+        return written;
+    }
+
+    private static Object[] toArgs(AuditEvent event) {
+        return new Object[]{
+                event.entityType(), event.entityId(), event.action(), event.userId(), event.username(),
+                event.ipAddress(), event.userAgent(), event.changesJson(), event.metadataJson(),
+                Timestamp.valueOf(event.createdAt())
+        };
+    }
+}
@@ -3,12 +3,13 @@ package com.wellkorea.backend.shared.audit;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Service for manual audit logging to the immutable audit_logs table.
@@ -20,8 +21,10 @@ import java.util.Map;
  * Database triggers automatically capture CREATE, UPDATE, DELETE for sensitive tables.
  * This service complements those triggers for application-level actions.
  * <p>
- * Thread-safe and uses REQUIRES_NEW propagation to ensure audit logs are always persisted
- * even if the parent transaction rolls back (US9 requirement).
+ * Thread-safe. Events are handed to {@link AuditLogWriter}, which writes them in their own
+ * transaction so audit logs persist even if the parent transaction rolls back (US9 requirement).
+ * Security-critical actions ({@code audit.async.sync-actions}: LOGIN, LOGOUT, APPROVE, REJECT by
+ * default) are written before the call returns; all others are buffered and batch-inserted.
  */
 @Service
 public class AuditLogger {
@@ -30,10 +33,15 @@ public class AuditLogger {
 
     private final JdbcTemplate jdbcTemplate;
     private final ObjectMapper objectMapper;
+    private final AuditLogWriter writer;
+    private final Set<String> syncActions;
 
-    public AuditLogger(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+    public AuditLogger(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AuditLogWriter writer,
+                       @Value("${audit.async.sync-actions:LOGIN,LOGOUT,APPROVE,REJECT}") Set<String> syncActions) {
         this.jdbcTemplate = jdbcTemplate;
         this.objectMapper = objectMapper;
+        this.writer = writer;
+        this.syncActions = Set.copyOf(syncActions);
     }
 
     /**
@@ -46,7 +54,6 @@ public class AuditLogger {
      * @param ipAddress  Client IP address
      * @param userAgent  Client user agent string
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logView(String entityType, Long entityId, Long userId, String username,
                         String ipAddress, String userAgent) {
         logAudit(entityType, entityId, "VIEW", userId, username, ipAddress, userAgent, null, null);
@@ -63,7 +70,6 @@ public class AuditLogger {
      * @param userAgent  Client user agent string
      * @param metadata   Additional context (e.g., file format, file size)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logDownload(String entityType, Long entityId, Long userId, String username,
                             String ipAddress, String userAgent, Map<String, Object> metadata) {
         logAudit(entityType, entityId, "DOWNLOAD", userId, username, ipAddress, userAgent, null, metadata);
@@ -80,7 +86,6 @@ public class AuditLogger {
      * @param userAgent  Client user agent string
      * @param metadata   Additional context (e.g., required role, attempted action)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAccessDenied(String entityType, Long entityId, Long userId, String username,
                                 String ipAddress, String userAgent, Map<String, Object> metadata) {
         logAudit(entityType, entityId, "ACCESS_DENIED", userId, username, ipAddress, userAgent, null, metadata);
@@ -94,7 +99,6 @@ public class AuditLogger {
      * @param ipAddress Client IP address
      * @param userAgent Client user agent string
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logLogin(Long userId, String username, String ipAddress, String userAgent) {
         logAudit("User", userId, "LOGIN", userId, username, ipAddress, userAgent, null, null);
     }
@@ -107,7 +111,6 @@ public class AuditLogger {
      * @param ipAddress Client IP address
      * @param userAgent Client user agent string
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logLogout(Long userId, String username, String ipAddress, String userAgent) {
         logAudit("User", userId, "LOGOUT", userId, username, ipAddress, userAgent, null, null);
     }
@@ -123,7 +126,6 @@ public class AuditLogger {
      * @param userAgent  Client user agent string
      * @param metadata   Approval comments or additional context
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logApprove(String entityType, Long entityId, Long userId, String username,
                            String ipAddress, String userAgent, Map<String, Object> metadata) {
         logAudit(entityType, entityId, "APPROVE", userId, username, ipAddress, userAgent, null, metadata);
@@ -140,7 +142,6 @@ public class AuditLogger {
      * @param userAgent  Client user agent string
      * @param metadata   Rejection reason or comments
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logReject(String entityType, Long entityId, Long userId, String username,
                           String ipAddress, String userAgent, Map<String, Object> metadata) {
         logAudit(entityType, entityId, "REJECT", userId, username, ipAddress, userAgent, null, metadata);
@@ -148,7 +149,8 @@ public class AuditLogger {
 
     /**
      * Generic audit logging method.
-     * Uses REQUIRES_NEW propagation to ensure audit logs persist even if parent transaction rolls back.
+     * Written immediately for security-critical actions (or when buffering is disabled), otherwise
+     * buffered for the next batch. Either way the row is independent of the caller's transaction.
      *
      * @param entityType Entity type
      * @param entityId   Entity ID
@@ -160,7 +162,6 @@ public class AuditLogger {
      * @param changes    JSONB changes (nullable for non-mutation actions)
      * @param metadata   Additional metadata (nullable)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAudit(String entityType, Long entityId, String action,
                          Long userId, String username, String ipAddress, String userAgent,
                          Map<String, Object> changes, Map<String, Object> metadata) {
@@ -168,16 +169,15 @@ public class AuditLogger {
             String changesSql = changes != null ? objectMapper.writeValueAsString(changes) : null;
             String metadataSql = metadata != null ? objectMapper.writeValueAsString(metadata) : null;
 
-            String sql = """
-                    INSERT INTO audit_logs (entity_type, entity_id, action, user_id, username,
-                                           ip_address, user_agent, changes, metadata)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb)
-                    """;
+            AuditEvent event = new AuditEvent(entityType, entityId, action, userId, username,
+                    ipAddress, userAgent, changesSql, metadataSql, LocalDateTime.now());
 
-            jdbcTemplate.update(sql, entityType, entityId, action, userId, username,
-                    ipAddress, userAgent, changesSql, metadataSql);
-
-            log.debug("Audit logged: {} {} on {} id={} by user={}", action, entityType, entityType, entityId, username);
+            if (!writer.isAsyncEnabled() || syncActions.contains(action)) {
+                writer.write(event);
+                log.debug("Audit logged: {} on {} id={} by user={}", action, entityType, entityId, username);
+            } else if (writer.enqueue(event)) {
+                log.debug("Audit queued: {} on {} id={} by user={}", action, entityType, entityId, username);
+            }
 
         } catch (Exception e) {
             // Log error but don't throw - audit logging should not break application flow
@@ -0,0 +1,12 @@
+package com.wellkorea.backend.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's @Scheduled background jobs (e.g., storage reconciliation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
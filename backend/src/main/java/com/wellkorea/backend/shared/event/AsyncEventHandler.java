@@ -0,0 +1,31 @@
+package com.wellkorea.backend.shared.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a domain event handler method to run asynchronously, after the publishing transaction commits.
+ * <p>
+ * Publishing an event with async handlers also writes it to the outbox (domain_event_outbox) in the
+ * publishing transaction; {@link DomainEventOutboxDispatcher} then delivers it with retries, in order
+ * per {@link DomainEvent#aggregateKey()}. Each handler runs in its own transaction and at most once
+ * per event, but effects are no longer part of the publisher's transaction - use it for follow-up
+ * work the caller does not need to see (e.g., cross-context side effects).
+ * <p>
+ * The method takes a single {@link DomainEvent} parameter and must not also be an
+ * {@code @EventListener}/{@code @TransactionalEventListener}. Handlers that must stay atomic with the
+ * publisher keep using {@code @TransactionalEventListener(phase = BEFORE_COMMIT)}.
+ *
+ * <pre>
+ * &#64;AsyncEventHandler
+ * public void onPurchaseOrderConfirmed(PurchaseOrderConfirmedEvent event) { ... }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AsyncEventHandler {
+}
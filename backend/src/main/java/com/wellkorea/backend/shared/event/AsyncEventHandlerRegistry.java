@@ -0,0 +1,87 @@
+package com.wellkorea.backend.shared.event;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects the {@link AsyncEventHandler} methods of all beans at startup.
+ */
+@Component
+public class AsyncEventHandlerRegistry implements BeanPostProcessor {
+
+    private final List<Handler> handlers = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, List<Handler>> handlersByEventType = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        ReflectionUtils.doWithMethods(targetClass, method -> register(bean, targetClass, method),
+                method -> method.isAnnotationPresent(AsyncEventHandler.class));
+        return bean;
+    }
+
+    private void register(Object bean, Class<?> targetClass, Method method) {
+        String name = targetClass.getSimpleName() + "." + method.getName();
+        if (method.getParameterCount() != 1 || !DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            throw new IllegalStateException("@AsyncEventHandler method must take a single DomainEvent: " + name);
+        }
+        if (AnnotatedElementUtils.hasAnnotation(method, EventListener.class)
+                || AnnotatedElementUtils.hasAnnotation(method, TransactionalEventListener.class)) {
+            throw new IllegalStateException("@AsyncEventHandler method must not also be an event listener: " + name);
+        }
+        Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+        ReflectionUtils.makeAccessible(invocable);
+        handlers.add(new Handler(name, method.getParameterTypes()[0], bean, invocable));
+        handlersByEventType.clear();
+    }
+
+    /**
+     * Async handlers accepting the given event type, in registration order.
+     */
+    public List<Handler> handlersFor(Class<?> eventType) {
+        return handlersByEventType.computeIfAbsent(eventType, type -> handlers.stream()
+                .filter(handler -> handler.eventType().isAssignableFrom(type))
+                .toList());
+    }
+
+    public boolean hasHandlers(Class<?> eventType) {
+        return !handlersFor(eventType).isEmpty();
+    }
+
+    /**
+     * An async handler method.
+     *
+     * @param name      Stable handler name, used as part of the idempotency key
+     * @param eventType Event type the method accepts
+     */
+    public record Handler(String name, Class<?> eventType, Object bean, Method method) {
+
+        public void invoke(DomainEvent event) {
+            try {
+                method.invoke(bean, event);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Async event handler " + name + " failed", e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot invoke async event handler " + name, e);
+            }
+        }
+    }
+}
@@ -10,4 +10,15 @@ package com.wellkorea.backend.shared.event;
  * @see DomainEventPublisher
  */
 public interface DomainEvent {
+
+    /**
+     * Key of the aggregate that raised the event (e.g., "PurchaseOrder:42").
+     * Asynchronous handlers receive events with the same key in publication order;
+     * events without a key are delivered without ordering guarantees.
+     *
+     * @return the aggregate key, or null
+     */
+    default String aggregateKey() {
+        return null;
+    }
 }
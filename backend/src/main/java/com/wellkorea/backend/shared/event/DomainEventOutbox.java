@@ -0,0 +1,62 @@
+package com.wellkorea.backend.shared.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes domain events to the outbox table (domain_event_outbox, see V25 migration).
+ * <p>
+ * The insert joins the caller's transaction, so the event is stored if and only if
+ * the aggregate change that raised it commits.
+ */
+@Component
+public class DomainEventOutbox {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO domain_event_outbox (event_type, payload, aggregate_key)
+            VALUES (?, ?::jsonb, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Store an event for asynchronous delivery.
+     *
+     * @param event the domain event
+     */
+    public void append(DomainEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.getClass().getName(), serialize(event), event.aggregateKey());
+    }
+
+    /**
+     * Store several events in one batch, in list order.
+     *
+     * @param events the domain events
+     */
+    public void appendAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events.stream()
+                .map(event -> new Object[]{event.getClass().getName(), serialize(event), event.aggregateKey()})
+                .toList());
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize domain event " + event.getClass().getName(), e);
+        }
+    }
+}
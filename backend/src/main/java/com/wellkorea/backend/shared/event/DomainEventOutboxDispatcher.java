@@ -0,0 +1,234 @@
+package com.wellkorea.backend.shared.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Delivers outbox events to their {@link AsyncEventHandler} methods.
+ * <p>
+ * - Claims due events with {@code FOR NO KEY UPDATE SKIP LOCKED}, so every node may poll; only the
+ * oldest unfinished event of an aggregate is eligible, which keeps per-aggregate order across nodes
+ * - Runs each handler in its own transaction together with its idempotency key
+ * (event id + handler name); a redelivered event skips the handlers that already completed
+ * - Failed events are retried with exponential backoff ({@code events.outbox.retry-backoff}, doubled
+ * per attempt up to {@code events.outbox.max-backoff}) and marked DEAD after
+ * {@code events.outbox.max-attempts}; a DEAD event holds back later events of its aggregate
+ * - DONE events are purged after {@code events.outbox.retention}
+ */
+@Component
+public class DomainEventOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventOutboxDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    // NO KEY UPDATE: handler transactions insert domain_event_handled rows referencing the claimed
+    // event, and the FK check's KEY SHARE lock must not wait for the claiming transaction
+    private static final String CLAIM_SQL = """
+            SELECT o.id, o.event_type, o.payload, o.attempts
+            FROM domain_event_outbox o
+            WHERE o.status = 'PENDING'
+              AND o.next_attempt_at <= CURRENT_TIMESTAMP
+              AND NOT EXISTS (SELECT 1
+                              FROM domain_event_outbox p
+                              WHERE p.aggregate_key = o.aggregate_key
+                                AND p.id < o.id
+                                AND p.status <> 'DONE')
+            ORDER BY o.id
+            LIMIT ?
+            FOR NO KEY UPDATE OF o SKIP LOCKED
+            """;
+
+    private static final String MARK_HANDLED_SQL = """
+            INSERT INTO domain_event_handled (event_id, handler)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String MARK_DONE_SQL = """
+            UPDATE domain_event_outbox
+            SET status = 'DONE', attempts = attempts + 1, last_error = NULL, processed_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE domain_event_outbox
+            SET status = ?, attempts = ?, last_error = ?,
+                next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?)
+            WHERE id = ?
+            """;
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AsyncEventHandlerRegistry handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public DomainEventOutboxDispatcher(JdbcTemplate jdbcTemplate,
+                                       ObjectMapper objectMapper,
+                                       AsyncEventHandlerRegistry handlers,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${events.outbox.enabled:true}") boolean enabled,
+                                       @Value("${events.outbox.batch-size:50}") int batchSize,
+                                       @Value("${events.outbox.max-attempts:10}") int maxAttempts,
+                                       @Value("${events.outbox.retry-backoff:1s}") Duration retryBackoff,
+                                       @Value("${events.outbox.max-backoff:10m}") Duration maxBackoff,
+                                       @Value("${events.outbox.retention:7d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+
+        this.deliveredCounter = Counter.builder("events.outbox.delivered")
+                .description("Outbox events delivered to all their async handlers")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("events.outbox.retried")
+                .description("Outbox event deliveries that failed and were rescheduled")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("events.outbox.dead")
+                .description("Outbox events given up after the maximum number of attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Polls the outbox (configurable via events.outbox.poll-interval).
+     */
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval:1s}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatch();
+        } catch (Exception e) {
+            // Claimed events stay PENDING and are picked up again on the next poll
+            log.error("Outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * Deliver due events until the outbox has no more eligible events.
+     *
+     * @return Number of events processed (delivered or rescheduled)
+     */
+    public int dispatch() {
+        int total = 0;
+        int processed;
+        do {
+            processed = dispatchBatch();
+            total += processed;
+        } while (processed == batchSize);
+        return total;
+    }
+
+    private int dispatchBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, batchSize);
+            events.forEach(this::deliver);
+            return events.size();
+        });
+        return processed != null ? processed : 0;
+    }
+
+    private void deliver(OutboxEvent event) {
+        try {
+            Class<?> eventType = Class.forName(event.eventType());
+            DomainEvent domainEvent = (DomainEvent) objectMapper.readValue(event.payload(), eventType);
+            for (AsyncEventHandlerRegistry.Handler handler : handlers.handlersFor(eventType)) {
+                runOnce(event.id(), handler, domainEvent);
+            }
+            jdbcTemplate.update(MARK_DONE_SQL, event.id());
+            deliveredCounter.increment();
+        } catch (Exception e) {
+            markFailed(event, e);
+        }
+    }
+
+    /**
+     * The idempotency key is inserted in the handler's transaction: it commits with the handler's
+     * changes, and a concurrent delivery of the same event blocks on it instead of running twice.
+     */
+    private void runOnce(long eventId, AsyncEventHandlerRegistry.Handler handler, DomainEvent event) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.update(MARK_HANDLED_SQL, eventId, handler.name()) == 0) {
+                log.debug("Outbox event {} already handled by {}, skipping", eventId, handler.name());
+                return;
+            }
+            handler.invoke(event);
+        });
+    }
+
+    private void markFailed(OutboxEvent event, Exception e) {
+        int attempts = event.attempts() + 1;
+        boolean dead = attempts >= maxAttempts;
+        long backoffMillis = Math.min(maxBackoff.toMillis(),
+                retryBackoff.toMillis() << Math.min(attempts - 1, 20));
+        String error = String.valueOf(e);
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        jdbcTemplate.update(MARK_FAILED_SQL, dead ? "DEAD" : "PENDING", attempts, error, backoffMillis / 1000.0, event.id());
+        if (dead) {
+            deadCounter.increment();
+            log.error("Outbox event {} ({}) failed {} times, giving up", event.id(), event.eventType(), attempts, e);
+        } else {
+            retriedCounter.increment();
+            log.warn("Outbox event {} ({}) failed (attempt {}), retrying in {} ms: {}",
+                    event.id(), event.eventType(), attempts, backoffMillis, e.toString());
+        }
+    }
+
+    /**
+     * Delete delivered events older than the retention (with their idempotency keys).
+     */
+    @Scheduled(cron = "${events.outbox.cleanup-cron:0 45 3 * * *}")
+    public void purgeDelivered() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM domain_event_outbox WHERE status = 'DONE' AND processed_at < CURRENT_TIMESTAMP - make_interval(secs => ?)",
+                retention.toSeconds());
+        if (deleted > 0) {
+            log.info("Purged {} delivered outbox events", deleted);
+        }
+    }
+
+    private record OutboxEvent(long id, String eventType, String payload, int attempts) {
+    }
+}
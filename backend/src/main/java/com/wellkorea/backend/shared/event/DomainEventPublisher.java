@@ -1,5 +1,7 @@
 package com.wellkorea.backend.shared.event;
 
+import java.util.List;
+
 /**
  * Interface for publishing domain events.
  * Abstracts the underlying event transport mechanism to enable future migration
@@ -32,4 +34,14 @@ public interface DomainEventPublisher {
      * @param event the domain event to publish
      */
     void publish(DomainEvent event);
+
+    /**
+     * Publish several domain events, in list order.
+     * Implementations may store them in batches; the default publishes one by one.
+     *
+     * @param events the domain events to publish
+     */
+    default void publishAll(List<? extends DomainEvent> events) {
+        events.forEach(this::publish);
+    }
 }
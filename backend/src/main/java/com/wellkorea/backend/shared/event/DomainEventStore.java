@@ -0,0 +1,163 @@
+package com.wellkorea.backend.shared.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wellkorea.backend.shared.partition.MonthlyPartitionMaintenance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Append-only store of all published domain events (domain_events, see V26 migration).
+ * <p>
+ * Events are appended in the publishing transaction, so the store holds exactly the events of
+ * committed changes. Reads are in {@link EventPosition} order and only return events that can no
+ * longer be preceded by another; {@link ProjectionReplayer} builds read models from them.
+ * Monthly partitions are maintained by {@link MonthlyPartitionMaintenance}, like audit_logs.
+ */
+@Component
+public class DomainEventStore {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventStore.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO domain_events (event_type, aggregate_key, payload)
+            VALUES (?, ?, ?::jsonb)
+            """;
+
+    private static final String READ_SQL = """
+            SELECT transaction_id::text::bigint AS transaction_id, sequence, event_type, aggregate_key, payload
+            FROM domain_events
+            WHERE (transaction_id, sequence) > (?::text::xid8, ?)
+              AND transaction_id < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY transaction_id, sequence
+            LIMIT ?
+            """;
+
+    private static final String HEAD_SQL = """
+            SELECT transaction_id::text::bigint AS transaction_id, sequence
+            FROM domain_events
+            ORDER BY transaction_id DESC, sequence DESC
+            LIMIT 1
+            """;
+
+    private static final String COUNT_AFTER_SQL = """
+            SELECT COUNT(*)
+            FROM domain_events
+            WHERE (transaction_id, sequence) > (?::text::xid8, ?)
+            """;
+
+    private static final RowMapper<StoredEvent> ROW_MAPPER = (rs, rowNum) -> new StoredEvent(
+            new EventPosition(rs.getLong("transaction_id"), rs.getLong("sequence")),
+            rs.getString("event_type"),
+            rs.getString("aggregate_key"),
+            rs.getString("payload"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Append an event inside the caller's transaction.
+     *
+     * @param event the domain event
+     */
+    public void append(DomainEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.getClass().getName(), event.aggregateKey(), serialize(event));
+    }
+
+    /**
+     * Append several events in one batch inside the caller's transaction, in list order.
+     *
+     * @param events the domain events
+     */
+    public void appendAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events.stream()
+                .map(event -> new Object[]{event.getClass().getName(), event.aggregateKey(), serialize(event)})
+                .toList());
+    }
+
+    /**
+     * Read settled stored events in position order.
+     * <p>
+     * Only events of transactions below the xmin of the current snapshot are returned. All of
+     * those transactions have finished, so no event can later appear before a returned one, and
+     * gaps left by rolled-back transactions need no special handling. The flip side: a transaction
+     * that holds a transaction ID (has written anything) for a long time holds back all events of
+     * later transactions until it ends.
+     *
+     * @param after Only events after this position are returned
+     * @param limit Maximum number of events
+     * @return Events, oldest first
+     */
+    public List<StoredEvent> read(EventPosition after, int limit) {
+        return jdbcTemplate.query(READ_SQL, ROW_MAPPER, after.transactionId(), after.sequence(), limit);
+    }
+
+    /**
+     * Position of the last event in the store ({@link EventPosition#START} when empty),
+     * settled or not.
+     */
+    public EventPosition head() {
+        List<EventPosition> head = jdbcTemplate.query(HEAD_SQL,
+                (rs, rowNum) -> new EventPosition(rs.getLong("transaction_id"), rs.getLong("sequence")));
+        return head.isEmpty() ? EventPosition.START : head.getFirst();
+    }
+
+    /**
+     * Number of events stored after a position, settled or not.
+     */
+    public long countAfter(EventPosition position) {
+        Long count = jdbcTemplate.queryForObject(COUNT_AFTER_SQL, Long.class,
+                position.transactionId(), position.sequence());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Resolve the class of a stored event.
+     *
+     * @return the event class, or null if it no longer exists
+     */
+    public Class<? extends DomainEvent> eventType(StoredEvent storedEvent) {
+        try {
+            return Class.forName(storedEvent.eventType()).asSubclass(DomainEvent.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            log.warn("Skipping stored event {}: unknown event type {}", storedEvent.position(), storedEvent.eventType());
+            return null;
+        }
+    }
+
+    /**
+     * Deserialize a stored event.
+     *
+     * @param storedEvent the stored event
+     * @param eventType   its class, see {@link #eventType}
+     * @return the event
+     */
+    public DomainEvent toDomainEvent(StoredEvent storedEvent, Class<? extends DomainEvent> eventType) {
+        try {
+            return objectMapper.readValue(storedEvent.payload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize stored event " + storedEvent.position(), e);
+        }
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize domain event " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.wellkorea.backend.shared.event;
+
+/**
+ * Position in the domain event store.
+ * <p>
+ * Events are read in (transaction ID, sequence) order: sequences are taken at insert but become
+ * visible at commit, whereas events of finished transactions below the snapshot xmin can no longer
+ * change. See {@link DomainEventStore#read}.
+ *
+ * @param transactionId ID of the transaction that appended the event (xid8)
+ * @param sequence      Sequence of the event
+ */
+public record EventPosition(long transactionId, long sequence) {
+
+    /**
+     * Before the first event of the store.
+     */
+    public static final EventPosition START = new EventPosition(0, 0);
+}
@@ -0,0 +1,41 @@
+package com.wellkorea.backend.shared.event;
+
+/**
+ * A read model built from the domain event store.
+ * <p>
+ * Projection beans are registered with {@link ProjectionReplayer}, which applies stored events in
+ * {@link EventPosition} order from the projection's checkpoint (projection_checkpoints). Each batch of events is
+ * applied in one transaction together with the checkpoint update, so a projection kept in the
+ * database is never applied twice; checkpoints are shared by all nodes.
+ * <p>
+ * Node-local caches do not register as beans: they call {@link ProjectionReplayer#replayInto}
+ * at startup and keep their own position.
+ */
+public interface EventProjection {
+
+    /**
+     * Unique projection name, used as the checkpoint key.
+     */
+    String name();
+
+    /**
+     * Whether the projection consumes the given event type; other events are skipped.
+     */
+    default boolean handles(Class<? extends DomainEvent> eventType) {
+        return true;
+    }
+
+    /**
+     * Apply one event.
+     *
+     * @param event    the domain event
+     * @param sequence its sequence in the event store
+     */
+    void apply(DomainEvent event, long sequence);
+
+    /**
+     * Discard the projection's state before a rebuild from the start of the store.
+     */
+    default void reset() {
+    }
+}
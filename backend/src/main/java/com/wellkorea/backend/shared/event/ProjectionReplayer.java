@@ -0,0 +1,224 @@
+package com.wellkorea.backend.shared.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams events from the domain event store into {@link EventProjection}s.
+ * <p>
+ * - Registered projections (beans) are caught up from their checkpoint every
+ * {@code events.projections.catch-up-interval}, or on demand via {@link #catchUp} / {@link #rebuild}.
+ * Each batch of {@code events.projections.batch-size} events runs in one transaction holding the
+ * projection's checkpoint row lock, so nodes never apply the same batch twice
+ * - {@link #replayInto} streams into any projection without a checkpoint (node-local caches)
+ * <p>
+ * Events are replayed in {@link EventPosition} order, and only once every transaction that could
+ * still insert before them has finished (see {@link DomainEventStore#read}); a long-running
+ * transaction therefore delays projections but never makes them skip events.
+ */
+@Component
+public class ProjectionReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionReplayer.class);
+
+    private static final RowMapper<EventPosition> CHECKPOINT_MAPPER =
+            (rs, rowNum) -> new EventPosition(rs.getLong(1), rs.getLong(2));
+
+    private final DomainEventStore eventStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, EventProjection> projections = new LinkedHashMap<>();
+    private final boolean catchUpEnabled;
+    private final int batchSize;
+
+    public ProjectionReplayer(DomainEventStore eventStore,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              List<EventProjection> projections,
+                              @Value("${events.projections.catch-up-enabled:true}") boolean catchUpEnabled,
+                              @Value("${events.projections.batch-size:500}") int batchSize) {
+        this.eventStore = eventStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (EventProjection projection : projections) {
+            if (this.projections.putIfAbsent(projection.name(), projection) != null) {
+                throw new IllegalStateException("Duplicate event projection name: " + projection.name());
+            }
+        }
+        this.catchUpEnabled = catchUpEnabled;
+        this.batchSize = batchSize;
+    }
+
+    public Set<String> projectionNames() {
+        return projections.keySet();
+    }
+
+    /**
+     * Position of the last event applied to a registered projection ({@link EventPosition#START} if it never ran).
+     */
+    public EventPosition checkpoint(String name) {
+        List<EventPosition> checkpoint = jdbcTemplate.query(
+                "SELECT last_transaction_id::text::bigint, last_sequence FROM projection_checkpoints WHERE projection = ?",
+                CHECKPOINT_MAPPER, name);
+        return checkpoint.isEmpty() ? EventPosition.START : checkpoint.getFirst();
+    }
+
+    @Scheduled(fixedDelayString = "${events.projections.catch-up-interval:5s}")
+    public void scheduledCatchUp() {
+        if (!catchUpEnabled) {
+            return;
+        }
+        for (String name : projections.keySet()) {
+            try {
+                catchUp(name);
+            } catch (Exception e) {
+                // The failed batch rolled back with its checkpoint; retried on the next run
+                log.error("Catch-up of projection {} failed", name, e);
+            }
+        }
+    }
+
+    /**
+     * Apply all settled events after the projection's checkpoint.
+     *
+     * @param name Registered projection name
+     * @return Summary of the replay
+     */
+    public ReplayResult catchUp(String name) {
+        EventProjection projection = projection(name);
+        EventPosition from = null;
+        EventPosition to;
+        int applied = 0;
+        while (true) {
+            Batch batch = transactionTemplate.execute(status -> applyBatch(projection));
+            if (from == null) {
+                from = batch.from();
+            }
+            to = batch.to();
+            applied += batch.applied();
+            if (batch.read() < batchSize) {
+                break;
+            }
+        }
+        if (!to.equals(from)) {
+            log.debug("Projection {} caught up from {} to {} ({} events applied)", name, from, to, applied);
+        }
+        return new ReplayResult(name, from, to, applied);
+    }
+
+    /**
+     * Reset a projection and replay the whole store into it.
+     *
+     * @param name Registered projection name
+     * @return Summary of the replay
+     */
+    public ReplayResult rebuild(String name) {
+        EventProjection projection = projection(name);
+        transactionTemplate.executeWithoutResult(status -> {
+            lockCheckpoint(name);
+            projection.reset();
+            updateCheckpoint(name, EventPosition.START);
+        });
+        log.info("Rebuilding projection {} from the start of the event store", name);
+        return catchUp(name);
+    }
+
+    /**
+     * Stream settled events after a position into a projection, without a checkpoint.
+     * The projection is applied outside any transaction.
+     *
+     * @param projection Projection to feed
+     * @param after      Position to start after ({@link EventPosition#START} for the whole store)
+     * @return Position reached; pass it to the next call to continue
+     */
+    public EventPosition replayInto(EventProjection projection, EventPosition after) {
+        EventPosition position = after;
+        while (true) {
+            List<StoredEvent> events = eventStore.read(position, batchSize);
+            Walk walk = walk(projection, events, position);
+            position = walk.position();
+            if (events.size() < batchSize) {
+                return position;
+            }
+        }
+    }
+
+    private Batch applyBatch(EventProjection projection) {
+        EventPosition checkpoint = lockCheckpoint(projection.name());
+        List<StoredEvent> events = eventStore.read(checkpoint, batchSize);
+        Walk walk = walk(projection, events, checkpoint);
+        if (!events.isEmpty()) {
+            updateCheckpoint(projection.name(), walk.position());
+        }
+        return new Batch(checkpoint, walk.position(), events.size(), walk.applied());
+    }
+
+    private Walk walk(EventProjection projection, List<StoredEvent> events, EventPosition position) {
+        int applied = 0;
+        for (StoredEvent storedEvent : events) {
+            // Only events the projection consumes are deserialized
+            Class<? extends DomainEvent> eventType = eventStore.eventType(storedEvent);
+            if (eventType != null && projection.handles(eventType)) {
+                projection.apply(eventStore.toDomainEvent(storedEvent, eventType), storedEvent.sequence());
+                applied++;
+            }
+            position = storedEvent.position();
+        }
+        return new Walk(position, applied);
+    }
+
+    private EventPosition lockCheckpoint(String name) {
+        jdbcTemplate.update("INSERT INTO projection_checkpoints (projection) VALUES (?) ON CONFLICT DO NOTHING", name);
+        return jdbcTemplate.queryForObject(
+                "SELECT last_transaction_id::text::bigint, last_sequence FROM projection_checkpoints WHERE projection = ? FOR UPDATE",
+                CHECKPOINT_MAPPER, name);
+    }
+
+    private void updateCheckpoint(String name, EventPosition position) {
+        jdbcTemplate.update("""
+                        UPDATE projection_checkpoints
+                        SET last_transaction_id = ?::text::xid8, last_sequence = ?, updated_at = CURRENT_TIMESTAMP
+                        WHERE projection = ?
+                        """,
+                position.transactionId(), position.sequence(), name);
+    }
+
+    private EventProjection projection(String name) {
+        EventProjection projection = projections.get(name);
+        if (projection == null) {
+            throw new IllegalArgumentException("Unknown event projection: " + name);
+        }
+        return projection;
+    }
+
+    /**
+     * Result of a replay.
+     *
+     * @param projection Projection name
+     * @param from       Checkpoint before the replay
+     * @param to         Checkpoint after the replay
+     * @param applied    Events applied (events the projection does not handle are not counted)
+     */
+    public record ReplayResult(String projection, EventPosition from, EventPosition to, int applied) {
+    }
+
+    private record Batch(EventPosition from, EventPosition to, int read, int applied) {
+    }
+
+    private record Walk(EventPosition position, int applied) {
+    }
+}
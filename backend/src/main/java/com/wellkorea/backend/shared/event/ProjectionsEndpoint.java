@@ -0,0 +1,62 @@
+package com.wellkorea.backend.shared.event;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/projections}, ADMIN only) for event store projections.
+ * <p>
+ * - GET: head of the event store and each registered projection's checkpoint and lag
+ * - POST {@code /actuator/projections/{name}}: catch the projection up now, or with
+ * {@code {"rebuild": true}} reset it and replay the whole store
+ */
+@Component
+@Endpoint(id = "projections")
+public class ProjectionsEndpoint {
+
+    private final ProjectionReplayer replayer;
+    private final DomainEventStore eventStore;
+
+    public ProjectionsEndpoint(ProjectionReplayer replayer, DomainEventStore eventStore) {
+        this.replayer = replayer;
+        this.eventStore = eventStore;
+    }
+
+    @ReadOperation
+    public ProjectionsReport projections() {
+        EventPosition head = eventStore.head();
+        List<ProjectionView> views = replayer.projectionNames().stream()
+                .map(name -> {
+                    EventPosition checkpoint = replayer.checkpoint(name);
+                    return new ProjectionView(name, checkpoint, eventStore.countAfter(checkpoint));
+                })
+                .toList();
+        return new ProjectionsReport(head, views);
+    }
+
+    @WriteOperation
+    public ProjectionReplayer.ReplayResult replay(@Selector String name, @Nullable Boolean rebuild) {
+        return Boolean.TRUE.equals(rebuild) ? replayer.rebuild(name) : replayer.catchUp(name);
+    }
+
+    /**
+     * @param head        Position of the last event in the store
+     * @param projections Registered projections
+     */
+    public record ProjectionsReport(EventPosition head, List<ProjectionView> projections) {
+    }
+
+    /**
+     * @param name       Projection name
+     * @param checkpoint Position of the last event applied
+     * @param lag        Events stored after the checkpoint (including those not settled yet)
+     */
+    public record ProjectionView(String name, EventPosition checkpoint, long lag) {
+    }
+}
@@ -3,12 +3,16 @@ package com.wellkorea.backend.shared.event;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Spring-based implementation of DomainEventPublisher.
  * Delegates to Spring's ApplicationEventPublisher for in-memory, synchronous event publishing.
  *
  * <p>This implementation works with Spring's @EventListener and @TransactionalEventListener
- * annotations on handler methods.
+ * annotations on handler methods. Events with {@link AsyncEventHandler} methods are additionally
+ * written to the outbox in the publishing transaction and delivered by {@link DomainEventOutboxDispatcher}.
+ * Every event is also appended to the {@link DomainEventStore} in the publishing transaction.
  *
  * <p>To migrate to Kafka or RabbitMQ, create a new implementation:
  * <pre>
@@ -31,13 +35,35 @@ import org.springframework.stereotype.Component;
 public class SpringDomainEventPublisher implements DomainEventPublisher {
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final AsyncEventHandlerRegistry asyncHandlers;
+    private final DomainEventOutbox outbox;
+    private final DomainEventStore eventStore;
 
-    public SpringDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+    public SpringDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher,
+                                      AsyncEventHandlerRegistry asyncHandlers,
+                                      DomainEventOutbox outbox,
+                                      DomainEventStore eventStore) {
         this.applicationEventPublisher = applicationEventPublisher;
+        this.asyncHandlers = asyncHandlers;
+        this.outbox = outbox;
+        this.eventStore = eventStore;
     }
 
     @Override
     public void publish(DomainEvent event) {
         applicationEventPublisher.publishEvent(event);
+        eventStore.append(event);
+        if (asyncHandlers.hasHandlers(event.getClass())) {
+            outbox.append(event);
+        }
+    }
+
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+        eventStore.appendAll(events);
+        outbox.appendAll(events.stream()
+                .filter(event -> asyncHandlers.hasHandlers(event.getClass()))
+                .toList());
     }
 }
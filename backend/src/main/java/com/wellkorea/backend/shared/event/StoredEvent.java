@@ -0,0 +1,19 @@
+package com.wellkorea.backend.shared.event;
+
+/**
+ * A domain event as read from the event store.
+ *
+ * @param position     Position in the store
+ * @param eventType    Fully qualified class name of the event
+ * @param aggregateKey {@link DomainEvent#aggregateKey()} of the event, or null
+ * @param payload      Event serialized as JSON
+ */
+public record StoredEvent(EventPosition position, String eventType, String aggregateKey, String payload) {
+
+    /**
+     * Sequence of the event (unique in the store, but not its replay order).
+     */
+    public long sequence() {
+        return position.sequence();
+    }
+}
@@ -0,0 +1,20 @@
+package com.wellkorea.backend.shared.exception;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource (e.g., the password
+ * hashing pool) is saturated. Mapped to HTTP 503 with a Retry-After header so clients back off
+ * instead of piling more work onto the server.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,139 @@
+package com.wellkorea.backend.shared.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records distributed lock waits, holds and timeouts, and tracks the locks held on this node.
+ * <p>
+ * Meters (tags: region = quotation/project/mail, method = locked operation):
+ * - lock.wait: time spent waiting for a lock (extra tag outcome = acquired/timeout/interrupted)
+ * - lock.hold: time a lock was held
+ * - lock.timeouts: acquisitions that gave up (surface as 409 via {@link LockAcquisitionException})
+ * - lock.held: locks currently held on this node
+ * <p>
+ * Held locks are listed by the {@link LocksEndpoint} actuator endpoint.
+ */
+@Component
+public class LockMonitor {
+
+    /**
+     * Method tag for locks taken without naming the operation.
+     */
+    public static final String UNNAMED_OPERATION = "unnamed";
+
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, HeldLock> heldLocks = new ConcurrentHashMap<>();
+
+    public LockMonitor(MeterRegistry meterRegistry,
+                       @Value("${lock.monitor.node-id:${HOSTNAME:local}}") String nodeId) {
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId;
+        Gauge.builder("lock.held", heldLocks, Map::size)
+                .description("Distributed locks currently held on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a successful acquisition and start tracking the lock.
+     *
+     * @param region    Lock region (e.g., "quotation")
+     * @param key       Lock key (e.g., "quotation:42")
+     * @param method    Locked operation
+     * @param waitNanos Time spent waiting
+     * @return Handle to pass to {@link #released}
+     */
+    public HeldLock acquired(String region, String key, String method, long waitNanos) {
+        waitTimer(region, method, "acquired").record(waitNanos, TimeUnit.NANOSECONDS);
+        HeldLock held = new HeldLock(sequence.incrementAndGet(), region, key, method, nodeId,
+                Thread.currentThread().getName(), Instant.now(), System.nanoTime());
+        heldLocks.put(held.id(), held);
+        return held;
+    }
+
+    /**
+     * Record the release of a lock obtained through {@link #acquired}.
+     */
+    public void released(HeldLock held) {
+        heldLocks.remove(held.id());
+        Timer.builder("lock.hold")
+                .description("Time distributed locks were held")
+                .tags("region", held.region(), "method", held.method())
+                .register(meterRegistry)
+                .record(System.nanoTime() - held.startNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record an acquisition that gave up after waiting for the timeout.
+     */
+    public void timedOut(String region, String method, long waitNanos) {
+        waitTimer(region, method, "timeout").record(waitNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("lock.timeouts")
+                .description("Distributed lock acquisitions that timed out")
+                .tags("region", region, "method", method)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Record an acquisition abandoned because the waiting thread was interrupted.
+     */
+    public void interrupted(String region, String method, long waitNanos) {
+        waitTimer(region, method, "interrupted").record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Locks held on this node, oldest first.
+     */
+    public List<HeldLock> heldLocks() {
+        return heldLocks.values().stream()
+                .sorted(Comparator.comparing(HeldLock::acquiredAt))
+                .toList();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    private Timer waitTimer(String region, String method, String outcome) {
+        return Timer.builder("lock.wait")
+                .description("Time spent waiting for distributed locks")
+                .tags("region", region, "method", method, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A lock held on this node.
+     *
+     * @param id         Local tracking ID
+     * @param region     Lock region
+     * @param key        Lock key
+     * @param method     Locked operation
+     * @param node       Node holding the lock
+     * @param thread     Thread holding the lock
+     * @param acquiredAt Acquisition time
+     * @param startNanos Acquisition time on the monotonic clock (for hold durations)
+     */
+    public record HeldLock(long id, String region, String key, String method, String node,
+                           String thread, Instant acquiredAt, long startNanos) {
+
+        public Duration age() {
+            return Duration.ofNanos(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -1,28 +1,40 @@
 package com.wellkorea.backend.shared.lock;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.jdbc.lock.DefaultLockRepository;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
 import org.springframework.integration.jdbc.lock.LockRepository;
+import org.springframework.integration.support.locks.LockRegistry;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
- * Configuration for Spring Integration JDBC Lock Registry.
+ * Configuration for the distributed {@link LockRegistry}.
  * <p>
  * Provides distributed locking capabilities using PostgreSQL for coordination.
- * Used by {@link ProjectLockService} and {@link QuotationLockService} to prevent
- * race conditions during concurrent operations.
+ * {@code lock.registry} selects the implementation:
+ * <ul>
+ *   <li>{@code advisory} (default) - {@link PostgresAdvisoryLockRegistry}, waits in the server on advisory locks</li>
+ *   <li>{@code jdbc} - Spring Integration {@link JdbcLockRegistry}, polls rows of the INT_LOCK table</li>
+ * </ul>
+ * Used by {@link ProjectLockService} and
+ * {@link com.wellkorea.backend.shared.mail.MailTokenLockService} to prevent race conditions
+ * during concurrent operations.
  * <p>
  * <b>Lock Key Prefixes:</b>
  * <ul>
- *   <li>{@code project:{id}} - Project-level locks (legacy, for operations without quotation context)</li>
- *   <li>{@code quotation:{id}} - Quotation-level locks (preferred for delivery/invoice operations)</li>
+ *   <li>{@code project:{id}} - Project-level locks</li>
+ *   <li>{@code mail:refresh-token} - Mail token refresh</li>
  * </ul>
  *
  * @see ProjectLockService
- * @see QuotationLockService
  * @see <a href="https://docs.spring.io/spring-integration/reference/jdbc.html#jdbc-lock-registry">
  * Spring Integration JDBC Lock Registry</a>
  */
@@ -30,7 +42,7 @@ import javax.sql.DataSource;
 public class LockRegistryConfig {
 
     /**
-     * Lock time-to-live in milliseconds.
+     * Lock time-to-live in milliseconds (INT_LOCK rows only; advisory locks end with their connection).
      * Locks older than this will be considered expired and can be acquired by other clients.
      * Set to 30 seconds to balance between:
      * - Allowing sufficient time for delivery validation
@@ -52,6 +64,7 @@ public class LockRegistryConfig {
      * @return LockRepository for managing lock state
      */
     @Bean
+    @ConditionalOnProperty(name = "lock.registry", havingValue = "jdbc")
     public LockRepository lockRepository(DataSource dataSource) {
         DefaultLockRepository repository = new DefaultLockRepository(dataSource);
         repository.setRegion(PROJECT_LOCK_REGION);
@@ -78,7 +91,55 @@ public class LockRegistryConfig {
      * @return JdbcLockRegistry for obtaining locks
      */
     @Bean
+    @ConditionalOnProperty(name = "lock.registry", havingValue = "jdbc")
     public JdbcLockRegistry lockRegistry(LockRepository lockRepository) {
         return new JdbcLockRegistry(lockRepository);
     }
+
+    /**
+     * Creates the connection pool of the advisory lock registry.
+     * Separate from the application pool so held and waiting locks never take the connections
+     * business transactions need. Not a default candidate: the application DataSource is still
+     * auto-configured and injected everywhere else.
+     *
+     * @param connectionDetails Connection settings of the application DataSource
+     * @param maxSize           Connections for held and database-waiting locks on this node
+     * @param connectionTimeout Max time a locker waits for a free lock connection
+     * @param applicationName   Client name shown in pg_stat_activity (and /actuator/locks)
+     * @return Pool used only by the advisory lock registry
+     */
+    @Bean(defaultCandidate = false)
+    @ConditionalOnProperty(name = "lock.registry", havingValue = "advisory", matchIfMissing = true)
+    public HikariDataSource advisoryLockDataSource(
+            JdbcConnectionDetails connectionDetails,
+            @Value("${lock.pool.max-size:8}") int maxSize,
+            @Value("${lock.pool.connection-timeout:30s}") Duration connectionTimeout,
+            @Value("${spring.datasource.hikari.data-source-properties.ApplicationName:${spring.application.name}}")
+            String applicationName) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("advisory-locks");
+        pool.setJdbcUrl(connectionDetails.getJdbcUrl());
+        pool.setUsername(connectionDetails.getUsername());
+        pool.setPassword(connectionDetails.getPassword());
+        pool.setDriverClassName(connectionDetails.getDriverClassName());
+        pool.setMaximumPoolSize(maxSize);
+        pool.setMinimumIdle(1);
+        pool.setConnectionTimeout(connectionTimeout.toMillis());
+        pool.addDataSourceProperty("ApplicationName", applicationName);
+        return pool;
+    }
+
+    /**
+     * Creates the advisory lock registry (same key format and usage as above).
+     *
+     * @param lockDataSource Dedicated pool (one connection per held or database-waiting lock)
+     * @param localStripes   Number of in-process locks same-node waiters queue on
+     * @return PostgresAdvisoryLockRegistry for obtaining locks
+     */
+    @Bean
+    @ConditionalOnProperty(name = "lock.registry", havingValue = "advisory", matchIfMissing = true)
+    public LockRegistry advisoryLockRegistry(@Qualifier("advisoryLockDataSource") DataSource lockDataSource,
+                                             @Value("${lock.local-stripes:1024}") int localStripes) {
+        return new PostgresAdvisoryLockRegistry(lockDataSource, PROJECT_LOCK_REGION, localStripes);
+    }
 }
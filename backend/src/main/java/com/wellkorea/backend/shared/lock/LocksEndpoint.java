@@ -0,0 +1,113 @@
+package com.wellkorea.backend.shared.lock;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Actuator endpoint ({@code /actuator/locks}, ADMIN only) listing distributed locks.
+ * <p>
+ * - held: locks held on the node serving the request (key, operation, thread, age)
+ * - database: with the advisory registry, every advisory lock granted or awaited in the
+ * database by any node (identified by client address and application name); keys held on
+ * this node are resolved, others show only the lock ID
+ */
+@Component
+@Endpoint(id = "locks")
+public class LocksEndpoint {
+
+    private final LockMonitor lockMonitor;
+    private final LockRegistry lockRegistry;
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocksEndpoint(LockMonitor lockMonitor, LockRegistry lockRegistry, JdbcTemplate jdbcTemplate) {
+        this.lockMonitor = lockMonitor;
+        this.lockRegistry = lockRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @ReadOperation
+    public LocksReport locks() {
+        List<LockMonitor.HeldLock> held = lockMonitor.heldLocks();
+        List<HeldLockView> heldViews = held.stream()
+                .map(lock -> new HeldLockView(lock.key(), lock.region(), lock.method(), lock.node(),
+                        lock.thread(), lock.acquiredAt(), lock.age().toMillis()))
+                .toList();
+
+        List<DatabaseLockView> databaseLocks = lockRegistry instanceof PostgresAdvisoryLockRegistry
+                ? advisoryLocks(held)
+                : List.of();
+
+        return new LocksReport(lockMonitor.nodeId(), heldViews, databaseLocks);
+    }
+
+    private List<DatabaseLockView> advisoryLocks(List<LockMonitor.HeldLock> held) {
+        Map<Long, String> localKeys = held.stream()
+                .collect(Collectors.toMap(
+                        lock -> PostgresAdvisoryLockRegistry.lockId(LockRegistryConfig.PROJECT_LOCK_REGION, lock.key()),
+                        LockMonitor.HeldLock::key,
+                        (first, second) -> first));
+
+        // Bigint advisory locks are reported as classid (high 32 bits) and objid (low 32 bits)
+        String sql = """
+                SELECT (l.classid::bigint << 32) | l.objid::bigint AS lock_id,
+                       l.granted,
+                       a.pid,
+                       host(a.client_addr) AS client_addr,
+                       a.application_name,
+                       (EXTRACT(EPOCH FROM (now() - a.xact_start)) * 1000)::bigint AS age_ms
+                FROM pg_locks l
+                         JOIN pg_stat_activity a ON a.pid = l.pid
+                WHERE l.locktype = 'advisory'
+                  AND l.objsubid = 1
+                  AND l.database = (SELECT oid FROM pg_database WHERE datname = current_database())
+                ORDER BY a.xact_start
+                """;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            long lockId = rs.getLong("lock_id");
+            return new DatabaseLockView(lockId, localKeys.get(lockId), rs.getBoolean("granted"),
+                    rs.getInt("pid"), rs.getString("client_addr"), rs.getString("application_name"),
+                    rs.getLong("age_ms"));
+        });
+    }
+
+    /**
+     * Locks visible from this node.
+     *
+     * @param node     Node serving the request
+     * @param held     Locks held on this node
+     * @param database Advisory locks in the database (empty with the INT_LOCK registry)
+     */
+    public record LocksReport(String node, List<HeldLockView> held, List<DatabaseLockView> database) {
+    }
+
+    /**
+     * A lock held on this node.
+     */
+    public record HeldLockView(String key, String region, String method, String node, String thread,
+                               Instant acquiredAt, long ageMillis) {
+    }
+
+    /**
+     * An advisory lock in the database.
+     *
+     * @param lockId          Advisory lock ID
+     * @param key             Lock key if held on this node, otherwise null
+     * @param granted         false while the session is still waiting
+     * @param pid             Backend process ID
+     * @param clientAddress   Address of the node owning the session
+     * @param applicationName Application name of the session
+     * @param ageMillis       Age of the session's transaction (how long it has held or waited)
+     */
+    public record DatabaseLockView(long lockId, String key, boolean granted, int pid, String clientAddress,
+                                   String applicationName, long ageMillis) {
+    }
+}
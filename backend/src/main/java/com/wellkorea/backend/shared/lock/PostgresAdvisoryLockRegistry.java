@@ -0,0 +1,289 @@
+package com.wellkorea.backend.shared.lock;
+
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.integration.support.locks.LockRegistry;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link LockRegistry} backed by PostgreSQL advisory locks, with a node-local fast path.
+ * <p>
+ * Each lock key maps to a 64-bit advisory lock ID (SHA-256 of region and key). Holding a lock
+ * means holding {@code pg_advisory_xact_lock} in an open transaction on a dedicated connection:
+ * - Waiting happens in the server, which wakes the next waiter as soon as the lock is released
+ * (no polling, no table writes); timeouts use {@code lock_timeout}
+ * - The lock disappears with its transaction, so a crashed node or a connection returned to the
+ * pool without unlock can never leave it held (no TTL needed)
+ * <p>
+ * Before touching the database a thread takes one of a fixed set of striped in-process
+ * {@link ReentrantLock}s chosen by key hash. Same-node waiters (double-clicks, retries) queue
+ * there without a connection or round trip; only the stripe holder competes for the advisory
+ * lock. Unrelated keys sharing a stripe are serialized locally, so nested locking of different
+ * keys may wait on each other until the acquisition timeout.
+ * <p>
+ * Locks are reentrant per key for the owning thread. Each held lock, and each thread waiting
+ * for one in the database, occupies a connection of the registry's DataSource for that time.
+ * Give the registry its own small pool (as {@link LockRegistryConfig} does): on the application
+ * pool, lockers would take the connections their business transactions need and stall the
+ * application once there are more lockers than connections. With a dedicated pool, extra
+ * lockers wait for a lock connection instead.
+ *
+ * @see LockRegistryConfig
+ */
+public class PostgresAdvisoryLockRegistry implements LockRegistry {
+
+    /**
+     * SQLSTATE lock_not_available, raised when lock_timeout expires.
+     */
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+
+    private static final int DEFAULT_STRIPES = 1024;
+
+    private final DataSource dataSource;
+    private final String region;
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Keys held on this node, with their owning thread and connection.
+     */
+    private final Map<String, Holder> holders = new ConcurrentHashMap<>();
+
+    public PostgresAdvisoryLockRegistry(DataSource dataSource, String region) {
+        this(dataSource, region, DEFAULT_STRIPES);
+    }
+
+    public PostgresAdvisoryLockRegistry(DataSource dataSource, String region, int stripeCount) {
+        this.dataSource = dataSource;
+        this.region = region;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Lock obtain(Object lockKey) {
+        String key = lockKey.toString();
+        long lockId = lockId(region, key);
+        return new AdvisoryLock(key, lockId, stripes[Math.floorMod(lockId, stripes.length)]);
+    }
+
+    /**
+     * Advisory lock ID for a key: the first 8 bytes of SHA-256("{region}:{key}").
+     * Distinct keys colliding only causes unnecessary waiting, never shared ownership.
+     */
+    static long lockId(String region, String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((region + ":" + key).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Ownership of a held key. Only touched by the owning thread after publication.
+     */
+    private static final class Holder {
+        private final Thread owner;
+        private final Connection connection;
+        private int holds = 1;
+
+        private Holder(Thread owner, Connection connection) {
+            this.owner = owner;
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * Handle for one key. Stateless apart from the key: ownership lives in {@link #holders},
+     * so any handle obtained for the key can unlock it.
+     */
+    private final class AdvisoryLock implements Lock {
+
+        private final String key;
+        private final long lockId;
+        private final ReentrantLock stripe;
+
+        private AdvisoryLock(String key, long lockId, ReentrantLock stripe) {
+            this.key = key;
+            this.lockId = lockId;
+            this.stripe = stripe;
+        }
+
+        @Override
+        public void lock() {
+            if (reenter()) {
+                return;
+            }
+            stripe.lock();
+            acquireOrUnlockStripe(-1);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (reenter()) {
+                return;
+            }
+            stripe.lockInterruptibly();
+            acquireOrUnlockStripe(-1);
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (reenter()) {
+                return true;
+            }
+            if (!stripe.tryLock()) {
+                return false;
+            }
+            return acquireOrUnlockStripe(0);
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            if (reenter()) {
+                return true;
+            }
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!stripe.tryLock(time, unit)) {
+                return false;
+            }
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            return acquireOrUnlockStripe(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public void unlock() {
+            Holder holder = holders.get(key);
+            if (holder == null || holder.owner != Thread.currentThread()) {
+                throw new IllegalMonitorStateException("Lock " + key + " is not held by the current thread");
+            }
+            if (--holder.holds > 0) {
+                return;
+            }
+            holders.remove(key);
+            try {
+                // Ending the transaction releases the advisory lock
+                closeQuietly(holder.connection);
+            } finally {
+                stripe.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by advisory locks");
+        }
+
+        private boolean reenter() {
+            Holder holder = holders.get(key);
+            if (holder != null && holder.owner == Thread.currentThread()) {
+                holder.holds++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Acquire the advisory lock while holding the stripe; give the stripe up if that fails.
+         *
+         * @param timeoutMillis 0 = do not wait, negative = wait indefinitely
+         */
+        private boolean acquireOrUnlockStripe(long timeoutMillis) {
+            boolean acquired = false;
+            try {
+                Connection connection = acquire(timeoutMillis);
+                if (connection != null) {
+                    holders.put(key, new Holder(Thread.currentThread(), connection));
+                    acquired = true;
+                }
+                return acquired;
+            } finally {
+                if (!acquired) {
+                    stripe.unlock();
+                }
+            }
+        }
+
+        /**
+         * @return Connection holding the advisory lock, or null if it was not acquired in time
+         */
+        private Connection acquire(long timeoutMillis) {
+            Connection candidate = null;
+            try {
+                candidate = dataSource.getConnection();
+                candidate.setAutoCommit(false);
+                boolean acquired = timeoutMillis == 0
+                        ? tryAdvisoryLock(candidate)
+                        : waitForAdvisoryLock(candidate, timeoutMillis);
+                if (acquired) {
+                    return candidate;
+                }
+                closeQuietly(candidate);
+                return null;
+            } catch (SQLException e) {
+                closeQuietly(candidate);
+                throw new CannotAcquireLockException("Failed to lock " + key, e);
+            }
+        }
+
+        private boolean tryAdvisoryLock(Connection candidate) throws SQLException {
+            try (PreparedStatement statement = candidate.prepareStatement("SELECT pg_try_advisory_xact_lock(?)")) {
+                statement.setLong(1, lockId);
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next() && rs.getBoolean(1);
+                }
+            }
+        }
+
+        private boolean waitForAdvisoryLock(Connection candidate, long timeoutMillis) throws SQLException {
+            try (Statement statement = candidate.createStatement()) {
+                // lock_timeout = 0 disables the timeout, which is what a negative timeout asks for
+                statement.execute("SET LOCAL lock_timeout = " + Math.max(timeoutMillis, 0));
+            }
+            try (PreparedStatement statement = candidate.prepareStatement("SELECT pg_advisory_xact_lock(?)")) {
+                statement.setLong(1, lockId);
+                statement.execute();
+                return true;
+            } catch (SQLException e) {
+                if (LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                    return false;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // Closing below still ends the session's transaction
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Connection is discarded by the pool
+        }
+    }
+}
@@ -26,8 +26,8 @@ import java.lang.annotation.*;
  * <ul>
  *   <li>Locks are per-project with key format: {@code project:{projectId}}</li>
  *   <li>Lock acquisition timeout: 5 seconds (default)</li>
- *   <li>Lock TTL: 30 seconds (prevents deadlocks if process crashes)</li>
- *   <li>Backend: PostgreSQL via Spring Integration JdbcLockRegistry</li>
+ *   <li>Held until released or the holding connection ends (a crashed process cannot keep it)</li>
+ *   <li>Backend: PostgreSQL advisory locks via {@link PostgresAdvisoryLockRegistry}</li>
  * </ul>
  *
  * @see ProjectLockAspect
@@ -60,7 +60,10 @@ public class ProjectLockAspect {
         log.debug("Acquiring project lock for method {} with projectId={}",
                 joinPoint.getSignature().getName(), projectId);
 
-        return projectLockService.executeWithLock(projectId, () -> {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String method = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+
+        return projectLockService.executeWithLock(projectId, method, () -> {
             try {
                 return joinPoint.proceed();
             } catch (RuntimeException | Error e) {
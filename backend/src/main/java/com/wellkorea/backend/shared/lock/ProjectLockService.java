@@ -2,7 +2,7 @@ package com.wellkorea.backend.shared.lock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
@@ -33,8 +33,8 @@ import java.util.function.Supplier;
  * <ul>
  *   <li>Locks are per-project with key format: {@code project:{projectId}}</li>
  *   <li>Lock acquisition timeout: 5 seconds (configurable)</li>
- *   <li>Lock TTL: 30 seconds (prevents deadlocks if process crashes)</li>
- *   <li>Backend: PostgreSQL via Spring Integration JdbcLockRegistry</li>
+ *   <li>Held until released or the holding connection ends (a crashed process cannot keep it)</li>
+ *   <li>Backend: PostgreSQL advisory locks via {@link PostgresAdvisoryLockRegistry}</li>
  * </ul>
  *
  * @see LockRegistryConfig
@@ -54,10 +54,17 @@ public class ProjectLockService {
      */
     private static final long DEFAULT_LOCK_TIMEOUT_SECONDS = 5;
 
-    private final JdbcLockRegistry lockRegistry;
+    /**
+     * Region tag for lock metrics.
+     */
+    private static final String REGION = "project";
 
-    public ProjectLockService(JdbcLockRegistry lockRegistry) {
+    private final LockRegistry lockRegistry;
+    private final LockMonitor lockMonitor;
+
+    public ProjectLockService(LockRegistry lockRegistry, LockMonitor lockMonitor) {
         this.lockRegistry = lockRegistry;
+        this.lockMonitor = lockMonitor;
     }
 
     /**
@@ -81,6 +88,21 @@ public class ProjectLockService {
         return executeWithLock(projectId, action, DEFAULT_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
     }
 
+    /**
+     * Execute an action while holding an exclusive lock on the project, naming the operation
+     * for lock metrics (used by {@link ProjectLockAspect}).
+     *
+     * @param projectId The project ID to lock
+     * @param method    Locked operation (e.g., "DeliveryCommandService.createDelivery")
+     * @param action    The action to execute while holding the lock
+     * @param <T>       Return type of the action
+     * @return The result of the action
+     * @throws LockAcquisitionException if the lock cannot be acquired within timeout
+     */
+    public <T> T executeWithLock(Long projectId, String method, Supplier<T> action) {
+        return executeWithLock(projectId, method, action, DEFAULT_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
     /**
      * Execute an action while holding an exclusive lock on the project with custom timeout.
      *
@@ -93,21 +115,28 @@ public class ProjectLockService {
      * @throws LockAcquisitionException if the lock cannot be acquired within timeout
      */
     public <T> T executeWithLock(Long projectId, Supplier<T> action, long timeout, TimeUnit unit) {
+        return executeWithLock(projectId, LockMonitor.UNNAMED_OPERATION, action, timeout, unit);
+    }
+
+    private <T> T executeWithLock(Long projectId, String method, Supplier<T> action, long timeout, TimeUnit unit) {
         String lockKey = PROJECT_LOCK_PREFIX + projectId;
         Lock lock = lockRegistry.obtain(lockKey);
 
         log.debug("Attempting to acquire lock: {}", lockKey);
 
+        long waitStart = System.nanoTime();
         boolean acquired;
         try {
             acquired = lock.tryLock(timeout, unit);
         } catch (InterruptedException e) {
+            lockMonitor.interrupted(REGION, method, System.nanoTime() - waitStart);
             Thread.currentThread().interrupt();
             throw new LockAcquisitionException(
                     "Interrupted while waiting for lock on project " + projectId, e);
         }
 
         if (!acquired) {
+            lockMonitor.timedOut(REGION, method, System.nanoTime() - waitStart);
             log.warn("Failed to acquire lock within timeout: {} (timeout: {} {})",
                     lockKey, timeout, unit);
             throw new LockAcquisitionException(
@@ -115,10 +144,12 @@ public class ProjectLockService {
         }
 
         log.debug("Lock acquired: {}", lockKey);
+        LockMonitor.HeldLock held = lockMonitor.acquired(REGION, lockKey, method, System.nanoTime() - waitStart);
         try {
             return action.get();
         } finally {
             lock.unlock();
+            lockMonitor.released(held);
             log.debug("Lock released: {}", lockKey);
         }
     }
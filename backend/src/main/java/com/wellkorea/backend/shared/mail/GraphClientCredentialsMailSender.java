@@ -99,6 +99,11 @@ public class GraphClientCredentialsMailSender implements MailSender {
                     .body(request)
                     .retrieve()
                     .onStatus(HttpStatusCode::isError, (req, res) -> {
+                        if (isThrottled(res.getStatusCode())) {
+                            throw new MailThrottledException(
+                                    "Microsoft Graph API throttled request with status " + res.getStatusCode(),
+                                    MailThrottledException.parseRetryAfter(res.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+                        }
                         throw new MailSendException("Microsoft Graph API returned status " + res.getStatusCode());
                     })
                     .toBodilessEntity();
@@ -154,6 +159,13 @@ public class GraphClientCredentialsMailSender implements MailSender {
         }
     }
 
+    /**
+     * Graph signals throttling with 429, and with 503 + Retry-After when the service is overloaded.
+     */
+    private boolean isThrottled(HttpStatusCode status) {
+        return status.value() == 429 || status.value() == 503;
+    }
+
     private GraphMailRequest buildMailRequest(MailMessage msg) {
         List<GraphRecipient> toRecipients = List.of(toRecipient(msg.to()));
         List<GraphRecipient> ccRecipients = msg.cc().stream()
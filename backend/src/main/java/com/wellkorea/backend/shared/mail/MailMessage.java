@@ -1,5 +1,6 @@
 package com.wellkorea.backend.shared.mail;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +22,17 @@ public record MailMessage(
         attachments = attachments != null ? List.copyOf(attachments) : List.of();
     }
 
+    /**
+     * Approximate payload size (body plus raw attachment bytes), used for throughput metrics.
+     */
+    public long sizeInBytes() {
+        long size = body != null ? body.getBytes(StandardCharsets.UTF_8).length : 0;
+        for (MailAttachment attachment : attachments) {
+            size += attachment.content() != null ? attachment.content().length : 0;
+        }
+        return size;
+    }
+
     /**
      * Builder for creating MailMessage instances.
      */
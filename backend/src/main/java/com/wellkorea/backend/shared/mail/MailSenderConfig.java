@@ -1,6 +1,7 @@
 package com.wellkorea.backend.shared.mail;
 
 import com.wellkorea.backend.supporting.mail.infrastructure.MailOAuth2ConfigRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,18 +21,29 @@ import org.springframework.mail.javamail.JavaMailSender;
  *     <li>mail.provider=graph - Use Microsoft Graph API (Delegated/Refresh Token)</li>
  *     <li>mail.provider=graph-client-credentials - Use Microsoft Graph API (Client Credentials)</li>
  * </ul>
+ *
+ * <p>Every provider is wrapped in a {@link RateLimitedMailSender} (unless
+ * mail.throttle.enabled=false) for per-provider pacing and send metrics.
  */
 @Configuration
 public class MailSenderConfig {
 
     private static final Logger log = LoggerFactory.getLogger(MailSenderConfig.class);
 
+    private final MailThrottleProperties throttleProperties;
+    private final MeterRegistry meterRegistry;
+
+    public MailSenderConfig(MailThrottleProperties throttleProperties, MeterRegistry meterRegistry) {
+        this.throttleProperties = throttleProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
     @Bean
     @Primary
     @ConditionalOnProperty(name = "mail.provider", havingValue = "smtp", matchIfMissing = true)
     public MailSender smtpMailSender(JavaMailSender javaMailSender) {
         log.info("Configuring SMTP mail sender");
-        return new SmtpMailSender(javaMailSender);
+        return governed(new SmtpMailSender(javaMailSender));
     }
 
     @Bean
@@ -44,7 +56,7 @@ public class MailSenderConfig {
             MailTokenLockService lockService,
             MailTokenRefreshService tokenRefreshService) {
         log.info("Configuring Microsoft Graph mail sender (Delegated/Refresh Token)");
-        return new GraphMailSender(clientId, clientSecret, configRepository, lockService, tokenRefreshService);
+        return governed(new GraphMailSender(clientId, clientSecret, configRepository, lockService, tokenRefreshService));
     }
 
     @Bean
@@ -56,6 +68,16 @@ public class MailSenderConfig {
             @Value("${microsoft.graph.client-secret}") String clientSecret,
             @Value("${microsoft.graph.sender-email}") String senderEmail) {
         log.info("Configuring Microsoft Graph mail sender (Client Credentials)");
-        return new GraphClientCredentialsMailSender(tenantId, clientId, clientSecret, senderEmail);
+        return governed(new GraphClientCredentialsMailSender(tenantId, clientId, clientSecret, senderEmail));
+    }
+
+    private MailSender governed(MailSender sender) {
+        if (!throttleProperties.isEnabled()) {
+            return sender;
+        }
+        MailThrottleProperties.Rate rate = throttleProperties.rateFor(sender.getType());
+        log.info("Mail throughput governor enabled for {}: {} messages per {}",
+                sender.getType(), rate.getCapacity(), rate.getPeriod());
+        return new RateLimitedMailSender(sender, throttleProperties, meterRegistry);
     }
 }
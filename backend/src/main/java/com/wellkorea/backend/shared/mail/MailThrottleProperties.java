@@ -0,0 +1,118 @@
+package com.wellkorea.backend.shared.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Outbound mail throughput configuration (prefix {@code mail.throttle}).
+ * Each provider type gets its own token bucket so that batches are paced
+ * below the provider's rate cap instead of failing halfway.
+ *
+ * <p>Defaults follow the published provider limits:
+ * <ul>
+ *     <li>graph - Exchange Online allows 30 messages per minute per mailbox</li>
+ *     <li>smtp - conservative 60 messages per minute</li>
+ * </ul>
+ */
+@Component
+@ConfigurationProperties(prefix = "mail.throttle")
+public class MailThrottleProperties {
+
+    private boolean enabled = true;
+    private Duration maxWait = Duration.ofMinutes(2);
+    private int maxRetries = 3;
+    private Duration defaultRetryAfter = Duration.ofSeconds(30);
+    private Rate smtp = new Rate(60, Duration.ofMinutes(1));
+    private Rate graph = new Rate(30, Duration.ofMinutes(1));
+
+    /**
+     * Returns the rate for a given provider type reported by {@link MailSender#getType()}.
+     */
+    public Rate rateFor(String providerType) {
+        return providerType != null && providerType.startsWith("Microsoft Graph") ? graph : smtp;
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public Duration getDefaultRetryAfter() {
+        return defaultRetryAfter;
+    }
+
+    public void setDefaultRetryAfter(Duration defaultRetryAfter) {
+        this.defaultRetryAfter = defaultRetryAfter;
+    }
+
+    public Rate getSmtp() {
+        return smtp;
+    }
+
+    public void setSmtp(Rate smtp) {
+        this.smtp = smtp;
+    }
+
+    public Rate getGraph() {
+        return graph;
+    }
+
+    public void setGraph(Rate graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Token bucket rate: {@code capacity} messages refilled every {@code period}.
+     */
+    public static class Rate {
+
+        private int capacity;
+        private Duration period;
+
+        public Rate() {
+        }
+
+        public Rate(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+}
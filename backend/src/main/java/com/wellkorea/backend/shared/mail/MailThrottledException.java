@@ -0,0 +1,55 @@
+package com.wellkorea.backend.shared.mail;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Exception thrown when the mail provider rejects a send because of throttling
+ * (e.g., Microsoft Graph HTTP 429 / 503 with a Retry-After header).
+ *
+ * <p>{@link RateLimitedMailSender} catches this exception, pauses the provider
+ * for {@link #getRetryAfter()} and retries the send.
+ */
+public class MailThrottledException extends MailSendException {
+
+    private final Duration retryAfter;
+
+    public MailThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns how long the provider asked us to wait, or null if it did not say.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Parses an HTTP Retry-After header value (delta-seconds or HTTP-date).
+     *
+     * @param headerValue The raw header value (may be null)
+     * @return The wait duration, or null if the header is absent or malformed
+     */
+    public static Duration parseRetryAfter(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return null;
+        }
+        String value = headerValue.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // Not delta-seconds, try HTTP-date below
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration wait = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
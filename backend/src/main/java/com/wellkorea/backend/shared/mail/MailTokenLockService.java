@@ -1,8 +1,9 @@
 package com.wellkorea.backend.shared.mail;
 
+import com.wellkorea.backend.shared.lock.LockMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
@@ -14,9 +15,9 @@ import java.util.function.Supplier;
  * Prevents race conditions when multiple instances try to refresh tokens simultaneously.
  *
  * <p>The lock is global (not per-config) since there's only one singleton config.
- * Uses the same {@link JdbcLockRegistry} as other lock services for consistency.
+ * Uses the same {@link LockRegistry} as other lock services for consistency.
  *
- * @see com.wellkorea.backend.shared.lock.QuotationLockService
+ * @see com.wellkorea.backend.shared.lock.ProjectLockService
  * @see com.wellkorea.backend.shared.lock.LockRegistryConfig
  */
 @Service
@@ -36,10 +37,18 @@ public class MailTokenLockService {
      */
     private static final long DEFAULT_LOCK_TIMEOUT_SECONDS = 5;
 
-    private final JdbcLockRegistry lockRegistry;
+    /**
+     * Region and method tags for lock metrics.
+     */
+    private static final String REGION = "mail";
+    private static final String METHOD = "refreshToken";
+
+    private final LockRegistry lockRegistry;
+    private final LockMonitor lockMonitor;
 
-    public MailTokenLockService(JdbcLockRegistry lockRegistry) {
+    public MailTokenLockService(LockRegistry lockRegistry, LockMonitor lockMonitor) {
         this.lockRegistry = lockRegistry;
+        this.lockMonitor = lockMonitor;
     }
 
     /**
@@ -56,24 +65,30 @@ public class MailTokenLockService {
 
         log.debug("Attempting to acquire mail token refresh lock");
 
+        long waitStart = System.nanoTime();
         boolean acquired;
         try {
             acquired = lock.tryLock(DEFAULT_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
+            lockMonitor.interrupted(REGION, METHOD, System.nanoTime() - waitStart);
             Thread.currentThread().interrupt();
             throw new MailSendException("Interrupted while waiting for token refresh lock", e);
         }
 
         if (!acquired) {
+            lockMonitor.timedOut(REGION, METHOD, System.nanoTime() - waitStart);
             log.warn("Failed to acquire mail token refresh lock within {} seconds", DEFAULT_LOCK_TIMEOUT_SECONDS);
             throw new MailSendException("Another token refresh is in progress. Please try again.");
         }
 
         log.debug("Mail token refresh lock acquired");
+        LockMonitor.HeldLock held =
+                lockMonitor.acquired(REGION, MAIL_REFRESH_LOCK, METHOD, System.nanoTime() - waitStart);
         try {
             return action.get();
         } finally {
             lock.unlock();
+            lockMonitor.released(held);
             log.debug("Mail token refresh lock released");
         }
     }
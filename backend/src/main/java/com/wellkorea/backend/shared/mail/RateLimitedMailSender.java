@@ -0,0 +1,146 @@
+package com.wellkorea.backend.shared.mail;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MailSender decorator that governs outbound throughput per provider.
+ *
+ * <p>Behavior:
+ * <ul>
+ *     <li>Each send takes a token from a Bucket4j bucket; callers block (up to maxWait)
+ *     while the bucket refills, so batches slow down smoothly instead of failing</li>
+ *     <li>On {@link MailThrottledException} the whole provider is paused for the
+ *     Retry-After duration and the send is retried (up to maxRetries)</li>
+ *     <li>Publishes Micrometer metrics tagged by provider type:
+ *     {@code mail.send} (latency), {@code mail.send.bytes}, {@code mail.send.throttled},
+ *     {@code mail.send.failures}</li>
+ * </ul>
+ */
+public class RateLimitedMailSender implements MailSender {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitedMailSender.class);
+
+    private final MailSender delegate;
+    private final MailThrottleProperties properties;
+    private final Bucket bucket;
+    private final AtomicLong pausedUntilNanos = new AtomicLong(System.nanoTime());
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final DistributionSummary bytesSent;
+    private final Counter throttledCounter;
+    private final Counter failureCounter;
+
+    public RateLimitedMailSender(MailSender delegate, MailThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+
+        MailThrottleProperties.Rate rate = properties.rateFor(delegate.getType());
+        this.bucket = Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(rate.getCapacity())
+                        .refillGreedy(rate.getCapacity(), rate.getPeriod())
+                        .build())
+                .build();
+
+        String provider = delegate.getType();
+        this.successTimer = Timer.builder("mail.send")
+                .description("Mail send latency")
+                .tag("provider", provider)
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("mail.send")
+                .description("Mail send latency")
+                .tag("provider", provider)
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.bytesSent = DistributionSummary.builder("mail.send.bytes")
+                .description("Approximate size of sent messages")
+                .baseUnit("bytes")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("mail.send.throttled")
+                .description("Sends rejected by the provider with a throttling response")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("mail.send.failures")
+                .description("Sends that failed after all retries")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void send(MailMessage message) {
+        int attempt = 0;
+        while (true) {
+            acquirePermit();
+            long start = System.nanoTime();
+            try {
+                delegate.send(message);
+                successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                bytesSent.record(message.sizeInBytes());
+                return;
+            } catch (MailThrottledException e) {
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throttledCounter.increment();
+                Duration retryAfter = e.getRetryAfter() != null ? e.getRetryAfter() : properties.getDefaultRetryAfter();
+                if (++attempt > properties.getMaxRetries() || retryAfter.compareTo(properties.getMaxWait()) > 0) {
+                    failureCounter.increment();
+                    throw e;
+                }
+                pauseFor(retryAfter);
+                log.warn("{}: Provider throttled send to {}, retrying in {} ms (attempt {}/{})",
+                        delegate.getType(), message.to(), retryAfter.toMillis(), attempt, properties.getMaxRetries());
+            } catch (RuntimeException e) {
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                failureCounter.increment();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Blocks until the provider pause (if any) has elapsed and a bucket token is available.
+     */
+    private void acquirePermit() {
+        try {
+            long pauseNanos = pausedUntilNanos.get() - System.nanoTime();
+            if (pauseNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            }
+            if (!bucket.asBlocking().tryConsume(1, properties.getMaxWait())) {
+                failureCounter.increment();
+                throw new MailSendException("Timed out waiting for " + delegate.getType() + " send capacity");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for " + delegate.getType() + " send capacity", e);
+        }
+    }
+
+    private void pauseFor(Duration duration) {
+        long until = System.nanoTime() + duration.toNanos();
+        pausedUntilNanos.accumulateAndGet(until, Math::max);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+}
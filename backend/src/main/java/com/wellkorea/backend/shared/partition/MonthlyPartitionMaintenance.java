@@ -0,0 +1,113 @@
+package com.wellkorea.backend.shared.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of audit_logs and domain_events (see V30 migration).
+ * <p>
+ * For each table:
+ * - Moves rows that landed in the DEFAULT partition (because their month had no partition yet)
+ * into monthly partitions, so they are covered by retention like all other rows
+ * - Creates partitions up to the table's months-ahead past the current one
+ * - Expires partitions entirely older than the table's retention: they are detached
+ * (left as standalone tables for archiving) or dropped
+ * <p>
+ * audit_logs uses {@code audit.partitions.months-ahead} and {@code audit.retention.*};
+ * domain_events uses {@code events.store.partitions.months-ahead} and never expires, since
+ * projections are rebuilt from the whole store.
+ * <p>
+ * Runs at startup and daily. All steps are idempotent and serialized per table in the database,
+ * so every node may run them.
+ */
+@Component
+public class MonthlyPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyPartitionMaintenance.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PartitionedTable> tables;
+
+    public MonthlyPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                       @Value("${audit.partitions.months-ahead:3}") int auditMonthsAhead,
+                                       @Value("${audit.retention.months:0}") int auditRetentionMonths,
+                                       @Value("${audit.retention.drop:false}") boolean auditDropExpired,
+                                       @Value("${events.store.partitions.months-ahead:3}") int eventMonthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tables = List.of(
+                new PartitionedTable("audit_logs", "created_at",
+                        auditMonthsAhead, auditRetentionMonths, auditDropExpired),
+                new PartitionedTable("domain_events", "recorded_at", eventMonthsAhead, 0, false));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        for (PartitionedTable table : tables) {
+            try {
+                drainDefaultPartition(table);
+                ensurePartitions(table);
+                if (table.retentionMonths() > 0) {
+                    expirePartitions(table, LocalDate.now().withDayOfMonth(1).minusMonths(table.retentionMonths()));
+                }
+            } catch (Exception e) {
+                // Inserts still succeed via the DEFAULT partition; retry on the next run
+                log.error("Partition maintenance of {} failed", table.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Create missing partitions from the current month through the table's months ahead.
+     *
+     * @return Number of partitions created
+     */
+    public int ensurePartitions(PartitionedTable table) {
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_monthly_partitions(?, ?, ?)", Integer.class,
+                table.name(), table.partitionColumn(), table.monthsAhead());
+        if (created != null && created > 0) {
+            log.info("Created {} {} partitions", created, table.name());
+        }
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Move the rows of the DEFAULT partition into monthly partitions, creating those as needed.
+     *
+     * @return Number of rows moved
+     */
+    public long drainDefaultPartition(PartitionedTable table) {
+        Long moved = jdbcTemplate.queryForObject("SELECT drain_default_partition(?, ?)", Long.class,
+                table.name(), table.partitionColumn());
+        if (moved != null && moved > 0) {
+            // Rows only land there when partitions were not created in time
+            log.warn("Moved {} rows out of {}_default into monthly partitions", moved, table.name());
+        }
+        return moved != null ? moved : 0;
+    }
+
+    /**
+     * Detach (or drop) partitions whose month ends on or before the cutoff.
+     *
+     * @param cutoff First day of the oldest month to keep
+     * @return Names of the expired partitions
+     */
+    public List<String> expirePartitions(PartitionedTable table, LocalDate cutoff) {
+        List<String> expired = jdbcTemplate.queryForList("SELECT expire_monthly_partitions(?, ?, ?)", String.class,
+                table.name(), cutoff, table.dropExpired());
+        if (!expired.isEmpty()) {
+            log.info("{} {} partitions older than {}: {}",
+                    table.dropExpired() ? "Dropped" : "Detached", table.name(), cutoff, expired);
+        }
+        return expired;
+    }
+}
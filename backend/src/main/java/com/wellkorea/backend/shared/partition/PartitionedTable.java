@@ -0,0 +1,19 @@
+package com.wellkorea.backend.shared.partition;
+
+/**
+ * A table range-partitioned by month, maintained by {@link MonthlyPartitionMaintenance}.
+ *
+ * @param name            Table name; partitions are named {@code {name}_yYYYYmMM}, plus {@code {name}_default}
+ * @param partitionColumn Timestamp column the table is partitioned on
+ * @param monthsAhead     Partitions created in advance past the current month
+ * @param retentionMonths Months kept before partitions expire (0 = keep all)
+ * @param dropExpired     Drop expired partitions instead of detaching them for archiving
+ */
+public record PartitionedTable(
+        String name,
+        String partitionColumn,
+        int monthsAhead,
+        int retentionMonths,
+        boolean dropExpired
+) {
+}
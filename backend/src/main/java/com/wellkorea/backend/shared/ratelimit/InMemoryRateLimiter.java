@@ -5,29 +5,28 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.EstimationProbe;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
  * In-memory rate limiter implementation using Bucket4j with Caffeine cache.
  * <p>
  * Configuration:
- * - 5 requests per minute per key (IP address)
+ * - One bucket per policy and key, sized by the {@link RateLimitPolicy}
  * - Buckets expire after 10 minutes of inactivity
  * <p>
  * Limitations:
  * - Single instance only (not suitable for clustered deployments)
  * - Rate limits reset on server restart
  * <p>
- * For distributed deployments, implement {@link RateLimiter} with Redis backend.
+ * Enabled with {@code rate-limit.store=memory}; clustered deployments use {@link JdbcRateLimiter}.
  */
 @Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory")
 public class InMemoryRateLimiter implements RateLimiter {
 
-    private static final int MAX_REQUESTS = 5;
-    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
     private static final int CACHE_EXPIRY_MINUTES = 10;
 
     private final Cache<String, Bucket> bucketCache;
@@ -39,14 +38,14 @@ public class InMemoryRateLimiter implements RateLimiter {
     }
 
     @Override
-    public boolean tryConsume(String key) {
-        Bucket bucket = bucketCache.get(key, this::createBucket);
+    public boolean tryConsume(RateLimitPolicy policy, String key) {
+        Bucket bucket = bucketCache.get(policy.bucketKey(key), k -> createBucket(policy));
         return bucket.tryConsume(1);
     }
 
     @Override
-    public long getSecondsUntilReset(String key) {
-        Bucket bucket = bucketCache.getIfPresent(key);
+    public long getSecondsUntilReset(RateLimitPolicy policy, String key) {
+        Bucket bucket = bucketCache.getIfPresent(policy.bucketKey(key));
         if (bucket == null) {
             return 0;
         }
@@ -60,8 +59,8 @@ public class InMemoryRateLimiter implements RateLimiter {
     }
 
     @Override
-    public void clear(String key) {
-        bucketCache.invalidate(key);
+    public void clear(RateLimitPolicy policy, String key) {
+        bucketCache.invalidate(policy.bucketKey(key));
     }
 
     @Override
@@ -69,10 +68,10 @@ public class InMemoryRateLimiter implements RateLimiter {
         bucketCache.invalidateAll();
     }
 
-    private Bucket createBucket(String key) {
+    private Bucket createBucket(RateLimitPolicy policy) {
         Bandwidth limit = Bandwidth.builder()
-                .capacity(MAX_REQUESTS)
-                .refillGreedy(MAX_REQUESTS, REFILL_PERIOD)
+                .capacity(policy.capacity())
+                .refillGreedy(policy.capacity(), policy.period())
                 .build();
 
         return Bucket.builder()
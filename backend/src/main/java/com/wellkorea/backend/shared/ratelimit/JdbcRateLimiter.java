@@ -0,0 +1,148 @@
+package com.wellkorea.backend.shared.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster-wide rate limiter: token buckets live in PostgreSQL (rate_limit_buckets) and are
+ * refilled/consumed atomically by the {@code rate_limit_consume} function, so N instances
+ * enforce one limit and limits survive deploys.
+ * <p>
+ * Near-cache: each instance keeps a small local state per bucket so the common path does not
+ * pay a round trip on every request.
+ * - Lease: when the last known balance is clearly under the limit (at least two leases left),
+ *   a single call takes a batch of tokens (10% of capacity) and hands them out locally for up
+ *   to {@code rate-limit.lease-ttl}. Unused leased tokens are discarded, so leasing only ever
+ *   makes the limit stricter, never looser.
+ * - Block: a denied bucket is answered locally until its next token is due.
+ * Small buckets (capacity below 10, e.g. login) lease one token at a time, i.e. every request
+ * is checked against the shared bucket.
+ * <p>
+ * If the database is unreachable the limiter fails open and logs a warning.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcRateLimiter.class);
+    private static final double LEASE_FRACTION = 0.1;
+    private static final int LOCAL_EXPIRY_MINUTES = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RateLimitProperties properties;
+    private final Cache<String, LocalBucket> localBuckets;
+
+    public JdbcRateLimiter(JdbcTemplate jdbcTemplate, RateLimitProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.localBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(LOCAL_EXPIRY_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
+    @Override
+    public boolean tryConsume(RateLimitPolicy policy, String key) {
+        String bucketKey = policy.bucketKey(key);
+        LocalBucket local = localBuckets.get(bucketKey, k -> new LocalBucket());
+
+        synchronized (local) {
+            long now = System.nanoTime();
+            if (now - local.blockedUntil < 0) {
+                return false;
+            }
+            if (local.leased > 0 && now - local.leaseExpiresAt < 0) {
+                local.leased--;
+                return true;
+            }
+
+            int leaseSize = Math.max(1, (int) (policy.capacity() * LEASE_FRACTION));
+            int requested = local.lastRemaining >= 2.0 * leaseSize ? leaseSize : 1;
+
+            Grant grant;
+            try {
+                grant = consume(bucketKey, policy, requested);
+            } catch (DataAccessException e) {
+                log.warn("Rate limit store unavailable, allowing request for {}: {}", bucketKey, e.getMessage());
+                return true;
+            }
+
+            local.lastRemaining = grant.remaining();
+            if (grant.granted() == 0) {
+                double secondsToNextToken = (1.0 - grant.remaining()) / policy.refillPerSecond();
+                local.blockedUntil = now + (long) Math.ceil(secondsToNextToken * 1_000_000_000L);
+                local.leased = 0;
+                return false;
+            }
+            local.leased = grant.granted() - 1;
+            local.leaseExpiresAt = now + properties.getLeaseTtl().toNanos();
+            return true;
+        }
+    }
+
+    @Override
+    public long getSecondsUntilReset(RateLimitPolicy policy, String key) {
+        LocalBucket local = localBuckets.getIfPresent(policy.bucketKey(key));
+        if (local == null) {
+            return 0;
+        }
+        synchronized (local) {
+            long waitNanos = local.blockedUntil - System.nanoTime();
+            return waitNanos > 0 ? (long) Math.ceil(waitNanos / 1_000_000_000.0) : 0;
+        }
+    }
+
+    @Override
+    public void clear(RateLimitPolicy policy, String key) {
+        String bucketKey = policy.bucketKey(key);
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE bucket_key = ?", bucketKey);
+        localBuckets.invalidate(bucketKey);
+    }
+
+    @Override
+    public void clearAll() {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets");
+        localBuckets.invalidateAll();
+    }
+
+    /**
+     * Delete buckets idle longer than the longest policy period (they are full again).
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval:10m}")
+    public void deleteIdleBuckets() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM rate_limit_buckets WHERE updated_at < LOCALTIMESTAMP - make_interval(secs => ?)",
+                (double) properties.maxPeriod().toSeconds());
+        if (deleted > 0) {
+            log.debug("Deleted {} idle rate limit buckets", deleted);
+        }
+    }
+
+    private Grant consume(String bucketKey, RateLimitPolicy policy, int requested) {
+        return jdbcTemplate.queryForObject(
+                "SELECT granted, remaining FROM rate_limit_consume(?, ?, ?, ?)",
+                (rs, rowNum) -> new Grant(rs.getInt("granted"), rs.getDouble("remaining")),
+                bucketKey, policy.capacity(), policy.refillPerSecond(), requested);
+    }
+
+    private record Grant(int granted, double remaining) {
+    }
+
+    /**
+     * Instance-local view of a shared bucket. Guarded by its own monitor.
+     */
+    private static final class LocalBucket {
+        private int leased;
+        private long leaseExpiresAt;
+        private long blockedUntil = System.nanoTime();
+        private double lastRemaining = -1;
+    }
+}
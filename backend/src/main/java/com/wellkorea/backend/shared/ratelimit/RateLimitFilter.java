@@ -0,0 +1,138 @@
+package com.wellkorea.backend.shared.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wellkorea.backend.shared.dto.AuthenticatedUser;
+import com.wellkorea.backend.shared.dto.ErrorResponse;
+import com.wellkorea.backend.shared.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Filter to rate limit requests per route, as configured under {@code rate-limit.policies}.
+ * Protects against brute force attacks on the authentication endpoint and abuse of
+ * expensive endpoints.
+ * <p>
+ * Configuration (per policy):
+ * - HTTP method and Ant path pattern of the route
+ * - Token bucket capacity and refill period
+ * - Key: client IP, or authenticated user (IP for anonymous requests)
+ * - Returns HTTP 429 with ErrorResponse JSON when rate limited
+ * <p>
+ * The first matching policy applies. Runs after JwtAuthenticationFilter so user-keyed
+ * policies can see the authenticated principal.
+ * <p>
+ * IP Address Resolution:
+ * - Checks X-Forwarded-For header first (for reverse proxy setups)
+ * - Falls back to request.getRemoteAddr()
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<RouteLimit> routes;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.routes = properties.getPolicies().entrySet().stream()
+                .map(entry -> new RouteLimit(entry.getValue(), entry.getValue().toPolicy(entry.getKey())))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                    @NotNull FilterChain filterChain) throws ServletException, IOException {
+
+        RouteLimit route = findRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = resolveKey(request, route.route().getKey());
+
+        if (!rateLimiter.tryConsume(route.policy(), key)) {
+            long retryAfterSeconds = rateLimiter.getSecondsUntilReset(route.policy(), key);
+
+            logger.warn("Rate limit '{}' exceeded for {} on {}. Retry after {} seconds.",
+                    route.policy().name(), key, request.getRequestURI(), retryAfterSeconds);
+
+            sendRateLimitResponse(response, request, route.route().getMessage(), retryAfterSeconds);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteLimit findRoute(HttpServletRequest request) {
+        for (RouteLimit route : routes) {
+            String method = route.route().getMethod();
+            if ((method == null || method.equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.route().getPath(), request.getRequestURI())) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String resolveKey(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+                return "user:" + user.getUserId();
+            }
+        }
+        return "ip:" + getClientIp(request);
+    }
+
+    private String getClientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            // X-Forwarded-For can contain multiple IPs; take the first (original client)
+            return forwardedFor.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void sendRateLimitResponse(HttpServletResponse response, HttpServletRequest request,
+                                       String message, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        // Add Retry-After header as per HTTP specification
+        if (retryAfterSeconds > 0) {
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        }
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                ErrorCode.RATE_LIMITED,
+                message,
+                request.getRequestURI()
+        );
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    private record RouteLimit(RateLimitProperties.Route route, RateLimitPolicy policy) {
+    }
+}
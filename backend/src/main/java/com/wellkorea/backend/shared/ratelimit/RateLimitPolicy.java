@@ -0,0 +1,28 @@
+package com.wellkorea.backend.shared.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token bucket definition: {@code capacity} requests, refilled greedily over {@code period}.
+ * Buckets of different policies never share state, even for the same key.
+ *
+ * @param name     Policy name (e.g., "login"); part of the bucket key
+ * @param capacity Maximum burst size
+ * @param period   Time to refill an empty bucket
+ */
+public record RateLimitPolicy(String name, int capacity, Duration period) {
+
+    /**
+     * Tokens added per second.
+     */
+    public double refillPerSecond() {
+        return capacity / (period.toMillis() / 1000.0);
+    }
+
+    /**
+     * Bucket key for a client key (IP address, user ID) under this policy.
+     */
+    public String bucketKey(String key) {
+        return name + ":" + key;
+    }
+}
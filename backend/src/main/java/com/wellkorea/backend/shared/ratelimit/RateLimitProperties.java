@@ -0,0 +1,139 @@
+package com.wellkorea.backend.shared.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request rate limiting configuration (prefix {@code rate-limit}).
+ * Each entry under {@code policies} limits one route (HTTP method + Ant path pattern)
+ * per client IP or per authenticated user.
+ *
+ * <p>The backing store is selected with {@code rate-limit.store}:
+ * <ul>
+ *     <li>jdbc (default) - buckets shared by all instances, see {@link JdbcRateLimiter}</li>
+ *     <li>memory - per-instance buckets, see {@link InMemoryRateLimiter}</li>
+ * </ul>
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private Duration leaseTtl = Duration.ofSeconds(2);
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+    private Map<String, Route> policies = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public Duration getLeaseTtl() {
+        return leaseTtl;
+    }
+
+    public void setLeaseTtl(Duration leaseTtl) {
+        this.leaseTtl = leaseTtl;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    public Map<String, Route> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(Map<String, Route> policies) {
+        this.policies = policies;
+    }
+
+    /**
+     * Longest refill period among the configured policies. A bucket untouched for this long
+     * is full again and can be dropped.
+     */
+    public Duration maxPeriod() {
+        return policies.values().stream()
+                .map(Route::getPeriod)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+    }
+
+    /**
+     * How requests are attributed to a bucket.
+     */
+    public enum KeyType {
+        /** Client IP address */
+        IP,
+        /** Authenticated user ID (falls back to IP for anonymous requests) */
+        USER
+    }
+
+    /**
+     * A rate-limited route.
+     */
+    public static class Route {
+
+        private String method;
+        private String path;
+        private int capacity;
+        private Duration period = Duration.ofMinutes(1);
+        private KeyType key = KeyType.IP;
+        private String message = "Too many requests. Please try again later.";
+
+        public RateLimitPolicy toPolicy(String name) {
+            return new RateLimitPolicy(name, capacity, period);
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+        public KeyType getKey() {
+            return key;
+        }
+
+        public void setKey(KeyType key) {
+            this.key = key;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.wellkorea.backend.shared.sequence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hi/lo allocator: reserves blocks of a database counter and issues their values from memory.
+ * <p>
+ * Each key (e.g., a year) has its own current block. Values are taken from it without locking;
+ * when it runs out, one caller allocates the next block from the {@link SequenceBlockSource}
+ * and the others take values from that block once it is there. The counter row is touched once
+ * per block instead of once per value, so callers never queue on its row lock until commit.
+ * <p>
+ * Values are unique across nodes but not contiguous: values taken by rolled-back callers are
+ * skipped, and nodes issue from different blocks, so values are not in creation order across
+ * nodes. {@link #releaseUnused} gives the unused tails back on shutdown when no other node has
+ * allocated since. Owners call it from their {@code @PreDestroy}.
+ *
+ * @param <K> Counter key
+ */
+public class BlockSequenceAllocator<K> {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockSequenceAllocator.class);
+
+    private final String name;
+    private final SequenceBlockSource<K> source;
+    private final int blockSize;
+    private final Map<K, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * @param name      What the values are, for logs (e.g., "invoice numbers")
+     * @param source    Counter to allocate blocks from
+     * @param blockSize Values reserved per allocation
+     */
+    public BlockSequenceAllocator(String name, SequenceBlockSource<K> source, int blockSize) {
+        this.name = name;
+        this.source = source;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Take the next value of the key's counter.
+     *
+     * @param key Counter key
+     * @return Value unique for the key
+     */
+    public long next(K key) {
+        while (true) {
+            Block block = blocks.get(key);
+            if (block != null) {
+                long value = block.next().getAndIncrement();
+                if (value <= block.end()) {
+                    return value;
+                }
+            }
+            refill(key, block);
+        }
+    }
+
+    /**
+     * Only one thread allocates; the others find the new block on their next attempt.
+     */
+    private synchronized void refill(K key, Block exhausted) {
+        if (blocks.get(key) != exhausted) {
+            return;
+        }
+        long end = source.allocateBlock(key, blockSize);
+        blocks.put(key, new Block(new AtomicLong(end - blockSize + 1), end));
+        log.info("Allocated {} {}-{} for {}", name, end - blockSize + 1, end, key);
+    }
+
+    /**
+     * Give the unused values of every block back so a deploy does not leave gaps,
+     * unless another node has allocated a block since.
+     */
+    public synchronized void releaseUnused() {
+        blocks.forEach((key, block) -> {
+            // Claim the rest of the block so no in-flight caller can still take a value from it
+            long firstFree = block.next().getAndSet(block.end() + 1);
+            if (firstFree <= block.end() && source.returnUnused(key, firstFree, block.end())) {
+                log.info("Returned unused {} {}-{} for {}", name, firstFree, block.end(), key);
+            }
+        });
+        blocks.clear();
+    }
+
+    /**
+     * Values reserved by this node: {@code next} up to {@code end} are still free.
+     */
+    private record Block(AtomicLong next, long end) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.wellkorea.backend.shared.sequence;
+
+/**
+ * Database counter that {@link BlockSequenceAllocator} reserves blocks from.
+ * <p>
+ * Implementations are beans whose methods run in their own transaction
+ * ({@code @Transactional(propagation = REQUIRES_NEW)}): a block belongs to the node
+ * once allocated, whatever happens to the caller's transaction.
+ *
+ * @param <K> Counter key (e.g., the year)
+ */
+public interface SequenceBlockSource<K> {
+
+    /**
+     * Reserve the next {@code size} values of the counter.
+     *
+     * @param key  Counter key
+     * @param size Block size
+     * @return Last value of the block; the block is [result - size + 1, result]
+     */
+    long allocateBlock(K key, int size);
+
+    /**
+     * Give back the unused tail of a block, if no other node has allocated after it.
+     *
+     * @param key       Counter key
+     * @param firstFree First unused value of the block
+     * @param blockEnd  Last value of the block
+     * @return true if the values were returned
+     */
+    boolean returnUnused(K key, long firstFree, long blockEnd);
+}
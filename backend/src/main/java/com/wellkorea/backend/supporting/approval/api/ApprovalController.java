@@ -4,12 +4,16 @@ import com.wellkorea.backend.shared.dto.ApiResponse;
 import com.wellkorea.backend.shared.dto.AuthenticatedUser;
 import com.wellkorea.backend.supporting.approval.api.dto.command.ApprovalCommandResult;
 import com.wellkorea.backend.supporting.approval.api.dto.command.ApproveRequest;
+import com.wellkorea.backend.supporting.approval.api.dto.command.BulkApproveRequest;
+import com.wellkorea.backend.supporting.approval.api.dto.command.BulkRejectRequest;
 import com.wellkorea.backend.supporting.approval.api.dto.command.RejectRequest;
 import com.wellkorea.backend.supporting.approval.api.dto.query.ApprovalDetailView;
 import com.wellkorea.backend.supporting.approval.api.dto.query.ApprovalHistoryView;
 import com.wellkorea.backend.supporting.approval.api.dto.query.ApprovalSummaryView;
+import com.wellkorea.backend.supporting.approval.application.ApprovalBulkCommandService;
 import com.wellkorea.backend.supporting.approval.application.ApprovalCommandService;
 import com.wellkorea.backend.supporting.approval.application.ApprovalQueryService;
+import com.wellkorea.backend.supporting.approval.application.BulkDecisionResult;
 import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalStatus;
 import com.wellkorea.backend.supporting.approval.domain.vo.EntityType;
 import jakarta.validation.Valid;
@@ -32,10 +36,14 @@ import java.util.List;
 public class ApprovalController {
 
     private final ApprovalCommandService commandService;
+    private final ApprovalBulkCommandService bulkCommandService;
     private final ApprovalQueryService queryService;
 
-    public ApprovalController(ApprovalCommandService commandService, ApprovalQueryService queryService) {
+    public ApprovalController(ApprovalCommandService commandService,
+                              ApprovalBulkCommandService bulkCommandService,
+                              ApprovalQueryService queryService) {
         this.commandService = commandService;
+        this.bulkCommandService = bulkCommandService;
         this.queryService = queryService;
     }
 
@@ -138,4 +146,36 @@ public class ApprovalController {
 
         return ResponseEntity.ok(ApiResponse.success(result));
     }
+
+    /**
+     * Approve several requests at their current level.
+     * POST /api/approvals/bulk-approve
+     * Returns one result per request; requests that cannot be approved are reported, not failed.
+     */
+    @PostMapping("/bulk-approve")
+    @PreAuthorize("hasAnyRole('ADMIN', 'FINANCE', 'SALES', 'PRODUCTION')")
+    public ResponseEntity<ApiResponse<List<BulkDecisionResult>>> bulkApprove(@Valid @RequestBody BulkApproveRequest request,
+                                                                             @AuthenticationPrincipal AuthenticatedUser user) {
+
+        List<BulkDecisionResult> results = bulkCommandService.approveAll(
+                request.approvalIds(), user.getUserId(), request.comments());
+
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
+    /**
+     * Reject several requests at their current level with the same reason.
+     * POST /api/approvals/bulk-reject
+     * Returns one result per request; requests that cannot be rejected are reported, not failed.
+     */
+    @PostMapping("/bulk-reject")
+    @PreAuthorize("hasAnyRole('ADMIN', 'FINANCE', 'SALES', 'PRODUCTION')")
+    public ResponseEntity<ApiResponse<List<BulkDecisionResult>>> bulkReject(@Valid @RequestBody BulkRejectRequest request,
+                                                                            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        List<BulkDecisionResult> results = bulkCommandService.rejectAll(
+                request.approvalIds(), user.getUserId(), request.reason(), request.comments());
+
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
 }
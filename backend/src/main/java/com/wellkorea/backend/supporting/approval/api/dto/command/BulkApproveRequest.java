@@ -0,0 +1,19 @@
+package com.wellkorea.backend.supporting.approval.api.dto.command;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for approving several approval requests at their current level.
+ */
+public record BulkApproveRequest(
+        @NotEmpty(message = "At least one approval request ID is required")
+        List<@NotNull Long> approvalIds,
+
+        @Size(max = 2000, message = "Comments must be at most 2000 characters")
+        String comments
+) {
+}
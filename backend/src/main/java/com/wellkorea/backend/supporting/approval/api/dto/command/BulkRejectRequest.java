@@ -0,0 +1,24 @@
+package com.wellkorea.backend.supporting.approval.api.dto.command;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for rejecting several approval requests with the same reason.
+ */
+public record BulkRejectRequest(
+        @NotEmpty(message = "At least one approval request ID is required")
+        List<@NotNull Long> approvalIds,
+
+        @NotBlank(message = "Rejection reason is mandatory")
+        @Size(max = 500, message = "Rejection reason must be at most 500 characters")
+        String reason,
+
+        @Size(max = 2000, message = "Comments must be at most 2000 characters")
+        String comments
+) {
+}
@@ -6,7 +6,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -23,8 +25,7 @@ import java.util.Optional;
  *
  *     &#64;PostConstruct
  *     public void registerResolver() {
- *         registry.register(EntityType.VENDOR_SELECTION,
- *             entityId -> repository.findById(entityId).map(pr -> (Approvable) pr));
+ *         registry.register(EntityType.VENDOR_SELECTION, ApprovableResolver.forRepository(repository));
  *     }
  * }
  * </pre>
@@ -66,6 +67,21 @@ public class ApprovableRegistry {
         return resolver.resolve(entityId);
     }
 
+    /**
+     * Resolve several Approvable entities of one type (one query for repository-backed resolvers).
+     *
+     * @param type      the entity type
+     * @param entityIds the entity IDs
+     * @return the entities found, empty if no resolver exists
+     */
+    public List<Approvable> resolveAll(EntityType type, Collection<Long> entityIds) {
+        ApprovableResolver resolver = resolvers.get(type);
+        if (resolver == null || entityIds.isEmpty()) {
+            return List.of();
+        }
+        return resolver.resolveAll(entityIds);
+    }
+
     /**
      * Check if a resolver is registered for the given entity type.
      *
@@ -1,7 +1,10 @@
 package com.wellkorea.backend.supporting.approval.application;
 
 import com.wellkorea.backend.supporting.approval.domain.Approvable;
+import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,8 +13,7 @@ import java.util.Optional;
  *
  * <p>Implementations typically delegate to a JPA repository:
  * <pre>
- * registry.register(EntityType.VENDOR_SELECTION,
- *     entityId -> repository.findById(entityId).map(pr -> (Approvable) pr));
+ * registry.register(EntityType.VENDOR_SELECTION, ApprovableResolver.forRepository(repository));
  * </pre>
  */
 @FunctionalInterface
@@ -24,4 +26,37 @@ public interface ApprovableResolver {
      * @return Optional containing the Approvable if found, empty otherwise
      */
     Optional<Approvable> resolve(Long entityId);
+
+    /**
+     * Resolve several Approvable entities.
+     * The default resolves one by one; repository-backed resolvers load them in one query.
+     *
+     * @param entityIds the entity IDs to lookup
+     * @return the entities found, in no particular order
+     */
+    default List<Approvable> resolveAll(Collection<Long> entityIds) {
+        return entityIds.stream()
+                .map(this::resolve)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Resolver backed by a JPA repository of an Approvable entity.
+     */
+    static <T extends Approvable> ApprovableResolver forRepository(JpaRepository<T, Long> repository) {
+        return new ApprovableResolver() {
+            @Override
+            public Optional<Approvable> resolve(Long entityId) {
+                return repository.findById(entityId).map(Approvable.class::cast);
+            }
+
+            @Override
+            public List<Approvable> resolveAll(Collection<Long> entityIds) {
+                return repository.findAllById(entityIds).stream()
+                        .map(Approvable.class::cast)
+                        .toList();
+            }
+        };
+    }
 }
@@ -0,0 +1,239 @@
+package com.wellkorea.backend.supporting.approval.application;
+
+import com.wellkorea.backend.core.auth.infrastructure.persistence.UserRepository;
+import com.wellkorea.backend.shared.event.DomainEventPublisher;
+import com.wellkorea.backend.shared.exception.BusinessException;
+import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
+import com.wellkorea.backend.supporting.approval.domain.Approvable;
+import com.wellkorea.backend.supporting.approval.domain.ApprovalRequest;
+import com.wellkorea.backend.supporting.approval.domain.event.ApprovalCompletedEvent;
+import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalStatus;
+import com.wellkorea.backend.supporting.approval.domain.vo.EntityType;
+import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalInbox;
+import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Command service for deciding many approval requests at once (bulk approve/reject).
+ * <p>
+ * Requests are processed in chunks of {@code approval.bulk.chunk-size}, one transaction per chunk:
+ * - The chunk's requests and their collections, and the approval targets (quotations, purchase
+ * requests), are loaded in one query per collection or entity type
+ * - Each request is decided by the ApprovalRequest aggregate, as in {@link ApprovalCommandService};
+ * requests that cannot be decided are reported and skipped, as are decisions that would complete a
+ * request whose target is no longer pending approval (the completion handler would fail the whole
+ * transaction on it)
+ * - The inbox is synced and the completion events are published once per chunk
+ * <p>
+ * A chunk that still fails to commit (concurrent change, failing completion handler) is rolled back
+ * and its requests are decided again one transaction each, so one failing request only fails itself.
+ * Earlier chunks stay committed.
+ */
+@Service
+public class ApprovalBulkCommandService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApprovalBulkCommandService.class);
+
+    private final ApprovalRequestRepository approvalRequestRepository;
+    private final UserRepository userRepository;
+    private final ApprovableRegistry approvableRegistry;
+    private final ApprovalInbox approvalInbox;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public ApprovalBulkCommandService(ApprovalRequestRepository approvalRequestRepository,
+                                      UserRepository userRepository,
+                                      ApprovableRegistry approvableRegistry,
+                                      ApprovalInbox approvalInbox,
+                                      DomainEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${approval.bulk.chunk-size:50}") int chunkSize,
+                                      @Value("${approval.bulk.max-items:200}") int maxItems) {
+        this.approvalRequestRepository = approvalRequestRepository;
+        this.userRepository = userRepository;
+        this.approvableRegistry = approvableRegistry;
+        this.approvalInbox = approvalInbox;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Approve several requests at their current level.
+     *
+     * @return One result per distinct ID, in request order
+     */
+    public List<BulkDecisionResult> approveAll(List<Long> approvalRequestIds, Long approverUserId, String comments) {
+        return decideAll(approvalRequestIds, approverUserId, new Decision(false, null, comments));
+    }
+
+    /**
+     * Reject several requests at their current level with the same reason.
+     *
+     * @return One result per distinct ID, in request order
+     */
+    public List<BulkDecisionResult> rejectAll(List<Long> approvalRequestIds, Long approverUserId,
+                                              String reason, String comments) {
+        if (reason == null || reason.isBlank()) {
+            throw new BusinessException("Rejection reason is required");
+        }
+        return decideAll(approvalRequestIds, approverUserId, new Decision(true, reason, comments));
+    }
+
+    private List<BulkDecisionResult> decideAll(List<Long> approvalRequestIds, Long approverUserId, Decision decision) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(approvalRequestIds));
+        if (ids.size() > maxItems) {
+            throw new BusinessException("At most " + maxItems + " approval requests can be decided at once");
+        }
+        // Verify user exists (external aggregate check), once for all requests
+        if (!userRepository.existsById(approverUserId)) {
+            throw new ResourceNotFoundException("User", approverUserId);
+        }
+        log.info("Bulk {}: {} approval requests, userId={}", decision.reject() ? "reject" : "approve",
+                ids.size(), approverUserId);
+
+        List<BulkDecisionResult> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> decideChunk(chunk, approverUserId, decision)));
+            } catch (RuntimeException e) {
+                log.warn("Bulk decision chunk rolled back, deciding one by one: ids={}, userId={}",
+                        chunk, approverUserId, e);
+                chunk.forEach(id -> results.add(decideAlone(id, approverUserId, decision)));
+            }
+        }
+        return results;
+    }
+
+    private BulkDecisionResult decideAlone(Long id, Long approverUserId, Decision decision) {
+        try {
+            return transactionTemplate.execute(status -> decideChunk(List.of(id), approverUserId, decision)).get(0);
+        } catch (RuntimeException e) {
+            log.warn("Bulk decision rolled back: id={}, userId={}", id, approverUserId, e);
+            return BulkDecisionResult.failed(id);
+        }
+    }
+
+    private List<BulkDecisionResult> decideChunk(List<Long> ids, Long approverUserId, Decision decision) {
+        Map<Long, ApprovalRequest> requests = approvalRequestRepository.findAllByIdWithLevelDecisions(ids).stream()
+                .collect(Collectors.toMap(ApprovalRequest::getId, Function.identity()));
+        if (!requests.isEmpty()) {
+            // Every decision appends history; a rejection also adds its reason as a comment
+            approvalRequestRepository.fetchHistoryEntries(requests.keySet());
+            if (decision.reject()) {
+                approvalRequestRepository.fetchComments(requests.keySet());
+            }
+        }
+        Map<EntityType, Map<Long, Approvable>> targets = loadApprovalTargets(requests.values());
+
+        List<BulkDecisionResult> results = new ArrayList<>(ids.size());
+        List<ApprovalRequest> decided = new ArrayList<>();
+        for (Long id : ids) {
+            ApprovalRequest request = requests.get(id);
+            if (request == null) {
+                results.add(BulkDecisionResult.notFound(id));
+                continue;
+            }
+            // Only a completing decision reaches the completion handler; an approval below the final
+            // level moves to the next level, as in ApprovalCommandService
+            if (decision.reject() || request.isAtFinalLevel()) {
+                String targetProblem = targetProblem(request, targets);
+                if (targetProblem != null) {
+                    results.add(BulkDecisionResult.invalid(id, targetProblem));
+                    continue;
+                }
+            }
+            // The aggregate validates before changing any state, so a failed item leaves no trace
+            try {
+                if (decision.reject()) {
+                    request.reject(approverUserId, decision.reason(), decision.comments());
+                } else {
+                    request.approve(approverUserId, decision.comments());
+                }
+            } catch (IllegalStateException e) {
+                results.add(BulkDecisionResult.invalid(id, e.getMessage()));
+                continue;
+            } catch (IllegalArgumentException e) {
+                results.add(e.getMessage().contains("not authorized")
+                        ? BulkDecisionResult.forbidden(id, e.getMessage())
+                        : BulkDecisionResult.invalid(id, e.getMessage()));
+                continue;
+            }
+            decided.add(request);
+            results.add(decision.reject() ? BulkDecisionResult.rejected(id) : BulkDecisionResult.approved(id));
+        }
+
+        approvalRequestRepository.saveAll(decided);
+        approvalInbox.syncAll(decided);
+
+        List<ApprovalRequest> completed = decided.stream().filter(ApprovalRequest::isCompleted).toList();
+        eventPublisher.publishAll(completed.stream()
+                .map(request -> completedEvent(request, approverUserId, decision))
+                .toList());
+        return results;
+    }
+
+    /**
+     * Load the targets of entity types handled by {@link GenericApprovalCompletedHandler}, one query per
+     * type. The completion handler resolves each target by ID again; those lookups then hit the
+     * persistence context instead of querying once per request.
+     */
+    private Map<EntityType, Map<Long, Approvable>> loadApprovalTargets(Collection<ApprovalRequest> requests) {
+        Map<EntityType, List<Long>> entityIds = requests.stream()
+                .filter(request -> approvableRegistry.supports(request.getEntityType()))
+                .collect(Collectors.groupingBy(ApprovalRequest::getEntityType,
+                        Collectors.mapping(ApprovalRequest::getEntityId, Collectors.toList())));
+        Map<EntityType, Map<Long, Approvable>> targets = new EnumMap<>(EntityType.class);
+        entityIds.forEach((type, ids) -> targets.put(type, approvableRegistry.resolveAll(type, ids).stream()
+                .collect(Collectors.toMap(Approvable::getId, Function.identity()))));
+        return targets;
+    }
+
+    /**
+     * Why the completion handler would fail on this request's target, or null if it would not.
+     */
+    private static String targetProblem(ApprovalRequest request, Map<EntityType, Map<Long, Approvable>> targets) {
+        Map<Long, Approvable> ofType = targets.get(request.getEntityType());
+        if (ofType == null) {
+            return null;
+        }
+        Approvable target = ofType.get(request.getEntityId());
+        if (target == null) {
+            return "Approval target not found: " + request.getEntityType() + " " + request.getEntityId();
+        }
+        if (!target.getApprovalState().isPending()) {
+            return "Approval target is not pending approval: " + request.getEntityType() + " " + request.getEntityId();
+        }
+        return null;
+    }
+
+    private static ApprovalCompletedEvent completedEvent(ApprovalRequest request, Long approverUserId, Decision decision) {
+        if (request.getStatus() == ApprovalStatus.APPROVED) {
+            return ApprovalCompletedEvent.approved(
+                    request.getId(), request.getEntityType(), request.getEntityId(), approverUserId);
+        }
+        return ApprovalCompletedEvent.rejected(
+                request.getId(), request.getEntityType(), request.getEntityId(), approverUserId, decision.reason());
+    }
+
+    private record Decision(boolean reject, String reason, String comments) {
+    }
+}
@@ -12,6 +12,7 @@ import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalChainLevel;
 import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalStatus;
 import com.wellkorea.backend.supporting.approval.domain.vo.EntityType;
 import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalChainTemplateRepository;
+import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalInbox;
 import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalRequestRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,7 @@ import java.util.List;
  * - Delegates business logic to the ApprovalRequest aggregate
  * - Manages transaction boundaries
  * - Publishes domain events for cross-aggregate communication
+ * - Keeps the materialized approver inbox in sync with each saved request
  */
 @Service
 @Transactional
@@ -42,15 +44,18 @@ public class ApprovalCommandService {
     private final ApprovalChainTemplateRepository chainTemplateRepository;
     private final UserRepository userRepository;
     private final DomainEventPublisher eventPublisher;
+    private final ApprovalInbox approvalInbox;
 
     public ApprovalCommandService(ApprovalRequestRepository approvalRequestRepository,
                                   ApprovalChainTemplateRepository chainTemplateRepository,
                                   UserRepository userRepository,
-                                  DomainEventPublisher eventPublisher) {
+                                  DomainEventPublisher eventPublisher,
+                                  ApprovalInbox approvalInbox) {
         this.approvalRequestRepository = approvalRequestRepository;
         this.chainTemplateRepository = chainTemplateRepository;
         this.userRepository = userRepository;
         this.eventPublisher = eventPublisher;
+        this.approvalInbox = approvalInbox;
     }
 
     /**
@@ -94,6 +99,7 @@ public class ApprovalCommandService {
         );
 
         ApprovalRequest savedRequest = approvalRequestRepository.save(request);
+        approvalInbox.sync(savedRequest);
         log.info("Created approval request: id={}", savedRequest.getId());
         return savedRequest.getId();
     }
@@ -132,6 +138,7 @@ public class ApprovalCommandService {
         }
 
         ApprovalRequest savedRequest = approvalRequestRepository.save(request);
+        approvalInbox.sync(savedRequest);
 
         // Publish event after final approval (handled by entity-specific handlers)
         if (savedRequest.isCompleted() && savedRequest.getStatus() == ApprovalStatus.APPROVED) {
@@ -184,6 +191,7 @@ public class ApprovalCommandService {
         }
 
         ApprovalRequest savedRequest = approvalRequestRepository.save(request);
+        approvalInbox.sync(savedRequest);
 
         // Publish event for rejection (handled by entity-specific handlers)
         log.info("Publishing ApprovalCompletedEvent (REJECTED) for request id={}", savedRequest.getId());
@@ -0,0 +1,60 @@
+package com.wellkorea.backend.supporting.approval.application;
+
+/**
+ * Outcome of one approval request in a bulk approve/reject.
+ *
+ * @param id      Approval request ID
+ * @param outcome What happened to the request
+ * @param message Human-readable detail (reason when the decision was not applied)
+ */
+public record BulkDecisionResult(
+        Long id,
+        Outcome outcome,
+        String message
+) {
+
+    public enum Outcome {
+        APPROVED,
+        REJECTED,
+        /**
+         * No approval request with this ID
+         */
+        NOT_FOUND,
+        /**
+         * The user is not an approver of this request
+         */
+        FORBIDDEN,
+        /**
+         * The request cannot be decided (already completed, not at the user's level)
+         */
+        INVALID,
+        /**
+         * The request could not be committed on its own (concurrent change, failing completion handler)
+         */
+        FAILED
+    }
+
+    static BulkDecisionResult approved(Long id) {
+        return new BulkDecisionResult(id, Outcome.APPROVED, "Approval request approved at current level");
+    }
+
+    static BulkDecisionResult rejected(Long id) {
+        return new BulkDecisionResult(id, Outcome.REJECTED, "Approval request rejected");
+    }
+
+    static BulkDecisionResult notFound(Long id) {
+        return new BulkDecisionResult(id, Outcome.NOT_FOUND, "ApprovalRequest not found with id: " + id);
+    }
+
+    static BulkDecisionResult forbidden(Long id, String message) {
+        return new BulkDecisionResult(id, Outcome.FORBIDDEN, message);
+    }
+
+    static BulkDecisionResult invalid(Long id, String message) {
+        return new BulkDecisionResult(id, Outcome.INVALID, message);
+    }
+
+    static BulkDecisionResult failed(Long id) {
+        return new BulkDecisionResult(id, Outcome.FAILED, "Not applied: the request was changed concurrently or could not be completed");
+    }
+}
@@ -66,7 +66,7 @@ public interface ApprovalMapper {
             @Param("offset") long offset);
 
     /**
-     * Count pending approvals for a user (for pagination).
+     * Count pending approvals for a user (for pagination and the inbox badge).
      */
     long countPendingByApproverUserId(@Param("userId") Long userId);
 
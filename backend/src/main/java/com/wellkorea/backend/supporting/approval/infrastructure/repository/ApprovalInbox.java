@@ -0,0 +1,133 @@
+package com.wellkorea.backend.supporting.approval.infrastructure.repository;
+
+import com.wellkorea.backend.supporting.approval.domain.ApprovalRequest;
+import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalLevelDecision;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Materialized approver inbox (approval_inbox_items / approval_inbox_counts tables, see V27 migration).
+ * <p>
+ * Holds one row per pending approval request for the expected approver of its current level, so the
+ * inbox page and the badge count are single index lookups instead of a join over all requests and
+ * level decisions. The badge counter is maintained by a trigger on the items table.
+ * <p>
+ * {@link #sync} / {@link #syncAll} must be called inside the command transaction after every change
+ * of an approval request's status or current level, so the inbox commits or rolls back with the request.
+ */
+@Repository
+public class ApprovalInbox {
+
+    private static final String FIND_APPROVERS_SQL = """
+            SELECT approval_request_id, approver_id FROM approval_inbox_items WHERE approval_request_id = ANY(?)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO approval_inbox_items (approver_id, approval_request_id, entity_type, entity_id,
+                                              entity_description, current_level, total_levels,
+                                              submitted_by_id, submitted_at, created_at)
+            SELECT ?, ar.id, ar.entity_type, ar.entity_id, ar.entity_description, ?, ar.total_levels,
+                   ar.submitted_by_id, ar.submitted_at, ar.created_at
+            FROM approval_requests ar
+            WHERE ar.id = ?
+            ON CONFLICT (approver_id, approval_request_id) DO UPDATE SET current_level = EXCLUDED.current_level
+            """;
+
+    private static final String UPDATE_LEVEL_SQL = """
+            UPDATE approval_inbox_items SET current_level = ? WHERE approval_request_id = ? AND approver_id = ?
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM approval_inbox_items WHERE approval_request_id = ? AND approver_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ApprovalInbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Move a saved approval request to the inbox of its current approver, or remove it from all
+     * inboxes once it is completed.
+     *
+     * @param request Approval request, already saved (its ID assigned)
+     */
+    public void sync(ApprovalRequest request) {
+        syncAll(List.of(request));
+    }
+
+    /**
+     * {@link #sync} for several approval requests, with one lookup and batched statements.
+     *
+     * @param requests Approval requests, already saved
+     */
+    public void syncAll(Collection<ApprovalRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> previousApprovers = previousApprovers(requests);
+        List<Object[]> levelUpdates = new ArrayList<>();
+        List<Change> changes = new ArrayList<>();
+        for (ApprovalRequest request : requests) {
+            Long requestId = request.getId();
+            Long previousApprover = previousApprovers.get(requestId);
+            Long nextApprover = currentApprover(request);
+            if (nextApprover != null && nextApprover.equals(previousApprover)) {
+                levelUpdates.add(new Object[]{request.getCurrentLevel(), requestId, nextApprover});
+                continue;
+            }
+            if (previousApprover != null) {
+                changes.add(new Change(previousApprover, DELETE_SQL, new Object[]{requestId, previousApprover}));
+            }
+            if (nextApprover != null) {
+                changes.add(new Change(nextApprover, INSERT_SQL,
+                        new Object[]{nextApprover, request.getCurrentLevel(), requestId}));
+            }
+        }
+        if (!levelUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LEVEL_SQL, levelUpdates);
+        }
+        // Each change locks the approver's counter row; lower approver IDs first avoids deadlocks.
+        // Consecutive changes with the same statement go in one batch.
+        changes.sort(Comparator.comparing(Change::approverId).thenComparing(Change::sql));
+        int start = 0;
+        for (int i = 1; i <= changes.size(); i++) {
+            if (i == changes.size() || !changes.get(i).sql().equals(changes.get(start).sql())) {
+                jdbcTemplate.batchUpdate(changes.get(start).sql(),
+                        changes.subList(start, i).stream().map(Change::args).toList());
+                start = i;
+            }
+        }
+    }
+
+    private Map<Long, Long> previousApprovers(Collection<ApprovalRequest> requests) {
+        Long[] requestIds = requests.stream().map(ApprovalRequest::getId).toArray(Long[]::new);
+        Map<Long, Long> approvers = new HashMap<>();
+        jdbcTemplate.query(FIND_APPROVERS_SQL,
+                rs -> {
+                    approvers.put(rs.getLong("approval_request_id"), rs.getLong("approver_id"));
+                },
+                (Object) requestIds);
+        return approvers;
+    }
+
+    private static Long currentApprover(ApprovalRequest request) {
+        if (!request.isPending()) {
+            return null;
+        }
+        return request.getLevelDecision(request.getCurrentLevel())
+                .map(ApprovalLevelDecision::getExpectedApproverUserId)
+                .orElse(null);
+    }
+
+    private record Change(Long approverId, String sql, Object[] args) {
+    }
+}
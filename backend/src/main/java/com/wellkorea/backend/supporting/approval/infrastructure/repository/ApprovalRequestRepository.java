@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,6 +19,7 @@ import java.util.Optional;
  * <ul>
  *   <li>Save/update operations (inherited from JpaRepository)</li>
  *   <li>Eager loading for approval request modification</li>
+ *   <li>Batch loading for bulk decisions (one query per collection instead of per request)</li>
  * </ul>
  */
 @Repository
@@ -31,4 +34,27 @@ public interface ApprovalRequestRepository extends JpaRepository<ApprovalRequest
      */
     @Query("SELECT ar FROM ApprovalRequest ar LEFT JOIN FETCH ar.levelDecisions WHERE ar.id = :id")
     Optional<ApprovalRequest> findByIdWithLevelDecisions(@Param("id") Long id);
+
+    /**
+     * Find approval requests with level decisions eagerly loaded.
+     * Used by bulk decisions; the history and comment collections are initialized by
+     * {@link #fetchHistoryEntries} and {@link #fetchComments} (one bag per query).
+     *
+     * @param ids Approval request IDs
+     * @return Approval requests found, with level decisions loaded
+     */
+    @Query("SELECT DISTINCT ar FROM ApprovalRequest ar LEFT JOIN FETCH ar.levelDecisions WHERE ar.id IN :ids")
+    List<ApprovalRequest> findAllByIdWithLevelDecisions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Initialize the history entries of already loaded approval requests in one query.
+     */
+    @Query("SELECT DISTINCT ar FROM ApprovalRequest ar LEFT JOIN FETCH ar.historyEntries WHERE ar.id IN :ids")
+    List<ApprovalRequest> fetchHistoryEntries(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Initialize the comments of already loaded approval requests in one query.
+     */
+    @Query("SELECT DISTINCT ar FROM ApprovalRequest ar LEFT JOIN FETCH ar.comments WHERE ar.id IN :ids")
+    List<ApprovalRequest> fetchComments(@Param("ids") Collection<Long> ids);
 }
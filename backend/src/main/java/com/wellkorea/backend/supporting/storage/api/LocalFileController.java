@@ -0,0 +1,134 @@
+package com.wellkorea.backend.supporting.storage.api;
+
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.LocalFileStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+
+/**
+ * Serves signed URLs issued by {@link LocalFileStorage} (the local-disk stand-in for
+ * MinIO presigned URLs). Requests are authorized by the URL signature, not by JWT.
+ * <p>
+ * Endpoints:
+ * - GET /api/files/{key}?expires=..&signature=.. - Download (single Range supported)
+ * - PUT /api/files/{key}?expires=..&signature=.. - Direct upload
+ * <p>
+ * Downloads are zero-copy: Tomcat's sendfile when the connector supports it,
+ * otherwise {@link java.nio.channels.FileChannel#transferTo} into the response channel.
+ */
+@RestController
+@RequestMapping(LocalFileController.BASE_PATH)
+@ConditionalOnProperty(name = "storage.provider", havingValue = "local")
+public class LocalFileController {
+
+    static final String BASE_PATH = "/api/files";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileStorage storage;
+
+    public LocalFileController(LocalFileStorage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Download a file via signed URL.
+     * GET /api/files/{key}
+     */
+    @GetMapping("/{*key}")
+    public void download(@PathVariable String key,
+                         @RequestParam long expires,
+                         @RequestParam String signature,
+                         @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String objectName = stripLeadingSlash(key);
+        if (!storage.verifySignature("GET", objectName, expires, signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        if (!storage.fileExists(objectName)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        FileStorage.FileMetadata metadata = storage.getFileMetadata(objectName);
+        long size = metadata.size();
+        long start = 0;
+        long end = size - 1;
+
+        if (rangeHeader != null && size > 0) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+                if (start > end || start >= size) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = size == 0 ? 0 : end - start + 1;
+        response.setContentType(metadata.contentType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.ETAG, "\"" + metadata.etag() + "\"");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (length == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, storage.resolvePath(objectName).toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        storage.transferTo(objectName, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * Upload a file via signed URL.
+     * PUT /api/files/{key}
+     */
+    @PutMapping("/{*key}")
+    public void upload(@PathVariable String key,
+                       @RequestParam long expires,
+                       @RequestParam String signature,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        String objectName = stripLeadingSlash(key);
+        if (!storage.verifySignature("PUT", objectName, expires, signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        storage.uploadFile(objectName, request.getInputStream(), request.getContentLengthLong(),
+                request.getContentType());
+        response.setStatus(HttpStatus.OK.value());
+    }
+
+    private static String stripLeadingSlash(String key) {
+        return key.startsWith("/") ? key.substring(1) : key;
+    }
+}
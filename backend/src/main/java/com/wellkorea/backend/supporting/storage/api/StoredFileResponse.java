@@ -0,0 +1,142 @@
+package com.wellkorea.backend.supporting.storage.api;
+
+import com.wellkorea.backend.supporting.storage.application.StoredFile;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Builds streaming download responses for stored files.
+ * <p>
+ * Features:
+ * - Streams content from storage to the client (no full buffering in the JVM)
+ * - Single byte-range requests (Range / If-Range) answered with 206 Partial Content
+ * - Content-Length, ETag and Last-Modified passthrough (Spring answers If-None-Match with 304)
+ * - Long-lived private Cache-Control for immutable files
+ * <p>
+ * Multi-range and malformed Range headers are ignored and the full file is returned,
+ * as permitted by RFC 9110.
+ */
+public final class StoredFileResponse {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private StoredFileResponse() {
+    }
+
+    /**
+     * Build the download response for a stored file.
+     *
+     * @param file           File metadata and lazy content reader
+     * @param requestHeaders Incoming request headers (Range, If-Range)
+     * @return 200 with the full file, 206 with the requested range, or 416 if unsatisfiable
+     */
+    public static ResponseEntity<Resource> of(StoredFile file, HttpHeaders requestHeaders) {
+        long size = file.size();
+        List<HttpRange> ranges = parseRanges(requestHeaders.getFirst(HttpHeaders.RANGE));
+
+        if (ranges.size() == 1 && ifRangeMatches(file, requestHeaders.getFirst(HttpHeaders.IF_RANGE))) {
+            long start;
+            long end;
+            try {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                return notSatisfiable(size);
+            }
+            if (start >= size || start > end) {
+                return notSatisfiable(size);
+            }
+
+            long length = end - start + 1;
+            return withFileHeaders(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT), file)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                    .contentLength(length)
+                    .body(lazyContent(file, start, length));
+        }
+
+        return withFileHeaders(ResponseEntity.ok(), file)
+                .contentLength(size)
+                .body(lazyContent(file, 0, size));
+    }
+
+    private static ResponseEntity.BodyBuilder withFileHeaders(ResponseEntity.BodyBuilder builder, StoredFile file) {
+        builder.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(file.contentType()));
+
+        if (file.etag() != null) {
+            builder.eTag(file.etag());
+        }
+        if (file.lastModified() != null) {
+            builder.lastModified(file.lastModified());
+        }
+        if (file.immutable()) {
+            builder.header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        } else {
+            builder.cacheControl(CacheControl.noCache().cachePrivate());
+        }
+        return builder;
+    }
+
+    /**
+     * Storage is only read when the message converter writes the body, so 304 responses
+     * produced by Spring's conditional request handling never open a storage stream.
+     */
+    private static Resource lazyContent(StoredFile file, long offset, long length) {
+        if (length == 0) {
+            return new InputStreamResource(InputStream::nullInputStream);
+        }
+        return new InputStreamResource(() -> file.reader().open(offset, length));
+    }
+
+    private static ResponseEntity<Resource> notSatisfiable(long size) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                .build();
+    }
+
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * If-Range matches when it carries our strong ETag or our exact Last-Modified date.
+     * Weak ETags never match (RFC 9110 section 13.1.5).
+     */
+    private static boolean ifRangeMatches(StoredFile file, String ifRange) {
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return file.etag() != null && value.equals("\"" + file.etag().replace("\"", "") + "\"");
+        }
+        if (file.lastModified() == null) {
+            return false;
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return date.toInstant().getEpochSecond() == file.lastModified().getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -18,17 +18,22 @@ public record AttachmentView(
         String formattedFileSize,
         String uploadedByName,
         Instant uploadedAt,
-        String downloadUrl
+        String downloadUrl,
+        String thumbnailUrl,      // JPEG thumbnail, null until generated (or for unsupported types)
+        String previewUrl         // First-page PNG preview (PDF only), null otherwise
 ) {
 
     /**
      * Create an AttachmentView from an Attachment entity.
      *
-     * @param attachment  Attachment entity
-     * @param downloadUrl Generated download URL
+     * @param attachment   Attachment entity
+     * @param downloadUrl  Generated download URL
+     * @param thumbnailUrl Generated thumbnail URL (may be null)
+     * @param previewUrl   Generated preview URL (may be null)
      * @return AttachmentView
      */
-    public static AttachmentView fromEntity(Attachment attachment, String downloadUrl) {
+    public static AttachmentView fromEntity(Attachment attachment, String downloadUrl,
+                                            String thumbnailUrl, String previewUrl) {
         return new AttachmentView(
                 attachment.getId(),
                 attachment.getOwnerType().name(),
@@ -39,7 +44,9 @@ public record AttachmentView(
                 attachment.getFormattedFileSize(),
                 attachment.getUploadedBy().getFullName(),
                 attachment.getUploadedAt(),
-                downloadUrl
+                downloadUrl,
+                thumbnailUrl,
+                previewUrl
         );
     }
 }
@@ -17,17 +17,22 @@ public record ProjectDocumentView(
         String uploadedAt,        // ISO datetime string
         String downloadUrl,       // Enriched by service
         Long sourceId,            // deliveryId, taskFlowId, or invoiceId
-        String sourceLabel        // "Delivery 2024-01-15", "Node: Design", etc.
+        String sourceLabel,       // "Delivery 2024-01-15", "Node: Design", etc.
+        String thumbnailPath,     // Internal, null until the derivative pipeline has run
+        String previewPath,       // Internal, PDF only
+        String thumbnailUrl,      // Enriched by service
+        String previewUrl         // Enriched by service
 ) {
 
     /**
-     * Create a new instance with the download URL populated.
-     * Used after MyBatis mapping to enrich with presigned URL.
+     * Create a new instance with the download, thumbnail and preview URLs populated.
+     * Used after MyBatis mapping to enrich with presigned URLs.
      */
-    public ProjectDocumentView withDownloadUrl(String url) {
+    public ProjectDocumentView withUrls(String downloadUrl, String thumbnailUrl, String previewUrl) {
         return new ProjectDocumentView(
                 id, documentType, fileName, fileType, fileSize,
-                storagePath, uploadedByName, uploadedAt, url, sourceId, sourceLabel
+                storagePath, uploadedByName, uploadedAt, downloadUrl, sourceId, sourceLabel,
+                thumbnailPath, previewPath, thumbnailUrl, previewUrl
         );
     }
 
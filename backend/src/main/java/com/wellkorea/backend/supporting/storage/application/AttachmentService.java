@@ -6,25 +6,36 @@ import com.wellkorea.backend.shared.exception.BusinessException;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
 import com.wellkorea.backend.supporting.storage.api.dto.AttachmentView;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlResponse;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
 import com.wellkorea.backend.supporting.storage.domain.Attachment;
 import com.wellkorea.backend.supporting.storage.domain.AttachmentFileType;
 import com.wellkorea.backend.supporting.storage.domain.AttachmentOwnerType;
 import com.wellkorea.backend.supporting.storage.domain.constant.AttachmentLimits;
 import com.wellkorea.backend.supporting.storage.infrastructure.FilePathGenerator;
-import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
 import com.wellkorea.backend.supporting.storage.infrastructure.persistence.AttachmentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Service for managing file attachments.
  * Provides upload URL generation, attachment registration, retrieval, and deletion.
+ * <p>
+ * Registered images and PDFs get a thumbnail (and a first-page preview for PDFs) from the
+ * {@link DerivativePipeline}; views expose them as thumbnailUrl/previewUrl once generated.
+ * <p>
+ * Registered uploads are deduplicated by {@link ContentAddressedStorage}: identical content
+ * uploaded for different owners is stored once and reference-counted.
  */
 @Service
 @Transactional
@@ -35,16 +46,22 @@ public class AttachmentService {
     private static final int UPLOAD_URL_EXPIRY_MINUTES = 15;
     private static final int DOWNLOAD_URL_EXPIRY_MINUTES = 60;
 
-    private final MinioFileStorage fileStorage;
+    private final FileStorage fileStorage;
     private final AttachmentRepository attachmentRepository;
     private final UserRepository userRepository;
+    private final DerivativePipeline derivativePipeline;
+    private final ContentAddressedStorage contentStorage;
 
-    public AttachmentService(MinioFileStorage fileStorage,
+    public AttachmentService(FileStorage fileStorage,
                              AttachmentRepository attachmentRepository,
-                             UserRepository userRepository) {
+                             UserRepository userRepository,
+                             DerivativePipeline derivativePipeline,
+                             ContentAddressedStorage contentStorage) {
         this.fileStorage = fileStorage;
         this.attachmentRepository = attachmentRepository;
         this.userRepository = userRepository;
+        this.derivativePipeline = derivativePipeline;
+        this.contentStorage = contentStorage;
     }
 
     /**
@@ -103,6 +120,19 @@ public class AttachmentService {
         return UploadUrlResponse.of(uploadUrl, objectKey);
     }
 
+    /**
+     * Hash an uploaded object ahead of {@link #registerAttachment}.
+     * Runs without a transaction; call it before the registering transaction starts.
+     *
+     * @param objectKey Storage path (returned from generateUploadUrl)
+     * @return The upload with its content hash
+     * @throws BusinessException if the file was not uploaded
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HashedUpload hashUpload(String objectKey) {
+        return contentStorage.hash(objectKey);
+    }
+
     /**
      * Register an attachment after successful upload.
      *
@@ -110,7 +140,8 @@ public class AttachmentService {
      * @param ownerId    ID of the owning entity
      * @param fileName   Original file name
      * @param fileSize   File size in bytes
-     * @param objectKey  Storage path (returned from generateUploadUrl)
+     * @param upload     Uploaded object (key returned from generateUploadUrl), hashed by
+     *                   {@link ContentAddressedStorage#hash} before the transaction
      * @param uploaderId ID of the user uploading the file
      * @return ID of the created attachment
      */
@@ -119,28 +150,32 @@ public class AttachmentService {
             Long ownerId,
             String fileName,
             Long fileSize,
-            String objectKey,
+            HashedUpload upload,
             Long uploaderId) {
 
         User uploader = userRepository.findById(uploaderId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", uploaderId));
 
-        // Verify file exists in MinIO
-        if (!fileStorage.fileExists(objectKey)) {
-            throw new BusinessException("File not found in storage. Please upload the file first.");
-        }
+        // Store content once under its hash (the upload key is removed after commit)
+        ContentAddressedStorage.StoredContent content = contentStorage.store(upload);
 
         Attachment attachment = Attachment.create(
                 ownerType,
                 ownerId,
                 fileName,
                 fileSize,
-                objectKey,
+                content.storagePath(),
+                content.contentHash(),
                 uploader
         );
 
         attachmentRepository.save(attachment);
 
+        Long attachmentId = attachment.getId();
+        derivativePipeline.generateAfterCommit(content.storagePath(), attachment.getFileType().getMimeType(),
+                derivatives -> attachmentRepository.updateDerivatives(
+                        attachmentId, derivatives.thumbnailPath(), derivatives.previewPath()));
+
         log.info("Registered attachment {} for {} {}", attachment.getId(), ownerType, ownerId);
 
         return attachment.getId();
@@ -168,9 +203,18 @@ public class AttachmentService {
      */
     @Transactional(readOnly = true)
     public List<AttachmentView> getAttachments(AttachmentOwnerType ownerType, Long ownerId) {
-        return attachmentRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId)
-                .stream()
-                .map(this::toViewWithDownloadUrl)
+        List<Attachment> attachments = attachmentRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId);
+        Map<String, String> urls = fileStorage.generatePresignedUrls(
+                attachments.stream().flatMap(AttachmentService::storedPaths).toList(),
+                DOWNLOAD_URL_EXPIRY_MINUTES,
+                TimeUnit.MINUTES
+        );
+        return attachments.stream()
+                .map(attachment -> AttachmentView.fromEntity(
+                        attachment,
+                        urls.get(attachment.getStoragePath()),
+                        urlOrNull(urls, attachment.getThumbnailPath()),
+                        urlOrNull(urls, attachment.getPreviewPath())))
                 .toList();
     }
 
@@ -216,13 +260,7 @@ public class AttachmentService {
         Attachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment", attachmentId));
 
-        // Delete from MinIO
-        try {
-            fileStorage.deleteFile(attachment.getStoragePath());
-        } catch (Exception e) {
-            log.warn("Failed to delete file from MinIO: {}", attachment.getStoragePath(), e);
-            // Continue to delete the database record even if MinIO deletion fails
-        }
+        releaseContent(List.of(attachment));
 
         // Delete from database
         attachmentRepository.delete(attachment);
@@ -239,13 +277,7 @@ public class AttachmentService {
     public void deleteAttachments(AttachmentOwnerType ownerType, Long ownerId) {
         List<Attachment> attachments = attachmentRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId);
 
-        for (Attachment attachment : attachments) {
-            try {
-                fileStorage.deleteFile(attachment.getStoragePath());
-            } catch (Exception e) {
-                log.warn("Failed to delete file from MinIO: {}", attachment.getStoragePath(), e);
-            }
-        }
+        releaseContent(attachments);
 
         attachmentRepository.deleteByOwnerTypeAndOwnerId(ownerType, ownerId);
 
@@ -265,11 +297,47 @@ public class AttachmentService {
     }
 
     private AttachmentView toViewWithDownloadUrl(Attachment attachment) {
-        String downloadUrl = fileStorage.generatePresignedUrl(
-                attachment.getStoragePath(),
+        Map<String, String> urls = fileStorage.generatePresignedUrls(
+                storedPaths(attachment).toList(),
                 DOWNLOAD_URL_EXPIRY_MINUTES,
                 TimeUnit.MINUTES
         );
-        return AttachmentView.fromEntity(attachment, downloadUrl);
+        return AttachmentView.fromEntity(
+                attachment,
+                urls.get(attachment.getStoragePath()),
+                urlOrNull(urls, attachment.getThumbnailPath()),
+                urlOrNull(urls, attachment.getPreviewPath())
+        );
+    }
+
+    /**
+     * Release stored content of attachments being deleted.
+     * Content-addressed blobs may be shared, so they only lose a reference and are left to the
+     * orphaned object collector; legacy per-upload objects (and derivatives) are deleted directly.
+     * Delete failures are logged and left to the collector; the database records are deleted regardless.
+     */
+    private void releaseContent(List<Attachment> attachments) {
+        List<String> legacyPaths = attachments.stream()
+                .filter(attachment -> attachment.getContentHash() == null)
+                .flatMap(AttachmentService::storedPaths)
+                .toList();
+        fileStorage.deleteFiles(legacyPaths);
+
+        attachments.stream()
+                .map(Attachment::getContentHash)
+                .filter(Objects::nonNull)
+                .forEach(contentStorage::release);
+    }
+
+    /**
+     * Original plus any generated derivatives.
+     */
+    private static Stream<String> storedPaths(Attachment attachment) {
+        return Stream.of(attachment.getStoragePath(), attachment.getThumbnailPath(), attachment.getPreviewPath())
+                .filter(Objects::nonNull);
+    }
+
+    private static String urlOrNull(Map<String, String> urls, String path) {
+        return path != null ? urls.get(path) : null;
     }
 }
@@ -0,0 +1,169 @@
+package com.wellkorea.backend.supporting.storage.application;
+
+import com.wellkorea.backend.shared.exception.BusinessException;
+import com.wellkorea.backend.supporting.storage.infrastructure.FilePathGenerator;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.persistence.ContentBlobRepository;
+import com.wellkorea.backend.supporting.storage.infrastructure.persistence.ContentBlobRepository.BlobReference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Deduplicating, content-addressed storage for registered attachments.
+ * <p>
+ * Registration is split in two steps:
+ * - {@link #hash}: reads the uploaded object and computes its SHA-256. Streams the whole file, so
+ * call it before the registering transaction starts instead of holding a connection meanwhile
+ * - {@link #store}: inside the registering transaction, keeps the content once under
+ * {@link FilePathGenerator#forContentBlob}; the attachment row stores that path plus the hash.
+ * New content is copied server-side to the blob path; known content gains a reference and nothing
+ * is copied. In both cases the upload key is deleted after the transaction commits.
+ * <p>
+ * Releasing the last reference keeps the blob row as a tombstone (ref_count 0, released_at set).
+ * A later upload of the same content revives it; the {@link OrphanedObjectCollector} deletes the
+ * object together with the row once the tombstone is older than its minimum age. The collector
+ * locks the tombstone rows while deleting, so a revival either waits for the delete (and then
+ * stores the content again) or makes the collector skip the blob.
+ */
+@Component
+public class ContentAddressedStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedStorage.class);
+
+    private final FileStorage fileStorage;
+    private final ContentBlobRepository blobRepository;
+    private final Counter dedupHitCounter;
+    private final Counter dedupBytesCounter;
+
+    public ContentAddressedStorage(FileStorage fileStorage,
+                                   ContentBlobRepository blobRepository,
+                                   MeterRegistry meterRegistry) {
+        this.fileStorage = fileStorage;
+        this.blobRepository = blobRepository;
+        this.dedupHitCounter = Counter.builder("storage.dedup.hits")
+                .description("Registered uploads whose content was already stored")
+                .register(meterRegistry);
+        this.dedupBytesCounter = Counter.builder("storage.dedup.saved")
+                .description("Bytes not stored thanks to deduplication")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash an uploaded object. Must be called outside any transaction: it downloads the whole object.
+     *
+     * @param uploadedKey Object key the client uploaded to
+     * @return The upload with its content hash and size, to pass to {@link #store}
+     * @throws BusinessException if the object does not exist or cannot be read
+     */
+    public HashedUpload hash(String uploadedKey) {
+        if (!fileStorage.fileExists(uploadedKey)) {
+            throw new BusinessException("File not found in storage. Please upload the file first.");
+        }
+
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        long size = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream input = fileStorage.downloadFileAsStream(uploadedKey)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                sha256.update(buffer, 0, read);
+                size += read;
+            }
+        } catch (IOException e) {
+            log.error("Failed to hash uploaded file: {}", uploadedKey, e);
+            throw new BusinessException("Failed to read uploaded file: " + e.getMessage());
+        }
+        return new HashedUpload(uploadedKey, HexFormat.of().formatHex(sha256.digest()), size);
+    }
+
+    /**
+     * Move a hashed upload into content-addressed storage and take a reference to it.
+     * Must be called inside the registering transaction.
+     *
+     * @param upload Result of {@link #hash}
+     * @return Content hash and blob path to store on the attachment row
+     */
+    public StoredContent store(HashedUpload upload) {
+        BlobReference blob = blobRepository.acquire(
+                upload.contentHash(),
+                FilePathGenerator.forContentBlob(upload.contentHash(), upload.objectKey()),
+                upload.size());
+
+        if (blob.created()) {
+            fileStorage.copyObject(upload.objectKey(), blob.storagePath());
+        } else {
+            dedupHitCounter.increment();
+            dedupBytesCounter.increment(upload.size());
+            log.info("Deduplicated upload {} -> {}", upload.objectKey(), blob.storagePath());
+        }
+        deleteAfterCommit(upload.objectKey());
+
+        return new StoredContent(upload.contentHash(), blob.storagePath());
+    }
+
+    /**
+     * Drop one reference to a blob. Must be called inside the deleting transaction.
+     *
+     * @param contentHash Content hash from the attachment row
+     */
+    public void release(String contentHash) {
+        if (blobRepository.release(contentHash)) {
+            log.info("Blob {} is no longer referenced", contentHash);
+        }
+    }
+
+    /**
+     * The upload key stays until commit so a rolled-back registration can be retried.
+     * If the delete fails, the orphaned object collector picks the key up.
+     */
+    private void deleteAfterCommit(String objectKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fileStorage.deleteFiles(List.of(objectKey));
+                }
+            });
+        } else {
+            fileStorage.deleteFiles(List.of(objectKey));
+        }
+    }
+
+    /**
+     * An uploaded object with its content hash, computed before the registering transaction.
+     *
+     * @param objectKey   Object key the client uploaded to
+     * @param contentHash Lowercase hex SHA-256 of the content
+     * @param size        Content size in bytes
+     */
+    public record HashedUpload(String objectKey, String contentHash, long size) {
+    }
+
+    /**
+     * Content-addressed location of a stored upload.
+     *
+     * @param contentHash Lowercase hex SHA-256 of the content
+     * @param storagePath Blob storage path
+     */
+    public record StoredContent(String contentHash, String storagePath) {
+    }
+}
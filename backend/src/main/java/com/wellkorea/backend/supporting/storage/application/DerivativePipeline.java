@@ -0,0 +1,177 @@
+package com.wellkorea.backend.supporting.storage.application;
+
+import com.wellkorea.backend.supporting.storage.infrastructure.DerivativeRenderer;
+import com.wellkorea.backend.supporting.storage.infrastructure.FilePathGenerator;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Background pipeline that generates thumbnails and previews for uploaded attachments.
+ * <p>
+ * Renditions (stored under {@link FilePathGenerator#DERIVATIVES_PREFIX}, mirroring the original key):
+ * - JPEG/PNG: {@value #THUMBNAIL} (downscaled JPEG)
+ * - PDF: {@value #PREVIEW} (first page as PNG) and {@value #THUMBNAIL} rendered from it
+ * - Other types (DXF, DWG): none
+ * <p>
+ * Jobs are submitted after the registering transaction commits and run on a small bounded
+ * pool, so registration latency is unaffected. When the queue is full the job is dropped;
+ * lists simply fall back to the original file for that attachment.
+ */
+@Component
+public class DerivativePipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(DerivativePipeline.class);
+
+    public static final String THUMBNAIL = "thumb.jpg";
+    public static final String PREVIEW = "preview.png";
+
+    private final FileStorage fileStorage;
+    private final DerivativeRenderer renderer;
+    private final boolean enabled;
+    private final ExecutorService executor;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedCounter;
+
+    public DerivativePipeline(FileStorage fileStorage,
+                              DerivativeRenderer renderer,
+                              MeterRegistry meterRegistry,
+                              @Value("${storage.derivatives.enabled:true}") boolean enabled,
+                              @Value("${storage.derivatives.concurrency:2}") int concurrency,
+                              @Value("${storage.derivatives.queue-capacity:200}") int queueCapacity) {
+        this.fileStorage = fileStorage;
+        this.renderer = renderer;
+        this.enabled = enabled;
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("derivatives-", 0).daemon().factory()
+        );
+
+        this.successTimer = Timer.builder("storage.derivatives")
+                .description("Derivative generation latency")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("storage.derivatives")
+                .description("Derivative generation latency")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("storage.derivatives.rejected")
+                .description("Derivative jobs dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Check whether derivatives can be generated for a MIME type.
+     */
+    public static boolean supports(String contentType) {
+        return "image/jpeg".equals(contentType)
+                || "image/png".equals(contentType)
+                || "application/pdf".equals(contentType);
+    }
+
+    /**
+     * Schedule derivative generation once the current transaction commits
+     * (immediately if no transaction is active). Nothing happens on rollback.
+     *
+     * @param storagePath Storage path of the original file
+     * @param contentType MIME type of the original file
+     * @param onGenerated Callback receiving the stored derivative paths (runs on the pipeline thread)
+     */
+    public void generateAfterCommit(String storagePath, String contentType, Consumer<Derivatives> onGenerated) {
+        if (!enabled || !supports(contentType)) {
+            return;
+        }
+        Runnable submit = () -> submit(storagePath, contentType, onGenerated);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    private void submit(String storagePath, String contentType, Consumer<Derivatives> onGenerated) {
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    Derivatives derivatives = generate(storagePath, contentType);
+                    onGenerated.accept(derivatives);
+                    successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                } catch (Exception e) {
+                    failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    log.warn("Failed to generate derivatives for {}: {}", storagePath, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Derivative queue full, skipping {}", storagePath);
+        }
+    }
+
+    /**
+     * Render and store derivatives for a stored file.
+     *
+     * @param storagePath Storage path of the original file
+     * @param contentType MIME type of the original file
+     * @return Stored derivative paths
+     * @throws Exception if the original cannot be read or rendered
+     */
+    public Derivatives generate(String storagePath, String contentType) throws Exception {
+        boolean pdf = "application/pdf".equals(contentType);
+
+        BufferedImage image;
+        try (InputStream original = fileStorage.downloadFileAsStream(storagePath)) {
+            image = pdf ? renderer.renderFirstPdfPage(original) : renderer.readImage(original);
+        }
+
+        String previewPath = null;
+        if (pdf) {
+            previewPath = FilePathGenerator.forDerivative(storagePath, PREVIEW);
+            fileStorage.uploadFile(previewPath, renderer.toPng(image), "image/png");
+        }
+        String thumbnailPath = FilePathGenerator.forDerivative(storagePath, THUMBNAIL);
+        fileStorage.uploadFile(thumbnailPath, renderer.toJpegThumbnail(image), "image/jpeg");
+
+        log.debug("Generated derivatives for {}", storagePath);
+        return new Derivatives(thumbnailPath, previewPath);
+    }
+
+    /**
+     * Storage paths of generated derivatives.
+     *
+     * @param thumbnailPath JPEG thumbnail path
+     * @param previewPath   PNG preview path (null for images)
+     */
+    public record Derivatives(String thumbnailPath, String previewPath) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.wellkorea.backend.supporting.storage.application;
 
 import com.wellkorea.backend.supporting.storage.api.dto.query.ProjectDocumentView;
-import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
 import com.wellkorea.backend.supporting.storage.infrastructure.mapper.DocumentMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,7 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Query service for unified project documents (CQRS read side).
@@ -31,9 +33,9 @@ public class DocumentQueryService {
     private static final int DOWNLOAD_URL_EXPIRY_MINUTES = 15;
 
     private final DocumentMapper documentMapper;
-    private final MinioFileStorage fileStorage;
+    private final FileStorage fileStorage;
 
-    public DocumentQueryService(DocumentMapper documentMapper, MinioFileStorage fileStorage) {
+    public DocumentQueryService(DocumentMapper documentMapper, FileStorage fileStorage) {
         this.documentMapper = documentMapper;
         this.fileStorage = fileStorage;
     }
@@ -42,7 +44,7 @@ public class DocumentQueryService {
      * Get all documents for a project.
      * <p>
      * Aggregates blueprints and delivery photos into a unified list.
-     * Each document is enriched with a presigned download URL.
+     * Each document is enriched with presigned download, thumbnail and preview URLs (signed in one batch).
      *
      * @param projectId The project ID
      * @return List of documents ordered by upload date descending
@@ -52,25 +54,23 @@ public class DocumentQueryService {
 
         List<ProjectDocumentView> documents = documentMapper.findDocumentsByProjectId(projectId);
 
-        // Enrich each document with presigned download URL
+        // Sign all URLs in one batch (cached URLs are reused)
+        Map<String, String> urls = fileStorage.generatePresignedUrls(
+                documents.stream()
+                        .flatMap(doc -> Stream.of(doc.storagePath(), doc.thumbnailPath(), doc.previewPath()))
+                        .toList(),
+                DOWNLOAD_URL_EXPIRY_MINUTES,
+                TimeUnit.MINUTES
+        );
         List<ProjectDocumentView> enrichedDocuments = documents.stream()
-                .map(this::enrichWithDownloadUrl)
+                .map(doc -> doc.withUrls(
+                        urls.get(doc.storagePath()),
+                        doc.thumbnailPath() != null ? urls.get(doc.thumbnailPath()) : null,
+                        doc.previewPath() != null ? urls.get(doc.previewPath()) : null))
                 .toList();
 
         log.debug("Found {} documents for project {}", enrichedDocuments.size(), projectId);
 
         return enrichedDocuments;
     }
-
-    /**
-     * Generate a presigned download URL for a document.
-     */
-    private ProjectDocumentView enrichWithDownloadUrl(ProjectDocumentView doc) {
-        String downloadUrl = fileStorage.generatePresignedUrl(
-                doc.storagePath(),
-                DOWNLOAD_URL_EXPIRY_MINUTES,
-                TimeUnit.MINUTES
-        );
-        return doc.withDownloadUrl(downloadUrl);
-    }
 }
@@ -0,0 +1,256 @@
+package com.wellkorea.backend.supporting.storage.application;
+
+import com.wellkorea.backend.supporting.storage.infrastructure.FilePathGenerator;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage.StoredObjectSummary;
+import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.mapper.StorageReferenceMapper;
+import com.wellkorea.backend.supporting.storage.infrastructure.persistence.ContentBlobRepository;
+import com.wellkorea.backend.supporting.storage.infrastructure.persistence.ContentBlobRepository.UntrackedBlob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scheduled reconciler that removes stored objects no database row references.
+ * <p>
+ * Orphans come from:
+ * - Presigned uploads whose registration call never arrived
+ * - Attachment deletions where the MinIO delete failed (deleteAttachment logs and continues)
+ * - Thumbnails/previews whose attachment was deleted (or whose path update was lost)
+ * - Content-addressed blobs whose last reference was released (and upload keys left behind
+ * when the post-registration delete failed)
+ * - Abandoned multipart part objects under {@link MinioFileStorage#MULTIPART_TEMP_PREFIX}
+ * <p>
+ * Each run lists the managed prefixes page by page, diffs every page against the
+ * attachment tables and deletes unreferenced objects older than the minimum age with
+ * batched DeleteObjects calls. Runs are bounded by {@code storage.gc.max-objects-per-run};
+ * the listing cursor is kept per prefix so the next run resumes where this one stopped.
+ * <p>
+ * Blob paths can be written again by a registration of the same content, so an old listing
+ * entry says nothing about the object there now. Blobs are therefore deleted only through
+ * their content_blobs tombstones, released before the cutoff and locked for the delete
+ * (see {@link ContentAddressedStorage}); blob objects without a row get a tombstone first
+ * and are deleted by a later run.
+ * <p>
+ * Concurrent runs on several nodes are harmless: only old, unreferenced objects are
+ * deleted and deletes are idempotent.
+ */
+@Component
+public class OrphanedObjectCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanedObjectCollector.class);
+
+    /**
+     * Prefixes whose objects are always owned by an attachment row.
+     */
+    private static final List<String> REFERENCED_PREFIXES =
+            List.of("attachments/", "blueprints/", FilePathGenerator.BLOBS_PREFIX, FilePathGenerator.DERIVATIVES_PREFIX);
+
+    private final FileStorage fileStorage;
+    private final StorageReferenceMapper referenceMapper;
+    private final ContentBlobRepository blobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int pageSize;
+    private final int maxObjectsPerRun;
+    private final Map<String, String> cursors = new ConcurrentHashMap<>();
+
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+    private final Counter reclaimedBytesCounter;
+    private final Counter deleteFailureCounter;
+    private final Timer runTimer;
+
+    public OrphanedObjectCollector(FileStorage fileStorage,
+                                   StorageReferenceMapper referenceMapper,
+                                   ContentBlobRepository blobRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${storage.gc.enabled:true}") boolean enabled,
+                                   @Value("${storage.gc.min-age:24h}") Duration minAge,
+                                   @Value("${storage.gc.page-size:1000}") int pageSize,
+                                   @Value("${storage.gc.max-objects-per-run:100000}") int maxObjectsPerRun) {
+        this.fileStorage = fileStorage;
+        this.referenceMapper = referenceMapper;
+        this.blobRepository = blobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.pageSize = pageSize;
+        this.maxObjectsPerRun = maxObjectsPerRun;
+
+        this.scannedCounter = Counter.builder("storage.gc.objects.scanned")
+                .description("Stored objects examined by the orphan collector")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("storage.gc.orphans.deleted")
+                .description("Orphaned stored objects deleted")
+                .register(meterRegistry);
+        this.reclaimedBytesCounter = Counter.builder("storage.gc.orphans.reclaimed")
+                .description("Bytes reclaimed by deleting orphaned objects")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.deleteFailureCounter = Counter.builder("storage.gc.delete.failures")
+                .description("Orphaned objects that could not be deleted")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("storage.gc.run")
+                .description("Duration of orphan collector runs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Nightly run (configurable via storage.gc.cron).
+     */
+    @Scheduled(cron = "${storage.gc.cron:0 30 3 * * *}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            collect(Instant.now().minus(minAge));
+        } catch (Exception e) {
+            log.error("Orphaned object collection failed", e);
+        }
+    }
+
+    /**
+     * Collect orphans last modified before the given cutoff.
+     *
+     * @param cutoff Only objects older than this instant are eligible for deletion
+     * @return Summary of the run
+     */
+    public CollectionResult collect(Instant cutoff) {
+        return runTimer.record(() -> {
+            CollectionResult total = CollectionResult.EMPTY;
+            int budget = maxObjectsPerRun;
+            for (String prefix : REFERENCED_PREFIXES) {
+                CollectionResult result = collectPrefix(prefix, cutoff, true, budget);
+                total = total.plus(result);
+                budget -= (int) result.scanned();
+            }
+            total = total.plus(collectPrefix(MinioFileStorage.MULTIPART_TEMP_PREFIX, cutoff, false, Math.max(budget, pageSize)));
+
+            log.info("Orphaned object collection finished: scanned {}, deleted {} ({} bytes), failed {}",
+                    total.scanned(), total.deleted(), total.reclaimedBytes(), total.failed());
+            return total;
+        });
+    }
+
+    private CollectionResult collectPrefix(String prefix, Instant cutoff, boolean checkReferences, int budget) {
+        CollectionResult result = CollectionResult.EMPTY;
+        String cursor = cursors.get(prefix);
+
+        while (result.scanned() < budget) {
+            List<StoredObjectSummary> page = fileStorage.listObjects(prefix, cursor, pageSize);
+            if (page.isEmpty()) {
+                cursor = null;
+                break;
+            }
+            scannedCounter.increment(page.size());
+
+            Map<String, Long> candidates = new LinkedHashMap<>();
+            for (StoredObjectSummary object : page) {
+                if (object.lastModified() != null && object.lastModified().toInstant().isBefore(cutoff)) {
+                    candidates.put(object.objectName(), object.size());
+                }
+            }
+            if (checkReferences && !candidates.isEmpty()) {
+                referenceMapper.findReferencedPaths(candidates.keySet()).forEach(candidates::remove);
+            }
+
+            long reclaimed = 0;
+            List<String> failed = FilePathGenerator.BLOBS_PREFIX.equals(prefix) && !candidates.isEmpty()
+                    ? transactionTemplate.execute(status -> deleteReleasedBlobs(candidates, cutoff))
+                    : fileStorage.deleteFiles(candidates.keySet());
+            failed.forEach(candidates::remove);
+            for (long size : candidates.values()) {
+                reclaimed += size;
+            }
+
+            deletedCounter.increment(candidates.size());
+            reclaimedBytesCounter.increment(reclaimed);
+            deleteFailureCounter.increment(failed.size());
+            result = result.plus(new CollectionResult(page.size(), candidates.size(), reclaimed, failed.size()));
+
+            cursor = page.get(page.size() - 1).objectName();
+            if (page.size() < pageSize) {
+                // Listing exhausted: next run starts from the beginning
+                cursor = null;
+                break;
+            }
+        }
+
+        if (cursor == null) {
+            cursors.remove(prefix);
+        } else {
+            cursors.put(prefix, cursor);
+        }
+        return result;
+    }
+
+    /**
+     * Delete the blob candidates whose tombstones were released before the cutoff, holding the
+     * tombstone row locks until the rows are deleted with the objects. Untracked blob objects get a
+     * tombstone instead; paths that are not blob paths at all are deleted directly.
+     * Candidates that are not deleted are removed from the map.
+     *
+     * @return Paths whose delete failed
+     */
+    private List<String> deleteReleasedBlobs(Map<String, Long> candidates, Instant cutoff) {
+        Set<String> released = new HashSet<>(blobRepository.lockReleased(candidates.keySet(), cutoff));
+        List<String> toDelete = new ArrayList<>(released);
+        List<UntrackedBlob> untracked = new ArrayList<>();
+        candidates.forEach((path, size) -> {
+            if (released.contains(path)) {
+                return;
+            }
+            String sha256 = FilePathGenerator.contentHashOf(path);
+            if (sha256 == null) {
+                toDelete.add(path);
+            } else {
+                untracked.add(new UntrackedBlob(sha256, path, size));
+            }
+        });
+        if (!untracked.isEmpty()) {
+            blobRepository.insertTombstones(untracked);
+        }
+
+        List<String> failed = fileStorage.deleteFiles(toDelete);
+        released.removeAll(failed);
+        if (!released.isEmpty()) {
+            blobRepository.deleteReleased(released);
+        }
+        candidates.keySet().retainAll(toDelete);
+        return failed;
+    }
+
+    /**
+     * Summary of a collection run.
+     */
+    public record CollectionResult(long scanned, long deleted, long reclaimedBytes, long failed) {
+
+        static final CollectionResult EMPTY = new CollectionResult(0, 0, 0, 0);
+
+        CollectionResult plus(CollectionResult other) {
+            return new CollectionResult(
+                    scanned + other.scanned,
+                    deleted + other.deleted,
+                    reclaimedBytes + other.reclaimedBytes,
+                    failed + other.failed
+            );
+        }
+    }
+}
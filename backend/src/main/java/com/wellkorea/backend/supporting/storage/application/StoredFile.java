@@ -0,0 +1,37 @@
+package com.wellkorea.backend.supporting.storage.application;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * Metadata and lazy content access for a file served through the backend download proxy.
+ * <p>
+ * Content is not read until {@link RangeReader#open} is called, so controllers can
+ * answer conditional requests (304/416) without touching object storage.
+ *
+ * @param fileName     Original file name (for Content-Disposition)
+ * @param contentType  MIME type
+ * @param size         Total size in bytes
+ * @param etag         Storage ETag (unquoted), may be null
+ * @param lastModified Last modification time, may be null
+ * @param immutable    True if the content behind this download URL never changes
+ * @param reader       Opens a stream over a byte range of the content
+ */
+public record StoredFile(
+        String fileName,
+        String contentType,
+        long size,
+        String etag,
+        Instant lastModified,
+        boolean immutable,
+        RangeReader reader
+) {
+
+    /**
+     * Opens a stream over {@code length} bytes starting at {@code offset}.
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+        InputStream open(long offset, long length);
+    }
+}
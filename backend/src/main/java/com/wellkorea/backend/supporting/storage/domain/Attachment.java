@@ -46,6 +46,10 @@ public class Attachment {
     @Column(name = "storage_path", nullable = false, length = 500)
     private String storagePath;
 
+    // SHA-256 of the content when stored content-addressed (null for pre-V19 rows)
+    @Column(name = "content_hash", length = 64, updatable = false)
+    private String contentHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by_id", nullable = false)
     private User uploadedBy;
@@ -53,19 +57,27 @@ public class Attachment {
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private Instant uploadedAt;
 
+    // Written by the derivative pipeline after commit (see AttachmentRepository#updateDerivatives)
+    @Column(name = "thumbnail_path", length = 500, insertable = false, updatable = false)
+    private String thumbnailPath;
+
+    @Column(name = "preview_path", length = 500, insertable = false, updatable = false)
+    private String previewPath;
+
     protected Attachment() {
         // JPA requires default constructor
     }
 
     private Attachment(AttachmentOwnerType ownerType, Long ownerId,
                        String fileName, AttachmentFileType fileType, Long fileSize,
-                       String storagePath, User uploadedBy) {
+                       String storagePath, String contentHash, User uploadedBy) {
         this.ownerType = ownerType;
         this.ownerId = ownerId;
         this.fileName = fileName;
         this.fileType = fileType;
         this.fileSize = fileSize;
         this.storagePath = storagePath;
+        this.contentHash = contentHash;
         this.uploadedBy = uploadedBy;
         this.uploadedAt = Instant.now();
     }
@@ -78,13 +90,14 @@ public class Attachment {
      * @param fileName    Original file name
      * @param fileSize    File size in bytes
      * @param storagePath Path in MinIO storage
+     * @param contentHash SHA-256 of the content (null if not content-addressed)
      * @param uploadedBy  User who uploaded the file
      * @return New Attachment instance
      * @throws IllegalArgumentException if validation fails
      */
     public static Attachment create(AttachmentOwnerType ownerType, Long ownerId,
                                     String fileName, long fileSize,
-                                    String storagePath, User uploadedBy) {
+                                    String storagePath, String contentHash, User uploadedBy) {
         // Validate inputs
         Objects.requireNonNull(ownerType, "Owner type is required");
         Objects.requireNonNull(ownerId, "Owner ID is required");
@@ -106,7 +119,7 @@ public class Attachment {
 
         AttachmentFileType fileType = AttachmentFileType.fromFileName(fileName);
 
-        return new Attachment(ownerType, ownerId, fileName, fileType, fileSize, storagePath, uploadedBy);
+        return new Attachment(ownerType, ownerId, fileName, fileType, fileSize, storagePath, contentHash, uploadedBy);
     }
 
     // ========== Getters ==========
@@ -139,6 +152,10 @@ public class Attachment {
         return storagePath;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
     public User getUploadedBy() {
         return uploadedBy;
     }
@@ -147,6 +164,14 @@ public class Attachment {
         return uploadedAt;
     }
 
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public String getPreviewPath() {
+        return previewPath;
+    }
+
     // ========== Helper Methods ==========
 
     /**
@@ -0,0 +1,170 @@
+package com.wellkorea.backend.supporting.storage.infrastructure;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Renders lightweight derivatives (thumbnails, previews) of uploaded images and PDFs.
+ * <p>
+ * - Images are decoded with source subsampling, so a 24MP photo is never fully
+ * materialized in memory just to produce a 320px thumbnail
+ * - PDFs are rendered page-by-page with PDFBox (already on the classpath via openhtmltopdf);
+ * only the first page is rasterized, with a main-memory cap and temp-file spill-over
+ * - Thumbnails are written as baseline JPEG, previews as PNG
+ */
+@Component
+public class DerivativeRenderer {
+
+    private static final long PDF_MAX_MAIN_MEMORY_BYTES = 16L * 1024 * 1024;
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final int thumbnailSize;
+    private final int previewWidth;
+
+    public DerivativeRenderer(
+            @Value("${storage.derivatives.thumbnail-size:320}") int thumbnailSize,
+            @Value("${storage.derivatives.preview-width:1280}") int previewWidth) {
+        this.thumbnailSize = thumbnailSize;
+        this.previewWidth = previewWidth;
+    }
+
+    /**
+     * Decode an image, subsampling large sources down to roughly twice the thumbnail size.
+     *
+     * @param input JPEG or PNG content
+     * @return Decoded (possibly subsampled) image
+     * @throws IOException if the content is not a readable image
+     */
+    public BufferedImage readImage(InputStream input) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            Iterator<ImageReader> readers = imageInput != null
+                    ? ImageIO.getImageReaders(imageInput)
+                    : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int longestEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestEdge / (thumbnailSize * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Rasterize the first page of a PDF at preview width.
+     *
+     * @param input PDF content
+     * @return First page as an RGB image
+     * @throws IOException if the content is not a readable PDF
+     */
+    public BufferedImage renderFirstPdfPage(InputStream input) throws IOException {
+        try (PDDocument document = PDDocument.load(input, MemoryUsageSetting.setupMixed(PDF_MAX_MAIN_MEMORY_BYTES))) {
+            if (document.getNumberOfPages() == 0) {
+                throw new IOException("PDF has no pages");
+            }
+            PDRectangle cropBox = document.getPage(0).getCropBox();
+            float scale = previewWidth / Math.max(cropBox.getWidth(), 1f);
+            return new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+        }
+    }
+
+    /**
+     * Downscale an image to fit the thumbnail box and encode it as JPEG.
+     * Transparent areas are flattened onto white.
+     *
+     * @param image Source image
+     * @return JPEG bytes
+     */
+    public byte[] toJpegThumbnail(BufferedImage image) throws IOException {
+        BufferedImage thumbnail = scaleToFit(image, thumbnailSize);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(thumbnail, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Encode an image as PNG.
+     *
+     * @param image Source image
+     * @return PNG bytes
+     */
+    public byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Scale into a maxEdge x maxEdge box, halving repeatedly for large reductions
+     * (single-step bilinear scaling below 50% drops too many source pixels).
+     */
+    private static BufferedImage scaleToFit(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -13,6 +13,9 @@ import java.util.UUID;
  */
 public class FilePathGenerator {
 
+    public static final String DERIVATIVES_PREFIX = "derivatives/";
+    public static final String BLOBS_PREFIX = "blobs/sha256/";
+
     private static final DateTimeFormatter YEAR_FORMATTER = DateTimeFormatter.ofPattern("yyyy");
     private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MM");
 
@@ -105,6 +108,53 @@ public class FilePathGenerator {
         );
     }
 
+    /**
+     * Generate the content-addressed path of a deduplicated blob.
+     * The first two hex digits fan blobs out over 256 directories; the extension is kept
+     * so backends that derive the content type from the key still serve the right type.
+     *
+     * @param sha256   Lowercase hex SHA-256 of the content
+     * @param fileName File name or key the extension is taken from
+     * @return File path (e.g., "blobs/sha256/9f/9f86d081...0f00a08.pdf")
+     */
+    public static String forContentBlob(String sha256, String fileName) {
+        return String.format("%s%s/%s.%s",
+                BLOBS_PREFIX,
+                sha256.substring(0, 2),
+                sha256,
+                getFileExtension(fileName)
+        );
+    }
+
+    /**
+     * Parse the content hash back out of a blob path generated by {@link #forContentBlob}.
+     *
+     * @param blobPath Storage path under {@link #BLOBS_PREFIX}
+     * @return Lowercase hex SHA-256, or null if the path is not a blob path
+     */
+    public static String contentHashOf(String blobPath) {
+        if (!blobPath.startsWith(BLOBS_PREFIX)) {
+            return null;
+        }
+        String name = blobPath.substring(blobPath.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        String sha256 = dot < 0 ? name : name.substring(0, dot);
+        return sha256.matches("[0-9a-f]{64}") ? sha256 : null;
+    }
+
+    /**
+     * Generate a file path for a derived rendition (thumbnail, preview) of a stored file.
+     * Derivatives mirror the original key under their own prefix, so they can never
+     * collide with user-supplied file names.
+     *
+     * @param originalPath Storage path of the original file
+     * @param rendition    Rendition file name (e.g., "thumb.jpg", "preview.png")
+     * @return File path (e.g., "derivatives/attachments/delivery/42/photo-abc123.jpg/thumb.jpg")
+     */
+    public static String forDerivative(String originalPath, String rendition) {
+        return DERIVATIVES_PREFIX + originalPath + "/" + rendition;
+    }
+
     /**
      * Generate a file path for temporary files.
      * Temporary files should be cleaned up after processing.
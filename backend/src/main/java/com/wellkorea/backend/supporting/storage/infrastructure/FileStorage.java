@@ -0,0 +1,176 @@
+package com.wellkorea.backend.supporting.storage.infrastructure;
+
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object storage abstraction for documents and attachments.
+ * <p>
+ * Implementations (selected by {@code storage.provider}):
+ * - {@link MinioFileStorage}: S3-compatible object storage (default, "minio")
+ * - {@link LocalFileStorage}: local filesystem with signed application URLs ("local"),
+ * for single-node installs and container-free tests
+ * <p>
+ * Object names are slash-separated keys (e.g., "attachments/delivery/42/photo-abc123.jpg").
+ * All operations throw {@link com.wellkorea.backend.shared.exception.BusinessException}
+ * on storage failures unless documented otherwise.
+ */
+public interface FileStorage {
+
+    /**
+     * Upload a file.
+     *
+     * @param objectName  Object key (e.g., "quotations/2025/Q-001.pdf")
+     * @param data        File content as byte array
+     * @param contentType MIME type (e.g., "application/pdf", "application/vnd.ms-excel")
+     * @return Object name (path) of the uploaded file
+     */
+    String uploadFile(String objectName, byte[] data, String contentType);
+
+    /**
+     * Upload a file from InputStream (for large files or streaming uploads).
+     *
+     * @param objectName  Object key
+     * @param inputStream File content stream
+     * @param size        File size in bytes (-1 if unknown)
+     * @param contentType MIME type
+     * @return Object name (path) of the uploaded file
+     */
+    String uploadFile(String objectName, InputStream inputStream, long size, String contentType);
+
+    /**
+     * Download a file.
+     *
+     * @param objectName Object key
+     * @return File content as byte array
+     */
+    byte[] downloadFile(String objectName);
+
+    /**
+     * Download a file as InputStream (for large files or streaming downloads).
+     * The caller must close the returned stream.
+     *
+     * @param objectName Object key
+     * @return InputStream of file content
+     */
+    InputStream downloadFileAsStream(String objectName);
+
+    /**
+     * Download a byte range of a file as InputStream (for streaming HTTP Range responses).
+     * The caller must close the returned stream.
+     *
+     * @param objectName Object key
+     * @param offset     First byte to read (0-based)
+     * @param length     Number of bytes to read
+     * @return InputStream of the requested range
+     */
+    InputStream downloadRangeAsStream(String objectName, long offset, long length);
+
+    /**
+     * Copy an object to a new key without passing its content through the application
+     * where the backend supports it. An existing target is overwritten.
+     *
+     * @param sourceObjectName Object key to copy
+     * @param targetObjectName Destination object key
+     */
+    void copyObject(String sourceObjectName, String targetObjectName);
+
+    /**
+     * Delete a file.
+     *
+     * @param objectName Object key
+     */
+    void deleteFile(String objectName);
+
+    /**
+     * Delete many files. Never throws; failures are logged and returned.
+     *
+     * @param objectNames Object keys
+     * @return Object names that could not be deleted (empty if all succeeded)
+     */
+    List<String> deleteFiles(Collection<String> objectNames);
+
+    /**
+     * List one page of objects under a prefix, in key order.
+     * Pass the last returned object name as {@code startAfter} to fetch the next page.
+     *
+     * @param prefix     Key prefix (e.g., "attachments/")
+     * @param startAfter List keys strictly after this one (null to start at the beginning)
+     * @param maxKeys    Maximum number of objects to return
+     * @return Objects in the page (fewer than maxKeys means the listing is exhausted)
+     */
+    List<StoredObjectSummary> listObjects(String prefix, String startAfter, int maxKeys);
+
+    /**
+     * Check if a file exists.
+     *
+     * @param objectName Object key
+     * @return true if file exists, false otherwise
+     */
+    boolean fileExists(String objectName);
+
+    /**
+     * Generate a time-limited URL for direct file download (GET),
+     * so clients can download without proxying through the backend.
+     *
+     * @param objectName     Object key
+     * @param expiryDuration Expiry duration
+     * @param expiryUnit     Expiry time unit
+     * @return Download URL (valid for at least half the specified duration)
+     */
+    String generatePresignedUrl(String objectName, int expiryDuration, TimeUnit expiryUnit);
+
+    /**
+     * Generate download URLs for many objects in one call.
+     *
+     * @param objectNames    Object keys (duplicates and nulls are ignored)
+     * @param expiryDuration Expiry duration
+     * @param expiryUnit     Expiry time unit
+     * @return Map of objectName to download URL
+     */
+    Map<String, String> generatePresignedUrls(Collection<String> objectNames, int expiryDuration, TimeUnit expiryUnit);
+
+    /**
+     * Generate a time-limited URL for direct file upload (PUT).
+     *
+     * @param objectName     Object key
+     * @param expiryDuration Expiry duration
+     * @param expiryUnit     Expiry time unit
+     * @return Upload URL (valid for specified duration)
+     */
+    String generatePresignedUploadUrl(String objectName, int expiryDuration, TimeUnit expiryUnit);
+
+    /**
+     * Get file metadata (size, content type, last modified, ETag).
+     *
+     * @param objectName Object key
+     * @return FileMetadata object
+     */
+    FileMetadata getFileMetadata(String objectName);
+
+    /**
+     * File metadata record.
+     */
+    record FileMetadata(
+            String objectName,
+            long size,
+            String contentType,
+            ZonedDateTime lastModified,
+            String etag
+    ) {
+    }
+
+    /**
+     * Object listing entry.
+     */
+    record StoredObjectSummary(
+            String objectName,
+            long size,
+            ZonedDateTime lastModified
+    ) {
+    }
+}
@@ -0,0 +1,444 @@
+package com.wellkorea.backend.supporting.storage.infrastructure;
+
+import com.wellkorea.backend.shared.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Local-filesystem {@link FileStorage} backend ({@code storage.provider=local}).
+ * <p>
+ * For single-node installs without MinIO, and for tests/benchmarks without a container.
+ * - Object keys map to files under {@code storage.local.root-dir}; keys escaping the root are rejected
+ * - Writes go to a temp file in the target directory, are fsynced, then atomically renamed
+ * into place, so readers never see partial files
+ * - Presigned URLs are HMAC-signed application URLs served by {@code LocalFileController}
+ * ({@value #URL_PATH_PREFIX}{key}?expires=...&signature=...); downloads use
+ * {@link FileChannel#transferTo} (or the servlet container's sendfile when available)
+ * <p>
+ * Content type is derived from the file extension; the type passed on upload is not persisted.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.provider", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalFileStorage.class);
+
+    public static final String URL_PATH_PREFIX = "/api/files/";
+    private static final String TEMP_FILE_PREFIX = ".upload-";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Path rootDir;
+    private final String baseUrl;
+    private final SecretKeySpec signingKey;
+
+    public LocalFileStorage(
+            @Value("${storage.local.root-dir:./data/storage}") String rootDir,
+            @Value("${storage.local.signing-secret:}") String signingSecret,
+            @Value("${app.base-url:http://localhost:8080}") String baseUrl) {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+
+        byte[] secret;
+        if (signingSecret == null || signingSecret.isBlank()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            log.warn("storage.local.signing-secret is not set; using a random key (signed URLs will not survive a restart)");
+        } else {
+            secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+
+        try {
+            Files.createDirectories(this.rootDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create local storage directory: " + this.rootDir, e);
+        }
+        log.info("Using local file storage at {}", this.rootDir);
+    }
+
+    @Override
+    public String uploadFile(String objectName, byte[] data, String contentType) {
+        return writeAtomically(objectName, tempFile -> {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+        });
+    }
+
+    @Override
+    public String uploadFile(String objectName, InputStream inputStream, long size, String contentType) {
+        return writeAtomically(objectName, tempFile -> {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(inputStream)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, 1L << 20)) > 0) {
+                    position += transferred;
+                }
+                if (size >= 0 && position != size) {
+                    throw new IOException("Expected " + size + " bytes but received " + position);
+                }
+                channel.force(true);
+            }
+        });
+    }
+
+    private String writeAtomically(String objectName, TempFileWriter writer) {
+        Path target = resolvePath(objectName);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(target.getParent());
+            tempFile = Files.createTempFile(target.getParent(), TEMP_FILE_PREFIX, ".tmp");
+            writer.write(tempFile);
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("Stored file locally: {} (size: {} bytes)", objectName, Files.size(target));
+            return objectName;
+        } catch (IOException e) {
+            log.error("Failed to store file locally: {}", objectName, e);
+            throw new BusinessException("Failed to upload file: " + e.getMessage());
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.warn("Failed to remove temp file: {}", tempFile);
+                }
+            }
+        }
+    }
+
+    @Override
+    public byte[] downloadFile(String objectName) {
+        try {
+            return Files.readAllBytes(existingPath(objectName));
+        } catch (IOException e) {
+            log.error("Failed to read local file: {}", objectName, e);
+            throw new BusinessException("Failed to download file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream downloadFileAsStream(String objectName) {
+        try {
+            return Files.newInputStream(existingPath(objectName));
+        } catch (IOException e) {
+            log.error("Failed to open local file: {}", objectName, e);
+            throw new BusinessException("Failed to download file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream downloadRangeAsStream(String objectName, long offset, long length) {
+        try {
+            FileChannel channel = FileChannel.open(existingPath(objectName), StandardOpenOption.READ);
+            channel.position(offset);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            log.error("Failed to open local file range: {} (offset: {}, length: {})", objectName, offset, length, e);
+            throw new BusinessException("Failed to download file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copy a byte range of a file to a channel with {@link FileChannel#transferTo},
+     * letting the kernel move the bytes when the target supports it.
+     *
+     * @param objectName Object key
+     * @param offset     First byte to send (0-based)
+     * @param length     Number of bytes to send
+     * @param target     Destination channel (not closed)
+     */
+    public void transferTo(String objectName, long offset, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(existingPath(objectName), StandardOpenOption.READ)) {
+            long position = offset;
+            long end = offset + length;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+
+    @Override
+    public void copyObject(String sourceObjectName, String targetObjectName) {
+        Path source = resolvePath(sourceObjectName);
+        writeAtomically(targetObjectName, tempFile -> {
+            Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        });
+    }
+
+    @Override
+    public void deleteFile(String objectName) {
+        try {
+            Files.deleteIfExists(resolvePath(objectName));
+            log.info("Deleted local file: {}", objectName);
+        } catch (IOException e) {
+            log.error("Failed to delete local file: {}", objectName, e);
+            throw new BusinessException("Failed to delete file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> deleteFiles(Collection<String> objectNames) {
+        List<String> failed = new ArrayList<>();
+        for (String objectName : objectNames) {
+            try {
+                Files.deleteIfExists(resolvePath(objectName));
+            } catch (IOException | BusinessException e) {
+                log.warn("Failed to delete local file: {} ({})", objectName, e.getMessage());
+                failed.add(objectName);
+            }
+        }
+        if (!objectNames.isEmpty()) {
+            log.info("Deleted {} local files", objectNames.size() - failed.size());
+        }
+        return failed;
+    }
+
+    /**
+     * Walks the deepest directory covering the prefix and sorts matching keys, so each page
+     * costs a directory scan. Fine for single-node volumes; large buckets belong on MinIO.
+     */
+    @Override
+    public List<StoredObjectSummary> listObjects(String prefix, String startAfter, int maxKeys) {
+        int lastSlash = prefix.lastIndexOf('/');
+        Path baseDir = lastSlash >= 0 ? resolvePath(prefix.substring(0, lastSlash)) : rootDir;
+        if (!Files.isDirectory(baseDir)) {
+            return List.of();
+        }
+
+        TreeMap<String, StoredObjectSummary> page = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            files.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_FILE_PREFIX))
+                    .forEach(path -> {
+                        String key = toKey(path);
+                        if (!key.startsWith(prefix) || (startAfter != null && key.compareTo(startAfter) <= 0)) {
+                            return;
+                        }
+                        if (page.size() >= maxKeys) {
+                            if (key.compareTo(page.lastKey()) >= 0) {
+                                return;
+                            }
+                            page.pollLastEntry();
+                        }
+                        page.put(key, summarize(key, path));
+                    });
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to list local files under prefix: {}", prefix, e);
+            throw new BusinessException("Failed to list files: " + e.getMessage());
+        }
+        return new ArrayList<>(page.values());
+    }
+
+    @Override
+    public boolean fileExists(String objectName) {
+        return Files.isRegularFile(resolvePath(objectName));
+    }
+
+    @Override
+    public String generatePresignedUrl(String objectName, int expiryDuration, TimeUnit expiryUnit) {
+        return signedUrl("GET", objectName, expiryDuration, expiryUnit);
+    }
+
+    @Override
+    public Map<String, String> generatePresignedUrls(Collection<String> objectNames, int expiryDuration,
+                                                     TimeUnit expiryUnit) {
+        Map<String, String> urls = new HashMap<>();
+        for (String objectName : objectNames) {
+            if (objectName != null) {
+                urls.computeIfAbsent(objectName, name -> signedUrl("GET", name, expiryDuration, expiryUnit));
+            }
+        }
+        return urls;
+    }
+
+    @Override
+    public String generatePresignedUploadUrl(String objectName, int expiryDuration, TimeUnit expiryUnit) {
+        return signedUrl("PUT", objectName, expiryDuration, expiryUnit);
+    }
+
+    @Override
+    public FileMetadata getFileMetadata(String objectName) {
+        try {
+            Path path = existingPath(objectName);
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+            return new FileMetadata(
+                    objectName,
+                    attributes.size(),
+                    contentTypeOf(objectName),
+                    ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModifiedMillis), ZoneOffset.UTC),
+                    Long.toHexString(lastModifiedMillis) + "-" + Long.toHexString(attributes.size())
+            );
+        } catch (IOException e) {
+            log.error("Failed to get local file metadata: {}", objectName, e);
+            throw new BusinessException("Failed to get file metadata: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Verify a signed URL produced by this storage.
+     *
+     * @param method     HTTP method the URL was signed for ("GET" or "PUT")
+     * @param objectName Object key
+     * @param expires    Expiry (epoch seconds)
+     * @param signature  Signature from the URL
+     * @return true if the signature matches and the URL has not expired
+     */
+    public boolean verifySignature(String method, String objectName, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(method, objectName, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Resolve an object key to its file, rejecting keys that escape the storage root.
+     *
+     * @param objectName Object key
+     * @return Absolute file path
+     */
+    public Path resolvePath(String objectName) {
+        Path path = rootDir.resolve(objectName).normalize();
+        if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+            throw new BusinessException("Invalid storage path: " + objectName);
+        }
+        return path;
+    }
+
+    /**
+     * Content type for an object key, derived from its extension.
+     */
+    public String contentTypeOf(String objectName) {
+        return MediaTypeFactory.getMediaType(objectName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    private Path existingPath(String objectName) throws NoSuchFileException {
+        Path path = resolvePath(objectName);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchFileException(objectName);
+        }
+        return path;
+    }
+
+    private String toKey(Path path) {
+        return rootDir.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private StoredObjectSummary summarize(String key, Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new StoredObjectSummary(key, attributes.size(),
+                    ZonedDateTime.ofInstant(attributes.lastModifiedTime().toInstant(), ZoneOffset.UTC));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String signedUrl(String method, String objectName, int expiryDuration, TimeUnit expiryUnit) {
+        long expires = Instant.now().getEpochSecond() + expiryUnit.toSeconds(expiryDuration);
+        return UriComponentsBuilder.fromUriString(baseUrl + URL_PATH_PREFIX)
+                .path(objectName)
+                .queryParam("expires", expires)
+                .queryParam("signature", sign(method, objectName, expires))
+                .encode()
+                .toUriString();
+    }
+
+    private String sign(String method, String objectName, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((method + "\n" + objectName + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TempFileWriter {
+        void write(Path tempFile) throws IOException;
+    }
+
+    /**
+     * Stops reading after {@code remaining} bytes.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+    }
+}
@@ -1,16 +1,42 @@
 package com.wellkorea.backend.supporting.storage.infrastructure;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.wellkorea.backend.shared.exception.BusinessException;
 import io.minio.*;
 import io.minio.errors.ErrorResponseException;
 import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -23,39 +49,110 @@ import java.util.concurrent.TimeUnit;
  * - User-uploaded attachments
  * <p>
  * Thread-safe and supports all major file operations required by the ERP system.
+ * Default {@link FileStorage} backend ({@code storage.provider=minio}).
+ * The bucket is checked after startup and again before the first write, never in the constructor.
+ * <p>
+ * Presigned download URLs are cached per (objectName, expiry) and reused for at most
+ * half of their lifetime, so every URL handed out stays valid for at least half the
+ * requested expiry. Use {@link #generatePresignedUrls} to sign lists in one call.
+ * <p>
+ * Server-side uploads at or above the multipart threshold (or of unknown size) are split
+ * into parts that are uploaded concurrently under {@value #MULTIPART_TEMP_PREFIX} and then
+ * composed server-side into the final object. A SHA-256 of the content is computed while
+ * reading and stored as the {@value #SHA256_METADATA} user metadata.
  */
 @Service
-public class MinioFileStorage {
+@ConditionalOnProperty(name = "storage.provider", havingValue = "minio", matchIfMissing = true)
+public class MinioFileStorage implements FileStorage {
 
     private static final Logger log = LoggerFactory.getLogger(MinioFileStorage.class);
 
+    private static final int PRESIGNED_URL_CACHE_MAX_SIZE = 20_000;
+    private static final double PRESIGNED_URL_REUSE_FRACTION = 0.5;
+
+    /**
+     * Prefix for temporary part objects of in-flight multipart uploads.
+     */
+    public static final String MULTIPART_TEMP_PREFIX = "tmp/multipart/";
+    public static final String SHA256_METADATA = "sha256";
+    // S3 compose (UploadPartCopy) requires every source except the last to be at least 5 MiB
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
     private final MinioClient minioClient;
     private final String bucketName;
+    private final Cache<PresignedUrlKey, String> presignedUrlCache;
+    private final int multipartPartSize;
+    private final long multipartThreshold;
+    private final int multipartConcurrency;
+    private final ExecutorService multipartExecutor;
+    private volatile boolean bucketReady;
 
     public MinioFileStorage(
             @Value("${minio.url}") String minioUrl,
             @Value("${minio.access-key}") String accessKey,
             @Value("${minio.secret-key}") String secretKey,
-            @Value("${minio.bucket-name}") String bucketName) {
+            @Value("${minio.bucket-name}") String bucketName,
+            @Value("${minio.region:}") String region,
+            @Value("${minio.multipart.part-size:16MB}") DataSize multipartPartSize,
+            @Value("${minio.multipart.threshold:64MB}") DataSize multipartThreshold,
+            @Value("${minio.multipart.concurrency:4}") int multipartConcurrency) {
 
         // Single client for all MinIO operations
         // In Docker: uses minio.local hostname (resolvable both inside Docker and from browser via /etc/hosts)
         // In local dev: uses localhost
-        this.minioClient = MinioClient.builder()
+        MinioClient.Builder clientBuilder = MinioClient.builder()
                 .endpoint(minioUrl)
-                .credentials(accessKey, secretKey)
-                .build();
+                .credentials(accessKey, secretKey);
+        // Fixed region skips the GetBucketLocation lookup before signing
+        if (region != null && !region.isBlank()) {
+            clientBuilder.region(region);
+        }
+        this.minioClient = clientBuilder.build();
 
         this.bucketName = bucketName;
+        this.presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(PRESIGNED_URL_CACHE_MAX_SIZE)
+                .expireAfter(new PresignedUrlExpiry())
+                .build();
 
-        ensureBucketExists();
+        this.multipartPartSize = (int) Math.max(MIN_PART_SIZE, multipartPartSize.toBytes());
+        this.multipartThreshold = Math.max(this.multipartPartSize, multipartThreshold.toBytes());
+        this.multipartConcurrency = Math.max(1, multipartConcurrency);
+        this.multipartExecutor = Executors.newFixedThreadPool(this.multipartConcurrency,
+                Thread.ofPlatform().name("minio-multipart-", 0).daemon().factory());
+    }
+
+    /**
+     * Check the bucket once the application is up, instead of in the constructor,
+     * so a slow or unavailable MinIO does not block or fail startup.
+     * If this fails, the check is retried on the next write.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void initializeBucket() {
+        try {
+            ensureBucketExists();
+        } catch (BusinessException e) {
+            log.warn("MinIO bucket check failed at startup, will retry on first write: {}", e.getMessage());
+        }
     }
 
     /**
      * Ensure the configured bucket exists, create if not.
-     * Called during service initialization.
+     * Runs at most once successfully; writes call this before touching the bucket.
      */
     private void ensureBucketExists() {
+        if (bucketReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!bucketReady) {
+                checkOrCreateBucket();
+                bucketReady = true;
+            }
+        }
+    }
+
+    private void checkOrCreateBucket() {
         try {
             boolean exists = minioClient.bucketExists(
                     BucketExistsArgs.builder().bucket(bucketName).build()
@@ -83,7 +180,12 @@ public class MinioFileStorage {
      * @param contentType MIME type (e.g., "application/pdf", "application/vnd.ms-excel")
      * @return Object name (path) of the uploaded file
      */
+    @Override
     public String uploadFile(String objectName, byte[] data, String contentType) {
+        ensureBucketExists();
+        if (data.length >= multipartThreshold) {
+            return uploadMultipart(objectName, new ByteArrayInputStream(data), contentType);
+        }
         try (InputStream inputStream = new ByteArrayInputStream(data)) {
             minioClient.putObject(
                     PutObjectArgs.builder()
@@ -105,6 +207,7 @@ public class MinioFileStorage {
 
     /**
      * Upload a file from InputStream (for large files or streaming uploads).
+     * Unknown-size and large streams use the parallel multipart path.
      *
      * @param objectName  File path/name in MinIO
      * @param inputStream File content stream
@@ -112,7 +215,12 @@ public class MinioFileStorage {
      * @param contentType MIME type
      * @return Object name (path) of the uploaded file
      */
+    @Override
     public String uploadFile(String objectName, InputStream inputStream, long size, String contentType) {
+        ensureBucketExists();
+        if (size < 0 || size >= multipartThreshold) {
+            return uploadMultipart(objectName, inputStream, contentType);
+        }
         try {
             minioClient.putObject(
                     PutObjectArgs.builder()
@@ -132,12 +240,133 @@ public class MinioFileStorage {
         }
     }
 
+    /**
+     * Parallel multipart upload: parts of {@code multipartPartSize} are uploaded concurrently
+     * (at most {@code multipartConcurrency} in flight) as temporary objects, then composed
+     * server-side into {@code objectName}. Temporary parts are always removed afterwards.
+     */
+    private String uploadMultipart(String objectName, InputStream inputStream, String contentType) {
+        String partPrefix = MULTIPART_TEMP_PREFIX + UUID.randomUUID() + "/";
+        MessageDigest sha256 = newSha256();
+        Semaphore inFlight = new Semaphore(multipartConcurrency);
+        List<String> partNames = new ArrayList<>();
+        List<CompletableFuture<Void>> partUploads = new ArrayList<>();
+        long totalSize = 0;
+
+        try {
+            byte[] chunk = inputStream.readNBytes(multipartPartSize);
+            while (chunk.length > 0) {
+                sha256.update(chunk);
+                totalSize += chunk.length;
+                byte[] next = chunk.length == multipartPartSize ? inputStream.readNBytes(multipartPartSize) : new byte[0];
+
+                if (partNames.isEmpty() && next.length == 0) {
+                    // Whole stream fit into a single part: plain single-request upload
+                    putObject(objectName, chunk, contentType, Map.of(SHA256_METADATA, HexFormat.of().formatHex(sha256.digest())));
+                    log.info("Uploaded file to MinIO: {} (size: {} bytes)", objectName, totalSize);
+                    return objectName;
+                }
+
+                String partName = partPrefix + String.format("part-%05d", partNames.size() + 1);
+                partNames.add(partName);
+                inFlight.acquire();
+                if (partUploads.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    inFlight.release();
+                    break;
+                }
+                byte[] partData = chunk;
+                partUploads.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        putObject(partName, partData, "application/octet-stream", Map.of());
+                    } finally {
+                        inFlight.release();
+                    }
+                }, multipartExecutor));
+                chunk = next;
+            }
+
+            CompletableFuture.allOf(partUploads.toArray(CompletableFuture[]::new)).join();
+
+            String checksum = HexFormat.of().formatHex(sha256.digest());
+            if (partNames.isEmpty()) {
+                putObject(objectName, new byte[0], contentType, Map.of(SHA256_METADATA, checksum));
+            } else {
+                minioClient.composeObject(
+                        ComposeObjectArgs.builder()
+                                .bucket(bucketName)
+                                .object(objectName)
+                                .sources(partNames.stream()
+                                        .map(name -> ComposeSource.builder().bucket(bucketName).object(name).build())
+                                        .toList())
+                                // Map.of rejects null; putObject applies the same default for a null type
+                                .headers(Map.of("Content-Type", contentType != null ? contentType : "application/octet-stream"))
+                                .userMetadata(Map.of(SHA256_METADATA, checksum))
+                                .build()
+                );
+            }
+
+            log.info("Uploaded file to MinIO via multipart: {} (size: {} bytes, parts: {}, sha256: {})",
+                    objectName, totalSize, partNames.size(), checksum);
+            return objectName;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Upload interrupted: " + objectName);
+        } catch (Exception e) {
+            log.error("Failed to upload file to MinIO via multipart: {}", objectName, e);
+            throw new BusinessException("Failed to upload file: " + e.getMessage());
+        } finally {
+            // Let in-flight parts settle before removing them
+            CompletableFuture.allOf(partUploads.toArray(CompletableFuture[]::new))
+                    .exceptionally(ex -> null)
+                    .join();
+            removeObjectsQuietly(partNames);
+        }
+    }
+
+    private void putObject(String objectName, byte[] data, String contentType, Map<String, String> userMetadata) {
+        try (InputStream inputStream = new ByteArrayInputStream(data)) {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .stream(inputStream, data.length, -1)
+                            .contentType(contentType)
+                            .userMetadata(userMetadata)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw new BusinessException("Failed to upload " + objectName + ": " + e.getMessage());
+        }
+    }
+
+    private void removeObjectsQuietly(List<String> objectNames) {
+        List<String> failed = deleteFiles(objectNames);
+        if (!failed.isEmpty()) {
+            log.warn("Failed to remove {} temporary multipart objects: {}", failed.size(), failed);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        multipartExecutor.shutdown();
+    }
+
     /**
      * Download a file from MinIO.
      *
      * @param objectName File path/name in MinIO
      * @return File content as byte array
      */
+    @Override
     public byte[] downloadFile(String objectName) {
         try (InputStream stream = minioClient.getObject(
                 GetObjectArgs.builder()
@@ -161,6 +390,7 @@ public class MinioFileStorage {
      * @param objectName File path/name in MinIO
      * @return InputStream of file content
      */
+    @Override
     public InputStream downloadFileAsStream(String objectName) {
         try {
             return minioClient.getObject(
@@ -175,11 +405,68 @@ public class MinioFileStorage {
         }
     }
 
+    /**
+     * Download a byte range of a file as InputStream (for streaming HTTP Range responses).
+     * The caller must close the returned stream.
+     *
+     * @param objectName File path/name in MinIO
+     * @param offset     First byte to read (0-based)
+     * @param length     Number of bytes to read
+     * @return InputStream of the requested range
+     */
+    @Override
+    public InputStream downloadRangeAsStream(String objectName, long offset, long length) {
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .offset(offset)
+                            .length(length)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("Failed to download file range from MinIO: {} (offset: {}, length: {})",
+                    objectName, offset, length, e);
+            throw new BusinessException("Failed to download file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Server-side copy within the bucket (content and metadata, no data through the backend).
+     *
+     * @param sourceObjectName Source object key
+     * @param targetObjectName Destination object key
+     */
+    @Override
+    public void copyObject(String sourceObjectName, String targetObjectName) {
+        ensureBucketExists();
+        try {
+            minioClient.copyObject(
+                    CopyObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(targetObjectName)
+                            .source(CopySource.builder()
+                                    .bucket(bucketName)
+                                    .object(sourceObjectName)
+                                    .build())
+                            .build()
+            );
+
+            log.info("Copied file in MinIO: {} -> {}", sourceObjectName, targetObjectName);
+
+        } catch (Exception e) {
+            log.error("Failed to copy file in MinIO: {} -> {}", sourceObjectName, targetObjectName, e);
+            throw new BusinessException("Failed to copy file: " + e.getMessage());
+        }
+    }
+
     /**
      * Delete a file from MinIO.
      *
      * @param objectName File path/name in MinIO
      */
+    @Override
     public void deleteFile(String objectName) {
         try {
             minioClient.removeObject(
@@ -197,12 +484,85 @@ public class MinioFileStorage {
         }
     }
 
+    /**
+     * Delete many files in batched DeleteObjects requests (up to 1000 keys per request).
+     *
+     * @param objectNames File paths/names in MinIO
+     * @return Object names that could not be deleted (empty if all succeeded)
+     */
+    @Override
+    public List<String> deleteFiles(Collection<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return List.of();
+        }
+        List<String> failed = new ArrayList<>();
+        try {
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(bucketName)
+                            .objects(objectNames.stream().map(DeleteObject::new).toList())
+                            .build()
+            );
+            // removeObjects is lazy: iterating the results performs the deletion
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                log.warn("Failed to delete file from MinIO: {} ({})", error.objectName(), error.message());
+                failed.add(error.objectName());
+            }
+        } catch (Exception e) {
+            log.error("Failed to batch delete {} files from MinIO", objectNames.size(), e);
+            return new ArrayList<>(objectNames);
+        }
+        log.info("Deleted {} files from MinIO", objectNames.size() - failed.size());
+        return failed;
+    }
+
+    /**
+     * List one page of objects under a prefix, in key order.
+     * Pass the last returned object name as {@code startAfter} to fetch the next page.
+     *
+     * @param prefix     Key prefix (e.g., "attachments/")
+     * @param startAfter List keys strictly after this one (null to start at the beginning)
+     * @param maxKeys    Maximum number of objects to return
+     * @return Objects in the page (fewer than maxKeys means the listing is exhausted)
+     */
+    @Override
+    public List<StoredObjectSummary> listObjects(String prefix, String startAfter, int maxKeys) {
+        ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .recursive(true)
+                .maxKeys(maxKeys);
+        if (startAfter != null) {
+            args.startAfter(startAfter);
+        }
+
+        List<StoredObjectSummary> page = new ArrayList<>(maxKeys);
+        try {
+            for (Result<Item> result : minioClient.listObjects(args.build())) {
+                Item item = result.get();
+                if (item.isDir()) {
+                    continue;
+                }
+                page.add(new StoredObjectSummary(item.objectName(), item.size(), item.lastModified()));
+                if (page.size() >= maxKeys) {
+                    break;
+                }
+            }
+            return page;
+        } catch (Exception e) {
+            log.error("Failed to list MinIO objects under prefix: {}", prefix, e);
+            throw new BusinessException("Failed to list files: " + e.getMessage());
+        }
+    }
+
     /**
      * Check if a file exists in MinIO.
      *
      * @param objectName File path/name in MinIO
      * @return true if file exists, false otherwise
      */
+    @Override
     public boolean fileExists(String objectName) {
         try {
             minioClient.statObject(
@@ -229,30 +589,72 @@ public class MinioFileStorage {
     /**
      * Generate a presigned URL for temporary file access (GET).
      * Useful for allowing clients to download files directly without proxying through backend.
+     * Served from the presigned URL cache when a sufficiently fresh URL exists.
      *
      * @param objectName     File path/name in MinIO
      * @param expiryDuration Expiry duration
      * @param expiryUnit     Expiry time unit
-     * @return Presigned URL (valid for specified duration)
+     * @return Presigned URL (valid for at least half the specified duration)
      */
+    @Override
     public String generatePresignedUrl(String objectName, int expiryDuration, TimeUnit expiryUnit) {
-        try {
-            int expirySeconds = (int) expiryUnit.toSeconds(expiryDuration);
+        int expirySeconds = (int) expiryUnit.toSeconds(expiryDuration);
+        return presignedUrlCache.get(new PresignedUrlKey(objectName, expirySeconds), this::signGetUrl);
+    }
+
+    /**
+     * Generate presigned GET URLs for many objects in one call.
+     * Cached URLs are reused; only cache misses are signed.
+     *
+     * @param objectNames    File paths/names in MinIO (duplicates and nulls are ignored)
+     * @param expiryDuration Expiry duration
+     * @param expiryUnit     Expiry time unit
+     * @return Map of objectName to presigned URL
+     */
+    @Override
+    public Map<String, String> generatePresignedUrls(Collection<String> objectNames, int expiryDuration,
+                                                     TimeUnit expiryUnit) {
+        int expirySeconds = (int) expiryUnit.toSeconds(expiryDuration);
+        Set<PresignedUrlKey> keys = new LinkedHashSet<>();
+        for (String objectName : objectNames) {
+            if (objectName != null) {
+                keys.add(new PresignedUrlKey(objectName, expirySeconds));
+            }
+        }
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
 
+        Map<PresignedUrlKey, String> signed = presignedUrlCache.getAll(keys, missing -> {
+            Map<PresignedUrlKey, String> result = new HashMap<>();
+            for (PresignedUrlKey key : missing) {
+                result.put(key, signGetUrl(key));
+            }
+            log.debug("Signed {} of {} presigned URLs (rest served from cache)", missing.size(), keys.size());
+            return result;
+        });
+
+        Map<String, String> urls = new HashMap<>(signed.size());
+        signed.forEach((key, url) -> urls.put(key.objectName(), url));
+        return urls;
+    }
+
+    private String signGetUrl(PresignedUrlKey key) {
+        try {
             String url = minioClient.getPresignedObjectUrl(
                     GetPresignedObjectUrlArgs.builder()
                             .method(Method.GET)
                             .bucket(bucketName)
-                            .object(objectName)
-                            .expiry(expirySeconds)
+                            .object(key.objectName())
+                            .expiry(key.expirySeconds())
                             .build()
             );
 
-            log.debug("Generated presigned URL for: {} (expires in {} {})", objectName, expiryDuration, expiryUnit);
+            log.debug("Generated presigned URL for: {} (expires in {} seconds)", key.objectName(), key.expirySeconds());
             return url;
 
         } catch (Exception e) {
-            log.error("Failed to generate presigned URL: {}", objectName, e);
+            log.error("Failed to generate presigned URL: {}", key.objectName(), e);
             throw new BusinessException("Failed to generate download URL: " + e.getMessage());
         }
     }
@@ -266,7 +668,9 @@ public class MinioFileStorage {
      * @param expiryUnit     Expiry time unit
      * @return Presigned URL for upload (valid for specified duration)
      */
+    @Override
     public String generatePresignedUploadUrl(String objectName, int expiryDuration, TimeUnit expiryUnit) {
+        ensureBucketExists();
         try {
             int expirySeconds = (int) expiryUnit.toSeconds(expiryDuration);
 
@@ -289,11 +693,12 @@ public class MinioFileStorage {
     }
 
     /**
-     * Get file metadata (size, content type, last modified).
+     * Get file metadata (size, content type, last modified, ETag).
      *
      * @param objectName File path/name in MinIO
-     * @return FileMetadata object
+     * @return FileMetadata object (including the object's ETag)
      */
+    @Override
     public FileMetadata getFileMetadata(String objectName) {
         try {
             StatObjectResponse stat = minioClient.statObject(
@@ -307,7 +712,8 @@ public class MinioFileStorage {
                     objectName,
                     stat.size(),
                     stat.contentType(),
-                    stat.lastModified()
+                    stat.lastModified(),
+                    stat.etag()
             );
 
         } catch (Exception e) {
@@ -317,13 +723,29 @@ public class MinioFileStorage {
     }
 
     /**
-     * File metadata record.
+     * Cache key for presigned GET URLs: same object signed with the same expiry.
+     */
+    private record PresignedUrlKey(String objectName, int expirySeconds) {
+    }
+
+    /**
+     * Evicts a cached URL once {@link #PRESIGNED_URL_REUSE_FRACTION} of its lifetime has passed.
      */
-    public record FileMetadata(
-            String objectName,
-            long size,
-            String contentType,
-            java.time.ZonedDateTime lastModified
-    ) {
+    private static class PresignedUrlExpiry implements Expiry<PresignedUrlKey, String> {
+
+        @Override
+        public long expireAfterCreate(PresignedUrlKey key, String value, long currentTime) {
+            return (long) (TimeUnit.SECONDS.toNanos(key.expirySeconds()) * PRESIGNED_URL_REUSE_FRACTION);
+        }
+
+        @Override
+        public long expireAfterUpdate(PresignedUrlKey key, String value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(PresignedUrlKey key, String value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
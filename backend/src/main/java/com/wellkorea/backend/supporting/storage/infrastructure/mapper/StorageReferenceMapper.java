@@ -0,0 +1,28 @@
+package com.wellkorea.backend.supporting.storage.infrastructure.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MyBatis mapper for checking which stored objects are still referenced by database rows.
+ * <p>
+ * Used by the orphaned object collector to diff bucket listings against:
+ * - attachments (generic attachments, e.g., delivery photos)
+ * - blueprint_attachments (TaskFlow node blueprints)
+ * - service_pr_attachments (blueprint references linked to service purchase requests)
+ * - content_blobs (deduplicated blobs with at least one owning attachment)
+ */
+@Mapper
+public interface StorageReferenceMapper {
+
+    /**
+     * Return the subset of the given storage paths that are referenced by any attachment table.
+     *
+     * @param storagePaths Candidate object keys (one listing page)
+     * @return Referenced storage paths
+     */
+    List<String> findReferencedPaths(@Param("storagePaths") Collection<String> storagePaths);
+}
@@ -3,7 +3,11 @@ package com.wellkorea.backend.supporting.storage.infrastructure.persistence;
 import com.wellkorea.backend.supporting.storage.domain.Attachment;
 import com.wellkorea.backend.supporting.storage.domain.AttachmentOwnerType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -49,4 +53,20 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
      * @param ownerId   ID of the owning entity
      */
     void deleteByOwnerTypeAndOwnerId(AttachmentOwnerType ownerType, Long ownerId);
+
+    /**
+     * Record generated derivative paths for an attachment.
+     * Runs outside the registering transaction (after commit), hence its own transaction.
+     *
+     * @param id            Attachment ID
+     * @param thumbnailPath Storage path of the JPEG thumbnail
+     * @param previewPath   Storage path of the PNG preview (null for images)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE attachments SET thumbnail_path = :thumbnailPath, preview_path = :previewPath WHERE id = :id",
+            nativeQuery = true)
+    void updateDerivatives(@Param("id") Long id,
+                           @Param("thumbnailPath") String thumbnailPath,
+                           @Param("previewPath") String previewPath);
 }
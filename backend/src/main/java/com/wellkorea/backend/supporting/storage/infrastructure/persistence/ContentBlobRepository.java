@@ -0,0 +1,140 @@
+package com.wellkorea.backend.supporting.storage.infrastructure.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reference-counted registry of content-addressed blobs (content_blobs table).
+ * <p>
+ * Uses PostgreSQL UPSERT so concurrent registrations of the same content serialize on
+ * the blob row: the first inserts it, the others wait for its commit and increment.
+ * A blob whose last reference is released stays as a tombstone (ref_count 0, released_at set)
+ * until the orphaned object collector deletes it, so the row also serializes registrations
+ * with that delete. All methods must run inside the caller's transaction.
+ */
+@Repository
+public class ContentBlobRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContentBlobRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add a reference to a blob, creating its row on first use and reviving a tombstone.
+     * Waits while the collector holds the tombstone; if the collector deleted it, the row
+     * is inserted again and the content must be stored again.
+     *
+     * @param sha256      Content hash
+     * @param storagePath Path to use if the blob is new
+     * @param fileSize    Content size in bytes
+     * @return The blob's storage path and whether this call created it
+     */
+    public BlobReference acquire(String sha256, String storagePath, long fileSize) {
+        // xmax = 0 only for a freshly inserted row (an updated row carries this transaction's xid)
+        String sql = """
+                INSERT INTO content_blobs (sha256, storage_path, file_size, ref_count, created_at)
+                VALUES (?, ?, ?, 1, CURRENT_TIMESTAMP)
+                ON CONFLICT (sha256) DO UPDATE
+                SET ref_count = content_blobs.ref_count + 1, released_at = NULL
+                RETURNING storage_path, (xmax = 0) AS created
+                """;
+
+        return jdbcTemplate.queryForObject(sql,
+                (rs, rowNum) -> new BlobReference(rs.getString("storage_path"), rs.getBoolean("created")),
+                sha256, storagePath, fileSize);
+    }
+
+    /**
+     * Drop a reference to a blob, tombstoning its row when no references remain.
+     *
+     * @param sha256 Content hash
+     * @return true if the last reference was released (the blob object is now unreferenced)
+     */
+    public boolean release(String sha256) {
+        String sql = """
+                UPDATE content_blobs
+                SET ref_count = ref_count - 1,
+                    released_at = CASE WHEN ref_count = 1 THEN CURRENT_TIMESTAMP END
+                WHERE sha256 = ? AND ref_count > 0
+                RETURNING ref_count
+                """;
+
+        List<Integer> remaining = jdbcTemplate.queryForList(sql, Integer.class, sha256);
+        return !remaining.isEmpty() && remaining.get(0) == 0;
+    }
+
+    /**
+     * Lock the tombstones among the given blob paths that were released before the cutoff.
+     * Rows revived by a concurrent registration are waited for and then skipped.
+     *
+     * @param storagePaths   Candidate blob paths
+     * @param releasedBefore Only tombstones released before this instant are returned
+     * @return Locked tombstone paths; delete their objects, then {@link #deleteReleased} them
+     */
+    public List<String> lockReleased(Collection<String> storagePaths, Instant releasedBefore) {
+        String sql = """
+                SELECT storage_path FROM content_blobs
+                WHERE storage_path = ANY(?) AND ref_count = 0 AND released_at < ?
+                ORDER BY storage_path
+                FOR UPDATE
+                """;
+
+        return jdbcTemplate.queryForList(sql, String.class,
+                storagePaths.toArray(String[]::new), Timestamp.from(releasedBefore));
+    }
+
+    /**
+     * Delete tombstones locked by {@link #lockReleased} whose objects are gone.
+     *
+     * @param storagePaths Blob paths
+     */
+    public void deleteReleased(Collection<String> storagePaths) {
+        jdbcTemplate.update("DELETE FROM content_blobs WHERE storage_path = ANY(?) AND ref_count = 0",
+                (Object) storagePaths.toArray(String[]::new));
+    }
+
+    /**
+     * Record blob objects that have no row (released before tombstones existed, or left behind by
+     * a failed registration) as tombstones released now, so the collector deletes them under the
+     * row lock once they age. Paths that have a row, or gain one concurrently, are left alone.
+     *
+     * @param blobs Untracked blob objects
+     */
+    public void insertTombstones(List<UntrackedBlob> blobs) {
+        String sql = """
+                INSERT INTO content_blobs (sha256, storage_path, file_size, ref_count, created_at, released_at)
+                VALUES (?, ?, ?, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                ON CONFLICT DO NOTHING
+                """;
+
+        jdbcTemplate.batchUpdate(sql, blobs.stream()
+                .map(blob -> new Object[]{blob.sha256(), blob.storagePath(), blob.fileSize()})
+                .toList());
+    }
+
+    /**
+     * Result of {@link #acquire}.
+     *
+     * @param storagePath Storage path of the blob
+     * @param created     true if the blob row was inserted by this call (content must be stored)
+     */
+    public record BlobReference(String storagePath, boolean created) {
+    }
+
+    /**
+     * A blob object found in storage without a content_blobs row.
+     *
+     * @param sha256      Content hash parsed from the path
+     * @param storagePath Blob path
+     * @param fileSize    Object size in bytes
+     */
+    public record UntrackedBlob(String sha256, String storagePath, long fileSize) {
+    }
+}
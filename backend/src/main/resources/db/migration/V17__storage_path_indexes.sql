@@ -0,0 +1,6 @@
+-- V17: Indexes on storage_path for orphaned object reconciliation
+-- The orphaned object collector checks each bucket listing page against these tables.
+
+CREATE INDEX idx_attachments_storage_path ON attachments (storage_path);
+CREATE INDEX idx_blueprint_storage_path ON blueprint_attachments (storage_path);
+CREATE INDEX idx_service_pr_attachments_storage_path ON service_pr_attachments (storage_path);
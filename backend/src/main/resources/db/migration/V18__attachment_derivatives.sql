@@ -0,0 +1,17 @@
+-- V18: Thumbnail / preview derivatives for attachments
+-- Filled asynchronously by the derivative pipeline after an attachment is registered.
+-- NULL means no derivative exists (not generated yet, unsupported type, or rendering failed).
+
+ALTER TABLE attachments
+    ADD COLUMN thumbnail_path VARCHAR(500),
+    ADD COLUMN preview_path   VARCHAR(500);
+
+ALTER TABLE blueprint_attachments
+    ADD COLUMN thumbnail_path VARCHAR(500),
+    ADD COLUMN preview_path   VARCHAR(500);
+
+-- Orphaned object collector looks derivative keys up by path
+CREATE INDEX idx_attachments_thumbnail_path ON attachments (thumbnail_path) WHERE thumbnail_path IS NOT NULL;
+CREATE INDEX idx_attachments_preview_path ON attachments (preview_path) WHERE preview_path IS NOT NULL;
+CREATE INDEX idx_blueprint_thumbnail_path ON blueprint_attachments (thumbnail_path) WHERE thumbnail_path IS NOT NULL;
+CREATE INDEX idx_blueprint_preview_path ON blueprint_attachments (preview_path) WHERE preview_path IS NOT NULL;
@@ -0,0 +1,20 @@
+-- V19: Content-addressed deduplicating storage for attachments
+-- Registered uploads are hashed (SHA-256) and stored once under blobs/sha256/{xx}/{hash}.{ext}.
+-- content_blobs counts the attachment rows (attachments, blueprint_attachments) that own each blob.
+-- Rows reaching zero references are deleted; the orphaned object collector then removes the object.
+-- Rows registered before V19 keep their original storage_path and a NULL content_hash.
+
+CREATE TABLE content_blobs
+(
+    sha256       VARCHAR(64)  PRIMARY KEY,
+    storage_path VARCHAR(500) NOT NULL UNIQUE,
+    file_size    BIGINT       NOT NULL,
+    ref_count    INTEGER      NOT NULL CHECK (ref_count >= 0),
+    created_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE attachments
+    ADD COLUMN content_hash VARCHAR(64);
+
+ALTER TABLE blueprint_attachments
+    ADD COLUMN content_hash VARCHAR(64);
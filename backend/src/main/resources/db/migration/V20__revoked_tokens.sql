@@ -0,0 +1,13 @@
+-- V20: Cluster-wide JWT revocation (logout / refresh), keyed by the token's jti claim
+-- Nodes load unexpired rows at startup and poll by revoked_at; per-request checks stay in memory.
+-- Rows are deleted once expires_at has passed (the token would be rejected anyway).
+
+CREATE TABLE revoked_tokens
+(
+    jti        VARCHAR(100) PRIMARY KEY,
+    expires_at TIMESTAMP    NOT NULL,
+    revoked_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
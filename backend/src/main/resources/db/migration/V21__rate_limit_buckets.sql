@@ -0,0 +1,57 @@
+-- V21: Cluster-wide rate limiting (token buckets shared by all backend instances)
+-- One row per policy + client key. rate_limit_consume() refills and takes tokens atomically under
+-- the row lock, using the database clock so instance clock skew does not matter.
+-- Rows untouched for longer than the longest policy period are full again and get deleted.
+
+CREATE TABLE rate_limit_buckets
+(
+    bucket_key VARCHAR(300)     PRIMARY KEY,
+    tokens     DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP        NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_buckets_updated_at ON rate_limit_buckets (updated_at);
+
+-- Take up to p_requested tokens (at least 1 if available).
+-- Returns the number granted (0 = rate limited) and the tokens left afterwards.
+CREATE OR REPLACE FUNCTION rate_limit_consume(p_key VARCHAR,
+                                              p_capacity INTEGER,
+                                              p_refill_per_second DOUBLE PRECISION,
+                                              p_requested INTEGER)
+    RETURNS TABLE
+            (
+                granted   INTEGER,
+                remaining DOUBLE PRECISION
+            )
+AS
+$$
+DECLARE
+    v_tokens    DOUBLE PRECISION;
+    v_updated   TIMESTAMP;
+    v_now       TIMESTAMP;
+    v_available DOUBLE PRECISION;
+    v_granted   INTEGER;
+BEGIN
+    INSERT INTO rate_limit_buckets (bucket_key, tokens, updated_at)
+    VALUES (p_key, p_capacity, clock_timestamp()::TIMESTAMP)
+    ON CONFLICT (bucket_key) DO NOTHING;
+
+    SELECT b.tokens, b.updated_at
+    INTO v_tokens, v_updated
+    FROM rate_limit_buckets b
+    WHERE b.bucket_key = p_key
+        FOR UPDATE;
+
+    -- Read the clock only after acquiring the row lock
+    v_now := GREATEST(clock_timestamp()::TIMESTAMP, v_updated);
+    v_available := LEAST(p_capacity, v_tokens + EXTRACT(EPOCH FROM (v_now - v_updated)) * p_refill_per_second);
+    v_granted := LEAST(p_requested, FLOOR(v_available))::INTEGER;
+
+    UPDATE rate_limit_buckets
+    SET tokens     = v_available - v_granted,
+        updated_at = v_now
+    WHERE bucket_key = p_key;
+
+    RETURN QUERY SELECT v_granted, v_available - v_granted;
+END;
+$$ LANGUAGE plpgsql;
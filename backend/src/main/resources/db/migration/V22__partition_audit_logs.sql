@@ -0,0 +1,145 @@
+-- V22: Monthly range partitions for audit_logs
+-- audit_logs becomes a partitioned table on created_at with one partition per month
+-- (audit_logs_yYYYYmMM). Partitions ahead of the current month are created by
+-- audit_logs_ensure_partitions(), which the application calls at startup and daily.
+-- A DEFAULT partition catches rows if that job has not run; it should stay empty.
+-- Retention detaches (and optionally drops) whole partitions - DDL, not row deletes,
+-- so the immutability triggers still reject UPDATE/DELETE of individual rows.
+--
+-- Index changes:
+-- - BRIN on created_at replaces the B-tree (range filters; rows arrive in time order)
+-- - Filter indexes carry created_at so newest-first pages read one partition at a time
+-- - GIN indexes on changes/metadata are dropped: no query filters on JSONB content
+--
+-- Existing rows are copied inside this migration; expect it to take time on large tables.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER SEQUENCE audit_logs_id_seq OWNED BY NONE;
+
+CREATE TABLE audit_logs
+(
+    id          BIGINT       NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id   BIGINT       NOT NULL,
+    action      VARCHAR(50)  NOT NULL,
+    user_id     BIGINT REFERENCES users (id),
+    username    VARCHAR(100),
+    ip_address  VARCHAR(45),
+    user_agent  TEXT,
+    changes     JSONB,
+    metadata    JSONB,
+    created_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_audit_logs PRIMARY KEY (id, created_at),
+    CONSTRAINT chk_audit_logs_action CHECK (action IN (
+                                                       'CREATE', 'UPDATE', 'DELETE', 'VIEW', 'DOWNLOAD',
+                                                       'APPROVE', 'REJECT', 'LOGIN', 'LOGOUT', 'ACCESS_DENIED'
+        ))
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Create monthly partitions from from_month through months_ahead months after the current month.
+-- Months that already have a partition are skipped. A month whose rows already landed in the
+-- DEFAULT partition is skipped with a warning (those rows stay queryable there).
+CREATE OR REPLACE FUNCTION audit_logs_ensure_partitions(from_month DATE, months_ahead INTEGER)
+    RETURNS INTEGER AS
+$$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    last_month  DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::DATE;
+    part_name   TEXT;
+    created     INTEGER := 0;
+BEGIN
+    -- Serialize concurrent callers (one per backend instance)
+    PERFORM pg_advisory_xact_lock(hashtext('audit_logs_ensure_partitions'));
+
+    WHILE month_start <= last_month
+        LOOP
+            part_name := format('audit_logs_y%sm%s', to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+            IF to_regclass(part_name) IS NULL THEN
+                IF EXISTS (SELECT 1
+                           FROM audit_logs_default
+                           WHERE created_at >= month_start
+                             AND created_at < month_start + INTERVAL '1 month') THEN
+                    RAISE WARNING 'audit_logs_default holds rows for %, partition % not created',
+                        month_start, part_name;
+                ELSE
+                    EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                                   part_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+                    created := created + 1;
+                END IF;
+            END IF;
+            month_start := (month_start + INTERVAL '1 month')::DATE;
+        END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach monthly partitions that end on or before cutoff; drop them too when drop_detached.
+-- Detached partitions keep their name and data so they can be archived (e.g., pg_dump) and
+-- dropped by hand. Returns the affected partition names.
+CREATE OR REPLACE FUNCTION audit_logs_expire_partitions(cutoff DATE, drop_detached BOOLEAN)
+    RETURNS SETOF TEXT AS
+$$
+DECLARE
+    part RECORD;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('audit_logs_ensure_partitions'));
+
+    FOR part IN
+        SELECT c.relname AS name
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'audit_logs'::regclass
+          AND c.relname ~ '^audit_logs_y[0-9]{4}m[0-9]{2}$'
+          AND (to_date(substring(c.relname FROM 13 FOR 4) || substring(c.relname FROM 18 FOR 2), 'YYYYMM')
+                   + INTERVAL '1 month') <= cutoff
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE audit_logs DETACH PARTITION %I', part.name);
+            IF drop_detached THEN
+                EXECUTE format('DROP TABLE %I', part.name);
+            END IF;
+            RETURN NEXT part.name;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT audit_logs_ensure_partitions(
+               COALESCE((SELECT MIN(created_at) FROM audit_logs_legacy)::DATE, CURRENT_DATE), 3);
+
+INSERT INTO audit_logs (id, entity_type, entity_id, action, user_id, username,
+                        ip_address, user_agent, changes, metadata, created_at)
+SELECT id, entity_type, entity_id, action, user_id, username,
+       ip_address, user_agent, changes, metadata, created_at
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+-- Created after the copy (and after the legacy indexes with the same names are gone)
+CREATE INDEX idx_audit_logs_entity ON audit_logs (entity_type, entity_id, created_at DESC);
+CREATE INDEX idx_audit_logs_user_id ON audit_logs (user_id, created_at DESC);
+CREATE INDEX idx_audit_logs_action ON audit_logs (action, created_at DESC);
+CREATE INDEX idx_audit_logs_created_at ON audit_logs USING BRIN (created_at);
+
+-- Row triggers on the parent apply to every partition
+CREATE TRIGGER trg_prevent_audit_log_update
+    BEFORE UPDATE
+    ON audit_logs
+    FOR EACH ROW
+EXECUTE FUNCTION prevent_audit_log_modification();
+
+CREATE TRIGGER trg_prevent_audit_log_delete
+    BEFORE DELETE
+    ON audit_logs
+    FOR EACH ROW
+EXECUTE FUNCTION prevent_audit_log_modification();
+
+COMMENT ON TABLE audit_logs IS 'Immutable audit trail for all data changes and sensitive access (monthly partitions on created_at)';
+COMMENT ON COLUMN audit_logs.entity_type IS 'Table name of the affected entity';
+COMMENT ON COLUMN audit_logs.entity_id IS 'Primary key of the affected record';
+COMMENT ON COLUMN audit_logs.action IS 'Type of action: CREATE, UPDATE, DELETE, VIEW, DOWNLOAD, APPROVE, REJECT, etc.';
+COMMENT ON COLUMN audit_logs.changes IS 'JSONB field containing before/after state of changed fields';
+COMMENT ON COLUMN audit_logs.metadata IS 'Additional JSONB context like approval comments, deletion reasons, etc.';
@@ -0,0 +1,53 @@
+-- V23: Per-(quotation, product) quantity ledger
+-- Running delivered/invoiced totals next to the quoted quantity, so delivery and invoice creation reserve
+-- quantities with one conditional UPDATE on the product's row instead of a quotation-wide lock:
+--   delivered = delivered + q WHERE delivered + q <= quoted
+--   invoiced  = invoiced  + q WHERE invoiced  + q <= delivered
+-- Returning a delivery, cancelling an invoice and reassigning a delivery give the quantities back.
+-- Totals follow the same rules as the aggregate queries: RETURNED deliveries and CANCELLED invoices
+-- do not count. Rows are created when a quotation is first reserved against (line items are frozen by then).
+
+CREATE TABLE quotation_quantity_ledger
+(
+    quotation_id BIGINT         NOT NULL REFERENCES quotations (id) ON DELETE CASCADE,
+    product_id   BIGINT         NOT NULL REFERENCES products (id),
+    quoted       DECIMAL(14, 2) NOT NULL,
+    delivered    DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    invoiced     DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (quotation_id, product_id),
+    CONSTRAINT chk_ledger_delivered_non_negative CHECK (delivered >= 0),
+    CONSTRAINT chk_ledger_invoiced_non_negative CHECK (invoiced >= 0)
+);
+
+-- Create the ledger rows of a quotation from its line items and current delivery/invoice aggregates.
+-- Existing rows are left alone; a concurrent initializer waits for the first one and then does nothing.
+CREATE OR REPLACE FUNCTION quotation_quantity_ledger_init(p_quotation_id BIGINT) RETURNS VOID AS
+$$
+BEGIN
+    INSERT INTO quotation_quantity_ledger (quotation_id, product_id, quoted, delivered, invoiced)
+    SELECT q.quotation_id, q.product_id, q.quoted, COALESCE(d.delivered, 0), COALESCE(i.invoiced, 0)
+    FROM (SELECT quotation_id, product_id, SUM(quantity) AS quoted
+          FROM quotation_line_items
+          WHERE quotation_id = p_quotation_id
+          GROUP BY quotation_id, product_id) q
+             LEFT JOIN (SELECT dli.product_id, SUM(dli.quantity_delivered) AS delivered
+                        FROM delivery_line_items dli
+                                 JOIN deliveries d ON dli.delivery_id = d.id
+                        WHERE d.quotation_id = p_quotation_id
+                          AND d.status != 'RETURNED'
+                        GROUP BY dli.product_id) d ON d.product_id = q.product_id
+             LEFT JOIN (SELECT ili.product_id, SUM(ili.quantity_invoiced) AS invoiced
+                        FROM invoice_line_items ili
+                                 JOIN tax_invoices i ON ili.invoice_id = i.id
+                        WHERE i.quotation_id = p_quotation_id
+                          AND i.status != 'CANCELLED'
+                        GROUP BY ili.product_id) i ON i.product_id = q.product_id
+    ON CONFLICT (quotation_id, product_id) DO NOTHING;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill approved quotations (draft line items can still change, those are created on first use)
+SELECT quotation_quantity_ledger_init(id)
+FROM quotations
+WHERE status IN ('SENT', 'ACCEPTED');
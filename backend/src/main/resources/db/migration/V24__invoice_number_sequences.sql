@@ -0,0 +1,22 @@
+-- V24: Per-year invoice number sequences (INV-YYYY-NNNNNN)
+-- last_value is the highest number handed out for the year, either to a single invoice (gapless mode,
+-- incremented inside the invoice transaction) or as the end of a block reserved by one backend node
+-- (block mode, committed on its own so the row lock is held only for the allocation).
+-- Seeded from existing invoice numbers so numbering continues where it left off.
+
+CREATE TABLE invoice_number_sequences
+(
+    year       INTEGER   PRIMARY KEY,
+    last_value BIGINT    NOT NULL CHECK (last_value >= 0),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO invoice_number_sequences (year, last_value)
+SELECT SUBSTRING(invoice_number FROM 5 FOR 4)::INTEGER, MAX(SUBSTRING(invoice_number FROM 10)::BIGINT)
+FROM tax_invoices
+WHERE invoice_number ~ '^INV-[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(invoice_number FROM 5 FOR 4);
+
+-- Replaced by invoice_number_sequences (never used by the application)
+DROP FUNCTION IF EXISTS generate_invoice_number();
+DROP SEQUENCE IF EXISTS invoice_number_seq;
@@ -0,0 +1,37 @@
+-- V25: Transactional outbox for asynchronous domain event handlers
+-- A row is inserted in the same transaction as the aggregate change whenever an event has handlers
+-- annotated with @AsyncEventHandler; the outbox dispatcher delivers it after commit.
+-- Events with the same aggregate_key are delivered strictly in id order: a later event waits
+-- until every earlier one of the aggregate is DONE (a DEAD event blocks its aggregate until resolved).
+
+CREATE TABLE domain_event_outbox
+(
+    id              BIGSERIAL    PRIMARY KEY,
+    event_type      VARCHAR(255) NOT NULL,
+    payload         JSONB        NOT NULL,
+    aggregate_key   VARCHAR(255),
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'DONE', 'DEAD')),
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      TEXT,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at    TIMESTAMP
+);
+
+-- Dispatcher polling: due pending events
+CREATE INDEX idx_domain_event_outbox_pending ON domain_event_outbox (next_attempt_at, id)
+    WHERE status = 'PENDING';
+
+-- Ordering check: unfinished earlier events of the same aggregate
+CREATE INDEX idx_domain_event_outbox_aggregate ON domain_event_outbox (aggregate_key, id)
+    WHERE status <> 'DONE';
+
+-- Idempotency keys: one row per (event, handler), written in the handler's transaction,
+-- so a redelivered event skips the handlers that already completed
+CREATE TABLE domain_event_handled
+(
+    event_id   BIGINT       NOT NULL REFERENCES domain_event_outbox (id) ON DELETE CASCADE,
+    handler    VARCHAR(255) NOT NULL,
+    handled_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id, handler)
+);
@@ -0,0 +1,98 @@
+-- V26: Append-only domain event store with projection checkpoints
+-- Every published DomainEvent is inserted into domain_events in the publishing transaction.
+-- sequence is the global order of the store (gaps remain where a transaction rolled back).
+-- Monthly range partitions on recorded_at (domain_events_yYYYYmMM) are created ahead by
+-- domain_events_ensure_partitions(), called by the application at startup and daily; a DEFAULT
+-- partition catches rows if that job has not run. Rows cannot be updated or deleted.
+--
+-- recorded_at is the insert time (clock_timestamp, not the transaction start): projection replay
+-- uses it to tell a sequence gap left by a rolled-back transaction from one still in flight.
+
+CREATE SEQUENCE domain_events_sequence_seq;
+
+CREATE TABLE domain_events
+(
+    sequence      BIGINT       NOT NULL DEFAULT nextval('domain_events_sequence_seq'),
+    event_type    VARCHAR(255) NOT NULL,
+    aggregate_key VARCHAR(255),
+    payload       JSONB        NOT NULL,
+    recorded_at   TIMESTAMP    NOT NULL DEFAULT clock_timestamp(),
+    CONSTRAINT pk_domain_events PRIMARY KEY (sequence, recorded_at)
+) PARTITION BY RANGE (recorded_at);
+
+ALTER SEQUENCE domain_events_sequence_seq OWNED BY domain_events.sequence;
+
+CREATE TABLE domain_events_default PARTITION OF domain_events DEFAULT;
+
+CREATE INDEX idx_domain_events_aggregate ON domain_events (aggregate_key, sequence);
+
+-- Same scheme as audit_logs_ensure_partitions (V22)
+CREATE OR REPLACE FUNCTION domain_events_ensure_partitions(from_month DATE, months_ahead INTEGER)
+    RETURNS INTEGER AS
+$$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    last_month  DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::DATE;
+    part_name   TEXT;
+    created     INTEGER := 0;
+BEGIN
+    -- Serialize concurrent callers (one per backend instance)
+    PERFORM pg_advisory_xact_lock(hashtext('domain_events_ensure_partitions'));
+
+    WHILE month_start <= last_month
+        LOOP
+            part_name := format('domain_events_y%sm%s', to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+            IF to_regclass(part_name) IS NULL THEN
+                IF EXISTS (SELECT 1
+                           FROM domain_events_default
+                           WHERE recorded_at >= month_start
+                             AND recorded_at < month_start + INTERVAL '1 month') THEN
+                    RAISE WARNING 'domain_events_default holds rows for %, partition % not created',
+                        month_start, part_name;
+                ELSE
+                    EXECUTE format('CREATE TABLE %I PARTITION OF domain_events FOR VALUES FROM (%L) TO (%L)',
+                                   part_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+                    created := created + 1;
+                END IF;
+            END IF;
+            month_start := (month_start + INTERVAL '1 month')::DATE;
+        END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT domain_events_ensure_partitions(CURRENT_DATE, 3);
+
+CREATE OR REPLACE FUNCTION prevent_domain_event_modification()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    RAISE EXCEPTION 'Domain event store is append-only. Cannot modify or delete events.';
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_prevent_domain_event_update
+    BEFORE UPDATE
+    ON domain_events
+    FOR EACH ROW
+EXECUTE FUNCTION prevent_domain_event_modification();
+
+CREATE TRIGGER trg_prevent_domain_event_delete
+    BEFORE DELETE
+    ON domain_events
+    FOR EACH ROW
+EXECUTE FUNCTION prevent_domain_event_modification();
+
+-- Position of each projection in the event store: the last sequence applied
+CREATE TABLE projection_checkpoints
+(
+    projection    VARCHAR(100) PRIMARY KEY,
+    last_sequence BIGINT       NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE domain_events IS 'Append-only store of all published domain events (monthly partitions on recorded_at)';
+COMMENT ON COLUMN domain_events.sequence IS 'Global position in the store; increasing, not gapless';
+COMMENT ON COLUMN domain_events.event_type IS 'Fully qualified class name of the event';
+COMMENT ON COLUMN domain_events.aggregate_key IS 'DomainEvent.aggregateKey() of the event, if any';
@@ -0,0 +1,91 @@
+-- V27: Materialized approver inbox
+-- approval_inbox_items holds one row per PENDING approval request, for the expected approver of its
+-- current level, with the summary columns the inbox list shows. ApprovalCommandService keeps it in
+-- sync on create/approve/reject (see ApprovalInbox), so the inbox is an index range scan per approver.
+-- approval_inbox_counts is the badge counter, maintained by a trigger on approval_inbox_items
+-- (also on cascade deletes), so the badge is a primary key lookup.
+
+CREATE TABLE approval_inbox_items
+(
+    approver_id         BIGINT      NOT NULL REFERENCES users (id),
+    approval_request_id BIGINT      NOT NULL REFERENCES approval_requests (id) ON DELETE CASCADE,
+    entity_type         VARCHAR(50) NOT NULL,
+    entity_id           BIGINT      NOT NULL,
+    entity_description  VARCHAR(500),
+    current_level       INT         NOT NULL,
+    total_levels        INT         NOT NULL,
+    submitted_by_id     BIGINT      NOT NULL REFERENCES users (id),
+    submitted_at        TIMESTAMP   NOT NULL,
+    created_at          TIMESTAMP   NOT NULL,
+    CONSTRAINT pk_approval_inbox_items PRIMARY KEY (approver_id, approval_request_id)
+);
+
+-- Inbox page: newest first per approver
+CREATE INDEX idx_approval_inbox_items_page ON approval_inbox_items (approver_id, created_at DESC, approval_request_id DESC);
+-- Sync on approve/reject
+CREATE INDEX idx_approval_inbox_items_request ON approval_inbox_items (approval_request_id);
+
+CREATE TABLE approval_inbox_counts
+(
+    approver_id   BIGINT PRIMARY KEY REFERENCES users (id),
+    pending_count INT NOT NULL DEFAULT 0 CHECK (pending_count >= 0)
+);
+
+CREATE OR REPLACE FUNCTION approval_inbox_count_items()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO approval_inbox_counts (approver_id, pending_count)
+        VALUES (NEW.approver_id, 1)
+        ON CONFLICT (approver_id) DO UPDATE
+            SET pending_count = approval_inbox_counts.pending_count + 1;
+        RETURN NEW;
+    END IF;
+    UPDATE approval_inbox_counts
+    SET pending_count = pending_count - 1
+    WHERE approver_id = OLD.approver_id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_approval_inbox_count_items
+    AFTER INSERT OR DELETE
+    ON approval_inbox_items
+    FOR EACH ROW
+EXECUTE FUNCTION approval_inbox_count_items();
+
+-- TRUNCATE (also cascaded from approval_requests) fires no row triggers
+CREATE OR REPLACE FUNCTION approval_inbox_reset_counts()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    DELETE FROM approval_inbox_counts;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_approval_inbox_reset_counts
+    AFTER TRUNCATE
+    ON approval_inbox_items
+    FOR EACH STATEMENT
+EXECUTE FUNCTION approval_inbox_reset_counts();
+
+-- Backfill from the current pending requests (same condition as the previous inbox query)
+INSERT INTO approval_inbox_items (approver_id, approval_request_id, entity_type, entity_id, entity_description,
+                                  current_level, total_levels, submitted_by_id, submitted_at, created_at)
+SELECT ld.expected_approver_id,
+       ar.id,
+       ar.entity_type,
+       ar.entity_id,
+       ar.entity_description,
+       ar.current_level,
+       ar.total_levels,
+       ar.submitted_by_id,
+       ar.submitted_at,
+       ar.created_at
+FROM approval_requests ar
+         INNER JOIN approval_level_decisions ld
+                    ON ld.approval_request_id = ar.id AND ld.level_order = ar.current_level
+WHERE ar.status = 'PENDING'
+  AND ld.decision = 'PENDING';
@@ -0,0 +1,13 @@
+-- V28: Tombstones for released content-addressed blobs
+-- Releasing the last reference used to delete the content_blobs row, so the blob path looked unowned
+-- and a new upload of the same content could re-create the object while the orphaned object collector
+-- was deleting it from an older listing.
+-- Released rows are now kept with ref_count = 0 and released_at set. Registering the same content
+-- again revives the row; the collector deletes object and row together while holding the row lock,
+-- and only once released_at is older than its minimum age.
+
+ALTER TABLE content_blobs
+    ADD COLUMN released_at TIMESTAMP;
+
+ALTER TABLE content_blobs
+    ADD CONSTRAINT chk_content_blobs_released CHECK ((ref_count = 0) = (released_at IS NOT NULL));
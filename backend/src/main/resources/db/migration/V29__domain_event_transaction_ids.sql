@@ -0,0 +1,27 @@
+-- V29: Order domain event replay by writing transaction instead of insert time
+-- Projection replay used to stop at a sequence gap until the event after it was older than a
+-- timeout, then skip it. A transaction running longer than the timeout committed its events
+-- behind the projections' checkpoints, and they were never applied.
+--
+-- Each event now records the ID of the transaction that wrote it. Replay reads in
+-- (transaction_id, sequence) order and only events of transactions below the xmin of the current
+-- snapshot: every such transaction has finished, so no event can appear behind a position once
+-- passed, and gaps need no timeout.
+-- Existing events get this migration's transaction ID, which keeps their sequence order; existing
+-- checkpoints are moved to the same transaction ID so they stay at the same place in the store.
+
+ALTER TABLE domain_events
+    ADD COLUMN transaction_id xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+CREATE INDEX idx_domain_events_transaction ON domain_events (transaction_id, sequence);
+
+ALTER TABLE projection_checkpoints
+    ADD COLUMN last_transaction_id xid8 NOT NULL DEFAULT '0';
+
+UPDATE projection_checkpoints
+SET last_transaction_id = pg_current_xact_id()
+WHERE last_sequence > 0;
+
+COMMENT ON COLUMN domain_events.transaction_id IS 'ID of the transaction that appended the event; replay order is (transaction_id, sequence)';
+COMMENT ON COLUMN domain_events.recorded_at IS 'Insert time; partition key only';
+COMMENT ON COLUMN projection_checkpoints.last_transaction_id IS 'Transaction ID of the last event applied (with last_sequence)';
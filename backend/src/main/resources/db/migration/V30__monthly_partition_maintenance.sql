@@ -0,0 +1,129 @@
+-- V30: One set of partition maintenance functions for all monthly partitioned tables
+-- audit_logs (V22) and domain_events (V26) each had their own copy of the same functions.
+-- They are replaced by functions taking the table and partition column:
+-- - ensure_monthly_partitions(): create partitions ahead (as before)
+-- - drain_default_partition(): move rows out of the DEFAULT partition (new)
+-- - expire_monthly_partitions(): detach or drop old partitions (as before, audit_logs only)
+-- Partitions keep the {table}_yYYYYmMM naming. The functions are called by the application at
+-- startup and daily (MonthlyPartitionMaintenance); calls for the same table are serialized.
+--
+-- Rows land in {table}_default when no partition exists for their month. The old functions
+-- then refused to create that month's partition, so rows kept piling up there and retention
+-- never reached them. Draining creates the missing partitions and moves the rows into them,
+-- after which they age out like every other month. The move is DDL plus inserts (no row
+-- updates or deletes), so the append-only triggers stay in place.
+
+DROP FUNCTION audit_logs_ensure_partitions(DATE, INTEGER);
+DROP FUNCTION audit_logs_expire_partitions(DATE, BOOLEAN);
+DROP FUNCTION domain_events_ensure_partitions(DATE, INTEGER);
+
+-- Create monthly partitions from from_month through months_ahead months after the current month.
+-- Months that already have a partition are skipped. A month whose rows already landed in the
+-- DEFAULT partition is skipped with a warning; drain_default_partition() creates it.
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(parent_table TEXT, partition_column TEXT,
+                                                     months_ahead INTEGER, from_month DATE DEFAULT CURRENT_DATE)
+    RETURNS INTEGER AS
+$$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    last_month  DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::DATE;
+    part_name   TEXT;
+    in_default  BOOLEAN;
+    created     INTEGER := 0;
+BEGIN
+    -- Serialize concurrent callers (one per backend instance)
+    PERFORM pg_advisory_xact_lock(hashtext('monthly_partitions:' || parent_table));
+
+    WHILE month_start <= last_month
+        LOOP
+            part_name := format('%s_y%sm%s', parent_table, to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+            IF to_regclass(part_name) IS NULL THEN
+                EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= $1 AND %I < $2)',
+                               parent_table || '_default', partition_column, partition_column)
+                    INTO in_default
+                    USING month_start, (month_start + INTERVAL '1 month')::DATE;
+                IF in_default THEN
+                    RAISE WARNING '%_default holds rows for %, partition % not created',
+                        parent_table, month_start, part_name;
+                ELSE
+                    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                                   part_name, parent_table, month_start, (month_start + INTERVAL '1 month')::DATE);
+                    created := created + 1;
+                END IF;
+            END IF;
+            month_start := (month_start + INTERVAL '1 month')::DATE;
+        END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Move all rows of the DEFAULT partition into monthly partitions, creating those as needed.
+-- The rows are copied aside, the DEFAULT partition is dropped and recreated empty, and the rows
+-- are inserted again through the parent. Holds an exclusive lock on the table meanwhile; the
+-- DEFAULT partition is expected to be small. Returns the number of rows moved.
+CREATE OR REPLACE FUNCTION drain_default_partition(parent_table TEXT, partition_column TEXT)
+    RETURNS BIGINT AS
+$$
+DECLARE
+    default_name TEXT := parent_table || '_default';
+    has_rows     BOOLEAN;
+    month_start  DATE;
+    part_name    TEXT;
+    moved        BIGINT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('monthly_partitions:' || parent_table));
+
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', default_name) INTO has_rows;
+    IF NOT has_rows THEN
+        RETURN 0;
+    END IF;
+
+    EXECUTE format('LOCK TABLE %I IN ACCESS EXCLUSIVE MODE', parent_table);
+    EXECUTE format('CREATE TEMP TABLE partition_drain ON COMMIT DROP AS SELECT * FROM %I', default_name);
+    EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, default_name);
+    EXECUTE format('DROP TABLE %I', default_name);
+
+    FOR month_start IN EXECUTE format('SELECT DISTINCT date_trunc(''month'', %I)::DATE FROM partition_drain',
+                                      partition_column)
+        LOOP
+            part_name := format('%s_y%sm%s', parent_table, to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           part_name, parent_table, month_start, (month_start + INTERVAL '1 month')::DATE);
+        END LOOP;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', default_name, parent_table);
+    EXECUTE format('INSERT INTO %I SELECT * FROM partition_drain', parent_table);
+    GET DIAGNOSTICS moved = ROW_COUNT;
+    DROP TABLE partition_drain;
+    RETURN moved;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach monthly partitions that end on or before cutoff; drop them too when drop_detached.
+-- Detached partitions keep their name and data so they can be archived (e.g., pg_dump) and
+-- dropped by hand. Returns the affected partition names.
+CREATE OR REPLACE FUNCTION expire_monthly_partitions(parent_table TEXT, cutoff DATE, drop_detached BOOLEAN)
+    RETURNS SETOF TEXT AS
+$$
+DECLARE
+    part RECORD;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('monthly_partitions:' || parent_table));
+
+    FOR part IN
+        SELECT c.relname AS name
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent_table::regclass
+          AND c.relname ~ ('^' || parent_table || '_y[0-9]{4}m[0-9]{2}$')
+          AND (to_date(replace(right(c.relname, 7), 'm', ''), 'YYYYMM') + INTERVAL '1 month') <= cutoff
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, part.name);
+            IF drop_detached THEN
+                EXECUTE format('DROP TABLE %I', part.name);
+            END IF;
+            RETURN NEXT part.name;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
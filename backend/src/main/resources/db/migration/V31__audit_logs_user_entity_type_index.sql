@@ -0,0 +1,7 @@
+-- V31: Restore idx_audit_logs_user_entity_type on the partitioned audit_logs
+-- V11 indexed (user_id, entity_type, created_at DESC) for "what did this user change on this kind
+-- of entity" listings. V22 recreated the other indexes on the partitioned table but not this one,
+-- so those queries fell back to idx_audit_logs_user_id and filtered entity_type row by row.
+-- Created on the parent, so every existing and future partition gets it.
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_user_entity_type ON audit_logs (user_id, entity_type, created_at DESC);
@@ -4,18 +4,22 @@ import com.wellkorea.backend.core.auth.api.dto.LoginResponse;
 import com.wellkorea.backend.core.auth.domain.User;
 import com.wellkorea.backend.core.auth.domain.vo.Role;
 import com.wellkorea.backend.core.auth.infrastructure.config.JwtTokenProvider;
+import com.wellkorea.backend.core.auth.infrastructure.config.VerifiedToken;
+import com.wellkorea.backend.core.auth.infrastructure.password.PasswordHasher;
 import com.wellkorea.backend.core.auth.infrastructure.persistence.UserRepository;
 import com.wellkorea.backend.shared.exception.AuthenticationException;
 import com.wellkorea.backend.shared.exception.ExpiredJwtAuthenticationException;
 import com.wellkorea.backend.shared.exception.InvalidJwtAuthenticationException;
+import com.wellkorea.backend.shared.exception.ServiceOverloadedException;
 import com.wellkorea.backend.test.TestFixtures;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -45,7 +49,7 @@ class AuthenticationServiceTest implements TestFixtures {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private TokenBlacklistService tokenBlacklistService;
@@ -87,7 +91,7 @@ class AuthenticationServiceTest implements TestFixtures {
         @DisplayName("should return LoginResponse with token for valid credentials")
         void login_ValidCredentials_ReturnsLoginResponse() {
             when(userRepository.findByUsername(ADMIN_USERNAME)).thenReturn(Optional.of(activeUser));
-            when(passwordEncoder.matches(TEST_PASSWORD, TEST_PASSWORD_HASH)).thenReturn(true);
+            when(passwordHasher.matches(TEST_PASSWORD, TEST_PASSWORD_HASH)).thenReturn(true);
             when(jwtTokenProvider.generateToken(ADMIN_USERNAME, Role.ADMIN.getAuthority(), TEST_USER_ID))
                     .thenReturn("generated.jwt.token");
 
@@ -115,7 +119,7 @@ class AuthenticationServiceTest implements TestFixtures {
                     .build();
 
             when(userRepository.findByUsername("multirole")).thenReturn(Optional.of(multiRoleUser));
-            when(passwordEncoder.matches(TEST_PASSWORD, TEST_PASSWORD_HASH)).thenReturn(true);
+            when(passwordHasher.matches(TEST_PASSWORD, TEST_PASSWORD_HASH)).thenReturn(true);
             when(jwtTokenProvider.generateToken(anyString(), anyString(), anyLong()))
                     .thenReturn("generated.jwt.token");
 
@@ -128,11 +132,39 @@ class AuthenticationServiceTest implements TestFixtures {
             );
         }
 
+        @Test
+        @DisplayName("should upgrade password hash with lower cost on successful login")
+        void login_OutdatedHash_RehashesPassword() {
+            when(userRepository.findByUsername(ADMIN_USERNAME)).thenReturn(Optional.of(activeUser));
+            when(passwordHasher.matches(TEST_PASSWORD, TEST_PASSWORD_HASH)).thenReturn(true);
+            when(passwordHasher.needsRehash(TEST_PASSWORD_HASH)).thenReturn(true);
+            when(passwordHasher.encode(TEST_PASSWORD)).thenReturn("$2a$12$upgraded");
+            when(jwtTokenProvider.generateToken(ADMIN_USERNAME, Role.ADMIN.getAuthority(), TEST_USER_ID))
+                    .thenReturn("generated.jwt.token");
+
+            authenticationService.login(ADMIN_USERNAME, TEST_PASSWORD);
+
+            verify(userRepository).save(argThat(user -> "$2a$12$upgraded".equals(user.getPasswordHash())));
+        }
+
+        @Test
+        @DisplayName("should propagate overload when the hashing pool is saturated")
+        void login_HashingPoolSaturated_ThrowsOverloaded() {
+            when(userRepository.findByUsername(ADMIN_USERNAME)).thenReturn(Optional.of(activeUser));
+            when(passwordHasher.matches(TEST_PASSWORD, TEST_PASSWORD_HASH))
+                    .thenThrow(new ServiceOverloadedException("busy", 1));
+
+            assertThatThrownBy(() -> authenticationService.login(ADMIN_USERNAME, TEST_PASSWORD))
+                    .isInstanceOf(ServiceOverloadedException.class);
+
+            verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), anyLong());
+        }
+
         @Test
         @DisplayName("should throw exception for invalid password")
         void login_InvalidPassword_ThrowsException() {
             when(userRepository.findByUsername(ADMIN_USERNAME)).thenReturn(Optional.of(activeUser));
-            when(passwordEncoder.matches("wrongpassword", TEST_PASSWORD_HASH)).thenReturn(false);
+            when(passwordHasher.matches("wrongpassword", TEST_PASSWORD_HASH)).thenReturn(false);
 
             assertThatThrownBy(() -> authenticationService.login(ADMIN_USERNAME, "wrongpassword"))
                     .isInstanceOf(AuthenticationException.class)
@@ -206,19 +238,19 @@ class AuthenticationServiceTest implements TestFixtures {
         @DisplayName("should blacklist token on logout")
         void logout_ValidToken_BlacklistsToken() {
             String validToken = "valid.jwt.token";
-            // validateToken() is void - no need to mock (default behavior is do nothing)
+            VerifiedToken verified = verifiedToken(ADMIN_USERNAME);
+            when(jwtTokenProvider.verify(validToken)).thenReturn(verified);
 
             authenticationService.logout(validToken);
 
-            verify(jwtTokenProvider).validateToken(validToken);
-            verify(tokenBlacklistService).blacklistToken(validToken);
+            verify(jwtTokenProvider).verify(validToken);
+            verify(tokenBlacklistService).blacklistToken(verified.tokenId(), verified.expiresAt());
         }
 
         @Test
         @DisplayName("should throw exception for invalid token")
         void logout_InvalidToken_ThrowsException() {
-            doThrow(new InvalidJwtAuthenticationException("Invalid token"))
-                    .when(jwtTokenProvider).validateToken(INVALID_JWT_TOKEN);
+            when(jwtTokenProvider.verify(INVALID_JWT_TOKEN)).thenThrow(new InvalidJwtAuthenticationException("Invalid token"));
 
             assertThatThrownBy(() -> authenticationService.logout(INVALID_JWT_TOKEN))
                     .isInstanceOf(AuthenticationException.class)
@@ -251,9 +283,8 @@ class AuthenticationServiceTest implements TestFixtures {
         void refreshToken_ValidToken_ReturnsNewToken() {
             String oldToken = "old.valid.token";
             String newToken = "new.generated.token";
-
-            // validateToken() is void - no need to mock
-            when(jwtTokenProvider.getUsername(oldToken)).thenReturn(ADMIN_USERNAME);
+            VerifiedToken verified = verifiedToken(ADMIN_USERNAME);
+            when(jwtTokenProvider.verify(oldToken)).thenReturn(verified);
             when(userRepository.findByUsername(ADMIN_USERNAME)).thenReturn(Optional.of(activeUser));
             when(jwtTokenProvider.generateToken(ADMIN_USERNAME, Role.ADMIN.getAuthority(), TEST_USER_ID))
                     .thenReturn(newToken);
@@ -263,14 +294,13 @@ class AuthenticationServiceTest implements TestFixtures {
             assertThat(result).isNotNull();
             assertThat(result.accessToken()).isEqualTo(newToken);
             // Old token should be blacklisted
-            verify(tokenBlacklistService).blacklistToken(oldToken);
+            verify(tokenBlacklistService).blacklistToken(verified.tokenId(), verified.expiresAt());
         }
 
         @Test
         @DisplayName("should throw exception for expired token")
         void refreshToken_ExpiredToken_ThrowsException() {
-            doThrow(new ExpiredJwtAuthenticationException("Token has expired"))
-                    .when(jwtTokenProvider).validateToken(EXPIRED_JWT_TOKEN);
+            when(jwtTokenProvider.verify(EXPIRED_JWT_TOKEN)).thenThrow(new ExpiredJwtAuthenticationException("Token has expired"));
 
             assertThatThrownBy(() -> authenticationService.refreshToken(EXPIRED_JWT_TOKEN))
                     .isInstanceOf(AuthenticationException.class)
@@ -281,9 +311,7 @@ class AuthenticationServiceTest implements TestFixtures {
         @DisplayName("should throw exception when user no longer active")
         void refreshToken_InactiveUser_ThrowsException() {
             String validToken = "valid.token";
-
-            // validateToken() is void - no need to mock
-            when(jwtTokenProvider.getUsername(validToken)).thenReturn(FINANCE_USERNAME);
+            when(jwtTokenProvider.verify(validToken)).thenReturn(verifiedToken(FINANCE_USERNAME));
             when(userRepository.findByUsername(FINANCE_USERNAME)).thenReturn(Optional.of(inactiveUser));
 
             assertThatThrownBy(() -> authenticationService.refreshToken(validToken))
@@ -295,9 +323,7 @@ class AuthenticationServiceTest implements TestFixtures {
         @DisplayName("should throw exception when user no longer exists")
         void refreshToken_DeletedUser_ThrowsException() {
             String validToken = "valid.token";
-
-            // validateToken() is void - no need to mock
-            when(jwtTokenProvider.getUsername(validToken)).thenReturn("deleteduser");
+            when(jwtTokenProvider.verify(validToken)).thenReturn(verifiedToken("deleteduser"));
             when(userRepository.findByUsername("deleteduser")).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> authenticationService.refreshToken(validToken))
@@ -322,9 +348,7 @@ class AuthenticationServiceTest implements TestFixtures {
         @DisplayName("should return user info for valid token")
         void getCurrentUser_ValidToken_ReturnsUserInfo() {
             String validToken = "valid.jwt.token";
-
-            // validateToken() is void - no need to mock
-            when(jwtTokenProvider.getUsername(validToken)).thenReturn(ADMIN_USERNAME);
+            when(jwtTokenProvider.verify(validToken)).thenReturn(verifiedToken(ADMIN_USERNAME));
             when(userRepository.findByUsername(ADMIN_USERNAME)).thenReturn(Optional.of(activeUser));
 
             LoginResponse.UserInfo result = authenticationService.getCurrentUser(validToken);
@@ -340,8 +364,7 @@ class AuthenticationServiceTest implements TestFixtures {
         @Test
         @DisplayName("should throw exception for invalid token")
         void getCurrentUser_InvalidToken_ThrowsException() {
-            doThrow(new InvalidJwtAuthenticationException("Invalid token"))
-                    .when(jwtTokenProvider).validateToken(INVALID_JWT_TOKEN);
+            when(jwtTokenProvider.verify(INVALID_JWT_TOKEN)).thenThrow(new InvalidJwtAuthenticationException("Invalid token"));
 
             assertThatThrownBy(() -> authenticationService.getCurrentUser(INVALID_JWT_TOKEN))
                     .isInstanceOf(AuthenticationException.class)
@@ -352,9 +375,7 @@ class AuthenticationServiceTest implements TestFixtures {
         @DisplayName("should throw exception when user not found")
         void getCurrentUser_UserNotFound_ThrowsException() {
             String validToken = "valid.token";
-
-            // validateToken() is void - no need to mock
-            when(jwtTokenProvider.getUsername(validToken)).thenReturn("deleteduser");
+            when(jwtTokenProvider.verify(validToken)).thenReturn(verifiedToken("deleteduser"));
             when(userRepository.findByUsername("deleteduser")).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> authenticationService.getCurrentUser(validToken))
@@ -362,4 +383,9 @@ class AuthenticationServiceTest implements TestFixtures {
                     .hasMessageContaining("User not found");
         }
     }
+
+    private static VerifiedToken verifiedToken(String username) {
+        Instant now = Instant.now();
+        return new VerifiedToken("jti-" + username, TEST_USER_ID, username, List.of(), now, now.plusSeconds(3600));
+    }
 }
@@ -0,0 +1,76 @@
+package com.wellkorea.backend.core.auth.infrastructure.blacklist;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for JdbcTokenBlacklistService.
+ * Two service instances sharing one database stand in for two backend replicas.
+ */
+@Tag("integration")
+class JdbcTokenBlacklistServiceTest extends BaseIntegrationTest {
+
+    private static final long TOKEN_LIFETIME_MS = 3_600_000L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcTokenBlacklistService nodeA;
+    private JdbcTokenBlacklistService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM revoked_tokens");
+        nodeA = new JdbcTokenBlacklistService(jdbcTemplate, TOKEN_LIFETIME_MS, 1_000);
+        nodeB = new JdbcTokenBlacklistService(jdbcTemplate, TOKEN_LIFETIME_MS, 1_000);
+        nodeA.loadRevocations();
+        nodeB.loadRevocations();
+    }
+
+    @Test
+    void shouldRejectRevokedTokenOnSameNodeImmediately() {
+        nodeA.blacklistToken("jti-1", Instant.now().plusSeconds(600));
+
+        assertThat(nodeA.isBlacklisted("jti-1")).isTrue();
+        assertThat(nodeA.isBlacklisted("jti-2")).isFalse();
+    }
+
+    @Test
+    void shouldRejectRevokedTokenOnOtherNodeAfterSync() {
+        nodeA.blacklistToken("jti-1", Instant.now().plusSeconds(600));
+
+        nodeB.syncRevocations();
+
+        assertThat(nodeB.isBlacklisted("jti-1")).isTrue();
+    }
+
+    @Test
+    void shouldLoadRevocationsOnStartup() {
+        nodeA.blacklistToken("jti-1", Instant.now().plusSeconds(600));
+
+        JdbcTokenBlacklistService restarted = new JdbcTokenBlacklistService(jdbcTemplate, TOKEN_LIFETIME_MS, 1_000);
+        restarted.loadRevocations();
+
+        assertThat(restarted.isBlacklisted("jti-1")).isTrue();
+    }
+
+    @Test
+    void shouldPurgeExpiredRevocationsOnCompaction() {
+        nodeA.blacklistToken("expired", Instant.now().minusSeconds(1));
+        nodeA.blacklistToken("active", Instant.now().plusSeconds(600));
+
+        nodeA.compact();
+
+        assertThat(nodeA.isBlacklisted("expired")).isFalse();
+        assertThat(nodeA.isBlacklisted("active")).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_tokens", Integer.class)).isEqualTo(1);
+    }
+}
@@ -17,6 +17,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -68,10 +71,8 @@ class JwtAuthenticationFilterTest {
         // Given: Valid JWT token in Authorization header
         String token = "valid.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtTokenProvider.getUsername(token)).thenReturn("testuser");
-        when(jwtTokenProvider.getUserId(token)).thenReturn(1L);
-        when(jwtTokenProvider.getRoles(token)).thenReturn(new String[]{"ROLE_ADMIN", "ROLE_FINANCE"});
+        when(tokenBlacklistService.isBlacklisted("jti-testuser")).thenReturn(false);
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken(1L, "testuser", "ROLE_ADMIN", "ROLE_FINANCE"));
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -99,10 +100,8 @@ class JwtAuthenticationFilterTest {
         // Given: Token with single role
         String token = "valid.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtTokenProvider.getUsername(token)).thenReturn("sales");
-        when(jwtTokenProvider.getUserId(token)).thenReturn(2L);
-        when(jwtTokenProvider.getRoles(token)).thenReturn(new String[]{"ROLE_SALES"});
+        when(tokenBlacklistService.isBlacklisted("jti-sales")).thenReturn(false);
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken(2L, "sales", "ROLE_SALES"));
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -128,7 +127,8 @@ class JwtAuthenticationFilterTest {
         // Given: Token that has been blacklisted (logged out)
         String token = "blacklisted.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(true);
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken(1L, "testuser", "ROLE_ADMIN"));
+        when(tokenBlacklistService.isBlacklisted("jti-testuser")).thenReturn(true);
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -151,10 +151,8 @@ class JwtAuthenticationFilterTest {
         // Given: Token without userId claim (old token format)
         String token = "old.token.no.userid";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtTokenProvider.getUsername(token)).thenReturn("olduser");
-        when(jwtTokenProvider.getUserId(token)).thenReturn(null);
-        when(jwtTokenProvider.getRoles(token)).thenReturn(new String[]{"ROLE_ADMIN"});
+        when(tokenBlacklistService.isBlacklisted("jti-olduser")).thenReturn(false);
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken(null, "olduser", "ROLE_ADMIN"));
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -177,8 +175,7 @@ class JwtAuthenticationFilterTest {
         // Given: Invalid JWT token (throws InvalidJwtAuthenticationException)
         String token = "invalid.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        doThrow(new InvalidJwtAuthenticationException("Invalid token"))
-                .when(jwtTokenProvider).validateToken(token);
+        when(jwtTokenProvider.verify(token)).thenThrow(new InvalidJwtAuthenticationException("Invalid token"));
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -199,8 +196,7 @@ class JwtAuthenticationFilterTest {
         // Given: Expired token (throws ExpiredJwtAuthenticationException)
         String token = "expired.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        doThrow(new ExpiredJwtAuthenticationException("Token has expired"))
-                .when(jwtTokenProvider).validateToken(token);
+        when(jwtTokenProvider.verify(token)).thenThrow(new ExpiredJwtAuthenticationException("Token has expired"));
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -231,7 +227,7 @@ class JwtAuthenticationFilterTest {
         assertThat(authentication).isNull();
 
         // Token provider never called
-        verify(jwtTokenProvider, never()).validateToken(any());
+        verify(jwtTokenProvider, never()).verify(any());
 
         verify(filterChain).doFilter(request, response);
     }
@@ -248,7 +244,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider, never()).validateToken(any());
+        verify(jwtTokenProvider, never()).verify(any());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -264,7 +260,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider, never()).validateToken(any());
+        verify(jwtTokenProvider, never()).verify(any());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -290,8 +286,7 @@ class JwtAuthenticationFilterTest {
         // Given: Token validation throws non-JWT exception
         String token = "malformed.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        doThrow(new RuntimeException("Unexpected error"))
-                .when(jwtTokenProvider).validateToken(token);
+        when(jwtTokenProvider.verify(token)).thenThrow(new RuntimeException("Unexpected error"));
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -308,12 +303,12 @@ class JwtAuthenticationFilterTest {
     }
 
     @Test
-    void shouldHandleUsernameExtractionException() throws Exception {
-        // Given: Username extraction throws exception (after validation)
-        String token = "valid.token.bad.claims";
+    void shouldHandleExceptionAfterVerification() throws Exception {
+        // Given: Token verifies, but a later step throws (blacklist lookup)
+        String token = "valid.token.blacklist.down";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtTokenProvider.getUsername(token)).thenThrow(new RuntimeException("Missing subject claim"));
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken(1L, "testuser", "ROLE_ADMIN"));
+        when(tokenBlacklistService.isBlacklisted("jti-testuser")).thenThrow(new RuntimeException("Blacklist unavailable"));
 
         // When: Filter processes request
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -328,4 +323,9 @@ class JwtAuthenticationFilterTest {
         // Filter chain does NOT continue
         verify(filterChain, never()).doFilter(request, response);
     }
+
+    private static VerifiedToken verifiedToken(Long userId, String username, String... roles) {
+        Instant now = Instant.now();
+        return new VerifiedToken("jti-" + username, userId, username, List.of(roles), now, now.plusSeconds(3600));
+    }
 }
@@ -201,4 +201,61 @@ class JwtTokenProviderTest {
         // Then: Roles match
         assertThat(actualRoles).containsExactly("ROLE_ADMIN", "ROLE_FINANCE", "ROLE_SALES");
     }
+
+    // ========== Verification Cache Tests ==========
+
+    @Test
+    void shouldVerifyTokenClaims() {
+        // Given: Token with user ID and roles
+        String token = jwtTokenProvider.generateToken("admin", "ROLE_ADMIN,ROLE_SALES", 7L);
+
+        // When: Verify token
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        // Then: All claims are exposed
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.username()).isEqualTo("admin");
+        assertThat(verified.roles()).containsExactly("ROLE_ADMIN", "ROLE_SALES");
+        assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+    }
+
+    @Test
+    void shouldReturnCachedVerificationForSameToken() {
+        // Given: Token verified once
+        String token = jwtTokenProvider.generateToken("user", "ROLE_USER", 1L);
+        VerifiedToken first = jwtTokenProvider.verify(token);
+
+        // When: Verify the same token again
+        VerifiedToken second = jwtTokenProvider.verify(token);
+
+        // Then: Cached result is reused
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldRejectTamperedTokenAfterOriginalWasCached() {
+        // Given: Valid token already in the cache
+        String validToken = jwtTokenProvider.generateToken("user", "ROLE_USER", 1L);
+        jwtTokenProvider.verify(validToken);
+        String tamperedToken = validToken.substring(0, validToken.length() - 5) + "XXXXX";
+
+        // When/Then: Tampered token is still verified on its own
+        assertThatThrownBy(() -> jwtTokenProvider.verify(tamperedToken))
+                .isInstanceOf(InvalidJwtAuthenticationException.class);
+    }
+
+    @Test
+    void shouldRejectCachedTokenOnceExpired() throws InterruptedException {
+        // Given: Short-lived token verified while still valid
+        JwtTokenProvider shortLivedProvider = new JwtTokenProvider(TestFixtures.JWT_SECRET, 1000L);
+        String token = shortLivedProvider.generateToken("user", "ROLE_USER", 1L);
+        shortLivedProvider.verify(token);
+
+        // When: Token expires
+        Thread.sleep(2100);
+
+        // Then: Cached entry is not used
+        assertThatThrownBy(() -> shortLivedProvider.verify(token))
+                .isInstanceOf(ExpiredJwtAuthenticationException.class);
+    }
 }
@@ -0,0 +1,109 @@
+package com.wellkorea.backend.core.auth.infrastructure.password;
+
+import com.wellkorea.backend.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PasswordHasher.
+ * Tests hashing on the bounded pool, load shedding, and rehash detection.
+ */
+@Tag("unit")
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void shouldVerifyAndEncodeOnPool() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 1, 4, Duration.ofSeconds(5));
+
+        String hash = hasher.encode("secret");
+
+        assertThat(hasher.matches("secret", hash)).isTrue();
+        assertThat(hasher.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "verify").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDetectHashesWithLowerCost() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(5), meterRegistry, 1, 4, Duration.ofSeconds(5));
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("secret"))).isFalse();
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(started, release), meterRegistry, 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // One request occupies the worker, one waits in the queue
+            callers.submit(() -> hasher.matches("a", "hash"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> hasher.matches("b", "hash"));
+            Thread.sleep(100);
+
+            assertThatThrownBy(() -> hasher.matches("c", "hash"))
+                    .isInstanceOf(ServiceOverloadedException.class);
+            assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectWhenWaitExceedsLimit() {
+        CountDownLatch release = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(new CountDownLatch(1), release), meterRegistry, 1, 4, Duration.ofMillis(50));
+        try {
+            assertThatThrownBy(() -> hasher.matches("a", "hash"))
+                    .isInstanceOf(ServiceOverloadedException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+        };
+    }
+}
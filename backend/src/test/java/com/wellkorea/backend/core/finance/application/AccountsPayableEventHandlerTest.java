@@ -24,7 +24,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -91,18 +93,31 @@ class AccountsPayableEventHandlerTest {
         }
 
         @Test
-        @DisplayName("should handle duplicate gracefully when AP already exists (idempotency via unique constraint)")
-        void shouldHandleDuplicateGracefully_WhenApAlreadyExists() {
+        @DisplayName("should skip without inserting when AP already exists for the PO")
+        void shouldSkip_WhenApAlreadyExists() {
+            // Given
+            when(accountsPayableRepository.existsByDisbursementCause_CauseTypeAndDisbursementCause_CauseId(
+                    DisbursementCauseType.PURCHASE_ORDER, 1L)).thenReturn(true);
+
+            // When
+            eventHandler.onPurchaseOrderConfirmed(event);
+
+            // Then - no insert attempted, so the handler transaction is not aborted by a unique violation
+            verify(accountsPayableRepository, never()).save(any(AccountsPayable.class));
+            verifyNoInteractions(companyRepository);
+        }
+
+        @Test
+        @DisplayName("should propagate unique violation of a concurrent insert so the outbox retries")
+        void shouldPropagateDuplicate_WhenConcurrentInsertWins() {
             // Given
             when(companyRepository.findById(100L)).thenReturn(Optional.of(vendor));
             when(accountsPayableRepository.save(any(AccountsPayable.class)))
                     .thenThrow(new DataIntegrityViolationException("Duplicate entry for cause_type/cause_id"));
 
-            // When - should NOT throw, just log and continue
-            eventHandler.onPurchaseOrderConfirmed(event);
-
-            // Then - save was attempted, exception was caught and handled
-            verify(accountsPayableRepository).save(any(AccountsPayable.class));
+            // When / Then
+            assertThatThrownBy(() -> eventHandler.onPurchaseOrderConfirmed(event))
+                    .isInstanceOf(DataIntegrityViolationException.class);
         }
 
         @Test
@@ -55,6 +55,7 @@ class InvoiceCommandServiceConcurrencyTest extends BaseIntegrationTest {
         jdbcTemplate.update("DELETE FROM tax_invoices WHERE project_id = ?", TEST_PROJECT_ID);
         jdbcTemplate.update("DELETE FROM delivery_line_items WHERE delivery_id IN (SELECT id FROM deliveries WHERE project_id = ?)", TEST_PROJECT_ID);
         jdbcTemplate.update("DELETE FROM deliveries WHERE project_id = ?", TEST_PROJECT_ID);
+        jdbcTemplate.update("DELETE FROM quotation_quantity_ledger WHERE quotation_id = ?", TEST_QUOTATION_ID);
 
         // Insert test user
         jdbcTemplate.update(
@@ -0,0 +1,115 @@
+package com.wellkorea.backend.core.invoice.application;
+
+import com.wellkorea.backend.core.invoice.infrastructure.sequence.InvoiceNumberSequence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link InvoiceNumberGenerator}.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvoiceNumberGenerator")
+class InvoiceNumberGeneratorTest {
+
+    private static final int YEAR = LocalDate.now().getYear();
+
+    @Mock
+    private InvoiceNumberSequence sequence;
+
+    @Test
+    @DisplayName("block mode issues a whole block from one allocation")
+    void blockMode_IssuesNumbersFromOneAllocation() {
+        when(sequence.allocateBlock(YEAR, 3)).thenReturn(3L, 6L);
+        InvoiceNumberGenerator generator = new InvoiceNumberGenerator(sequence, "block", 3);
+
+        List<String> numbers = IntStream.range(0, 4).mapToObj(i -> generator.generate()).toList();
+
+        assertThat(numbers).containsExactly(
+                "INV-%d-000001".formatted(YEAR),
+                "INV-%d-000002".formatted(YEAR),
+                "INV-%d-000003".formatted(YEAR),
+                "INV-%d-000004".formatted(YEAR));
+        verify(sequence, times(2)).allocateBlock(YEAR, 3);
+        verify(sequence, never()).next(anyInt());
+    }
+
+    @Test
+    @DisplayName("block mode never issues a number twice under concurrency")
+    void blockMode_ConcurrentCallers_GetUniqueNumbers() throws Exception {
+        AtomicLong lastValue = new AtomicLong();
+        when(sequence.allocateBlock(YEAR, 5)).thenAnswer(invocation -> lastValue.addAndGet(5));
+        InvoiceNumberGenerator generator = new InvoiceNumberGenerator(sequence, "block", 5);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = executor.invokeAll(
+                    IntStream.range(0, 200).<Callable<String>>mapToObj(i -> generator::generate).toList());
+            Set<String> numbers = ConcurrentHashMap.newKeySet();
+            for (Future<String> future : futures) {
+                numbers.add(future.get());
+            }
+
+            assertThat(numbers).hasSize(200);
+            verify(sequence, times(40)).allocateBlock(YEAR, 5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("gapless mode takes every number from the sequence")
+    void gaplessMode_UsesSequencePerNumber() {
+        when(sequence.next(YEAR)).thenReturn(41L, 42L);
+        InvoiceNumberGenerator generator = new InvoiceNumberGenerator(sequence, "gapless", 20);
+
+        assertThat(generator.generate()).isEqualTo("INV-%d-000041".formatted(YEAR));
+        assertThat(generator.generate()).isEqualTo("INV-%d-000042".formatted(YEAR));
+        verify(sequence, never()).allocateBlock(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("releaseUnused returns the rest of the current block")
+    void releaseUnused_ReturnsRemainingNumbers() {
+        when(sequence.allocateBlock(YEAR, 10)).thenReturn(110L);
+        InvoiceNumberGenerator generator = new InvoiceNumberGenerator(sequence, "block", 10);
+        generator.generate();
+        generator.generate();
+
+        generator.releaseUnused();
+
+        verify(sequence).returnUnused(YEAR, 103L, 110L);
+    }
+
+    @Test
+    @DisplayName("releaseUnused does nothing before the first allocation")
+    void releaseUnused_NoBlock_DoesNothing() {
+        new InvoiceNumberGenerator(sequence, "block", 10).releaseUnused();
+
+        verifyNoInteractions(sequence);
+    }
+
+    @Test
+    @DisplayName("rejects unknown modes")
+    void constructor_UnknownMode_Throws() {
+        assertThatThrownBy(() -> new InvoiceNumberGenerator(sequence, "random", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("invoice.number.mode");
+    }
+}
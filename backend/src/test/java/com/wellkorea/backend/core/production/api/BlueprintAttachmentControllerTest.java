@@ -3,22 +3,27 @@ package com.wellkorea.backend.core.production.api;
 import com.wellkorea.backend.BaseIntegrationTest;
 import com.wellkorea.backend.core.auth.domain.vo.Role;
 import com.wellkorea.backend.core.auth.infrastructure.config.JwtTokenProvider;
+import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
 import com.wellkorea.backend.test.DatabaseTestHelper;
 import com.wellkorea.backend.test.TestFixtures;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +46,9 @@ class BlueprintAttachmentControllerTest extends BaseIntegrationTest implements T
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private MinioFileStorage minioFileStorage;
+
     private String adminToken;
     private String productionToken;
     private String salesToken;
@@ -624,4 +632,82 @@ class BlueprintAttachmentControllerTest extends BaseIntegrationTest implements T
                     .andExpect(jsonPath("$.success").value(true));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/blueprints/{id}/download - Stream Attachment")
+    class DownloadTests {
+
+        private static final String CONTENT = "0123456789ABCDEF";
+
+        private Long insertAttachmentWithContent() {
+            Long projectId = insertTestProject();
+            Long flowId = insertTestTaskFlow(projectId);
+            Long attachmentId = insertTestAttachment(flowId, "outsource-node-1");
+            minioFileStorage.uploadFile("blueprints/flow-" + flowId + "/node-outsource-node-1/drawing.pdf",
+                    CONTENT.getBytes(StandardCharsets.UTF_8), "application/pdf");
+            return attachmentId;
+        }
+
+        @Test
+        @DisplayName("should return 200 with full content, ETag and immutable Cache-Control")
+        void download_NoRange_Returns200() throws Exception {
+            // Given
+            Long attachmentId = insertAttachmentWithContent();
+
+            // When & Then
+            mockMvc.perform(get("/api/blueprints/{id}/download", attachmentId)
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "16"))
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                    .andExpect(content().string(CONTENT));
+        }
+
+        @Test
+        @DisplayName("should return 206 with requested byte range")
+        void download_Range_Returns206() throws Exception {
+            // Given
+            Long attachmentId = insertAttachmentWithContent();
+
+            // When & Then
+            mockMvc.perform(get("/api/blueprints/{id}/download", attachmentId)
+                            .header(HttpHeaders.RANGE, "bytes=4-7")
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 4-7/16"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "4"))
+                    .andExpect(content().string("4567"));
+        }
+
+        @Test
+        @DisplayName("should return full content when If-Range does not match")
+        void download_IfRangeMismatch_Returns200() throws Exception {
+            // Given
+            Long attachmentId = insertAttachmentWithContent();
+
+            // When & Then
+            mockMvc.perform(get("/api/blueprints/{id}/download", attachmentId)
+                            .header(HttpHeaders.RANGE, "bytes=4-7")
+                            .header(HttpHeaders.IF_RANGE, "\"stale-etag\"")
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(CONTENT));
+        }
+
+        @Test
+        @DisplayName("should return 416 for range beyond end of file")
+        void download_UnsatisfiableRange_Returns416() throws Exception {
+            // Given
+            Long attachmentId = insertAttachmentWithContent();
+
+            // When & Then
+            mockMvc.perform(get("/api/blueprints/{id}/download", attachmentId)
+                            .header(HttpHeaders.RANGE, "bytes=100-200")
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */16"));
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.wellkorea.backend.core.production.api.dto.query.BlueprintAttachmentVi
 import com.wellkorea.backend.shared.exception.BusinessException;
 import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
 import com.wellkorea.backend.supporting.storage.api.dto.UploadUrlResponse;
+import com.wellkorea.backend.supporting.storage.application.ContentAddressedStorage.HashedUpload;
 import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
 import com.wellkorea.backend.test.DatabaseTestHelper;
 import org.junit.jupiter.api.*;
@@ -86,6 +87,12 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
         return id;
     }
 
+    private HashedUpload upload(String fileName) {
+        String objectKey = "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/" + fileName;
+        minioFileStorage.uploadFile(objectKey, "PDF content".getBytes(), "application/pdf");
+        return attachmentService.hashUpload(objectKey);
+    }
+
     // ========================================================================
     // generateUploadUrl Tests
     // ========================================================================
@@ -177,27 +184,56 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
 
             // When
             Long attachmentId = attachmentService.registerAttachment(
-                    flowId, NODE_ID, "test-file.pdf", 11L, objectKey, 1L
+                    flowId, NODE_ID, "test-file.pdf", 11L, attachmentService.hashUpload(objectKey), 1L
             );
 
             // Then
             assertThat(attachmentId).isNotNull();
             assertThat(attachmentId).isGreaterThan(0);
 
-            // Verify attachment was saved
+            // Verify attachment was saved under its content hash
             BlueprintAttachmentView view = attachmentService.getAttachment(attachmentId);
             assertThat(view.fileName()).isEqualTo("test-file.pdf");
             assertThat(view.fileSize()).isEqualTo(11L);
-            assertThat(view.storagePath()).isEqualTo(objectKey);
+            assertThat(view.storagePath()).startsWith("blobs/sha256/").endsWith(".pdf");
+            assertThat(minioFileStorage.fileExists(view.storagePath())).isTrue();
+        }
+
+        @Test
+        @DisplayName("should store identical content once and count references")
+        void registerAttachment_SameContent_Deduplicated() {
+            // Given - Same content uploaded twice under different names
+            String firstKey = "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/first.pdf";
+            String secondKey = "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/second.pdf";
+            minioFileStorage.uploadFile(firstKey, "Shared drawing".getBytes(), "application/pdf");
+            minioFileStorage.uploadFile(secondKey, "Shared drawing".getBytes(), "application/pdf");
+
+            // When
+            Long firstId = attachmentService.registerAttachment(
+                    flowId, NODE_ID, "first.pdf", 14L, attachmentService.hashUpload(firstKey), 1L);
+            Long secondId = attachmentService.registerAttachment(
+                    flowId, NODE_ID, "second.pdf", 14L, attachmentService.hashUpload(secondKey), 1L);
+
+            // Then - Both rows point at one blob with two references
+            String blobPath = attachmentService.getAttachment(firstId).storagePath();
+            assertThat(attachmentService.getAttachment(secondId).storagePath()).isEqualTo(blobPath);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT ref_count FROM content_blobs WHERE storage_path = ?", Integer.class, blobPath))
+                    .isEqualTo(2);
+
+            // And releasing one reference keeps the blob
+            attachmentService.deleteAttachment(firstId);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT ref_count FROM content_blobs WHERE storage_path = ?", Integer.class, blobPath))
+                    .isEqualTo(1);
         }
 
         @Test
         @DisplayName("should throw BusinessException when file not found in MinIO")
         void registerAttachment_FileNotInStorage_ThrowsException() {
             // When/Then
-            assertThatThrownBy(() -> attachmentService.registerAttachment(
-                    flowId, NODE_ID, "missing.pdf", 1024L,
-                    "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/missing.pdf", 1L
+            assertThatThrownBy(() -> attachmentService.hashUpload(
+                    "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/missing.pdf"
             ))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("not found in storage");
@@ -207,8 +243,9 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
         @DisplayName("should throw ResourceNotFoundException for non-existent TaskFlow")
         void registerAttachment_TaskFlowNotFound_ThrowsException() {
             // When/Then
+            HashedUpload upload = upload("flow-not-found.pdf");
             assertThatThrownBy(() -> attachmentService.registerAttachment(
-                    99999L, NODE_ID, "test.pdf", 1024L, "some/path", 1L
+                    99999L, NODE_ID, "test.pdf", 11L, upload, 1L
             ))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("TaskFlow");
@@ -218,8 +255,9 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
         @DisplayName("should throw BusinessException for non-existent node")
         void registerAttachment_NodeNotFound_ThrowsException() {
             // When/Then
+            HashedUpload upload = upload("node-not-found.pdf");
             assertThatThrownBy(() -> attachmentService.registerAttachment(
-                    flowId, "non-existent-node", "test.pdf", 1024L, "some/path", 1L
+                    flowId, "non-existent-node", "test.pdf", 11L, upload, 1L
             ))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("not found");
@@ -233,8 +271,9 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
             minioFileStorage.uploadFile(objectKey, "PDF content".getBytes(), "application/pdf");
 
             // When/Then
+            HashedUpload upload = attachmentService.hashUpload(objectKey);
             assertThatThrownBy(() -> attachmentService.registerAttachment(
-                    flowId, NODE_ID, "user-test.pdf", 11L, objectKey, 99999L
+                    flowId, NODE_ID, "user-test.pdf", 11L, upload, 99999L
             ))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("User");
@@ -257,7 +296,7 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
             String objectKey = "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/query-test.pdf";
             minioFileStorage.uploadFile(objectKey, "Test content".getBytes(), "application/pdf");
             attachmentId = attachmentService.registerAttachment(
-                    flowId, NODE_ID, "query-test.pdf", 12L, objectKey, 1L
+                    flowId, NODE_ID, "query-test.pdf", 12L, attachmentService.hashUpload(objectKey), 1L
             );
         }
 
@@ -334,17 +373,18 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
     class DeleteAttachmentTests {
 
         @Test
-        @DisplayName("should delete attachment from database and MinIO")
+        @DisplayName("should delete attachment from database and release its blob")
         void deleteAttachment_Exists_DeletesSuccessfully() {
             // Given - Upload and register an attachment
             String objectKey = "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/delete-test.pdf";
             minioFileStorage.uploadFile(objectKey, "Delete me".getBytes(), "application/pdf");
             Long attachmentId = attachmentService.registerAttachment(
-                    flowId, NODE_ID, "delete-test.pdf", 9L, objectKey, 1L
+                    flowId, NODE_ID, "delete-test.pdf", 9L, attachmentService.hashUpload(objectKey), 1L
             );
 
             // Verify it exists
-            assertThat(minioFileStorage.fileExists(objectKey)).isTrue();
+            String blobPath = attachmentService.getAttachment(attachmentId).storagePath();
+            assertThat(minioFileStorage.fileExists(blobPath)).isTrue();
 
             // When
             attachmentService.deleteAttachment(attachmentId);
@@ -353,8 +393,11 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
             assertThatThrownBy(() -> attachmentService.getAttachment(attachmentId))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            // And file should be removed from MinIO
-            assertThat(minioFileStorage.fileExists(objectKey)).isFalse();
+            // And the unreferenced blob is tombstoned for the orphaned object collector
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM content_blobs WHERE storage_path = ? AND ref_count = 0 AND released_at IS NOT NULL",
+                    Integer.class, blobPath))
+                    .isEqualTo(1);
         }
 
         @Test
@@ -382,7 +425,7 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
             String objectKey = "blueprints/flow-" + flowId + "/node-" + NODE_ID + "/download-test.pdf";
             minioFileStorage.uploadFile(objectKey, "Download content".getBytes(), "application/pdf");
             Long attachmentId = attachmentService.registerAttachment(
-                    flowId, NODE_ID, "download-test.pdf", 16L, objectKey, 1L
+                    flowId, NODE_ID, "download-test.pdf", 16L, attachmentService.hashUpload(objectKey), 1L
             );
 
             // When
@@ -391,7 +434,7 @@ class BlueprintAttachmentServiceTest extends BaseIntegrationTest {
             // Then
             assertThat(downloadUrl).isNotBlank();
             assertThat(downloadUrl).contains("http");
-            assertThat(downloadUrl).contains("download-test.pdf"); // File name in URL
+            assertThat(downloadUrl).contains("blobs/sha256/"); // Content-addressed key in URL
         }
 
         @Test
@@ -1,5 +1,6 @@
 package com.wellkorea.backend.core.project.application;
 
+import com.wellkorea.backend.core.auth.application.CustomerScope;
 import com.wellkorea.backend.core.delivery.infrastructure.mapper.DeliveryMapper;
 import com.wellkorea.backend.core.invoice.infrastructure.mapper.InvoiceMapper;
 import com.wellkorea.backend.core.production.domain.TaskFlow;
@@ -192,8 +193,8 @@ class ProjectQueryServiceTest {
         void listProjects_WithPagination_ReturnsPage() {
             // Given
             List<ProjectSummaryView> content = List.of(testSummaryView);
-            given(projectMapper.findWithFilters(null, null, null, 10, 0L)).willReturn(content);
-            given(projectMapper.countWithFilters(null, null, null)).willReturn(1L);
+            given(projectMapper.findWithFilters(null, null, null, null, 10, 0L)).willReturn(content);
+            given(projectMapper.countWithFilters(null, null, null, null)).willReturn(1L);
 
             // When
             Page<ProjectSummaryView> result = queryService.listProjects(pageable);
@@ -210,8 +211,8 @@ class ProjectQueryServiceTest {
         @DisplayName("should return empty page when no results")
         void listProjects_NoResults_ReturnsEmptyPage() {
             // Given
-            given(projectMapper.findWithFilters(null, null, null, 10, 0L)).willReturn(List.of());
-            given(projectMapper.countWithFilters(null, null, null)).willReturn(0L);
+            given(projectMapper.findWithFilters(null, null, null, null, 10, 0L)).willReturn(List.of());
+            given(projectMapper.countWithFilters(null, null, null, null)).willReturn(0L);
 
             // When
             Page<ProjectSummaryView> result = queryService.listProjects(pageable);
@@ -232,8 +233,8 @@ class ProjectQueryServiceTest {
         void listProjectsByStatus_WithStatus_ReturnsFilteredPage() {
             // Given
             List<ProjectSummaryView> content = List.of(testSummaryView);
-            given(projectMapper.findWithFilters(ProjectStatus.ACTIVE, null, null, 10, 0L)).willReturn(content);
-            given(projectMapper.countWithFilters(ProjectStatus.ACTIVE, null, null)).willReturn(1L);
+            given(projectMapper.findWithFilters(ProjectStatus.ACTIVE, null, null, null, 10, 0L)).willReturn(content);
+            given(projectMapper.countWithFilters(ProjectStatus.ACTIVE, null, null, null)).willReturn(1L);
 
             // When
             Page<ProjectSummaryView> result = queryService.listProjectsByStatus(ProjectStatus.ACTIVE, pageable);
@@ -241,7 +242,47 @@ class ProjectQueryServiceTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
-            verify(projectMapper).findWithFilters(ProjectStatus.ACTIVE, null, null, 10, 0L);
+            verify(projectMapper).findWithFilters(ProjectStatus.ACTIVE, null, null, null, 10, 0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("listProjectsInScope - List projects within a Sales customer scope")
+    class ListProjectsInScopeTests {
+
+        @Test
+        @DisplayName("should filter small scopes by customer ID list")
+        void listProjectsInScope_SmallScope_UsesCustomerIds() {
+            CustomerScope scope = new CustomerScope(4L, List.of(1L, 2L), 100);
+            given(projectMapper.findWithFilters(null, List.of(1L, 2L), null, null, 10, 0L)).willReturn(List.of());
+            given(projectMapper.countWithFilters(null, List.of(1L, 2L), null, null)).willReturn(0L);
+
+            queryService.listProjectsInScope(scope, null, PageRequest.of(0, 10));
+
+            verify(projectMapper).findWithFilters(null, List.of(1L, 2L), null, null, 10, 0L);
+        }
+
+        @Test
+        @DisplayName("should filter large scopes by semi-join on the user's assignments")
+        void listProjectsInScope_LargeScope_UsesSemiJoin() {
+            CustomerScope scope = new CustomerScope(4L, List.of(1L, 2L, 3L), 2);
+            given(projectMapper.findWithFilters(ProjectStatus.ACTIVE, null, 4L, null, 10, 0L)).willReturn(List.of());
+            given(projectMapper.countWithFilters(ProjectStatus.ACTIVE, null, 4L, null)).willReturn(0L);
+
+            queryService.listProjectsInScope(scope, ProjectStatus.ACTIVE, PageRequest.of(0, 10));
+
+            verify(projectMapper).findWithFilters(ProjectStatus.ACTIVE, null, 4L, null, 10, 0L);
+        }
+
+        @Test
+        @DisplayName("should return empty page for empty scope")
+        void listProjectsInScope_EmptyScope_ReturnsEmptyPage() {
+            CustomerScope scope = new CustomerScope(4L, List.of(), 100);
+
+            Page<ProjectSummaryView> result = queryService.listProjectsInScope(scope, null, PageRequest.of(0, 10));
+
+            assertThat(result.getContent()).isEmpty();
+            verify(projectMapper, never()).findWithFilters(any(), any(), any(), any(), anyInt(), anyLong());
         }
     }
 
@@ -255,8 +296,8 @@ class ProjectQueryServiceTest {
             // Given
             List<Long> customerIds = List.of(1L, 2L);
             List<ProjectSummaryView> content = List.of(testSummaryView);
-            given(projectMapper.findWithFilters(null, customerIds, null, 10, 0L)).willReturn(content);
-            given(projectMapper.countWithFilters(null, customerIds, null)).willReturn(1L);
+            given(projectMapper.findWithFilters(null, customerIds, null, null, 10, 0L)).willReturn(content);
+            given(projectMapper.countWithFilters(null, customerIds, null, null)).willReturn(1L);
 
             // When
             Page<ProjectSummaryView> result = queryService.listProjectsByCustomers(customerIds, pageable);
@@ -264,7 +305,7 @@ class ProjectQueryServiceTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
-            verify(projectMapper).findWithFilters(null, customerIds, null, 10, 0L);
+            verify(projectMapper).findWithFilters(null, customerIds, null, null, 10, 0L);
         }
 
         @Test
@@ -275,7 +316,7 @@ class ProjectQueryServiceTest {
 
             // Then
             assertThat(result).isEmpty();
-            verify(projectMapper, never()).findWithFilters(any(), any(), any(), anyInt(), anyLong());
+            verify(projectMapper, never()).findWithFilters(any(), any(), any(), any(), anyInt(), anyLong());
         }
 
         @Test
@@ -286,7 +327,7 @@ class ProjectQueryServiceTest {
 
             // Then
             assertThat(result).isEmpty();
-            verify(projectMapper, never()).findWithFilters(any(), any(), any(), anyInt(), anyLong());
+            verify(projectMapper, never()).findWithFilters(any(), any(), any(), any(), anyInt(), anyLong());
         }
     }
 
@@ -300,8 +341,8 @@ class ProjectQueryServiceTest {
             // Given
             List<Long> customerIds = List.of(1L);
             List<ProjectSummaryView> content = List.of(testSummaryView);
-            given(projectMapper.findWithFilters(ProjectStatus.ACTIVE, customerIds, null, 10, 0L)).willReturn(content);
-            given(projectMapper.countWithFilters(ProjectStatus.ACTIVE, customerIds, null)).willReturn(1L);
+            given(projectMapper.findWithFilters(ProjectStatus.ACTIVE, customerIds, null, null, 10, 0L)).willReturn(content);
+            given(projectMapper.countWithFilters(ProjectStatus.ACTIVE, customerIds, null, null)).willReturn(1L);
 
             // When
             Page<ProjectSummaryView> result = queryService.listProjectsByCustomersAndStatus(
@@ -310,7 +351,7 @@ class ProjectQueryServiceTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
-            verify(projectMapper).findWithFilters(ProjectStatus.ACTIVE, customerIds, null, 10, 0L);
+            verify(projectMapper).findWithFilters(ProjectStatus.ACTIVE, customerIds, null, null, 10, 0L);
         }
 
         @Test
@@ -322,7 +363,7 @@ class ProjectQueryServiceTest {
 
             // Then
             assertThat(result).isEmpty();
-            verify(projectMapper, never()).findWithFilters(any(), any(), any(), anyInt(), anyLong());
+            verify(projectMapper, never()).findWithFilters(any(), any(), any(), any(), anyInt(), anyLong());
         }
     }
 
@@ -335,8 +376,8 @@ class ProjectQueryServiceTest {
         void searchProjects_WithSearchTerm_ReturnsFilteredPage() {
             // Given
             List<ProjectSummaryView> content = List.of(testSummaryView);
-            given(projectMapper.findWithFilters(null, null, "test", 10, 0L)).willReturn(content);
-            given(projectMapper.countWithFilters(null, null, "test")).willReturn(1L);
+            given(projectMapper.findWithFilters(null, null, null, "test", 10, 0L)).willReturn(content);
+            given(projectMapper.countWithFilters(null, null, null, "test")).willReturn(1L);
 
             // When
             Page<ProjectSummaryView> result = queryService.searchProjects("  test  ", pageable);
@@ -344,37 +385,37 @@ class ProjectQueryServiceTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
-            verify(projectMapper).findWithFilters(null, null, "test", 10, 0L);
+            verify(projectMapper).findWithFilters(null, null, null, "test", 10, 0L);
         }
 
         @Test
         @DisplayName("should handle null search term")
         void searchProjects_NullSearchTerm_PassesNullToMapper() {
             // Given
-            given(projectMapper.findWithFilters(null, null, null, 10, 0L)).willReturn(List.of());
-            given(projectMapper.countWithFilters(null, null, null)).willReturn(0L);
+            given(projectMapper.findWithFilters(null, null, null, null, 10, 0L)).willReturn(List.of());
+            given(projectMapper.countWithFilters(null, null, null, null)).willReturn(0L);
 
             // When
             Page<ProjectSummaryView> result = queryService.searchProjects(null, pageable);
 
             // Then
             assertThat(result).isEmpty();
-            verify(projectMapper).findWithFilters(null, null, null, 10, 0L);
+            verify(projectMapper).findWithFilters(null, null, null, null, 10, 0L);
         }
 
         @Test
         @DisplayName("should handle blank search term")
         void searchProjects_BlankSearchTerm_PassesNullToMapper() {
             // Given
-            given(projectMapper.findWithFilters(null, null, null, 10, 0L)).willReturn(List.of());
-            given(projectMapper.countWithFilters(null, null, null)).willReturn(0L);
+            given(projectMapper.findWithFilters(null, null, null, null, 10, 0L)).willReturn(List.of());
+            given(projectMapper.countWithFilters(null, null, null, null)).willReturn(0L);
 
             // When
             Page<ProjectSummaryView> result = queryService.searchProjects("   ", pageable);
 
             // Then
             assertThat(result).isEmpty();
-            verify(projectMapper).findWithFilters(null, null, null, 10, 0L);
+            verify(projectMapper).findWithFilters(null, null, null, null, 10, 0L);
         }
     }
 
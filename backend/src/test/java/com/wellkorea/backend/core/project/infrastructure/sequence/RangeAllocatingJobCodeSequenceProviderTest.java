@@ -0,0 +1,126 @@
+package com.wellkorea.backend.core.project.infrastructure.sequence;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for RangeAllocatingJobCodeSequenceProvider.
+ * Ranges are committed in their own transaction, so each test cleans up its year's row.
+ */
+@Tag("integration")
+class RangeAllocatingJobCodeSequenceProviderTest extends BaseIntegrationTest {
+
+    private static final String YEAR = "31";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobCodeSequenceRanges sequenceRanges;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM job_code_sequences WHERE year = ?", YEAR);
+    }
+
+    @Test
+    void shouldIssueWholeRangeFromOneAllocation() {
+        // Given: Range size 5, no existing sequence
+        RangeAllocatingJobCodeSequenceProvider provider = newProvider(5);
+
+        // When: Generate 6 sequences
+        List<Integer> sequences = IntStream.range(0, 6).mapToObj(i -> provider.getNextSequence(YEAR)).toList();
+
+        // Then: Contiguous on one node, second range allocated for the 6th value
+        assertThat(sequences).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(lastSequence()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldContinueAfterExistingSequence() {
+        // Given: Strict mode already issued 7 values
+        jdbcTemplate.update(
+                "INSERT INTO job_code_sequences (year, last_sequence, updated_at) VALUES (?, 7, CURRENT_TIMESTAMP)",
+                YEAR
+        );
+
+        // When / Then
+        assertThat(newProvider(5).getNextSequence(YEAR)).isEqualTo(8);
+        assertThat(lastSequence()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldIssueUniqueSequencesAcrossNodes() throws Exception {
+        // Given: Two providers (nodes) sharing the table
+        RangeAllocatingJobCodeSequenceProvider nodeA = newProvider(3);
+        RangeAllocatingJobCodeSequenceProvider nodeB = newProvider(3);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When: 40 concurrent calls spread over both nodes
+            List<Callable<Integer>> tasks = IntStream.range(0, 40)
+                    .<Callable<Integer>>mapToObj(i -> () -> (i % 2 == 0 ? nodeA : nodeB).getNextSequence(YEAR))
+                    .toList();
+            List<Integer> sequences = new ArrayList<>();
+            for (Future<Integer> future : executor.invokeAll(tasks, 30, TimeUnit.SECONDS)) {
+                sequences.add(future.get());
+            }
+
+            // Then: No duplicates
+            assertThat(sequences).hasSize(40).doesNotHaveDuplicates();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void shouldReturnUnusedTailOnShutdown() {
+        // Given: 2 of 10 values used
+        RangeAllocatingJobCodeSequenceProvider provider = newProvider(10);
+        provider.getNextSequence(YEAR);
+        provider.getNextSequence(YEAR);
+
+        // When
+        provider.releaseUnused();
+
+        // Then: Next allocation continues without a gap
+        assertThat(lastSequence()).isEqualTo(2);
+        assertThat(newProvider(10).getNextSequence(YEAR)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepTailWhenAnotherNodeAllocatedSince() {
+        // Given: Node A allocated 1-10, node B allocated 11-20 afterwards
+        RangeAllocatingJobCodeSequenceProvider nodeA = newProvider(10);
+        RangeAllocatingJobCodeSequenceProvider nodeB = newProvider(10);
+        nodeA.getNextSequence(YEAR);
+        nodeB.getNextSequence(YEAR);
+
+        // When: Node A shuts down
+        nodeA.releaseUnused();
+
+        // Then: Node B's range is untouched
+        assertThat(lastSequence()).isEqualTo(20);
+    }
+
+    private RangeAllocatingJobCodeSequenceProvider newProvider(int rangeSize) {
+        return new RangeAllocatingJobCodeSequenceProvider(sequenceRanges, rangeSize);
+    }
+
+    private Integer lastSequence() {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_sequence FROM job_code_sequences WHERE year = ?", Integer.class, YEAR);
+    }
+}
@@ -0,0 +1,164 @@
+package com.wellkorea.backend.core.quotation.infrastructure.repository;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link QuotationQuantityLedger}.
+ * Each test runs in a rolled-back transaction, like the ledger's callers.
+ */
+@Tag("integration")
+@Transactional
+@DisplayName("Quotation Quantity Ledger Tests")
+class QuotationQuantityLedgerTest extends BaseIntegrationTest {
+
+    private static final Long PROJECT_ID = 8101L;
+    private static final Long QUOTATION_ID = 8101L;
+    private static final Long PRODUCT_ID = 8101L;
+    private static final Long OTHER_PRODUCT_ID = 8102L;
+
+    @Autowired
+    private QuotationQuantityLedger ledger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update(
+                "INSERT INTO users (id, username, email, password_hash, full_name) " +
+                        "VALUES (1, 'testuser', 'test@example.com', 'hash', 'Test User') " +
+                        "ON CONFLICT (id) DO NOTHING"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO companies (id, name, contact_person, phone, email, is_active) " +
+                        "VALUES (8101, 'Ledger Customer', 'John Doe', '123-456-7890', 'ledger@example.com', true) " +
+                        "ON CONFLICT (id) DO NOTHING"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO product_types (id, name, created_at) VALUES (8101, 'Ledger Test Type', NOW()) " +
+                        "ON CONFLICT (id) DO NOTHING"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO products (id, name, sku, product_type_id, base_unit_price, is_active, created_at, updated_at) " +
+                        "VALUES (?, 'Ledger Product A', 'LEDGER-A', 8101, 1000.00, true, NOW(), NOW()), " +
+                        "       (?, 'Ledger Product B', 'LEDGER-B', 8101, 1000.00, true, NOW(), NOW()) " +
+                        "ON CONFLICT (id) DO NOTHING",
+                PRODUCT_ID, OTHER_PRODUCT_ID
+        );
+        String year = LocalDate.now().format(DateTimeFormatter.ofPattern("yy"));
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MMdd"));
+        jdbcTemplate.update(
+                "INSERT INTO projects (id, job_code, customer_company_id, project_name, due_date, internal_owner_id, status, created_by_id) " +
+                        "VALUES (?, ?, 8101, 'Ledger Test Project', ?, 1, 'ACTIVE', 1) " +
+                        "ON CONFLICT (id) DO NOTHING",
+                PROJECT_ID, "WK2K" + year + "-8101-" + today, LocalDate.now().plusDays(30)
+        );
+        jdbcTemplate.update(
+                "INSERT INTO quotations (id, project_id, version, status, total_amount, quotation_date, validity_days, created_by_id) " +
+                        "VALUES (?, ?, 1, 'ACCEPTED', 15000.00, ?, 30, 1) " +
+                        "ON CONFLICT (id) DO NOTHING",
+                QUOTATION_ID, PROJECT_ID, LocalDate.now()
+        );
+        // Product A appears on two lines (6 + 4 = 10), product B on one (5)
+        jdbcTemplate.update(
+                "INSERT INTO quotation_line_items (id, quotation_id, product_id, sequence, quantity, unit_price, line_total) " +
+                        "VALUES (8101, ?, ?, 1, 6.0, 1000.00, 6000.00), " +
+                        "       (8102, ?, ?, 2, 4.0, 1000.00, 4000.00), " +
+                        "       (8103, ?, ?, 3, 5.0, 1000.00, 5000.00) " +
+                        "ON CONFLICT (id) DO NOTHING",
+                QUOTATION_ID, PRODUCT_ID, QUOTATION_ID, PRODUCT_ID, QUOTATION_ID, OTHER_PRODUCT_ID
+        );
+    }
+
+    @Test
+    @DisplayName("Should initialize from quotation line items and existing deliveries")
+    void reserveDelivered_InitializesFromAggregates() {
+        insertDelivery(8101L, "DELIVERED", PRODUCT_ID, "3.0");
+        insertDelivery(8102L, "RETURNED", PRODUCT_ID, "5.0");
+
+        assertThat(ledger.reserveDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("2.0"))).isTrue();
+
+        QuotationQuantityLedger.Entry entry = ledger.find(QUOTATION_ID, PRODUCT_ID);
+        assertThat(entry.quoted()).isEqualByComparingTo("10.0");
+        assertThat(entry.delivered()).isEqualByComparingTo("5.0");
+        assertThat(entry.invoiced()).isEqualByComparingTo("0");
+        assertThat(ledger.find(QUOTATION_ID, OTHER_PRODUCT_ID).quoted()).isEqualByComparingTo("5.0");
+    }
+
+    @Test
+    @DisplayName("Should reject deliveries beyond the quoted quantity")
+    void reserveDelivered_RejectsOverDelivery() {
+        assertThat(ledger.reserveDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("7.0"))).isTrue();
+        assertThat(ledger.reserveDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("4.0"))).isFalse();
+        assertThat(ledger.reserveDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("3.0"))).isTrue();
+
+        assertThat(ledger.find(QUOTATION_ID, PRODUCT_ID).delivered()).isEqualByComparingTo("10.0");
+    }
+
+    @Test
+    @DisplayName("Should reject products that are not in the quotation")
+    void reserveDelivered_UnknownProduct_ReturnsFalse() {
+        assertThat(ledger.reserveDelivered(QUOTATION_ID, 999999L, BigDecimal.ONE)).isFalse();
+        assertThat(ledger.find(QUOTATION_ID, 999999L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should limit invoiced quantities to delivered quantities")
+    void reserveInvoiced_LimitedByDelivered() {
+        assertThat(ledger.reserveInvoiced(QUOTATION_ID, PRODUCT_ID, BigDecimal.ONE)).isFalse();
+
+        ledger.reserveDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("4.0"));
+        assertThat(ledger.reserveInvoiced(QUOTATION_ID, PRODUCT_ID, new BigDecimal("4.0"))).isTrue();
+        assertThat(ledger.reserveInvoiced(QUOTATION_ID, PRODUCT_ID, new BigDecimal("0.5"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should make released quantities available again")
+    void release_MakesQuantityAvailableAgain() {
+        ledger.reserveDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("10.0"));
+        ledger.reserveInvoiced(QUOTATION_ID, PRODUCT_ID, new BigDecimal("10.0"));
+
+        ledger.releaseDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("3.0"));
+        ledger.releaseInvoiced(QUOTATION_ID, PRODUCT_ID, new BigDecimal("5.0"));
+
+        QuotationQuantityLedger.Entry entry = ledger.find(QUOTATION_ID, PRODUCT_ID);
+        assertThat(entry.delivered()).isEqualByComparingTo("7.0");
+        assertThat(entry.invoiced()).isEqualByComparingTo("5.0");
+        assertThat(ledger.reserveDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("3.0"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should initialize before releasing a quantity counted only in the aggregates")
+    void releaseDelivered_InitializesFromAggregates() {
+        insertDelivery(8103L, "DELIVERED", PRODUCT_ID, "6.0");
+
+        ledger.releaseDelivered(QUOTATION_ID, PRODUCT_ID, new BigDecimal("6.0"));
+
+        assertThat(ledger.find(QUOTATION_ID, PRODUCT_ID).delivered()).isEqualByComparingTo("0");
+    }
+
+    private void insertDelivery(Long deliveryId, String status, Long productId, String quantity) {
+        jdbcTemplate.update(
+                "INSERT INTO deliveries (id, project_id, quotation_id, delivery_date, status, delivered_by_id) " +
+                        "VALUES (?, ?, ?, ?, ?, 1)",
+                deliveryId, PROJECT_ID, QUOTATION_ID, LocalDate.now(), status
+        );
+        jdbcTemplate.update(
+                "INSERT INTO delivery_line_items (id, delivery_id, product_id, quantity_delivered) VALUES (?, ?, ?, ?)",
+                deliveryId, deliveryId, productId, new BigDecimal(quantity)
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package com.wellkorea.backend.shared.audit;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for AuditLogger with the buffered AuditLogWriter.
+ * audit_logs is append-only, so each test uses its own entity type.
+ */
+@Tag("integration")
+class AuditLoggerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private AuditLogger auditLogger;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldBufferViewsUntilFlushed() {
+        String entityType = uniqueEntityType();
+        auditLogWriter.flush();
+
+        for (long id = 1; id <= 3; id++) {
+            auditLogger.logView(entityType, id, null, "viewer", "10.0.0.1", "test");
+        }
+        auditLogWriter.flush();
+
+        assertThat(awaitRows(entityType, "VIEW", 3)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldWriteSecurityCriticalActionsImmediately() {
+        String entityType = uniqueEntityType();
+
+        auditLogger.logApprove(entityType, 1L, null, "approver", "10.0.0.1", "test", Map.of("comment", "ok"));
+
+        assertThat(countRows(entityType, "APPROVE")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepJsonMetadataOfBufferedEvents() {
+        String entityType = uniqueEntityType();
+
+        auditLogger.logDownload(entityType, 7L, null, "downloader", "10.0.0.1", "test", Map.of("format", "pdf"));
+        auditLogWriter.flush();
+        awaitRows(entityType, "DOWNLOAD", 1);
+
+        String format = jdbcTemplate.queryForObject(
+                "SELECT metadata ->> 'format' FROM audit_logs WHERE entity_type = ?", String.class, entityType);
+        assertThat(format).isEqualTo("pdf");
+    }
+
+    @Test
+    void shouldWriteRestOfBatchWhenOneRowFails() {
+        String entityType = uniqueEntityType();
+        auditLogWriter.flush();
+
+        // The middle event references a user that does not exist (FK violation)
+        auditLogger.logView(entityType, 1L, null, "viewer", "10.0.0.1", "test");
+        auditLogger.logView(entityType, 2L, Long.MAX_VALUE, "deleted-user", "10.0.0.1", "test");
+        auditLogger.logView(entityType, 3L, null, "viewer", "10.0.0.1", "test");
+        auditLogWriter.flush();
+
+        assertThat(awaitRows(entityType, "VIEW", 2)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT entity_id FROM audit_logs WHERE entity_type = ? ORDER BY entity_id", Long.class, entityType))
+                .containsExactly(1L, 3L);
+    }
+
+    /**
+     * The background flusher may already hold some events, so poll briefly after flush().
+     */
+    private int awaitRows(String entityType, String action, int expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        int count = countRows(entityType, action);
+        while (count < expected && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            count = countRows(entityType, action);
+        }
+        return count;
+    }
+
+    private int countRows(String entityType, String action) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_logs WHERE entity_type = ? AND action = ?",
+                Integer.class, entityType, action);
+        return count == null ? 0 : count;
+    }
+
+    private static String uniqueEntityType() {
+        return "AuditTest-" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,196 @@
+package com.wellkorea.backend.shared.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wellkorea.backend.BaseIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the event outbox: DomainEventOutbox and DomainEventOutboxDispatcher.
+ * Dispatchers are built with a registry holding only the test handlers; outbox rows are
+ * committed, so each test removes the rows of its test events.
+ */
+@Tag("integration")
+class DomainEventOutboxDispatcherTest extends BaseIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final TestHandlers testHandlers = new TestHandlers();
+    private DomainEventOutbox outbox;
+    private AsyncEventHandlerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        outbox = new DomainEventOutbox(jdbcTemplate, objectMapper);
+        registry = new AsyncEventHandlerRegistry();
+        registry.postProcessAfterInitialization(testHandlers, "testHandlers");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM domain_event_outbox WHERE event_type LIKE ?",
+                DomainEventOutboxDispatcherTest.class.getName() + "%");
+    }
+
+    @Test
+    void shouldDeliverCommittedEventAndMarkDone() {
+        // Given
+        outbox.append(new TestEvent("A", 1));
+
+        // When
+        newDispatcher(3).dispatch();
+
+        // Then
+        assertThat(testHandlers.received).containsExactly("A:1");
+        assertThat(status("A")).containsExactly("DONE");
+    }
+
+    @Test
+    void shouldNotStoreEventOfRolledBackTransaction() {
+        // Given: The publishing transaction rolls back
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outbox.append(new TestEvent("A", 1));
+            status.setRollbackOnly();
+        });
+
+        // When
+        newDispatcher(3).dispatch();
+
+        // Then
+        assertThat(testHandlers.received).isEmpty();
+        assertThat(status("A")).isEmpty();
+    }
+
+    @Test
+    void shouldRetryFailedEventAndGiveUpAfterMaxAttempts() {
+        // Given: Handler always fails
+        testHandlers.failures.put("A:1", 2);
+        outbox.append(new TestEvent("A", 1));
+        DomainEventOutboxDispatcher dispatcher = newDispatcher(2);
+
+        // When / Then: First failure is rescheduled, second is final
+        dispatcher.dispatch();
+        assertThat(status("A")).containsExactly("PENDING");
+        dispatcher.dispatch();
+        assertThat(status("A")).containsExactly("DEAD");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_error FROM domain_event_outbox WHERE aggregate_key = 'Test:A'", String.class))
+                .contains("Handler failure");
+    }
+
+    @Test
+    void shouldHoldBackLaterEventsOfAggregateUntilEarlierOneIsDelivered() {
+        // Given: First event of aggregate A fails once, aggregate B is independent
+        testHandlers.failures.put("A:1", 1);
+        outbox.append(new TestEvent("A", 1));
+        outbox.append(new TestEvent("A", 2));
+        outbox.append(new TestEvent("B", 1));
+        DomainEventOutboxDispatcher dispatcher = newDispatcher(3);
+
+        // When: First pass
+        dispatcher.dispatch();
+
+        // Then: A:2 waits for A:1, B is not blocked
+        assertThat(testHandlers.received).containsExactly("B:1");
+
+        // When: Retries
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        // Then: A delivered in publication order
+        assertThat(testHandlers.received).containsExactly("B:1", "A:1", "A:2");
+        assertThat(status("A")).containsExactly("DONE", "DONE");
+    }
+
+    @Test
+    void shouldNotRerunCompletedHandlerWhenEventIsRedelivered() {
+        // Given: The second handler fails once
+        testHandlers.failures.put("audit:A:1", 1);
+        outbox.append(new TestEvent("A", 1));
+        DomainEventOutboxDispatcher dispatcher = newDispatcher(3);
+
+        // When: Delivered, failed, redelivered
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        // Then: The first handler ran once, the second completed on the retry
+        assertThat(testHandlers.received).containsExactly("A:1");
+        assertThat(testHandlers.audited).containsExactly("A:1");
+        assertThat(status("A")).containsExactly("DONE");
+    }
+
+    private DomainEventOutboxDispatcher newDispatcher(int maxAttempts) {
+        return new DomainEventOutboxDispatcher(jdbcTemplate, objectMapper, registry, transactionManager,
+                new SimpleMeterRegistry(), false, 10, maxAttempts, Duration.ZERO, Duration.ZERO, Duration.ofDays(7));
+    }
+
+    private List<String> status(String aggregate) {
+        return jdbcTemplate.queryForList(
+                "SELECT status FROM domain_event_outbox WHERE aggregate_key = ? ORDER BY id",
+                String.class, "Test:" + aggregate);
+    }
+
+    record TestEvent(String aggregate, int sequence) implements DomainEvent {
+
+        @Override
+        public String aggregateKey() {
+            return "Test:" + aggregate;
+        }
+
+        String label() {
+            return aggregate + ":" + sequence;
+        }
+    }
+
+    /**
+     * Handlers that fail as many times as listed in {@code failures} for an event label.
+     */
+    static class TestHandlers {
+
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final List<String> audited = new CopyOnWriteArrayList<>();
+        final Map<String, Integer> failures = new ConcurrentHashMap<>();
+
+        @AsyncEventHandler
+        public void onTestEvent(TestEvent event) {
+            failIfListed(event.label());
+            received.add(event.label());
+        }
+
+        @AsyncEventHandler
+        public void auditTestEvent(TestEvent event) {
+            failIfListed("audit:" + event.label());
+            audited.add(event.label());
+        }
+
+        private void failIfListed(String key) {
+            Integer remaining = failures.computeIfPresent(key, (k, count) -> count - 1);
+            if (remaining != null && remaining >= 0) {
+                throw new IllegalStateException("Handler failure for " + key);
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.wellkorea.backend.shared.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wellkorea.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for DomainEventStore and ProjectionReplayer.
+ * The store is append-only and shared by all tests, so each test starts its projection's
+ * checkpoint at the current head and only looks at its own test events.
+ */
+@Tag("integration")
+class ProjectionReplayerTest extends BaseIntegrationTest {
+
+    private static final String PROJECTION = "test-projection";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final TestProjection projection = new TestProjection();
+    private DomainEventStore eventStore;
+
+    @BeforeEach
+    void setUp() {
+        eventStore = new DomainEventStore(jdbcTemplate, objectMapper);
+        cleanUp();
+        EventPosition head = eventStore.head();
+        jdbcTemplate.update("""
+                        INSERT INTO projection_checkpoints (projection, last_transaction_id, last_sequence)
+                        VALUES (?, ?::text::xid8, ?)
+                        """,
+                PROJECTION, head.transactionId(), head.sequence());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM projection_checkpoints WHERE projection = ?", PROJECTION);
+    }
+
+    @Test
+    void shouldApplyNewEventsAndAdvanceCheckpoint() {
+        // Given
+        eventStore.append(new TestEvent("A", 1));
+        eventStore.append(new TestEvent("A", 2));
+        ProjectionReplayer replayer = newReplayer(500);
+
+        // When
+        ProjectionReplayer.ReplayResult result = replayer.catchUp(PROJECTION);
+
+        // Then
+        assertThat(projection.applied).containsExactly("A:1", "A:2");
+        assertThat(result.applied()).isEqualTo(2);
+        assertThat(replayer.checkpoint(PROJECTION)).isEqualTo(eventStore.head());
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() {
+        // Given: First event already applied
+        ProjectionReplayer replayer = newReplayer(500);
+        eventStore.append(new TestEvent("A", 1));
+        replayer.catchUp(PROJECTION);
+
+        // When
+        eventStore.append(new TestEvent("A", 2));
+        replayer.catchUp(PROJECTION);
+
+        // Then: Each event applied once
+        assertThat(projection.applied).containsExactly("A:1", "A:2");
+    }
+
+    @Test
+    void shouldReadInBatches() {
+        // Given: More events than one batch
+        for (int i = 1; i <= 5; i++) {
+            eventStore.append(new TestEvent("A", i));
+        }
+
+        // When
+        newReplayer(2).catchUp(PROJECTION);
+
+        // Then
+        assertThat(projection.applied).containsExactly("A:1", "A:2", "A:3", "A:4", "A:5");
+    }
+
+    @Test
+    void shouldSkipGapLeftByRolledBackTransaction() {
+        // Given: A rolled-back append leaves a gap before a committed event
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventStore.append(new TestEvent("A", 1));
+            status.setRollbackOnly();
+        });
+        eventStore.append(new TestEvent("A", 2));
+
+        // When
+        newReplayer(500).catchUp(PROJECTION);
+
+        // Then: Applied without waiting
+        assertThat(projection.applied).containsExactly("A:2");
+    }
+
+    @Test
+    void shouldHoldBackLaterEventsWhileEarlierTransactionIsInFlight() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // Given: A long-running transaction appended an event but has not committed
+            connection.setAutoCommit(false);
+            DomainEventStore inFlightStore = new DomainEventStore(
+                    new JdbcTemplate(new SingleConnectionDataSource(connection, true)), objectMapper);
+            inFlightStore.append(new TestEvent("A", 1));
+            eventStore.append(new TestEvent("A", 2));
+
+            // When
+            newReplayer(500).catchUp(PROJECTION);
+
+            // Then: The committed later event waits for the earlier transaction, however long it runs
+            assertThat(projection.applied).isEmpty();
+
+            // When: The earlier transaction commits
+            connection.commit();
+            newReplayer(500).catchUp(PROJECTION);
+
+            // Then: Nothing lost, in transaction order
+            assertThat(projection.applied).containsExactly("A:1", "A:2");
+        }
+    }
+
+    @Test
+    void shouldRebuildFromStartOfStore() {
+        // Given: Projection already caught up
+        String aggregate = "B-" + UUID.randomUUID();
+        ProjectionReplayer replayer = newReplayer(500);
+        eventStore.append(new TestEvent(aggregate, 1));
+        replayer.catchUp(PROJECTION);
+
+        // When
+        ProjectionReplayer.ReplayResult result = replayer.rebuild(PROJECTION);
+
+        // Then: State reset, and the event replayed again from the start (with earlier tests' events)
+        assertThat(projection.resets).isEqualTo(1);
+        assertThat(projection.applied).containsOnlyOnce(aggregate + ":1");
+        assertThat(result.from()).isEqualTo(EventPosition.START);
+        assertThat(result.to()).isEqualTo(eventStore.head());
+    }
+
+    @Test
+    void shouldStreamIntoProjectionWithoutCheckpoint() {
+        // Given
+        EventPosition head = eventStore.head();
+        eventStore.append(new TestEvent("C", 1));
+        TestProjection cache = new TestProjection();
+
+        // When
+        EventPosition position = newReplayer(500).replayInto(cache, head);
+
+        // Then
+        assertThat(cache.applied).containsExactly("C:1");
+        assertThat(position).isEqualTo(eventStore.head());
+    }
+
+    @Test
+    void shouldRejectModificationOfStoredEvents() {
+        eventStore.append(new TestEvent("D", 1));
+        long head = eventStore.head().sequence();
+
+        assertThatThrownBy(() -> jdbcTemplate.update("DELETE FROM domain_events WHERE sequence = ?", head))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("append-only");
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE domain_events SET aggregate_key = 'x' WHERE sequence = ?", head))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("append-only");
+    }
+
+    private ProjectionReplayer newReplayer(int batchSize) {
+        return new ProjectionReplayer(eventStore, jdbcTemplate, transactionManager, List.of(projection),
+                false, batchSize);
+    }
+
+    record TestEvent(String aggregate, int sequence) implements DomainEvent {
+    }
+
+    static class TestProjection implements EventProjection {
+
+        final List<String> applied = new CopyOnWriteArrayList<>();
+        int resets;
+
+        @Override
+        public String name() {
+            return PROJECTION;
+        }
+
+        @Override
+        public boolean handles(Class<? extends DomainEvent> eventType) {
+            return eventType == TestEvent.class;
+        }
+
+        @Override
+        public void apply(DomainEvent event, long sequence) {
+            TestEvent testEvent = (TestEvent) event;
+            applied.add(testEvent.aggregate() + ":" + testEvent.sequence());
+        }
+
+        @Override
+        public void reset() {
+            applied.clear();
+            resets++;
+        }
+    }
+}
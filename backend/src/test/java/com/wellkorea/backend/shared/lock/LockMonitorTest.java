@@ -0,0 +1,75 @@
+package com.wellkorea.backend.shared.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LockMonitor}.
+ */
+@Tag("unit")
+@DisplayName("LockMonitor")
+class LockMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockMonitor lockMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockMonitor = new LockMonitor(meterRegistry, "node-1");
+    }
+
+    @Test
+    @DisplayName("tracks held locks until released")
+    void tracksHeldLocksUntilReleased() {
+        LockMonitor.HeldLock held = lockMonitor.acquired(
+                "quotation", "quotation:1", "DeliveryCommandService.createDelivery", TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertThat(lockMonitor.heldLocks()).singleElement()
+                .satisfies(lock -> {
+                    assertThat(lock.key()).isEqualTo("quotation:1");
+                    assertThat(lock.node()).isEqualTo("node-1");
+                    assertThat(lock.thread()).isEqualTo(Thread.currentThread().getName());
+                });
+        assertThat(meterRegistry.get("lock.held").gauge().value()).isEqualTo(1.0);
+
+        lockMonitor.released(held);
+
+        assertThat(lockMonitor.heldLocks()).isEmpty();
+        assertThat(meterRegistry.get("lock.hold")
+                .tags("region", "quotation", "method", "DeliveryCommandService.createDelivery")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("records wait time by outcome")
+    void recordsWaitTimeByOutcome() {
+        lockMonitor.released(lockMonitor.acquired("project", "project:1", "m", TimeUnit.MILLISECONDS.toNanos(40)));
+        lockMonitor.timedOut("project", "m", TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(meterRegistry.get("lock.wait").tags("outcome", "acquired").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+        assertThat(meterRegistry.get("lock.wait").tags("outcome", "timeout").timer()
+                .totalTime(TimeUnit.SECONDS)).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("counts timeouts per region and method")
+    void countsTimeoutsPerRegionAndMethod() {
+        lockMonitor.timedOut("quotation", "InvoiceCommandService.createInvoice", 0);
+        lockMonitor.timedOut("quotation", "InvoiceCommandService.createInvoice", 0);
+        lockMonitor.timedOut("mail", "refreshToken", 0);
+
+        assertThat(meterRegistry.get("lock.timeouts")
+                .tags("region", "quotation", "method", "InvoiceCommandService.createInvoice")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("lock.timeouts").tags("region", "mail").counter().count()).isEqualTo(1.0);
+    }
+}
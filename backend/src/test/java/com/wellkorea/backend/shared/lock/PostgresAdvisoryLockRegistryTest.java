@@ -0,0 +1,204 @@
+package com.wellkorea.backend.shared.lock;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for PostgresAdvisoryLockRegistry.
+ * Two registries sharing one database stand in for two backend replicas.
+ */
+@Tag("integration")
+class PostgresAdvisoryLockRegistryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private PostgresAdvisoryLockRegistry nodeA;
+    private PostgresAdvisoryLockRegistry nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new PostgresAdvisoryLockRegistry(dataSource, "TEST");
+        nodeB = new PostgresAdvisoryLockRegistry(dataSource, "TEST");
+    }
+
+    @Test
+    void shouldExcludeOtherNodesWhileHeld() throws InterruptedException {
+        Lock lockA = nodeA.obtain("quotation:1");
+        assertThat(lockA.tryLock(1, TimeUnit.SECONDS)).isTrue();
+        try {
+            assertThat(nodeB.obtain("quotation:1").tryLock()).isFalse();
+            assertThat(nodeB.obtain("quotation:1").tryLock(200, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(nodeB.obtain("quotation:2").tryLock()).isTrue();
+            nodeB.obtain("quotation:2").unlock();
+        } finally {
+            lockA.unlock();
+        }
+
+        Lock lockB = nodeB.obtain("quotation:1");
+        assertThat(lockB.tryLock()).isTrue();
+        lockB.unlock();
+    }
+
+    @Test
+    void shouldWakeWaiterAsSoonAsLockIsReleased() throws Exception {
+        Lock lockA = nodeA.obtain("quotation:3");
+        lockA.lock();
+
+        CompletableFuture<Long> waited = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            Lock lockB = nodeB.obtain("quotation:3");
+            try {
+                if (!lockB.tryLock(5, TimeUnit.SECONDS)) {
+                    return -1L;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1L;
+            }
+            lockB.unlock();
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        });
+
+        Thread.sleep(300);
+        lockA.unlock();
+
+        assertThat(waited.get(5, TimeUnit.SECONDS)).isBetween(250L, 2000L);
+    }
+
+    @Test
+    void shouldBeReentrantForOwningThread() throws InterruptedException {
+        Lock lock = nodeA.obtain("quotation:4");
+        assertThat(lock.tryLock(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(lock.tryLock(1, TimeUnit.SECONDS)).isTrue();
+
+        lock.unlock();
+        assertThat(nodeB.obtain("quotation:4").tryLock()).isFalse();
+
+        lock.unlock();
+        Lock other = nodeB.obtain("quotation:4");
+        assertThat(other.tryLock()).isTrue();
+        other.unlock();
+    }
+
+    @Test
+    void shouldQueueSameNodeWaitersLocally() throws Exception {
+        PostgresAdvisoryLockRegistry singleStripe = new PostgresAdvisoryLockRegistry(dataSource, "TEST", 1);
+        Lock held = singleStripe.obtain("quotation:6");
+        held.lock();
+        try {
+            // Another thread on this node waits on the stripe, not in the database
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(
+                    () -> singleStripe.obtain("quotation:6").tryLock());
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isFalse();
+            assertThat(countAdvisoryLocks()).isEqualTo(1);
+        } finally {
+            held.unlock();
+        }
+        assertThat(countAdvisoryLocks()).isZero();
+    }
+
+    @Test
+    void shouldKeepKeysSharingAStripeIndependent() throws InterruptedException {
+        PostgresAdvisoryLockRegistry singleStripe = new PostgresAdvisoryLockRegistry(dataSource, "TEST", 1);
+        Lock first = singleStripe.obtain("quotation:7");
+        Lock second = singleStripe.obtain("project:7");
+        assertThat(first.tryLock(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.tryLock(1, TimeUnit.SECONDS)).isTrue();
+
+        first.unlock();
+        assertThat(nodeB.obtain("quotation:7").tryLock()).isTrue();
+        nodeB.obtain("quotation:7").unlock();
+        assertThat(nodeB.obtain("project:7").tryLock()).isFalse();
+
+        second.unlock();
+    }
+
+    @Test
+    void shouldServeMoreLockersThanPoolConnections() throws Exception {
+        // Given: A 2-connection lock pool and more lockers than both pools have connections
+        int lockers = 12;
+        try (HikariDataSource lockPool = lockPool(2)) {
+            PostgresAdvisoryLockRegistry registry = new PostgresAdvisoryLockRegistry(lockPool, "TEST");
+            ExecutorService executor = Executors.newFixedThreadPool(lockers);
+            try {
+                // When: Each locker holds its own key while its business work uses the application pool
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < lockers; i++) {
+                    Lock lock = registry.obtain("quotation:" + (100 + i));
+                    results.add(executor.submit(() -> {
+                        if (!lock.tryLock(20, TimeUnit.SECONDS)) {
+                            return false;
+                        }
+                        try {
+                            jdbcTemplate.queryForObject("SELECT pg_sleep(0.05)::text", String.class);
+                            return true;
+                        } finally {
+                            lock.unlock();
+                        }
+                    }));
+                }
+
+                // Then: Extra lockers wait for a lock connection and all finish
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+                }
+                assertThat(lockPool.getHikariPoolMXBean().getTotalConnections()).isLessThanOrEqualTo(2);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        assertThat(countAdvisoryLocks()).isZero();
+    }
+
+    @Test
+    void shouldRejectUnlockByNonOwner() {
+        assertThatThrownBy(() -> nodeA.obtain("quotation:5").unlock())
+                .isInstanceOf(IllegalMonitorStateException.class);
+    }
+
+    @Test
+    void shouldDeriveStableLockIdsPerRegion() {
+        assertThat(PostgresAdvisoryLockRegistry.lockId("PROJECT", "quotation:1"))
+                .isEqualTo(PostgresAdvisoryLockRegistry.lockId("PROJECT", "quotation:1"))
+                .isNotEqualTo(PostgresAdvisoryLockRegistry.lockId("PROJECT", "quotation:2"))
+                .isNotEqualTo(PostgresAdvisoryLockRegistry.lockId("OTHER", "quotation:1"));
+    }
+
+    private HikariDataSource lockPool(int maxSize) {
+        HikariDataSource appPool = (HikariDataSource) dataSource;
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(appPool.getJdbcUrl());
+        pool.setUsername(appPool.getUsername());
+        pool.setPassword(appPool.getPassword());
+        pool.setMaximumPoolSize(maxSize);
+        return pool;
+    }
+
+    private int countAdvisoryLocks() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_locks WHERE locktype = 'advisory' AND granted", Integer.class);
+        return count == null ? 0 : count;
+    }
+}
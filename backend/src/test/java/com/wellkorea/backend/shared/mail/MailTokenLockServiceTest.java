@@ -1,11 +1,13 @@
 package com.wellkorea.backend.shared.mail;
 
+import com.wellkorea.backend.shared.lock.LockMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -28,7 +30,7 @@ class MailTokenLockServiceTest {
     private static final long DEFAULT_LOCK_TIMEOUT_SECONDS = 5;
 
     @Mock
-    private JdbcLockRegistry lockRegistry;
+    private LockRegistry lockRegistry;
 
     @Mock
     private Lock lock;
@@ -37,7 +39,7 @@ class MailTokenLockServiceTest {
 
     @BeforeEach
     void setUp() {
-        lockService = new MailTokenLockService(lockRegistry);
+        lockService = new MailTokenLockService(lockRegistry, new LockMonitor(new SimpleMeterRegistry(), "test"));
         when(lockRegistry.obtain(MAIL_REFRESH_LOCK)).thenReturn(lock);
     }
 
@@ -0,0 +1,125 @@
+package com.wellkorea.backend.shared.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link RateLimitedMailSender}.
+ */
+@Tag("unit")
+@DisplayName("RateLimitedMailSender")
+class RateLimitedMailSenderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MailThrottleProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MailThrottleProperties();
+        properties.setMaxWait(Duration.ofSeconds(1));
+        properties.setMaxRetries(2);
+        properties.setDefaultRetryAfter(Duration.ofMillis(10));
+    }
+
+    private MailMessage createMessage() {
+        return MailMessage.builder()
+                .from("sender@example.com")
+                .to("recipient@example.com")
+                .subject("Subject")
+                .plainTextBody("Hello")
+                .attachment(MailAttachment.pdf("doc.pdf", new byte[100]))
+                .build();
+    }
+
+    @Test
+    @DisplayName("successful send → records latency and bytes per provider")
+    void successfulSendRecordsMetrics() {
+        MockMailSender delegate = new MockMailSender();
+        RateLimitedMailSender sender = new RateLimitedMailSender(delegate, properties, meterRegistry);
+
+        sender.send(createMessage());
+
+        assertThat(delegate.getSentCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.send").tag("provider", "Mock").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.send.bytes").tag("provider", "Mock")
+                .summary().totalAmount()).isEqualTo(105);
+    }
+
+    @Test
+    @DisplayName("provider throttles once → waits Retry-After and retries")
+    void throttledSendIsRetried() {
+        ThrottlingMailSender delegate = new ThrottlingMailSender(1);
+        RateLimitedMailSender sender = new RateLimitedMailSender(delegate, properties, meterRegistry);
+
+        sender.send(createMessage());
+
+        assertThat(delegate.attempts).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.send.throttled").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.send.failures").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("provider keeps throttling → gives up after maxRetries")
+    void throttledSendGivesUpAfterMaxRetries() {
+        ThrottlingMailSender delegate = new ThrottlingMailSender(Integer.MAX_VALUE);
+        RateLimitedMailSender sender = new RateLimitedMailSender(delegate, properties, meterRegistry);
+
+        assertThatThrownBy(() -> sender.send(createMessage()))
+                .isInstanceOf(MailThrottledException.class);
+
+        assertThat(delegate.attempts).isEqualTo(3);
+        assertThat(meterRegistry.get("mail.send.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("non-throttling failure → not retried and counted as failure")
+    void otherFailureIsNotRetried() {
+        MockMailSender delegate = new MockMailSender();
+        delegate.failOnNextSend("boom");
+        RateLimitedMailSender sender = new RateLimitedMailSender(delegate, properties, meterRegistry);
+
+        assertThatThrownBy(() -> sender.send(createMessage()))
+                .isInstanceOf(MailSendException.class)
+                .hasMessage("boom");
+
+        assertThat(meterRegistry.get("mail.send.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("parseRetryAfter → supports delta-seconds and rejects garbage")
+    void parseRetryAfter() {
+        assertThat(MailThrottledException.parseRetryAfter("12")).isEqualTo(Duration.ofSeconds(12));
+        assertThat(MailThrottledException.parseRetryAfter("not-a-date")).isNull();
+        assertThat(MailThrottledException.parseRetryAfter(null)).isNull();
+    }
+
+    private static class ThrottlingMailSender implements MailSender {
+
+        private final int throttledAttempts;
+        private int attempts;
+
+        ThrottlingMailSender(int throttledAttempts) {
+            this.throttledAttempts = throttledAttempts;
+        }
+
+        @Override
+        public void send(MailMessage message) {
+            attempts++;
+            if (attempts <= throttledAttempts) {
+                throw new MailThrottledException("429", Duration.ofMillis(10));
+            }
+        }
+
+        @Override
+        public String getType() {
+            return "Microsoft Graph";
+        }
+    }
+}
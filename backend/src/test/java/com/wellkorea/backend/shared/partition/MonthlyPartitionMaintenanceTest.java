@@ -0,0 +1,146 @@
+package com.wellkorea.backend.shared.partition;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for MonthlyPartitionMaintenance against the partitioned audit_logs and domain_events tables.
+ * Drain and expiry tests use partitions for 2001, far outside any retention window used elsewhere.
+ */
+@Tag("integration")
+class MonthlyPartitionMaintenanceTest extends BaseIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MonthlyPartitionMaintenance maintenance;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS audit_logs_y2001m01");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS audit_logs_y2001m02");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS audit_logs_y2001m03");
+    }
+
+    @Test
+    void shouldCreatePartitionsAhead() {
+        PartitionedTable auditLogs = auditLogs(2, 0, false);
+
+        maintenance.ensurePartitions(auditLogs);
+
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= 2; i++) {
+            assertThat(partitionExists("audit_logs", "audit_logs_" + month.plusMonths(i).format(PARTITION_NAME))).isTrue();
+        }
+        assertThat(maintenance.ensurePartitions(auditLogs)).isZero();
+    }
+
+    @Test
+    void shouldCreateDomainEventPartitionsAhead() {
+        maintenance.ensurePartitions(new PartitionedTable("domain_events", "recorded_at", 1, 0, false));
+
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        assertThat(partitionExists("domain_events", "domain_events_" + month.format(PARTITION_NAME))).isTrue();
+        assertThat(partitionExists("domain_events", "domain_events_" + month.plusMonths(1).format(PARTITION_NAME))).isTrue();
+    }
+
+    @Test
+    void shouldRouteRowsToTheirMonthlyPartition() {
+        maintenance.ensurePartitions(auditLogs(1, 0, false));
+
+        jdbcTemplate.update("""
+                INSERT INTO audit_logs (entity_type, entity_id, action, username)
+                VALUES ('PartitionTest', 1, 'VIEW', 'tester')
+                """);
+
+        String partition = jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM audit_logs WHERE entity_type = 'PartitionTest' LIMIT 1",
+                String.class);
+        assertThat(partition).isEqualTo("audit_logs_" + LocalDate.now().format(PARTITION_NAME));
+    }
+
+    @Test
+    void shouldDrainDefaultPartitionIntoMonthlyPartitions() {
+        // Given: A row for a month without partition landed in the DEFAULT partition
+        jdbcTemplate.update("""
+                INSERT INTO audit_logs (entity_type, entity_id, action, created_at)
+                VALUES ('DrainTest', 1, 'VIEW', '2001-03-15 10:00:00')
+                """);
+        assertThat(rowPartition("DrainTest")).isEqualTo("audit_logs_default");
+
+        // When
+        long moved = maintenance.drainDefaultPartition(auditLogs(0, 0, false));
+
+        // Then: The month got its partition and the row moved there, so retention can reach it
+        assertThat(moved).isPositive();
+        assertThat(rowPartition("DrainTest")).isEqualTo("audit_logs_y2001m03");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs_default", Integer.class)).isZero();
+        assertThat(partitionExists("audit_logs", "audit_logs_default")).isTrue();
+        assertThat(maintenance.drainDefaultPartition(auditLogs(0, 0, false))).isZero();
+    }
+
+    @Test
+    void shouldDetachExpiredPartitionsAndKeepTheirRows() {
+        createPartition("2001-01-01", "2001-02-01", "audit_logs_y2001m01");
+        createPartition("2001-02-01", "2001-03-01", "audit_logs_y2001m02");
+        jdbcTemplate.update("""
+                INSERT INTO audit_logs (entity_type, entity_id, action, created_at)
+                VALUES ('RetentionTest', 1, 'VIEW', '2001-01-15 10:00:00')
+                """);
+
+        assertThat(maintenance.expirePartitions(auditLogs(0, 1, false), LocalDate.of(2001, 2, 1)))
+                .containsExactly("audit_logs_y2001m01");
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_logs WHERE entity_type = 'RetentionTest'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_logs_y2001m01", Integer.class)).isEqualTo(1);
+        assertThat(partitionExists("audit_logs", "audit_logs_y2001m02")).isTrue();
+    }
+
+    @Test
+    void shouldDropExpiredPartitionsWhenConfigured() {
+        createPartition("2001-01-01", "2001-02-01", "audit_logs_y2001m01");
+
+        assertThat(maintenance.expirePartitions(auditLogs(0, 1, true), LocalDate.of(2001, 2, 1)))
+                .containsExactly("audit_logs_y2001m01");
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('audit_logs_y2001m01') IS NULL", Boolean.class)).isTrue();
+    }
+
+    private static PartitionedTable auditLogs(int monthsAhead, int retentionMonths, boolean dropExpired) {
+        return new PartitionedTable("audit_logs", "created_at", monthsAhead, retentionMonths, dropExpired);
+    }
+
+    private void createPartition(String from, String to, String name) {
+        jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF audit_logs FOR VALUES FROM ('"
+                + from + "') TO ('" + to + "')");
+    }
+
+    private String rowPartition(String entityType) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM audit_logs WHERE entity_type = ? LIMIT 1",
+                String.class, entityType);
+    }
+
+    private boolean partitionExists(String parent, String name) {
+        Boolean attached = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM pg_inherits
+                               WHERE inhparent = to_regclass(?) AND inhrelid = to_regclass(?))
+                """, Boolean.class, parent, name);
+        return Boolean.TRUE.equals(attached);
+    }
+}
@@ -0,0 +1,91 @@
+package com.wellkorea.backend.shared.ratelimit;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for JdbcRateLimiter.
+ * Two limiter instances sharing one database stand in for two backend replicas.
+ */
+@Tag("integration")
+class JdbcRateLimiterTest extends BaseIntegrationTest {
+
+    private static final RateLimitPolicy LOGIN = new RateLimitPolicy("test-login", 5, Duration.ofMinutes(1));
+    private static final RateLimitPolicy API = new RateLimitPolicy("test-api", 100, Duration.ofMinutes(1));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcRateLimiter nodeA;
+    private JdbcRateLimiter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets");
+        nodeA = new JdbcRateLimiter(jdbcTemplate, new RateLimitProperties());
+        nodeB = new JdbcRateLimiter(jdbcTemplate, new RateLimitProperties());
+    }
+
+    @Test
+    void shouldEnforceOneLimitAcrossInstances() {
+        long allowed = IntStream.range(0, 10)
+                .filter(i -> (i % 2 == 0 ? nodeA : nodeB).tryConsume(LOGIN, "10.0.0.1"))
+                .count();
+
+        assertThat(allowed).isEqualTo(5);
+        assertThat(nodeA.getSecondsUntilReset(LOGIN, "10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void shouldKeepKeysAndPoliciesSeparate() {
+        IntStream.range(0, 5).forEach(i -> nodeA.tryConsume(LOGIN, "10.0.0.1"));
+
+        assertThat(nodeA.tryConsume(LOGIN, "10.0.0.1")).isFalse();
+        assertThat(nodeA.tryConsume(LOGIN, "10.0.0.2")).isTrue();
+        assertThat(nodeA.tryConsume(API, "10.0.0.1")).isTrue();
+    }
+
+    @Test
+    void shouldNeverExceedCapacityWhenLeasing() {
+        long allowed = IntStream.range(0, 300)
+                .filter(i -> (i % 3 == 0 ? nodeA : nodeB).tryConsume(API, "user:1"))
+                .count();
+
+        assertThat(allowed).isLessThanOrEqualTo(100).isGreaterThanOrEqualTo(80);
+    }
+
+    @Test
+    void shouldLeaseTokensWhenBucketIsClearlyUnderLimit() {
+        // First call learns the balance, second takes a lease of 10 tokens
+        nodeA.tryConsume(API, "user:1");
+        nodeA.tryConsume(API, "user:1");
+
+        Double remaining = jdbcTemplate.queryForObject(
+                "SELECT tokens FROM rate_limit_buckets WHERE bucket_key = ?", Double.class, API.bucketKey("user:1"));
+        assertThat(remaining).isLessThanOrEqualTo(89.5);
+
+        // The rest of the lease is served locally
+        IntStream.range(0, 9).forEach(i -> assertThat(nodeA.tryConsume(API, "user:1")).isTrue());
+        Double afterLease = jdbcTemplate.queryForObject(
+                "SELECT tokens FROM rate_limit_buckets WHERE bucket_key = ?", Double.class, API.bucketKey("user:1"));
+        assertThat(afterLease).isLessThanOrEqualTo(remaining + 1);
+    }
+
+    @Test
+    void shouldResetOnClear() {
+        IntStream.range(0, 5).forEach(i -> nodeA.tryConsume(LOGIN, "10.0.0.1"));
+
+        nodeA.clear(LOGIN, "10.0.0.1");
+
+        assertThat(nodeA.tryConsume(LOGIN, "10.0.0.1")).isTrue();
+    }
+}
@@ -194,6 +194,15 @@ class ApprovalControllerTest extends BaseIntegrationTest implements TestFixtures
                 approvalRequestId, FINANCE_USER_ID, approvalRequestId, ADMIN_USER_ID
         );
 
+        // Level 1 approver's inbox entry (maintained by ApprovalCommandService outside of tests)
+        jdbcTemplate.update(
+                "INSERT INTO approval_inbox_items (approver_id, approval_request_id, entity_type, entity_id, entity_description, " +
+                        "current_level, total_levels, submitted_by_id, submitted_at, created_at) " +
+                        "SELECT ?, id, entity_type, entity_id, entity_description, current_level, total_levels, " +
+                        "submitted_by_id, submitted_at, created_at FROM approval_requests WHERE id = ?",
+                FINANCE_USER_ID, approvalRequestId
+        );
+
         return approvalRequestId;
     }
 
@@ -621,6 +630,98 @@ class ApprovalControllerTest extends BaseIntegrationTest implements TestFixtures
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/approvals/bulk-approve, bulk-reject - Bulk Decisions")
+    class BulkDecisionTests {
+
+        private Long approvalRequestId;
+
+        @BeforeEach
+        void setUpApprovalData() {
+            Long projectId = insertTestProject();
+            Long quotationId = insertPendingQuotation(projectId);
+            Long chainTemplateId = setupApprovalChain();
+            approvalRequestId = createApprovalRequest(quotationId, chainTemplateId);
+        }
+
+        @Test
+        @DisplayName("should return 200 with per-item results for bulk approve")
+        void bulkApprove_AsLevel1Approver_Returns200WithResults() throws Exception {
+            String bulkRequest = """
+                    {
+                        "approvalIds": [%d, 999999],
+                        "comments": "Month-end approval"
+                    }
+                    """.formatted(approvalRequestId);
+
+            mockMvc.perform(post(APPROVALS_URL + "/bulk-approve")
+                            .header("Authorization", "Bearer " + financeToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(bulkRequest))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data", hasSize(2)))
+                    .andExpect(jsonPath("$.data[0].id").value(approvalRequestId))
+                    .andExpect(jsonPath("$.data[0].outcome").value("APPROVED"))
+                    .andExpect(jsonPath("$.data[1].outcome").value("NOT_FOUND"));
+
+            // Moved to Level 2 (Admin's inbox)
+            mockMvc.perform(get(APPROVALS_URL + "/" + approvalRequestId)
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.currentLevel").value(2));
+            mockMvc.perform(get(APPROVALS_URL)
+                            .header("Authorization", "Bearer " + adminToken)
+                            .param("myPending", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[*].id", hasItem(approvalRequestId.intValue())));
+        }
+
+        @Test
+        @DisplayName("should report FORBIDDEN for requests the user cannot decide")
+        void bulkReject_AsNonApprover_ReportsForbidden() throws Exception {
+            String bulkRequest = """
+                    {
+                        "approvalIds": [%d],
+                        "reason": "Budget exceeded"
+                    }
+                    """.formatted(approvalRequestId);
+
+            mockMvc.perform(post(APPROVALS_URL + "/bulk-reject")
+                            .header("Authorization", "Bearer " + salesToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(bulkRequest))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].outcome").value("FORBIDDEN"));
+        }
+
+        @Test
+        @DisplayName("should return 400 when bulk reject has no reason")
+        void bulkReject_WithoutReason_Returns400() throws Exception {
+            String bulkRequest = """
+                    {
+                        "approvalIds": [%d]
+                    }
+                    """.formatted(approvalRequestId);
+
+            mockMvc.perform(post(APPROVALS_URL + "/bulk-reject")
+                            .header("Authorization", "Bearer " + financeToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(bulkRequest))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 400 when no IDs are given")
+        void bulkApprove_EmptyIds_Returns400() throws Exception {
+            mockMvc.perform(post(APPROVALS_URL + "/bulk-approve")
+                            .header("Authorization", "Bearer " + financeToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"approvalIds\": []}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/approvals/{id}/history - Approval History")
     class ApprovalHistoryTests {
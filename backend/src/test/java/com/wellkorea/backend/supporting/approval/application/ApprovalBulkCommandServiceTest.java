@@ -0,0 +1,312 @@
+package com.wellkorea.backend.supporting.approval.application;
+
+import com.wellkorea.backend.core.auth.domain.User;
+import com.wellkorea.backend.core.auth.domain.vo.Role;
+import com.wellkorea.backend.core.auth.infrastructure.persistence.UserRepository;
+import com.wellkorea.backend.shared.event.DomainEventPublisher;
+import com.wellkorea.backend.shared.exception.BusinessException;
+import com.wellkorea.backend.shared.exception.ResourceNotFoundException;
+import com.wellkorea.backend.supporting.approval.application.BulkDecisionResult.Outcome;
+import com.wellkorea.backend.supporting.approval.domain.Approvable;
+import com.wellkorea.backend.supporting.approval.domain.ApprovalChainTemplate;
+import com.wellkorea.backend.supporting.approval.domain.ApprovalRequest;
+import com.wellkorea.backend.supporting.approval.domain.event.ApprovalCompletedEvent;
+import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalChainLevel;
+import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalState;
+import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalStatus;
+import com.wellkorea.backend.supporting.approval.domain.vo.EntityType;
+import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalInbox;
+import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+/**
+ * Unit tests for ApprovalBulkCommandService.
+ * Two-level chain (Finance, then Admin); chunk size 2.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApprovalBulkCommandService Unit Tests - Bulk Approve/Reject")
+class ApprovalBulkCommandServiceTest {
+
+    private static final Long ADMIN_USER_ID = 1L;
+    private static final Long FINANCE_USER_ID = 2L;
+
+    @Mock
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApprovableRegistry approvableRegistry;
+
+    @Mock
+    private ApprovalInbox approvalInbox;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApprovalBulkCommandService bulkCommandService;
+    private ApprovalChainTemplate chainTemplate;
+    private User submitter;
+
+    @BeforeEach
+    void setUp() {
+        bulkCommandService = new ApprovalBulkCommandService(approvalRequestRepository, userRepository,
+                approvableRegistry, approvalInbox, eventPublisher, transactionManager, 2, 5);
+        submitter = User.builder()
+                .id(4L)
+                .username("sales")
+                .email("sales@wellkorea.com")
+                .passwordHash("hashed")
+                .fullName("Sales User")
+                .roles(Set.of(Role.SALES))
+                .build();
+        chainTemplate = new ApprovalChainTemplate(1L, EntityType.QUOTATION, "견적서 결재", List.of(
+                new ApprovalChainLevel(1, "팀장", FINANCE_USER_ID, true),
+                new ApprovalChainLevel(2, "부서장", ADMIN_USER_ID, true)));
+    }
+
+    @Test
+    @DisplayName("should approve each request and report per-item results in request order")
+    void approveAll_ReportsPerItemResults() {
+        // Given: 10 at level 1, 11 at level 2 (not Finance's level), 12 missing
+        ApprovalRequest atLevel1 = request(10L, 100L);
+        ApprovalRequest atLevel2 = request(11L, 101L);
+        atLevel2.approve(FINANCE_USER_ID, null);
+        given(userRepository.existsById(FINANCE_USER_ID)).willReturn(true);
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(10L, 11L)))
+                .willReturn(List.of(atLevel1, atLevel2));
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(12L))).willReturn(List.of());
+
+        // When
+        List<BulkDecisionResult> results = bulkCommandService.approveAll(
+                List.of(10L, 11L, 12L, 10L), FINANCE_USER_ID, "OK");
+
+        // Then: Duplicates decided once
+        assertThat(results).extracting(BulkDecisionResult::id).containsExactly(10L, 11L, 12L);
+        assertThat(results).extracting(BulkDecisionResult::outcome)
+                .containsExactly(Outcome.APPROVED, Outcome.INVALID, Outcome.NOT_FOUND);
+        assertThat(atLevel1.getCurrentLevel()).isEqualTo(2);
+        assertThat(atLevel2.getCurrentLevel()).isEqualTo(2);
+        verify(approvalInbox).syncAll(List.of(atLevel1));
+        verify(approvalRequestRepository, never()).fetchComments(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should publish completion events in bulk for final approvals")
+    void approveAll_AtFinalLevel_PublishesEventsOnce() {
+        // Given: Both requests at level 2
+        ApprovalRequest first = request(10L, 100L);
+        ApprovalRequest second = request(11L, 101L);
+        first.approve(FINANCE_USER_ID, null);
+        second.approve(FINANCE_USER_ID, null);
+        given(userRepository.existsById(ADMIN_USER_ID)).willReturn(true);
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(10L, 11L)))
+                .willReturn(List.of(first, second));
+        List<Approvable> targets = List.of(target(100L, true), target(101L, true));
+        given(approvableRegistry.supports(EntityType.QUOTATION)).willReturn(true);
+        given(approvableRegistry.resolveAll(eq(EntityType.QUOTATION), anyCollection())).willReturn(targets);
+
+        // When
+        bulkCommandService.approveAll(List.of(10L, 11L), ADMIN_USER_ID, null);
+
+        // Then: Targets loaded in one call, events published together
+        verify(approvableRegistry).resolveAll(eq(EntityType.QUOTATION), eq(List.of(100L, 101L)));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApprovalCompletedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(events.capture());
+        assertThat(events.getValue()).extracting(ApprovalCompletedEvent::approvalRequestId).containsExactly(10L, 11L);
+        assertThat(events.getValue()).allMatch(ApprovalCompletedEvent::isApproved);
+        assertThat(first.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("should reject with shared reason and report unauthorized users as forbidden")
+    void rejectAll_ReportsForbiddenAndRejected() {
+        // Given: Admin is not an approver of the second chain
+        ApprovalRequest atLevel2 = request(10L, 100L);
+        atLevel2.approve(FINANCE_USER_ID, null);
+        ApprovalRequest otherChain = ApprovalRequest.create(EntityType.QUOTATION, 101L, "other", submitter,
+                new ApprovalChainTemplate(2L, EntityType.QUOTATION, "other",
+                        List.of(new ApprovalChainLevel(1, "팀장", FINANCE_USER_ID, true))));
+        setFieldViaReflection(otherChain, "id", 11L);
+        given(userRepository.existsById(ADMIN_USER_ID)).willReturn(true);
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(10L, 11L)))
+                .willReturn(List.of(atLevel2, otherChain));
+
+        // When
+        List<BulkDecisionResult> results = bulkCommandService.rejectAll(
+                List.of(10L, 11L), ADMIN_USER_ID, "Budget exceeded", null);
+
+        // Then
+        assertThat(results).extracting(BulkDecisionResult::outcome)
+                .containsExactly(Outcome.REJECTED, Outcome.FORBIDDEN);
+        assertThat(atLevel2.getStatus()).isEqualTo(ApprovalStatus.REJECTED);
+        verify(approvalRequestRepository).fetchComments(anyCollection());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApprovalCompletedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(events.capture());
+        assertThat(events.getValue()).singleElement()
+                .satisfies(event -> assertThat(event.rejectionReason()).isEqualTo("Budget exceeded"));
+    }
+
+    @Test
+    @DisplayName("should report a target that is no longer pending as invalid and complete the rest of the chunk")
+    void approveAll_TargetNotPending_ReportsInvalid() {
+        // Given: Both requests at level 2; quotation 101 was already decided elsewhere
+        ApprovalRequest first = request(10L, 100L);
+        ApprovalRequest second = request(11L, 101L);
+        first.approve(FINANCE_USER_ID, null);
+        second.approve(FINANCE_USER_ID, null);
+        given(userRepository.existsById(ADMIN_USER_ID)).willReturn(true);
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(10L, 11L)))
+                .willReturn(List.of(first, second));
+        List<Approvable> targets = List.of(target(100L, true), target(101L, false));
+        given(approvableRegistry.supports(EntityType.QUOTATION)).willReturn(true);
+        given(approvableRegistry.resolveAll(eq(EntityType.QUOTATION), anyCollection())).willReturn(targets);
+
+        // When
+        List<BulkDecisionResult> results = bulkCommandService.approveAll(List.of(10L, 11L), ADMIN_USER_ID, null);
+
+        // Then: Only the pending target's request is decided; the chunk commits
+        assertThat(results).extracting(BulkDecisionResult::outcome)
+                .containsExactly(Outcome.APPROVED, Outcome.INVALID);
+        assertThat(results.get(1).message()).contains("not pending approval");
+        assertThat(second.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+        verify(approvalRequestRepository).saveAll(List.of(first));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApprovalCompletedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(events.capture());
+        assertThat(events.getValue()).extracting(ApprovalCompletedEvent::approvalRequestId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("should move a request below the final level to the next level even if its target is not pending")
+    void approveAll_BelowFinalLevel_TargetNotPending_Approves() {
+        // Given: Request at level 1; quotation 100 was already decided elsewhere
+        ApprovalRequest atLevel1 = request(10L, 100L);
+        given(userRepository.existsById(FINANCE_USER_ID)).willReturn(true);
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(10L))).willReturn(List.of(atLevel1));
+        List<Approvable> targets = List.of(target(100L, false));
+        given(approvableRegistry.supports(EntityType.QUOTATION)).willReturn(true);
+        given(approvableRegistry.resolveAll(eq(EntityType.QUOTATION), anyCollection())).willReturn(targets);
+
+        // When
+        List<BulkDecisionResult> results = bulkCommandService.approveAll(List.of(10L), FINANCE_USER_ID, null);
+
+        // Then: Same as a single approval; the completion handler is not reached
+        assertThat(results).extracting(BulkDecisionResult::outcome).containsExactly(Outcome.APPROVED);
+        assertThat(atLevel1.getCurrentLevel()).isEqualTo(2);
+        assertThat(atLevel1.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+        verify(approvalRequestRepository).saveAll(List.of(atLevel1));
+        verify(eventPublisher).publishAll(List.of());
+    }
+
+    @Test
+    @DisplayName("should retry a rolled-back chunk one request per transaction")
+    void approveAll_ChunkFails_RetriesEachRequestAlone() {
+        // Given: Request 10 fails at commit; the retries reload fresh aggregates
+        ApprovalRequest first = request(10L, 100L);
+        ApprovalRequest second = request(11L, 101L);
+        ApprovalRequest third = request(12L, 102L);
+        ApprovalRequest secondReloaded = request(11L, 101L);
+        given(userRepository.existsById(FINANCE_USER_ID)).willReturn(true);
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(10L, 11L)))
+                .willReturn(List.of(first, second));
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(10L))).willReturn(List.of(request(10L, 100L)));
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(11L))).willReturn(List.of(secondReloaded));
+        given(approvalRequestRepository.findAllByIdWithLevelDecisions(List.of(12L))).willReturn(List.of(third));
+        given(approvalRequestRepository.saveAll(any())).willAnswer(invocation -> {
+            Collection<ApprovalRequest> saved = invocation.getArgument(0);
+            if (saved.stream().anyMatch(request -> request.getId().equals(10L))) {
+                throw new OptimisticLockingFailureException("ApprovalRequest 10 was updated concurrently");
+            }
+            return List.copyOf(saved);
+        });
+
+        // When
+        List<BulkDecisionResult> results = bulkCommandService.approveAll(
+                List.of(10L, 11L, 12L), FINANCE_USER_ID, null);
+
+        // Then: Only the failing request is reported as failed
+        assertThat(results).extracting(BulkDecisionResult::id).containsExactly(10L, 11L, 12L);
+        assertThat(results).extracting(BulkDecisionResult::outcome)
+                .containsExactly(Outcome.FAILED, Outcome.APPROVED, Outcome.APPROVED);
+        verify(approvalInbox).syncAll(List.of(secondReloaded));
+        verify(approvalInbox).syncAll(List.of(third));
+    }
+
+    @Test
+    @DisplayName("should reject calls over the item limit")
+    void approveAll_TooManyItems_ThrowsException() {
+        assertThatThrownBy(() -> bulkCommandService.approveAll(
+                List.of(1L, 2L, 3L, 4L, 5L, 6L), FINANCE_USER_ID, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("At most 5");
+    }
+
+    @Test
+    @DisplayName("should throw when approver user does not exist")
+    void approveAll_UnknownUser_ThrowsException() {
+        given(userRepository.existsById(99L)).willReturn(false);
+
+        assertThatThrownBy(() -> bulkCommandService.approveAll(List.of(10L), 99L, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static Approvable target(Long id, boolean pending) {
+        ApprovalState approvalState = new ApprovalState();
+        if (pending) {
+            approvalState.submitForApproval(4L, "QUOTATION");
+        }
+        Approvable target = mock(Approvable.class);
+        given(target.getId()).willReturn(id);
+        // Not consulted for approvals below the final level
+        lenient().when(target.getApprovalState()).thenReturn(approvalState);
+        return target;
+    }
+
+    private ApprovalRequest request(Long id, Long entityId) {
+        ApprovalRequest request = ApprovalRequest.create(EntityType.QUOTATION, entityId, "견적서", submitter, chainTemplate);
+        setFieldViaReflection(request, "id", id);
+        return request;
+    }
+
+    private void setFieldViaReflection(Object target, String fieldName, Object value) {
+        try {
+            java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set field " + fieldName, e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.wellkorea.backend.supporting.approval.domain.ApprovalRequest;
 import com.wellkorea.backend.supporting.approval.domain.event.ApprovalCompletedEvent;
 import com.wellkorea.backend.supporting.approval.domain.vo.*;
 import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalChainTemplateRepository;
+import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalInbox;
 import com.wellkorea.backend.supporting.approval.infrastructure.repository.ApprovalRequestRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -67,6 +68,9 @@ class ApprovalCommandServiceTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private ApprovalInbox approvalInbox;
+
     @InjectMocks
     private ApprovalCommandService commandService;
 
@@ -0,0 +1,158 @@
+package com.wellkorea.backend.supporting.approval.infrastructure.repository;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import com.wellkorea.backend.supporting.approval.api.dto.query.ApprovalSummaryView;
+import com.wellkorea.backend.supporting.approval.application.ApprovalCommandService;
+import com.wellkorea.backend.supporting.approval.domain.vo.ApprovalStatus;
+import com.wellkorea.backend.supporting.approval.domain.vo.EntityType;
+import com.wellkorea.backend.supporting.approval.infrastructure.mapper.ApprovalMapper;
+import com.wellkorea.backend.test.DatabaseTestHelper;
+import com.wellkorea.backend.test.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the materialized approver inbox (approval_inbox_items / approval_inbox_counts).
+ * Requests go through ApprovalCommandService; the inbox is read through ApprovalMapper.
+ */
+@Tag("integration")
+@Transactional
+@DisplayName("Approval Inbox Integration Tests")
+class ApprovalInboxTest extends BaseIntegrationTest implements TestFixtures {
+
+    private static final Long ADMIN_USER_ID = 1L;
+    private static final Long FINANCE_USER_ID = 2L;
+    private static final Long SALES_USER_ID = 4L;
+    private static final Long PROJECT_ID = 2100L;
+
+    @Autowired
+    private ApprovalCommandService commandService;
+
+    @Autowired
+    private ApprovalMapper approvalMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseTestHelper.insertTestUsersWithRoles(jdbcTemplate);
+        jdbcTemplate.update(
+                "INSERT INTO projects (id, job_code, customer_company_id, project_name, due_date, internal_owner_id, status, created_by_id) " +
+                        "VALUES (?, ?, 1, 'Inbox Test Project', ?, 1, 'DRAFT', 1) ON CONFLICT (id) DO NOTHING",
+                PROJECT_ID, "WK2K99-2100-0101", LocalDate.now().plusDays(30)
+        );
+
+        // Two-level chain: Finance, then Admin
+        Long chainTemplateId = jdbcTemplate.queryForObject(
+                "SELECT id FROM approval_chain_templates WHERE entity_type = 'QUOTATION'", Long.class);
+        jdbcTemplate.update("DELETE FROM approval_chain_levels WHERE chain_template_id = ?", chainTemplateId);
+        jdbcTemplate.update(
+                "INSERT INTO approval_chain_levels (chain_template_id, level_order, level_name, approver_user_id, is_required) " +
+                        "VALUES (?, 1, '팀장', ?, true), (?, 2, '부서장', ?, true)",
+                chainTemplateId, FINANCE_USER_ID, chainTemplateId, ADMIN_USER_ID
+        );
+    }
+
+    @Test
+    @DisplayName("should add new request to the level 1 approver's inbox")
+    void createApprovalRequest_AddsToFirstApproverInbox() {
+        // Given
+        long financeCount = approvalMapper.countPendingByApproverUserId(FINANCE_USER_ID);
+        long adminCount = approvalMapper.countPendingByApproverUserId(ADMIN_USER_ID);
+
+        // When
+        Long requestId = submit(2101L);
+
+        // Then
+        assertThat(approvalMapper.countPendingByApproverUserId(FINANCE_USER_ID)).isEqualTo(financeCount + 1);
+        assertThat(approvalMapper.countPendingByApproverUserId(ADMIN_USER_ID)).isEqualTo(adminCount);
+        assertThat(inboxOf(FINANCE_USER_ID))
+                .filteredOn(view -> view.id().equals(requestId))
+                .singleElement()
+                .satisfies(view -> {
+                    assertThat(view.entityId()).isEqualTo(2101L);
+                    assertThat(view.currentLevel()).isEqualTo(1);
+                    assertThat(view.totalLevels()).isEqualTo(2);
+                    assertThat(view.status()).isEqualTo(ApprovalStatus.PENDING);
+                    assertThat(view.submittedById()).isEqualTo(SALES_USER_ID);
+                });
+    }
+
+    @Test
+    @DisplayName("should move request to the next approver's inbox on approval")
+    void approve_MovesToNextApproverInbox() {
+        // Given
+        Long requestId = submit(2102L);
+        long financeCount = approvalMapper.countPendingByApproverUserId(FINANCE_USER_ID);
+        long adminCount = approvalMapper.countPendingByApproverUserId(ADMIN_USER_ID);
+
+        // When
+        commandService.approve(requestId, FINANCE_USER_ID, "OK");
+
+        // Then
+        assertThat(approvalMapper.countPendingByApproverUserId(FINANCE_USER_ID)).isEqualTo(financeCount - 1);
+        assertThat(approvalMapper.countPendingByApproverUserId(ADMIN_USER_ID)).isEqualTo(adminCount + 1);
+        assertThat(inboxOf(FINANCE_USER_ID)).noneMatch(view -> view.id().equals(requestId));
+        assertThat(inboxOf(ADMIN_USER_ID))
+                .filteredOn(view -> view.id().equals(requestId))
+                .singleElement()
+                .satisfies(view -> assertThat(view.currentLevel()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("should remove request from all inboxes on rejection")
+    void reject_RemovesFromInbox() {
+        // Given: Request waiting for Admin at level 2
+        Long requestId = submit(2103L);
+        commandService.approve(requestId, FINANCE_USER_ID, "OK");
+        long adminCount = approvalMapper.countPendingByApproverUserId(ADMIN_USER_ID);
+
+        // When
+        commandService.reject(requestId, ADMIN_USER_ID, "Price too high", null);
+
+        // Then
+        assertThat(approvalMapper.countPendingByApproverUserId(ADMIN_USER_ID)).isEqualTo(adminCount - 1);
+        assertThat(inboxOf(ADMIN_USER_ID)).noneMatch(view -> view.id().equals(requestId));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM approval_inbox_items WHERE approval_request_id = ?", Integer.class, requestId))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("should keep badge count equal to inbox size")
+    void countPending_MatchesInboxItems() {
+        submit(2104L);
+        submit(2105L);
+
+        for (Long userId : List.of(FINANCE_USER_ID, ADMIN_USER_ID)) {
+            Integer items = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM approval_inbox_items WHERE approver_id = ?", Integer.class, userId);
+            assertThat(approvalMapper.countPendingByApproverUserId(userId)).isEqualTo(items.longValue());
+        }
+    }
+
+    private Long submit(Long quotationId) {
+        jdbcTemplate.update(
+                "INSERT INTO quotations (id, project_id, version, status, quotation_date, validity_days, total_amount, created_by_id, " +
+                        "approval_status, approval_submitted_by_id, approval_submitted_at) " +
+                        "VALUES (?, ?, ?, 'PENDING', ?, 30, 500000.00, ?, 'PENDING', ?, CURRENT_TIMESTAMP)",
+                quotationId, PROJECT_ID, (int) (quotationId - 2100L), LocalDate.now(), SALES_USER_ID, SALES_USER_ID
+        );
+        return commandService.createApprovalRequest(EntityType.QUOTATION, quotationId, "견적서 v1", SALES_USER_ID);
+    }
+
+    private List<ApprovalSummaryView> inboxOf(Long userId) {
+        return approvalMapper.findPendingByApproverUserId(userId, 100, 0);
+    }
+}
@@ -0,0 +1,86 @@
+package com.wellkorea.backend.supporting.storage;
+
+import com.wellkorea.backend.supporting.storage.infrastructure.DerivativeRenderer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link DerivativeRenderer}.
+ */
+@Tag("unit")
+@DisplayName("DerivativeRenderer")
+class DerivativeRendererTest {
+
+    private final DerivativeRenderer renderer = new DerivativeRenderer(320, 1280);
+
+    @Test
+    @DisplayName("large PNG → JPEG thumbnail fitting the box with aspect ratio kept")
+    void imageThumbnail() throws IOException {
+        byte[] png = encode(new BufferedImage(4000, 2000, BufferedImage.TYPE_INT_ARGB), "png");
+
+        BufferedImage decoded = renderer.readImage(new ByteArrayInputStream(png));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(renderer.toJpegThumbnail(decoded)));
+
+        assertThat(decoded.getWidth()).isLessThan(4000);
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("small image → not upscaled")
+    void smallImageNotUpscaled() throws IOException {
+        byte[] jpeg = encode(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), "jpeg");
+
+        BufferedImage decoded = renderer.readImage(new ByteArrayInputStream(jpeg));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(renderer.toJpegThumbnail(decoded)));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(100);
+        assertThat(thumbnail.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("PDF → first page rendered at preview width")
+    void pdfPreview() throws IOException {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(PDRectangle.A4));
+            document.addPage(new PDPage(PDRectangle.A4));
+            document.save(pdf);
+        }
+
+        BufferedImage page = renderer.renderFirstPdfPage(new ByteArrayInputStream(pdf.toByteArray()));
+        BufferedImage preview = ImageIO.read(new ByteArrayInputStream(renderer.toPng(page)));
+
+        assertThat(preview.getWidth()).isBetween(1279, 1280);
+        assertThat(preview.getHeight()).isGreaterThan(1280);
+    }
+
+    @Test
+    @DisplayName("non-image content → IOException")
+    void unreadableImage() {
+        byte[] garbage = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> renderer.readImage(new ByteArrayInputStream(garbage)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,162 @@
+package com.wellkorea.backend.supporting.storage;
+
+import com.wellkorea.backend.shared.exception.BusinessException;
+import com.wellkorea.backend.supporting.storage.infrastructure.FileStorage;
+import com.wellkorea.backend.supporting.storage.infrastructure.LocalFileStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link LocalFileStorage}.
+ */
+@Tag("unit")
+@DisplayName("LocalFileStorage")
+class LocalFileStorageTest {
+
+    @TempDir
+    Path rootDir;
+
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalFileStorage(rootDir.toString(), "test-secret", "http://localhost:8080");
+    }
+
+    @Test
+    @DisplayName("upload → readable, no temp files left behind, overwrite replaces content")
+    void uploadAndDownload() throws IOException {
+        storage.uploadFile("attachments/1/a.txt", bytes("first"), "text/plain");
+        storage.uploadFile("attachments/1/a.txt", new ByteArrayInputStream(bytes("second")), 6, "text/plain");
+
+        assertThat(storage.downloadFile("attachments/1/a.txt")).isEqualTo(bytes("second"));
+        try (Stream<Path> files = Files.list(rootDir.resolve("attachments/1"))) {
+            assertThat(files).extracting(path -> path.getFileName().toString()).containsExactly("a.txt");
+        }
+    }
+
+    @Test
+    @DisplayName("stream size mismatch → upload rejected, previous content kept")
+    void truncatedStreamUpload() {
+        storage.uploadFile("attachments/1/a.txt", bytes("original"), "text/plain");
+
+        assertThatThrownBy(() -> storage.uploadFile(
+                "attachments/1/a.txt", new ByteArrayInputStream(bytes("short")), 100, "text/plain"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(storage.downloadFile("attachments/1/a.txt")).isEqualTo(bytes("original"));
+    }
+
+    @Test
+    @DisplayName("range stream and transferTo → only the requested bytes")
+    void rangeReads() throws IOException {
+        storage.uploadFile("docs/range.bin", bytes("0123456789"), "application/octet-stream");
+
+        try (InputStream range = storage.downloadRangeAsStream("docs/range.bin", 2, 5)) {
+            assertThat(range.readAllBytes()).isEqualTo(bytes("23456"));
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        storage.transferTo("docs/range.bin", 7, 3, Channels.newChannel(output));
+        assertThat(output.toByteArray()).isEqualTo(bytes("789"));
+    }
+
+    @Test
+    @DisplayName("metadata → size and extension-derived content type")
+    void metadata() {
+        storage.uploadFile("docs/drawing.pdf", bytes("%PDF"), "application/pdf");
+
+        FileStorage.FileMetadata metadata = storage.getFileMetadata("docs/drawing.pdf");
+
+        assertThat(metadata.size()).isEqualTo(4);
+        assertThat(metadata.contentType()).isEqualTo("application/pdf");
+        assertThat(metadata.etag()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("path traversal → rejected")
+    void pathTraversal() {
+        assertThatThrownBy(() -> storage.uploadFile("../escape.txt", bytes("x"), "text/plain"))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> storage.resolvePath("attachments/../../escape.txt"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("listObjects → key order, prefix filtered, paged with startAfter")
+    void listObjects() {
+        storage.uploadFile("attachments/b.txt", bytes("b"), "text/plain");
+        storage.uploadFile("attachments/a.txt", bytes("a"), "text/plain");
+        storage.uploadFile("attachments/sub/c.txt", bytes("c"), "text/plain");
+        storage.uploadFile("other/d.txt", bytes("d"), "text/plain");
+
+        List<FileStorage.StoredObjectSummary> first = storage.listObjects("attachments/", null, 2);
+        List<FileStorage.StoredObjectSummary> second = storage.listObjects("attachments/", "attachments/b.txt", 2);
+
+        assertThat(first).extracting(FileStorage.StoredObjectSummary::objectName)
+                .containsExactly("attachments/a.txt", "attachments/b.txt");
+        assertThat(second).extracting(FileStorage.StoredObjectSummary::objectName)
+                .containsExactly("attachments/sub/c.txt");
+    }
+
+    @Test
+    @DisplayName("signed URL → verifies for its method only; tampered key or signature fails")
+    void signedUrls() {
+        UriComponents url = UriComponentsBuilder
+                .fromUriString(storage.generatePresignedUrl("attachments/1/a.txt", 5, TimeUnit.MINUTES))
+                .build();
+        long expires = Long.parseLong(url.getQueryParams().getFirst("expires"));
+        String signature = url.getQueryParams().getFirst("signature");
+
+        assertThat(url.getPath()).isEqualTo("/api/files/attachments/1/a.txt");
+        assertThat(storage.verifySignature("GET", "attachments/1/a.txt", expires, signature)).isTrue();
+        assertThat(storage.verifySignature("PUT", "attachments/1/a.txt", expires, signature)).isFalse();
+        assertThat(storage.verifySignature("GET", "attachments/1/b.txt", expires, signature)).isFalse();
+        assertThat(storage.verifySignature("GET", "attachments/1/a.txt", expires + 1, signature)).isFalse();
+    }
+
+    @Test
+    @DisplayName("expired signed URL → rejected")
+    void expiredSignature() {
+        UriComponents url = UriComponentsBuilder
+                .fromUriString(storage.generatePresignedUploadUrl("attachments/1/a.txt", -1, TimeUnit.MINUTES))
+                .build();
+        long expires = Long.parseLong(url.getQueryParams().getFirst("expires"));
+        String signature = url.getQueryParams().getFirst("signature");
+
+        assertThat(storage.verifySignature("PUT", "attachments/1/a.txt", expires, signature)).isFalse();
+    }
+
+    @Test
+    @DisplayName("deleteFiles → removes files, missing keys are not failures")
+    void deleteFiles() {
+        storage.uploadFile("attachments/a.txt", bytes("a"), "text/plain");
+
+        List<String> failed = storage.deleteFiles(List.of("attachments/a.txt", "attachments/missing.txt"));
+
+        assertThat(failed).isEmpty();
+        assertThat(storage.fileExists("attachments/a.txt")).isFalse();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
@@ -138,6 +141,34 @@ class MinioFileStorageTest extends BaseIntegrationTest {
         minioFileStorage.deleteFile(largeFileName);
     }
 
+    @Test
+    void shouldUploadUnknownSizeStreamWithParallelMultipart() {
+        // Given: 12MB stream of unknown size (test profile uses 5MB parts -> 3 parts)
+        byte[] data = new byte[12 * 1024 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 251);
+        }
+        String multipartFileName = "large-files/test-multipart.bin";
+
+        // When: Upload with unknown size
+        String result = minioFileStorage.uploadFile(
+                multipartFileName,
+                new ByteArrayInputStream(data),
+                -1,
+                "application/octet-stream"
+        );
+
+        // Then: Composed object has the full content and type
+        assertThat(result).isEqualTo(multipartFileName);
+        MinioFileStorage.FileMetadata metadata = minioFileStorage.getFileMetadata(multipartFileName);
+        assertThat(metadata.size()).isEqualTo(data.length);
+        assertThat(metadata.contentType()).isEqualTo("application/octet-stream");
+        assertThat(minioFileStorage.downloadFile(multipartFileName)).isEqualTo(data);
+
+        // Cleanup
+        minioFileStorage.deleteFile(multipartFileName);
+    }
+
     // ========== Download Tests ==========
 
     @Test
@@ -275,6 +306,35 @@ class MinioFileStorageTest extends BaseIntegrationTest {
         assertThat(url1Hour).isNotEqualTo(url24Hours); // Different expiry = different signature
     }
 
+    @Test
+    void shouldReuseCachedPresignedUrlForSameExpiry() {
+        // Given: File uploaded to MinIO
+        minioFileStorage.uploadFile(TEST_FILE_NAME, TEST_DATA, TEST_CONTENT_TYPE);
+
+        // When: Generate presigned URL twice with the same expiry
+        String first = minioFileStorage.generatePresignedUrl(TEST_FILE_NAME, 1, TimeUnit.HOURS);
+        String second = minioFileStorage.generatePresignedUrl(TEST_FILE_NAME, 1, TimeUnit.HOURS);
+
+        // Then: Same signed URL is reused
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void shouldGeneratePresignedUrlsInBatch() {
+        // Given: Two object names (with a duplicate and a null)
+        String otherFile = "test-documents/other-file.txt";
+        List<String> objectNames = Arrays.asList(TEST_FILE_NAME, otherFile, TEST_FILE_NAME, null);
+
+        // When: Generate presigned URLs in one batch
+        Map<String, String> urls = minioFileStorage.generatePresignedUrls(objectNames, 15, TimeUnit.MINUTES);
+
+        // Then: One URL per distinct object, consistent with single-object signing
+        assertThat(urls).containsOnlyKeys(TEST_FILE_NAME, otherFile);
+        assertThat(urls.get(otherFile)).contains(otherFile).contains("X-Amz-Signature");
+        assertThat(urls.get(TEST_FILE_NAME))
+                .isEqualTo(minioFileStorage.generatePresignedUrl(TEST_FILE_NAME, 15, TimeUnit.MINUTES));
+    }
+
     // ========== File Metadata Tests ==========
 
     @Test
@@ -0,0 +1,163 @@
+package com.wellkorea.backend.supporting.storage;
+
+import com.wellkorea.backend.BaseIntegrationTest;
+import com.wellkorea.backend.supporting.storage.application.OrphanedObjectCollector;
+import com.wellkorea.backend.supporting.storage.application.OrphanedObjectCollector.CollectionResult;
+import com.wellkorea.backend.supporting.storage.infrastructure.FilePathGenerator;
+import com.wellkorea.backend.supporting.storage.infrastructure.MinioFileStorage;
+import com.wellkorea.backend.test.DatabaseTestHelper;
+import com.wellkorea.backend.test.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for OrphanedObjectCollector.
+ * Verifies that unreferenced objects are removed while referenced and recent ones survive.
+ */
+@Tag("integration")
+@Transactional
+@DisplayName("OrphanedObjectCollector Integration Tests")
+class OrphanedObjectCollectorTest extends BaseIntegrationTest {
+
+    private static final byte[] DATA = "orphan".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private OrphanedObjectCollector collector;
+
+    @Autowired
+    private MinioFileStorage minioFileStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseTestHelper.insertTestUser(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("should delete unreferenced objects and keep referenced ones")
+    void collect_DeletesOnlyUnreferencedObjects() {
+        // Given: One referenced attachment object, one orphan and one abandoned multipart part
+        String run = UUID.randomUUID().toString();
+        String referenced = "attachments/PROJECT/gc-" + run + "/kept.pdf";
+        String orphan = "attachments/PROJECT/gc-" + run + "/orphan.pdf";
+        String abandonedPart = MinioFileStorage.MULTIPART_TEMP_PREFIX + run + "/part-00001";
+        minioFileStorage.uploadFile(referenced, DATA, "application/pdf");
+        minioFileStorage.uploadFile(orphan, DATA, "application/pdf");
+        minioFileStorage.uploadFile(abandonedPart, DATA, "application/octet-stream");
+        jdbcTemplate.update(
+                "INSERT INTO attachments (owner_type, owner_id, file_name, file_type, file_size, storage_path, uploaded_by_id) " +
+                        "VALUES ('PROJECT', 1, 'kept.pdf', 'PDF', ?, ?, ?)",
+                DATA.length, referenced, TestFixtures.TEST_USER_ID
+        );
+
+        // When: Collect with a cutoff in the future so the new objects are old enough
+        CollectionResult result = collector.collect(Instant.now().plusSeconds(60));
+
+        // Then
+        assertThat(minioFileStorage.fileExists(referenced)).isTrue();
+        assertThat(minioFileStorage.fileExists(orphan)).isFalse();
+        assertThat(minioFileStorage.fileExists(abandonedPart)).isFalse();
+        assertThat(result.deleted()).isGreaterThanOrEqualTo(2);
+        assertThat(result.failed()).isZero();
+
+        // Cleanup
+        minioFileStorage.deleteFile(referenced);
+    }
+
+    @Test
+    @DisplayName("should delete released blobs with their tombstones and keep revived or recently released ones")
+    void collect_DeletesOnlyReleasedBlobs() {
+        // Given: Three blob objects, all older than the cutoff
+        String released = blob();
+        String recentlyReleased = blob();
+        String revived = blob();
+        insertBlobRow(released, 0, Instant.now().minusSeconds(3600));
+        insertBlobRow(recentlyReleased, 0, Instant.now().plusSeconds(3600));
+        insertBlobRow(revived, 0, Instant.now().minusSeconds(3600));
+        jdbcTemplate.update("UPDATE content_blobs SET ref_count = 1, released_at = NULL WHERE storage_path = ?", revived);
+
+        // When
+        collector.collect(Instant.now().plusSeconds(60));
+
+        // Then
+        assertThat(minioFileStorage.fileExists(released)).isFalse();
+        assertThat(blobRowCount(released)).isZero();
+        assertThat(minioFileStorage.fileExists(recentlyReleased)).isTrue();
+        assertThat(blobRowCount(recentlyReleased)).isEqualTo(1);
+        assertThat(minioFileStorage.fileExists(revived)).isTrue();
+
+        // Cleanup
+        minioFileStorage.deleteFile(recentlyReleased);
+        minioFileStorage.deleteFile(revived);
+    }
+
+    @Test
+    @DisplayName("should tombstone a blob object without a row instead of deleting it")
+    void collect_UntrackedBlob_TombstonedFirst() {
+        // Given
+        String untracked = blob();
+
+        // When
+        collector.collect(Instant.now().plusSeconds(60));
+
+        // Then: Kept for a later run, which deletes it under the row lock
+        assertThat(minioFileStorage.fileExists(untracked)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM content_blobs WHERE storage_path = ? AND ref_count = 0 AND released_at IS NOT NULL",
+                Integer.class, untracked))
+                .isEqualTo(1);
+
+        // Cleanup
+        minioFileStorage.deleteFile(untracked);
+    }
+
+    @Test
+    @DisplayName("should keep objects younger than the cutoff")
+    void collect_KeepsRecentObjects() {
+        // Given
+        String recent = "attachments/PROJECT/gc-" + UUID.randomUUID() + "/recent.pdf";
+        minioFileStorage.uploadFile(recent, DATA, "application/pdf");
+
+        // When: Cutoff in the past
+        collector.collect(Instant.now().minusSeconds(3600));
+
+        // Then
+        assertThat(minioFileStorage.fileExists(recent)).isTrue();
+
+        // Cleanup
+        minioFileStorage.deleteFile(recent);
+    }
+
+    private String blob() {
+        String sha256 = (UUID.randomUUID().toString() + UUID.randomUUID()).replace("-", "");
+        String path = FilePathGenerator.forContentBlob(sha256, "drawing.pdf");
+        minioFileStorage.uploadFile(path, DATA, "application/pdf");
+        return path;
+    }
+
+    private void insertBlobRow(String path, int refCount, Instant releasedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO content_blobs (sha256, storage_path, file_size, ref_count, released_at) VALUES (?, ?, ?, ?, ?)",
+                FilePathGenerator.contentHashOf(path), path, DATA.length, refCount, Timestamp.from(releasedAt)
+        );
+    }
+
+    private int blobRowCount(String path) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM content_blobs WHERE storage_path = ?", Integer.class, path);
+    }
+}